@@ -148,4 +148,10 @@ public abstract class AbstractKollection<E> implements Kollection<E>
   {
     return KollectionUtil.toStringOf(this);
   }
+
+  @Override
+  public KollectionView<E> view()
+  {
+    return FusedKollectionView.viewOf(this);
+  }
 }
@@ -79,16 +79,11 @@ public abstract class AbstractReadableList<E> extends AbstractKollection<E> impl
     @Override
     public E next()
     {
-      try
-      {
-        final E next = get(current);
-        current++;
-        return next;
-      }
-      catch (final IndexOutOfBoundsException e)
+      if (current >= length)
       {
         throw new NoSuchElementException();
       }
+      return get(current++);
     }
   }
 
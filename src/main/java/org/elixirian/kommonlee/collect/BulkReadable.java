@@ -0,0 +1,83 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * A {@link Kollection} which can copy all its elements into a given array at once. The array-backed ones copy with a
+ * single {@link System#arraycopy(Object, int, Object, int, int)} so copying a {@link Kollection} into another one
+ * takes only one copy instead of making a temporary array with {@link Kollection#toArray()} and copying it again.
+ * <p>
+ * Use {@link KollectionUtil#copyInto(Kollection, Object[], int)} to copy any {@link Kollection}. It calls
+ * {@link #copyInto(Object[], int)} only on the lists in this library as any other implementation could keep the given
+ * array, and it falls back to {@link Kollection#toArray()} or iteration for the others.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public interface BulkReadable
+{
+  /**
+   * @return the number of the elements {@link #copyInto(Object[], int)} copies.
+   */
+  int length();
+
+  /**
+   * Copies all the elements in order into the given array starting at the given position.
+   *
+   * @param destination
+   *          the array to copy the elements into.
+   * @param destinationPosition
+   *          the position in the destination array to put the first element.
+   * @exception IndexOutOfBoundsException
+   *              if the destination array does not have enough room for all the elements from the given position.
+   * @exception ArrayStoreException
+   *              if an element cannot be stored in the destination array because of its type.
+   */
+  void copyInto(Object[] destination, int destinationPosition);
+}
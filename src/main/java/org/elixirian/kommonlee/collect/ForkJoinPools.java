@@ -0,0 +1,82 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Holds the one {@link ForkJoinPool} all the parallel operations on the collections in this library run on, so they
+ * do not create pools of their own competing for the same processors. It has as many threads as the available
+ * processors, and it is created when it is first used. Its threads are daemon threads so it does not need to be shut
+ * down.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public final class ForkJoinPools
+{
+  private ForkJoinPools() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  private static final class ForkJoinPoolHolder
+  {
+    static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool();
+  }
+
+  /**
+   * @return the {@link ForkJoinPool} shared by all the parallel operations on the collections in this library.
+   */
+  public static ForkJoinPool sharedPool()
+  {
+    return ForkJoinPoolHolder.FORK_JOIN_POOL;
+  }
+}
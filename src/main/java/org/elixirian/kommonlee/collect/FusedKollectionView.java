@@ -0,0 +1,402 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect;
+
+import java.util.Arrays;
+
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link KollectionView} keeping the steps as a chain of {@link Step}s applied to each element of the source
+ * {@link Kollection}. A step returns {@link #NOT_SELECTED} to drop the element so the rest of the chain is skipped for
+ * it. The source is traversed with {@link Kollection#breakableForEach(BreakableFunction1)} which lets array based
+ * collections use their own indexed loop.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <S>
+ *          the type of the elements in the source {@link Kollection}.
+ * @param <E>
+ *          the type of the elements coming out of the pipeline.
+ */
+final class FusedKollectionView<S, E> implements KollectionView<E>
+{
+  static final Object NOT_SELECTED = new Object();
+
+  private final Kollection<S> source;
+
+  /**
+   * the last step in the pipeline. It is null if there is no step yet.
+   */
+  private final Step<S> step;
+
+  private FusedKollectionView(final Kollection<S> source, final Step<S> step)
+  {
+    this.source = source;
+    this.step = step;
+  }
+
+  static <E> KollectionView<E> viewOf(final Kollection<E> source)
+  {
+    return new FusedKollectionView<E, E>(source, null);
+  }
+
+  private abstract static class Step<S>
+  {
+    private final Step<S> previous;
+
+    Step(final Step<S> previous)
+    {
+      this.previous = previous;
+    }
+
+    final Object apply(final S input)
+    {
+      final Object result = null == previous ? input : previous.apply(input);
+      return NOT_SELECTED == result ? NOT_SELECTED : applyThisStep(result);
+    }
+
+    /**
+     * @return either the result of this step or {@link FusedKollectionView#NOT_SELECTED}.
+     */
+    abstract Object applyThisStep(Object input);
+  }
+
+  private static final class SelectStep<S, E> extends Step<S>
+  {
+    private final Condition1<? super E> condition;
+
+    SelectStep(final Step<S> previous, final Condition1<? super E> condition)
+    {
+      super(previous);
+      this.condition = condition;
+    }
+
+    @Override
+    Object applyThisStep(final Object input)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) input;
+      return condition.isMet(element) ? input : NOT_SELECTED;
+    }
+  }
+
+  private static final class MapStep<S, E, R> extends Step<S>
+  {
+    private final Function1<? super E, R> function;
+
+    MapStep(final Step<S> previous, final Function1<? super E, R> function)
+    {
+      super(previous);
+      this.function = function;
+    }
+
+    @Override
+    Object applyThisStep(final Object input)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) input;
+      return function.apply(element);
+    }
+  }
+
+  private static final class MapSelectivelyStep<S, E, R> extends Step<S>
+  {
+    private final Condition1<? super E> condition;
+
+    private final Function1<? super E, R> function;
+
+    MapSelectivelyStep(final Step<S> previous, final Condition1<? super E> condition,
+        final Function1<? super E, R> function)
+    {
+      super(previous);
+      this.condition = condition;
+      this.function = function;
+    }
+
+    @Override
+    Object applyThisStep(final Object input)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) input;
+      return condition.isMet(element) ? function.apply(element) : NOT_SELECTED;
+    }
+  }
+
+  @Override
+  public KollectionView<E> select(final Condition1<? super E> condition)
+  {
+    return new FusedKollectionView<S, E>(source, new SelectStep<S, E>(step, condition));
+  }
+
+  @Override
+  public <R> KollectionView<R> map(final Function1<? super E, R> function)
+  {
+    return new FusedKollectionView<S, R>(source, new MapStep<S, E, R>(step, function));
+  }
+
+  @Override
+  public <R> KollectionView<R> mapSelectively(final Condition1<? super E> condition,
+      final Function1<? super E, R> function)
+  {
+    return new FusedKollectionView<S, R>(source, new MapSelectivelyStep<S, E, R>(step, condition, function));
+  }
+
+  /**
+   * Runs the pipeline and passes each element coming out of it to the given function until the function returns
+   * {@link BreakOrContinue#BREAK}.
+   */
+  @Override
+  public void breakableForEach(final BreakableFunction1<? super E> function)
+  {
+    if (null == step)
+    {
+      /* there is no step so S and E are the same. */
+      @SuppressWarnings("unchecked")
+      final BreakableFunction1<? super S> functionForSource = (BreakableFunction1<? super S>) function;
+      source.breakableForEach(functionForSource);
+      return;
+    }
+    final Step<S> lastStep = step;
+    source.breakableForEach(new BreakableFunction1<S>() {
+      @Override
+      public BreakOrContinue apply(final S input)
+      {
+        final Object result = lastStep.apply(input);
+        if (NOT_SELECTED == result)
+        {
+          return BreakOrContinue.CONTINUE;
+        }
+        @SuppressWarnings("unchecked")
+        final E element = (E) result;
+        return function.apply(element);
+      }
+    });
+  }
+
+  @Override
+  public void forEach(final VoidFunction1<? super E> function)
+  {
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        function.apply(input);
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+  }
+
+  @Override
+  public E find(final Condition1<? super E> condition)
+  {
+    final Object[] found = new Object[1];
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        if (condition.isMet(input))
+        {
+          found[0] = input;
+          return BreakOrContinue.BREAK;
+        }
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    @SuppressWarnings("unchecked")
+    final E element = (E) found[0];
+    return element;
+  }
+
+  @Override
+  public boolean exists(final Condition1<? super E> condition)
+  {
+    final boolean[] exists = new boolean[1];
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        if (condition.isMet(input))
+        {
+          exists[0] = true;
+          return BreakOrContinue.BREAK;
+        }
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    return exists[0];
+  }
+
+  @Override
+  public int howMany()
+  {
+    if (null == step)
+    {
+      return source.length();
+    }
+    final int[] count = new int[1];
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        count[0]++;
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    return count[0];
+  }
+
+  @Override
+  public int howMany(final Condition1<? super E> conditionToMeet)
+  {
+    final int[] count = new int[1];
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        if (conditionToMeet.isMet(input))
+        {
+          count[0]++;
+        }
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    return count[0];
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
+  {
+    final Object[] result = { startValue };
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        @SuppressWarnings("unchecked")
+        final R resultSoFar = (R) result[0];
+        result[0] = function.apply(resultSoFar, input);
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    @SuppressWarnings("unchecked")
+    final R r = (R) result[0];
+    return r;
+  }
+
+  @Override
+  public E reduce(final Function2<? super E, ? super E, E> function)
+  {
+    /* result[0]: whether the first element has been taken, result[1]: the result so far */
+    final Object[] result = { Boolean.FALSE, null };
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        if (Boolean.FALSE == result[0])
+        {
+          result[0] = Boolean.TRUE;
+          result[1] = input;
+        }
+        else
+        {
+          @SuppressWarnings("unchecked")
+          final E resultSoFar = (E) result[1];
+          result[1] = function.apply(resultSoFar, input);
+        }
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    @SuppressWarnings("unchecked")
+    final E e = (E) result[1];
+    return e;
+  }
+
+  /**
+   * No step can produce more elements than the source has so it allocates an array of the source length once and
+   * trims it only if some elements have been dropped.
+   */
+  @Override
+  public Object[] toArray()
+  {
+    if (null == step)
+    {
+      return source.toArray();
+    }
+    final Object[] array = new Object[source.length()];
+    final int[] howMany = new int[1];
+    breakableForEach(new BreakableFunction1<E>() {
+      @Override
+      public BreakOrContinue apply(final E input)
+      {
+        array[howMany[0]++] = input;
+        return BreakOrContinue.CONTINUE;
+      }
+    });
+    return array.length == howMany[0] ? array : Arrays.copyOf(array, howMany[0]);
+  }
+
+  @Override
+  public E[] toArray(final E[] elements)
+  {
+    final Object[] array = toArray();
+    final int length = array.length;
+    if (length == elements.length)
+    {
+      System.arraycopy(array, 0, elements, 0, length);
+      return elements;
+    }
+    @SuppressWarnings("unchecked")
+    final E[] copyOf = (E[]) Arrays.copyOf(array, length, elements.getClass());
+    return copyOf;
+  }
+}
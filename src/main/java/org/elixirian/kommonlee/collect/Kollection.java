@@ -123,6 +123,15 @@ public interface Kollection<E> extends Iterable<E>, LengthCheckable, SizeCheckab
   
   E reduce(Function2<? super E, ? super E, E> function);
 
+  /**
+   * Returns a lazy view of this {@link Kollection}. Unlike {@link #select(Condition1)} and {@link #map(Function1)}, the
+   * select and map operations on the view do not create any intermediate collection. They are fused and applied in a
+   * single pass when a terminal operation on the view is called.
+   *
+   * @return the lazy view of this {@link Kollection}.
+   */
+  KollectionView<E> view();
+
   Object[] toArray();
 
   E[] toArray(E[] elements);
@@ -35,6 +35,10 @@ import static org.elixirian.kommonlee.util.Objects.*;
 
 import java.util.Iterator;
 
+import org.elixirian.kommonlee.collect.immutable.ImmutableArrayList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableVector;
+import org.elixirian.kommonlee.collect.immutable.SortedImmutableList;
+import org.elixirian.kommonlee.collect.mutable.MutableArrayList;
 import org.elixirian.kommonlee.type.functional.Function1;
 import org.elixirian.kommonlee.util.CommonConstants;
 import org.elixirian.kommonlee.util.IterableToAppendableGlue;
@@ -110,6 +114,81 @@ public final class KollectionUtil
     return !(first.hasNext() || second.hasNext());
   }
 
+  /**
+   * An array-backed sub-list shares the elements array only if it has at least 1 / SUB_LIST_MIN_SHARED_RATIO of the
+   * array. Otherwise the range is copied so that a tiny sub-list does not keep a huge array from being garbage
+   * collected.
+   */
+  public static final int SUB_LIST_MIN_SHARED_RATIO = 4;
+
+  /**
+   * @param subListLength
+   *          the length of the sub-list.
+   * @param elementsLength
+   *          the length of the elements array the sub-list is of.
+   * @return true if a sub-list with the given length can share the elements array of the given length (See
+   *         {@link #SUB_LIST_MIN_SHARED_RATIO}).
+   */
+  public static boolean isWorthSharing(final int subListLength, final int elementsLength)
+  {
+    return subListLength >= elementsLength / SUB_LIST_MIN_SHARED_RATIO;
+  }
+
+  /**
+   * @return true if the given {@link Kollection} is one of the {@link BulkReadable}s in this library, which copy into
+   *         the given array without keeping it. Any other class, including a subclass of the public non-final ones, may
+   *         keep the array so it must not see the arrays backing the lists.
+   */
+  private static boolean isTrustedBulkReadable(final Kollection<?> kollection)
+  {
+    final Class<?> kollectionClass = kollection.getClass();
+    return kollection instanceof ImmutableArrayList || ImmutableVector.class == kollectionClass
+        || SortedImmutableList.class == kollectionClass || MutableArrayList.class == kollectionClass
+        || ReadableArrayList.class == kollectionClass;
+  }
+
+  /**
+   * Copies all the elements in the given {@link Kollection} into the given array starting at the given position. It
+   * uses {@link BulkReadable#copyInto(Object[], int)} if the {@link Kollection} is one of the {@link BulkReadable}s in
+   * this library. Otherwise it copies from {@link Kollection#toArray()} if it is {@link BulkReadable} or iterates over
+   * it if not, so that the given array is never handed to other code.
+   *
+   * @param kollection
+   *          the given {@link Kollection} to copy.
+   * @param destination
+   *          the array to copy the elements into.
+   * @param destinationPosition
+   *          the position in the destination array to put the first element.
+   * @exception IndexOutOfBoundsException
+   *              if the destination array does not have enough room for all the elements from the given position.
+   */
+  public static void copyInto(final Kollection<?> kollection, final Object[] destination,
+      final int destinationPosition)
+  {
+    if (kollection instanceof BulkReadable)
+    {
+      if (isTrustedBulkReadable(kollection))
+      {
+        ((BulkReadable) kollection).copyInto(destination, destinationPosition);
+        return;
+      }
+      final Object[] elements = kollection.toArray();
+      System.arraycopy(elements, 0, destination, destinationPosition, elements.length);
+      return;
+    }
+    final int length = kollection.length();
+    if (0 > destinationPosition || destination.length - destinationPosition < length)
+    {
+      throw new IndexOutOfBoundsException("destinationPosition: " + destinationPosition + ", length: " + length
+          + ", destination.length: " + destination.length);
+    }
+    int i = destinationPosition;
+    for (final Object element : kollection)
+    {
+      destination[i++] = element;
+    }
+  }
+
   private static final IterableToAppendableGlue ITERABLE_TO_APPENDABLE_GLUE =
     IterableToAppendableGlue.withSeparator(", ");
 
@@ -0,0 +1,109 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect;
+
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Lazy view of a {@link Kollection}. {@link #select(Condition1)}, {@link #map(Function1)} and
+ * {@link #mapSelectively(Condition1, Function1)} only add a step to the pipeline without touching the elements. All the
+ * steps are fused and applied to each element in a single pass when a terminal operation, such as
+ * {@link #foldLeft(Object, Function2)}, {@link #reduce(Function2)}, {@link #howMany()} or {@link #toArray()}, is
+ * called so no intermediate collection is created.
+ * <p>
+ * The view reads the source {@link Kollection} each time a terminal operation is called.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <E>
+ *          the type of the elements coming out of the pipeline.
+ */
+public interface KollectionView<E>
+{
+  KollectionView<E> select(Condition1<? super E> condition);
+
+  <R> KollectionView<R> map(Function1<? super E, R> function);
+
+  <R> KollectionView<R> mapSelectively(Condition1<? super E> condition, Function1<? super E, R> function);
+
+  void forEach(VoidFunction1<? super E> function);
+
+  void breakableForEach(BreakableFunction1<? super E> function);
+
+  /**
+   * Finds the first element coming out of the pipeline satisfying the given condition, if any. It stops the pipeline as
+   * soon as it is found.
+   *
+   * @param condition
+   *          the given condition to find the element
+   * @return the first element satisfying the condition. null if there is no such element.
+   */
+  E find(Condition1<? super E> condition);
+
+  boolean exists(Condition1<? super E> condition);
+
+  /**
+   * @return the number of the elements coming out of the pipeline.
+   */
+  int howMany();
+
+  int howMany(Condition1<? super E> conditionToMeet);
+
+  <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(R startValue, F2 function);
+
+  E reduce(Function2<? super E, ? super E, E> function);
+
+  Object[] toArray();
+
+  E[] toArray(E[] elements);
+}
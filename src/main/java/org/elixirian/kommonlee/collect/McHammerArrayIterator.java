@@ -0,0 +1,159 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect;
+
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.functional.VoidFunction1;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link McHammerIterator} reading a range of an array directly without calling get(int) for each element so there is
+ * neither a bounds check nor an exception to end the iteration. Like java.util.Spliterator, it can be split with
+ * {@link #trySplit()} to traverse the parts in different threads and it can pass all the remaining elements to a
+ * function in a plain loop with {@link #applyToRemaining(VoidFunction1)}.
+ * <p>
+ * The array must not be changed while it is being iterated so it is meant for immutable or read-only collections.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <E>
+ *          the type of the elements.
+ */
+public final class McHammerArrayIterator<E> extends McHammerIterator<E>
+{
+  private final Object[] elements;
+
+  private int current;
+
+  private final int to;
+
+  /**
+   * @param elements
+   *          the array to iterate.
+   * @param from
+   *          the index of the first element (inclusive).
+   * @param to
+   *          the index after the last element (exclusive).
+   */
+  public McHammerArrayIterator(final Object[] elements, final int from, final int to)
+  {
+    KollectionUtil.checkRange(elements.length, from, to);
+    this.elements = elements;
+    this.current = from;
+    this.to = to;
+  }
+
+  @Override
+  public boolean hasNext()
+  {
+    return current < to;
+  }
+
+  @Override
+  public E next()
+  {
+    if (current >= to)
+    {
+      throw new NoSuchElementException();
+    }
+    @SuppressWarnings("unchecked")
+    final E element = (E) elements[current++];
+    return element;
+  }
+
+  /**
+   * @return the number of the elements not iterated yet.
+   */
+  public int remaining()
+  {
+    return to - current;
+  }
+
+  /**
+   * Passes all the remaining elements to the given function and leaves this iterator exhausted. It is not called
+   * forEachRemaining so that it does not overload Iterator.forEachRemaining(Consumer) in Java 8 and make calls with a
+   * lambda ambiguous.
+   *
+   * @param function
+   *          the function to take each remaining element.
+   */
+  public void applyToRemaining(final VoidFunction1<? super E> function)
+  {
+    final Object[] elements = this.elements;
+    final int to = this.to;
+    int i = current;
+    /* move to the end first so that the function cannot see the same elements again through this iterator. */
+    current = to;
+    for (; i < to; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      function.apply(element);
+    }
+  }
+
+  /**
+   * Splits off the first half of the remaining elements into a new {@link McHammerArrayIterator} and keeps the second
+   * half in this one.
+   *
+   * @return the iterator for the first half of the remaining elements or null if there are fewer than two remaining
+   *         elements.
+   */
+  public McHammerArrayIterator<E> trySplit()
+  {
+    final int from = current;
+    final int middle = (from + to) >>> 1;
+    if (from >= middle)
+    {
+      return null;
+    }
+    current = middle;
+    return new McHammerArrayIterator<E>(elements, from, middle);
+  }
+}
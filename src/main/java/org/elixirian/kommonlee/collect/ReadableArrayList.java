@@ -37,7 +37,6 @@ import static org.elixirian.kommonlee.util.collect.Lists.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.elixirian.kommonlee.functional.BreakableFunction1;
@@ -69,10 +68,12 @@ import org.elixirian.kommonlee.type.functional.Function2;
  * @author Lee, SeongHyun (Kevin)
  * @version 0.0.1 (2011-10-13)
  */
-public class ReadableArrayList<E> extends AbstractReadableList<E> implements ReadableList<E>
+public class ReadableArrayList<E> extends AbstractReadableList<E> implements ReadableList<E>, BulkReadable
 {
   private Object[] elements;
 
+  private int offset;
+
   private int length;
 
   protected ReadableArrayList(final Object... elements)
@@ -91,14 +92,35 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
     this.length = length;
   }
 
+  /**
+   * Shares the given array without copying it.
+   */
+  private ReadableArrayList(final int offset, final int length, final Object[] elements)
+  {
+    this.elements = elements;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Takes the array returned by toArray() of the given {@link Collection} as it is a new array.
+   */
   protected ReadableArrayList(final Collection<? extends E> collection)
   {
-    this(collection.toArray());
+    this.elements = collection.toArray();
+    this.length = this.elements.length;
   }
 
+  /**
+   * Copies the given {@link Kollection} into a new array once with
+   * {@link KollectionUtil#copyInto(Kollection, Object[], int)}.
+   */
   protected ReadableArrayList(final Kollection<? extends E> kollection)
   {
-    this(kollection.toArray());
+    final int length = kollection.length();
+    this.elements = new Object[length];
+    KollectionUtil.copyInto(kollection, this.elements, 0);
+    this.length = length;
   }
 
   public static <T> ReadableArrayList<T> listOf(final T[] elements, final int howMany)
@@ -110,16 +132,20 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   @Override
   public ArrayList<E> convertTo()
   {
-    @SuppressWarnings("unchecked")
-    final E[] genericElements = (E[]) elements;
-    final ArrayList<E> list = newArrayList(genericElements);
+    final ArrayList<E> list = new ArrayList<E>(length);
+    for (int i = offset, end = offset + length; i < end; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) this.elements[i];
+      list.add(element);
+    }
     return list;
   }
 
   @Override
-  public Iterator<E> iterator()
+  public McHammerArrayIterator<E> iterator()
   {
-    return new McHammerIteratorForReadableList();
+    return new McHammerArrayIterator<E>(elements, offset, offset + length);
   }
 
   @Override
@@ -150,10 +176,10 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   @Override
   public E find(final Condition1<? super E> condition)
   {
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       if (condition.isMet(element))
       {
         return element;
@@ -167,10 +193,10 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   {
     final Object[] arrayOfObject = new Object[length];
     int i = 0;
-    for (final Object object : this.elements)
+    for (int j = offset, end = offset + length; j < end; j++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[j];
       if (condition.isMet(element))
       {
         arrayOfObject[i++] = element;
@@ -185,10 +211,10 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   public <R> ReadableArrayList<R> map(final Function1<? super E, R> function)
   {
     final List<R> list = newArrayList();
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       list.add(function.apply(element));
     }
     return new ReadableArrayList<R>(list);
@@ -199,10 +225,10 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
       final Function1<? super E, R> function)
   {
     final List<R> list = newArrayList();
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       if (condition.isMet(element))
       {
         list.add(function.apply(element));
@@ -214,10 +240,10 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   @Override
   public void forEach(final VoidFunction1<? super E> function)
   {
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       function.apply(element);
     }
   }
@@ -228,7 +254,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
     for (int i = 0; i < length; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) this.elements[i];
+      final E element = (E) this.elements[offset + i];
       function.apply(i, element);
     }
   }
@@ -236,10 +262,10 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   @Override
   public void breakableForEach(final BreakableFunction1<? super E> function)
   {
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       if (BreakOrContinue.BREAK == function.apply(element))
       {
         break;
@@ -253,7 +279,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
     for (int i = 0; i < length; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) this.elements[i];
+      final E element = (E) this.elements[offset + i];
       if (BreakOrContinue.BREAK == function.apply(i, element))
       {
         return;
@@ -265,20 +291,26 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   public Object[] toArray()
   {
     final Object[] copyOf = new Object[length];
-    System.arraycopy(elements, 0, copyOf, 0, length);
+    System.arraycopy(elements, offset, copyOf, 0, length);
     return copyOf;
   }
 
+  @Override
+  public void copyInto(final Object[] destination, final int destinationPosition)
+  {
+    System.arraycopy(elements, offset, destination, destinationPosition, length);
+  }
+
   @Override
   public E[] toArray(final E[] elements)
   {
     if (length == elements.length)
     {
-      System.arraycopy(this.elements, 0, elements, 0, length);
+      System.arraycopy(this.elements, offset, elements, 0, length);
       return elements;
     }
     @SuppressWarnings("unchecked")
-    final E[] copyOf = (E[]) Arrays.copyOf(this.elements, length, elements.getClass());
+    final E[] copyOf = (E[]) Arrays.copyOfRange(this.elements, offset, offset + length, elements.getClass());
     return copyOf;
   }
 
@@ -287,28 +319,40 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   {
     checkIndex(length, index);
     @SuppressWarnings("unchecked")
-    final E element = (E) this.elements[index];
+    final E element = (E) this.elements[offset + index];
     return element;
   }
 
+  /**
+   * Returns a view sharing the elements array if the sub-list is large enough compared to the array (See
+   * {@link KollectionUtil#SUB_LIST_MIN_SHARED_RATIO}). Otherwise it copies the range once so that a small sub-list does
+   * not keep a large array from being garbage collected.
+   */
   @Override
   public ReadableList<E> subList(final int fromIndex, final int toIndex)
   {
     checkRange(length, fromIndex, toIndex);
+    if (0 == fromIndex && length == toIndex)
+    {
+      return this;
+    }
     final int howMany = toIndex - fromIndex;
-    final Object[] subElements = new Object[howMany];
-    System.arraycopy(this.elements, fromIndex, subElements, 0, howMany);
-    return new ReadableArrayList<E>(subElements);
+    final int from = offset + fromIndex;
+    if (isWorthSharing(howMany, this.elements.length))
+    {
+      return new ReadableArrayList<E>(from, howMany, this.elements);
+    }
+    return new ReadableArrayList<E>(0, howMany, Arrays.copyOfRange(this.elements, from, from + howMany));
   }
 
   @Override
   public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
   {
     R result = startValue;
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       result = function.apply(result, element);
     }
     return result;
@@ -330,7 +374,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
   public <R, F2 extends Function2<? super E, ? super R, R>> R foldRight(final R startValue, final F2 function)
   {
     R result = startValue;
-    for (int i = length - 1; i >= 0; i--)
+    for (int i = offset + length - 1; i >= offset; i--)
     {
       @SuppressWarnings("unchecked")
       final E element = (E) elements[i];
@@ -359,7 +403,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
       return null;
     }
     @SuppressWarnings("unchecked")
-    E result = (E) this.elements[0];
+    E result = (E) this.elements[offset];
     if (length == 1)
     {
       return result;
@@ -367,7 +411,7 @@ public class ReadableArrayList<E> extends AbstractReadableList<E> implements Rea
     for (int i = 1; i < length; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) this.elements[i];
+      final E element = (E) this.elements[offset + i];
       result = function.apply(result, element);
     }
     return result;
@@ -0,0 +1,141 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.elixirian.kommonlee.collect.immutable.ImmutableHashing.*;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Open-addressed hash table from each distinct element in a range of an array to the index of its first occurrence,
+ * used by an indexed {@link ImmutableArrayList} (See {@link ImmutableArrayList#indexed()}). It keeps only the indices
+ * in an int[] (index + 1 with 0 marking a free slot) and finds the elements in the array itself so it takes two to four
+ * ints for each element. Like the tables in {@link ImmutableHashing}, it uses linear probing and is filled at most half.
+ * <p>
+ * It never changes once it is built, so it is safe to share between threads.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+final class HashIndex
+{
+  /**
+   * the maximum number of the elements which can be indexed keeping the table at most half full.
+   */
+  static final int MAX_LENGTH = MAX_TABLE_LENGTH >> 1;
+
+  private final Object[] elements;
+
+  private final int offset;
+
+  private final int[] table;
+
+  private final int mask;
+
+  /**
+   * the index of the first null element or -1 if there is none.
+   */
+  private final int nullIndex;
+
+  HashIndex(final Object[] elements, final int offset, final int length)
+  {
+    this.elements = elements;
+    this.offset = offset;
+    this.table = new int[tableLengthFor(length)];
+    this.mask = table.length - 1;
+
+    int nullIndex = -1;
+    for (int i = 0; i < length; i++)
+    {
+      final Object element = elements[offset + i];
+      if (null == element)
+      {
+        if (0 > nullIndex)
+        {
+          nullIndex = i;
+        }
+        continue;
+      }
+      int slot = smear(element.hashCode()) & mask;
+      int entry;
+      while (0 != (entry = table[slot]) && !element.equals(elements[offset + entry - 1]))
+      {
+        slot = (slot + 1) & mask;
+      }
+      if (0 == entry)
+      {
+        /* only the first occurrence is kept. */
+        table[slot] = i + 1;
+      }
+    }
+    this.nullIndex = nullIndex;
+  }
+
+  /**
+   * @param element
+   *          the element to look up.
+   * @return the index of the first element equal to the given one or -1 if there is none.
+   */
+  int indexOf(final Object element)
+  {
+    if (null == element)
+    {
+      return nullIndex;
+    }
+    int slot = smear(element.hashCode()) & mask;
+    int entry;
+    while (0 != (entry = table[slot]))
+    {
+      if (element.equals(elements[offset + entry - 1]))
+      {
+        return entry - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+}
@@ -33,7 +33,6 @@ package org.elixirian.kommonlee.collect.immutable;
 
 import static org.elixirian.kommonlee.collect.KollectionUtil.*;
 import static org.elixirian.kommonlee.util.Objects.*;
-import static org.elixirian.kommonlee.util.collect.Lists.*;
 
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
@@ -45,14 +44,17 @@ import java.util.Collections;
 import java.util.List;
 
 import org.elixirian.kommonlee.collect.AbstractReadableList;
+import org.elixirian.kommonlee.collect.BulkReadable;
 import org.elixirian.kommonlee.collect.Kollection;
 import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.collect.McHammerArrayIterator;
 import org.elixirian.kommonlee.collect.McHammerIterator;
 import org.elixirian.kommonlee.collect.UnmodifiableIterator;
 import org.elixirian.kommonlee.functional.BreakableFunction1;
 import org.elixirian.kommonlee.functional.IndexedBreakableFunction1;
 import org.elixirian.kommonlee.functional.IndexedVoidFunction1;
 import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.GenericBuilder;
 import org.elixirian.kommonlee.type.functional.BreakOrContinue;
 import org.elixirian.kommonlee.type.functional.Condition1;
 import org.elixirian.kommonlee.type.functional.Function1;
@@ -80,8 +82,16 @@ import org.elixirian.kommonlee.util.NeoArrays;
  * @version 0.0.1 (2011-09-28)
  */
 @SuppressWarnings("serial")
-public abstract class ImmutableArrayList<E> extends AbstractReadableList<E> implements ImmutableList<E>, Serializable
+public abstract class ImmutableArrayList<E> extends AbstractReadableList<E> implements ImmutableList<E>, BulkReadable,
+    Serializable
 {
+  /**
+   * It is package-private so that no class outside this package can extend it and see the arrays it is given.
+   */
+  ImmutableArrayList()
+  {
+  }
+
   static final <E> ImmutableArrayList<E> emptyList()
   {
     @SuppressWarnings("unchecked")
@@ -107,6 +117,19 @@ public abstract class ImmutableArrayList<E> extends AbstractReadableList<E> impl
 
   static <T> ImmutableArrayList<T> copyOf(final Kollection<? extends T> kollection)
   {
+    if (kollection instanceof ImmutableArrayList)
+    {
+      @SuppressWarnings("unchecked")
+      final ImmutableArrayList<T> immutableArrayList = (ImmutableArrayList<T>) kollection;
+      return immutableArrayList;
+    }
+    if (kollection instanceof SortedImmutableList)
+    {
+      /* its elements array never changes either so the list backed by it can be used as it is. */
+      @SuppressWarnings("unchecked")
+      final SortedImmutableList<T> sortedImmutableList = (SortedImmutableList<T>) kollection;
+      return sortedImmutableList.asImmutableArrayList();
+    }
     final ImmutableArrayList<T> emptyImmutableArrayList = getEmptyImmutableArrayList(kollection.length());
     return null == emptyImmutableArrayList ? new DefaultImmutableArrayList<T>(kollection) : emptyImmutableArrayList;
   }
@@ -126,6 +149,28 @@ public abstract class ImmutableArrayList<E> extends AbstractReadableList<E> impl
         : emptyImmutableArrayList;
   }
 
+  /**
+   * Takes over the first length elements of the given array without copying it unless the array is so much longer that
+   * keeping it would waste memory. The array must never be changed afterwards.
+   */
+  static <T> ImmutableArrayList<T> takeOver(final Object[] elements, final int length)
+  {
+    checkRange(elements.length, 0, length);
+    final ImmutableArrayList<T> emptyImmutableArrayList = getEmptyImmutableArrayList(length);
+    return null == emptyImmutableArrayList ? DefaultImmutableArrayList.<T> sharing(elements, length)
+        : emptyImmutableArrayList;
+  }
+
+  /**
+   * @return a view of the given range of the given array which always shares the array no matter how small the range
+   *         is. The array must never be changed afterwards.
+   */
+  static <E> ImmutableArrayList<E> viewOf(final Object[] elements, final int offset, final int length)
+  {
+    return 0 == length ? ImmutableArrayList.<E> emptyList() : DefaultImmutableArrayList.<E> view(elements, offset,
+        length);
+  }
+
   private static class SerializationProxy implements Serializable
   {
     private static final long serialVersionUID = 0L;
@@ -159,6 +204,134 @@ public abstract class ImmutableArrayList<E> extends AbstractReadableList<E> impl
   {
     return KollectionUtil.toStringOf("ImmutableList", this);
   }
+
+  /**
+   * Returns the {@link ImmutableArrayList} with the same elements which builds a hash index of them once it has been
+   * looked up several times with {@link #contains(Object)} or {@link #indexOf(Object)}. After that, each lookup takes
+   * O(1) time instead of scanning the list so {@link #containsAll(Kollection)} with m elements takes O(m) time. It
+   * shares the elements with this list. The index takes 8 to 16 bytes for each element.
+   *
+   * @return the indexed list which can be this list if it is already indexed or too short to be worth indexing.
+   */
+  public abstract ImmutableArrayList<E> indexed();
+
+  /**
+   * Builds an {@link ImmutableArrayList} by filling an array of its own and handing it over to the built list without
+   * copying it. The array is trimmed only if it is much longer than the number of the elements added (See
+   * {@link KollectionUtil#SUB_LIST_MIN_SHARED_RATIO}). It is not thread-safe. Once {@link #build()} is called, the
+   * array belongs to the built list so the builder copies it before adding more elements.
+   *
+   * @author Lee, SeongHyun (Kevin)
+   * @version 0.0.1 (2014-05-08)
+   */
+  public static final class Builder<E> implements GenericBuilder<ImmutableArrayList<E>>
+  {
+    private Object[] elements;
+
+    private int length;
+
+    /**
+     * true if the elements array has been handed over to a built list so it must not be changed anymore.
+     */
+    private boolean handedOver;
+
+    Builder(final int expectedLength)
+    {
+      checkInitialLength(expectedLength);
+      this.elements = new Object[expectedLength];
+    }
+
+    public int length()
+    {
+      return length;
+    }
+
+    private void ensureCapacity(final int lengthAfterAdding)
+    {
+      final int capacity = elements.length;
+      if (0 < lengthAfterAdding - capacity)
+      {
+        int newCapacity = capacity + (capacity >> 1);
+        if (0 > newCapacity - lengthAfterAdding)
+        {
+          newCapacity = lengthAfterAdding;
+        }
+        if (0 > newCapacity)
+        {
+          if (0 > lengthAfterAdding)
+          {
+            throw new OutOfMemoryError();
+          }
+          newCapacity = Integer.MAX_VALUE;
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+        handedOver = false;
+      }
+      else if (handedOver)
+      {
+        elements = Arrays.copyOf(elements, capacity);
+        handedOver = false;
+      }
+    }
+
+    public Builder<E> add(final E element)
+    {
+      ensureCapacity(length + 1);
+      elements[length++] = element;
+      return this;
+    }
+
+    public Builder<E> addAll(final E... elements)
+    {
+      return addAll0(elements);
+    }
+
+    /**
+     * Adds all the given elements. If they are in a {@link Kollection}, they are copied straight into the elements
+     * array with {@link KollectionUtil#copyInto(Kollection, Object[], int)}. If they are in a {@link Collection}, they
+     * are copied in one go from the array returned by its toArray() method.
+     */
+    public Builder<E> addAll(final Iterable<? extends E> elements)
+    {
+      if (elements instanceof Kollection)
+      {
+        final Kollection<?> kollection = (Kollection<?>) elements;
+        final int howMany = kollection.length();
+        ensureCapacity(length + howMany);
+        KollectionUtil.copyInto(kollection, this.elements, length);
+        length += howMany;
+        return this;
+      }
+      if (elements instanceof Collection)
+      {
+        return addAll0(((Collection<?>) elements).toArray());
+      }
+      for (final E element : elements)
+      {
+        add(element);
+      }
+      return this;
+    }
+
+    private Builder<E> addAll0(final Object[] elementsToAdd)
+    {
+      final int howMany = elementsToAdd.length;
+      ensureCapacity(length + howMany);
+      System.arraycopy(elementsToAdd, 0, elements, length, howMany);
+      length += howMany;
+      return this;
+    }
+
+    @Override
+    public ImmutableArrayList<E> build()
+    {
+      if (0 != length)
+      {
+        handedOver = true;
+      }
+      return takeOver(elements, length);
+    }
+  }
 }
 
 final class EmptyImmutableArrayList<E> extends ImmutableArrayList<E>
@@ -177,6 +350,12 @@ final class EmptyImmutableArrayList<E> extends ImmutableArrayList<E>
     return NeoArrays.EMPTY_OBJECT_ARRAY;
   }
 
+  @Override
+  public void copyInto(final Object[] destination, final int destinationPosition)
+  {
+    System.arraycopy(NeoArrays.EMPTY_OBJECT_ARRAY, 0, destination, destinationPosition, 0);
+  }
+
   @Override
   public E[] toArray(final E[] elements)
   {
@@ -262,6 +441,12 @@ final class EmptyImmutableArrayList<E> extends ImmutableArrayList<E>
     return false;
   }
 
+  @Override
+  public EmptyImmutableArrayList<E> indexed()
+  {
+    return this;
+  }
+
   @Override
   public boolean containsAll(@SuppressWarnings("unused") final Kollection<?> kollection)
   {
@@ -424,43 +609,165 @@ final class EmptyImmutableArrayList<E> extends ImmutableArrayList<E>
   {
     return null;
   }
+
+  @Override
+  public EmptyImmutableArrayList<E> parallelSelect(@SuppressWarnings("unused") final Condition1<? super E> condition)
+  {
+    return this;
+  }
+
+  @Override
+  public <R> EmptyImmutableArrayList<R> parallelMap(@SuppressWarnings("unused") final Function1<? super E, R> function)
+  {
+    @SuppressWarnings("unchecked")
+    final EmptyImmutableArrayList<R> immutableArrayList = (EmptyImmutableArrayList<R>) this;
+    return immutableArrayList;
+  }
+
+  @Override
+  public int parallelHowMany(@SuppressWarnings("unused") final Condition1<? super E> conditionToMeet)
+  {
+    return 0;
+  }
+
+  @Override
+  public E parallelFind(@SuppressWarnings("unused") final Condition1<? super E> condition)
+  {
+    return null;
+  }
+
+  @Override
+  public E parallelFindAny(@SuppressWarnings("unused") final Condition1<? super E> condition)
+  {
+    return null;
+  }
+
+  @Override
+  public E parallelReduce(@SuppressWarnings("unused") final Function2<? super E, ? super E, E> function)
+  {
+    return null;
+  }
+
+  @Override
+  public <R> R parallelFoldLeft(final R identity,
+      @SuppressWarnings("unused") final Function2<? super R, ? super E, R> function,
+      @SuppressWarnings("unused") final Function2<? super R, ? super R, R> combiner)
+  {
+    return identity;
+  }
 }
 
 @SuppressWarnings("serial")
 final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
 {
+  /**
+   * the elements array which may be shared with other {@link DefaultImmutableArrayList}s and is never changed.
+   */
   private final transient Object[] elements;
 
+  private final transient int offset;
+
   private final transient int length;
 
+  /**
+   * the number of the lookups with {@link #contains(Object)} or {@link #indexOf(Object)} an indexed list takes before it
+   * builds its {@link HashIndex}.
+   */
+  static final int LOOKUPS_BEFORE_INDEXING = 8;
+
+  /**
+   * A list shorter than this is never indexed as scanning it is about as fast as looking it up in a {@link HashIndex}.
+   */
+  static final int MIN_INDEXED_LENGTH = 16;
+
+  private final transient boolean indexed;
+
+  /**
+   * It is not exact as it is not synchronized, but it only decides when the {@link HashIndex} is built.
+   */
+  private transient int lookupCount;
+
+  /**
+   * built once it is needed and published through the volatile field. If two threads build it at the same time, both
+   * indices are the same so either can be used.
+   */
+  private transient volatile HashIndex hashIndex;
+
+  /**
+   * the cached hash code. 0 means it has not been calculated yet. Like {@link String#hashCode()}, it is calculated
+   * again if the hash code is 0 and the race to calculate it is harmless as every thread gets the same value.
+   */
+  private transient int hashCode;
+
   DefaultImmutableArrayList(final Collection<? extends E> collection)
   {
-    final int length = collection.size();
-    final Object[] elements = collection.toArray();
-    this.elements = Arrays.copyOf(elements, length);
+    this.elements = newArrayOf(collection.toArray(), collection.size());
+    this.offset = 0;
     this.length = this.elements.length;
+    this.indexed = false;
   }
 
   DefaultImmutableArrayList(final Kollection<? extends E> kollection)
   {
-    final int length = kollection.length();
-    final Object[] elements = kollection.toArray();
-    this.elements = Arrays.copyOf(elements, length);
+    this.elements = newArrayOf(kollection.toArray(), kollection.length());
+    this.offset = 0;
     this.length = this.elements.length;
+    this.indexed = false;
+  }
+
+  /**
+   * @param newArray
+   *          the array returned by toArray() which is a new array not shared with anyone else.
+   * @return the given array as it is if it has the given length. Otherwise a copy of it with the given length.
+   */
+  private static Object[] newArrayOf(final Object[] newArray, final int length)
+  {
+    return length == newArray.length ? newArray : Arrays.copyOf(newArray, length);
   }
 
   DefaultImmutableArrayList(final Object[] elements, final int howMany)
   {
     final int length = Math.min(elements.length, howMany);
     this.elements = Arrays.copyOf(elements, length);
+    this.offset = 0;
     this.length = this.elements.length;
+    this.indexed = false;
   }
 
   DefaultImmutableArrayList(final Object... elements)
   {
     final int length = elements.length;
     this.elements = Arrays.copyOf(elements, length);
+    this.offset = 0;
     this.length = length;
+    this.indexed = false;
+  }
+
+  /**
+   * Takes the given array without copying it so it must never be changed afterwards.
+   */
+  private DefaultImmutableArrayList(final int offset, final int length, final Object[] elements)
+  {
+    this(offset, length, elements, false);
+  }
+
+  private DefaultImmutableArrayList(final int offset, final int length, final Object[] elements, final boolean indexed)
+  {
+    this.elements = elements;
+    this.offset = offset;
+    this.length = length;
+    this.indexed = indexed;
+  }
+
+  static <E> DefaultImmutableArrayList<E> view(final Object[] elements, final int offset, final int length)
+  {
+    return new DefaultImmutableArrayList<E>(offset, length, elements);
+  }
+
+  static <E> DefaultImmutableArrayList<E> sharing(final Object[] elements, final int length)
+  {
+    return new DefaultImmutableArrayList<E>(0, length, isWorthSharing(length, elements.length) ? elements
+        : Arrays.copyOf(elements, length));
   }
 
   @Override
@@ -479,35 +786,44 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   public Object[] toArray()
   {
     final Object[] copyOf = new Object[length];
-    System.arraycopy(elements, 0, copyOf, 0, length);
+    System.arraycopy(elements, offset, copyOf, 0, length);
     return copyOf;
   }
 
+  @Override
+  public void copyInto(final Object[] destination, final int destinationPosition)
+  {
+    System.arraycopy(elements, offset, destination, destinationPosition, length);
+  }
+
   @Override
   public E[] toArray(final E[] elements)
   {
     if (length == elements.length)
     {
-      System.arraycopy(this.elements, 0, elements, 0, length);
+      System.arraycopy(this.elements, offset, elements, 0, length);
       return elements;
     }
     @SuppressWarnings("unchecked")
-    final E[] copyOf = (E[]) Arrays.copyOf(this.elements, length, elements.getClass());
+    final E[] copyOf = (E[]) Arrays.copyOfRange(this.elements, offset, offset + length, elements.getClass());
     return copyOf;
   }
 
+  /**
+   * Returns an unmodifiable view of the elements array without copying it as the array never changes.
+   */
   @Override
   public List<E> convertTo()
   {
     @SuppressWarnings("unchecked")
-    final List<E> list = Collections.unmodifiableList(newArrayList((E[]) this.elements));
-    return list;
+    final List<E> all = (List<E>) Arrays.asList(elements);
+    return Collections.unmodifiableList(isView() ? all.subList(offset, offset + length) : all);
   }
 
   @Override
-  public UnmodifiableIterator<E> iterator()
+  public McHammerArrayIterator<E> iterator()
   {
-    return new McHammerIteratorForReadableList();
+    return new McHammerArrayIterator<E>(elements, offset, offset + length);
   }
 
   @Override
@@ -519,16 +835,103 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   @Override
   public boolean contains(final Object element)
   {
-    return 0 <= indexOf0(element);
+    return 0 <= firstIndexOf(element);
+  }
+
+  @Override
+  public int indexOf(final E element)
+  {
+    return firstIndexOf(element);
+  }
+
+  @Override
+  public int indexOf(final E element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    final HashIndex hashIndex = hashIndexIfIndexed();
+    if (null != hashIndex)
+    {
+      /* the index has only the first one so the rest is scanned if it is before fromIndex. */
+      final int index = hashIndex.indexOf(element);
+      if (0 > index || fromIndex <= index)
+      {
+        return index;
+      }
+    }
+    return indexOf0(element, fromIndex);
+  }
+
+  private int firstIndexOf(final Object element)
+  {
+    final HashIndex hashIndex = hashIndexIfIndexed();
+    if (null != hashIndex)
+    {
+      return hashIndex.indexOf(element);
+    }
+    if (null == element)
+    {
+      for (int i = 0; i < length; i++)
+      {
+        if (null == this.elements[offset + i])
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (element.equals(this.elements[offset + i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the {@link HashIndex} if this list is indexed and it has been looked up enough times. Otherwise null.
+   */
+  private HashIndex hashIndexIfIndexed()
+  {
+    if (!indexed)
+    {
+      return null;
+    }
+    HashIndex hashIndex = this.hashIndex;
+    if (null == hashIndex && LOOKUPS_BEFORE_INDEXING <= ++lookupCount)
+    {
+      hashIndex = new HashIndex(elements, offset, length);
+      this.hashIndex = hashIndex;
+    }
+    return hashIndex;
+  }
+
+  /**
+   * @return true if this list is indexed and the {@link HashIndex} has been built.
+   */
+  boolean hasHashIndex()
+  {
+    return null != hashIndex;
+  }
+
+  @Override
+  public ImmutableArrayList<E> indexed()
+  {
+    if (indexed || MIN_INDEXED_LENGTH > length || HashIndex.MAX_LENGTH < length)
+    {
+      return this;
+    }
+    return new DefaultImmutableArrayList<E>(offset, length, elements, true);
   }
 
   @Override
   public E find(final Condition1<? super E> condition)
   {
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       if (condition.isMet(element))
       {
         return element;
@@ -540,62 +943,56 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   @Override
   public ImmutableArrayList<E> select(final Condition1<? super E> condition)
   {
-    final Object[] arrayOfObject = new Object[length];
-    int i = 0;
-    for (final Object object : this.elements)
+    final Builder<E> builder = new Builder<E>(length);
+    for (int j = offset, end = offset + length; j < end; j++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[j];
       if (condition.isMet(element))
       {
-        arrayOfObject[i++] = element;
+        builder.add(element);
       }
     }
-    @SuppressWarnings("unchecked")
-    final ImmutableArrayList<E> copyOf = (ImmutableArrayList<E>) listOf(arrayOfObject, i);
-    return copyOf;
+    return length == builder.length() ? this : builder.build();
   }
 
   @Override
   public <R> ImmutableArrayList<R> map(final Function1<? super E, R> function)
   {
-    final Object[] array = new Object[length];
-    int i = 0;
-    for (final Object object : this.elements)
+    final Builder<R> builder = new Builder<R>(length);
+    for (int j = offset, end = offset + length; j < end; j++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
-      array[i++] = function.apply(element);
+      final E element = (E) this.elements[j];
+      builder.add(function.apply(element));
     }
-    @SuppressWarnings("unchecked")
-    final R[] arrayOfR = (R[]) array;
-    return listOf(arrayOfR);
+    return builder.build();
   }
 
   @Override
   public <R> ImmutableArrayList<R> mapSelectively(final Condition1<? super E> condition,
       final Function1<? super E, R> function)
   {
-    final List<R> list = newArrayList();
-    for (final Object object : this.elements)
+    final Builder<R> builder = new Builder<R>(length);
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       if (condition.isMet(element))
       {
-        list.add(function.apply(element));
+        builder.add(function.apply(element));
       }
     }
-    return copyOf(list);
+    return builder.build();
   }
 
   @Override
   public void forEach(final VoidFunction1<? super E> function)
   {
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       function.apply(element);
     }
   }
@@ -606,7 +1003,7 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
     for (int i = 0; i < length; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) this.elements[i];
+      final E element = (E) this.elements[offset + i];
       function.apply(i, element);
     }
   }
@@ -614,10 +1011,10 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   @Override
   public void breakableForEach(final BreakableFunction1<? super E> function)
   {
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       if (BreakOrContinue.BREAK == function.apply(element))
       {
         return;
@@ -631,7 +1028,7 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
     for (int i = 0; i < length; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) this.elements[i];
+      final E element = (E) this.elements[offset + i];
       if (BreakOrContinue.BREAK == function.apply(i, element))
       {
         return;
@@ -643,10 +1040,10 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
   {
     R result = startValue;
-    for (final Object object : this.elements)
+    for (int i = offset, end = offset + length; i < end; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) object;
+      final E element = (E) this.elements[i];
       result = function.apply(result, element);
     }
     return result;
@@ -668,7 +1065,7 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   public <R, F2 extends Function2<? super E, ? super R, R>> R foldRight(final R startValue, final F2 function)
   {
     R result = startValue;
-    for (int i = length - 1; i >= 0; i--)
+    for (int i = offset + length - 1; i >= offset; i--)
     {
       @SuppressWarnings("unchecked")
       final E element = (E) elements[i];
@@ -695,24 +1092,53 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
   {
     checkIndex(length, index);
     @SuppressWarnings("unchecked")
-    final E e = (E) this.elements[index];
+    final E e = (E) this.elements[offset + index];
     return e;
   }
 
+  /**
+   * Returns a view sharing the elements array if the sub-list is large enough compared to the array (See
+   * {@link KollectionUtil#SUB_LIST_MIN_SHARED_RATIO}). Otherwise it copies the range once.
+   */
   @Override
   public ImmutableArrayList<E> subList(final int fromIndex, final int toIndex)
   {
     checkRange(length, fromIndex, toIndex);
+    if (0 == fromIndex && length == toIndex)
+    {
+      return this;
+    }
     final int howMany = toIndex - fromIndex;
-    final Object[] subElements = new Object[howMany];
-    System.arraycopy(this.elements, fromIndex, subElements, 0, howMany);
-    return new DefaultImmutableArrayList<E>(subElements);
+    final int from = offset + fromIndex;
+    if (isWorthSharing(howMany, this.elements.length))
+    {
+      return new DefaultImmutableArrayList<E>(from, howMany, this.elements);
+    }
+    return new DefaultImmutableArrayList<E>(0, howMany, Arrays.copyOfRange(this.elements, from, from + howMany));
+  }
+
+  /**
+   * @return true if the elements array is larger than this list (e.g. it is shared with a larger list).
+   */
+  boolean isView()
+  {
+    return length != elements.length;
   }
 
   @Override
   public int hashCode()
   {
-    return hash(this.elements);
+    int result = hashCode;
+    if (0 == result)
+    {
+      result = HASH_SEED;
+      for (int i = offset, end = offset + length; i < end; i++)
+      {
+        result = hashObjectWithSeed(result, this.elements[i]);
+      }
+      hashCode = result;
+    }
+    return result;
   }
 
   @Override
@@ -722,11 +1148,49 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
     {
       return true;
     }
+    if (immutableArrayList instanceof DefaultImmutableArrayList)
+    {
+      return equalElements((DefaultImmutableArrayList<?>) immutableArrayList);
+    }
     final ImmutableArrayList<?> that = castIfInstanceOf(ImmutableArrayList.class, immutableArrayList);
-    /* @formatter:off */
-    return null != that &&
-          deepEqual(this.elements, that.toArray());
-  /* @formatter:on */
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    /* compare element by element instead of copying both lists with toArray(). */
+    for (int i = 0; i < length; i++)
+    {
+      if (!deepEqual(this.elements[offset + i], that.get(i)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the elements in the arrays directly without copying them. The cached hash codes are not used to return
+   * early as the elements are compared with deepEqual while an array element has its identity hash code, so two equal
+   * lists can have different hash codes.
+   */
+  private boolean equalElements(final DefaultImmutableArrayList<?> that)
+  {
+    if (this.length != that.length)
+    {
+      return false;
+    }
+    if (this.elements == that.elements && this.offset == that.offset)
+    {
+      return true;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (!deepEqual(this.elements[this.offset + i], that.elements[that.offset + i]))
+      {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -737,7 +1201,7 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
       return null;
     }
     @SuppressWarnings("unchecked")
-    E result = (E) this.elements[0];
+    E result = (E) this.elements[offset];
     if (length == 1)
     {
       return result;
@@ -745,9 +1209,78 @@ final class DefaultImmutableArrayList<E> extends ImmutableArrayList<E>
     for (int i = 1; i < length; i++)
     {
       @SuppressWarnings("unchecked")
-      final E element = (E) this.elements[i];
+      final E element = (E) this.elements[offset + i];
       result = function.apply(result, element);
     }
     return result;
   }
+
+  @Override
+  public ImmutableArrayList<E> parallelSelect(final Condition1<? super E> condition)
+  {
+    final Object[] selected = ParallelArrays.select(this.elements, offset, offset + length, condition);
+    final int howMany = selected.length;
+    if (0 == howMany)
+    {
+      return emptyList();
+    }
+    return length == howMany ? this : new DefaultImmutableArrayList<E>(0, howMany, selected);
+  }
+
+  @Override
+  public <R> ImmutableArrayList<R> parallelMap(final Function1<? super E, R> function)
+  {
+    if (0 == length)
+    {
+      return emptyList();
+    }
+    return new DefaultImmutableArrayList<R>(0, length, ParallelArrays.map(this.elements, offset, offset + length,
+        function));
+  }
+
+  @Override
+  public int parallelHowMany(final Condition1<? super E> conditionToMeet)
+  {
+    return ParallelArrays.howMany(this.elements, offset, offset + length, conditionToMeet);
+  }
+
+  @Override
+  public E parallelFind(final Condition1<? super E> condition)
+  {
+    return elementAt(ParallelArrays.find(this.elements, offset, offset + length, condition, true));
+  }
+
+  @Override
+  public E parallelFindAny(final Condition1<? super E> condition)
+  {
+    return elementAt(ParallelArrays.find(this.elements, offset, offset + length, condition, false));
+  }
+
+  private E elementAt(final int indexInElements)
+  {
+    if (0 > indexInElements)
+    {
+      return null;
+    }
+    @SuppressWarnings("unchecked")
+    final E element = (E) this.elements[indexInElements];
+    return element;
+  }
+
+  @Override
+  public E parallelReduce(final Function2<? super E, ? super E, E> function)
+  {
+    if (0 == length)
+    {
+      return null;
+    }
+    return ParallelArrays.reduce(this.elements, offset, offset + length, function);
+  }
+
+  @Override
+  public <R> R parallelFoldLeft(final R identity, final Function2<? super R, ? super E, R> function,
+      final Function2<? super R, ? super R, R> combiner)
+  {
+    return ParallelArrays.foldLeft(this.elements, offset, offset + length, identity, function, combiner);
+  }
 }
@@ -0,0 +1,567 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.elixirian.kommonlee.collect.immutable.ImmutableHashing.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Maps.*;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.elixirian.kommonlee.functional.VoidFunction2;
+import org.elixirian.kommonlee.type.functional.Condition2;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.util.NeoArrays;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link ImmutableMap} keeping its keys and values interleaved in a single flat array (key at an even index and its
+ * value right after it) without any entry object. A map with up to {@link ImmutableHashing#MAX_SMALL_LENGTH} entries
+ * has a dense array searched linearly, which is cheaper than hashing for a few keys, and a larger one has an
+ * open-addressed table with a null key marking a free slot.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <K>
+ *          the type of the keys
+ * @param <V>
+ *          the type of the values
+ */
+@SuppressWarnings("serial")
+public abstract class ImmutableHashMap<K, V> implements ImmutableMap<K, V>, Serializable
+{
+  /**
+   * either the dense keys and values of a small map or the open-addressed table of a large one.
+   */
+  final transient Object[] table;
+
+  final transient int length;
+
+  ImmutableHashMap(final Object[] table, final int length)
+  {
+    this.table = table;
+    this.length = length;
+  }
+
+  static <K, V> ImmutableHashMap<K, V> emptyMap()
+  {
+    @SuppressWarnings("unchecked")
+    final ImmutableHashMap<K, V> emptyImmutableHashMap =
+      (ImmutableHashMap<K, V>) SmallImmutableHashMap.EMPTY_IMMUTABLE_HASH_MAP;
+    return emptyImmutableHashMap;
+  }
+
+  static <K, V> ImmutableHashMap<K, V> copyOf(final Map<? extends K, ? extends V> map)
+  {
+    final Object[] keysAndValues = new Object[map.size() << 1];
+    int i = 0;
+    for (final Entry<? extends K, ? extends V> entry : map.entrySet())
+    {
+      keysAndValues[i++] = entry.getKey();
+      keysAndValues[i++] = entry.getValue();
+    }
+    return of(keysAndValues, i >> 1);
+  }
+
+  /**
+   * Creates an {@link ImmutableHashMap} with the first howMany pairs of key and value in the given array. If the same
+   * key appears more than once, the last value is taken like {@link Map#put(Object, Object)}. The given array is never
+   * kept.
+   *
+   * @exception NullPointerException
+   *              if any of the keys is null.
+   */
+  static <K, V> ImmutableHashMap<K, V> of(final Object[] keysAndValues, final int howMany)
+  {
+    if (0 == howMany)
+    {
+      return emptyMap();
+    }
+    if (MAX_SMALL_LENGTH >= howMany)
+    {
+      final Object[] distinct = new Object[howMany << 1];
+      int length = 0;
+      for (int i = 0, end = howMany << 1; i < end; i += 2)
+      {
+        final Object key = mustNotBeNull(keysAndValues[i], "ImmutableMap cannot have null key.");
+        final int index = SmallImmutableHashMap.indexOfKey(distinct, length, key);
+        if (0 > index)
+        {
+          distinct[length << 1] = key;
+          distinct[(length << 1) + 1] = keysAndValues[i + 1];
+          length++;
+        }
+        else
+        {
+          distinct[index + 1] = keysAndValues[i + 1];
+        }
+      }
+      return new SmallImmutableHashMap<K, V>(distinct, length);
+    }
+
+    Object[] table = new Object[tableLengthFor(howMany) << 1];
+    int length = 0;
+    for (int i = 0, end = howMany << 1; i < end; i += 2)
+    {
+      if (DefaultImmutableHashMap.put(table, mustNotBeNull(keysAndValues[i], "ImmutableMap cannot have null key."),
+          keysAndValues[i + 1]))
+      {
+        length++;
+      }
+    }
+    if (MAX_SMALL_LENGTH >= length)
+    {
+      return new SmallImmutableHashMap<K, V>(toDenseArray(table, length), length);
+    }
+    final int tableLength = tableLengthFor(length) << 1;
+    if (tableLength < table.length)
+    {
+      /* there were many duplicate keys so the table is larger than necessary. */
+      final Object[] smallerTable = new Object[tableLength];
+      for (int i = 0, end = table.length; i < end; i += 2)
+      {
+        if (null != table[i])
+        {
+          DefaultImmutableHashMap.put(smallerTable, table[i], table[i + 1]);
+        }
+      }
+      table = smallerTable;
+    }
+    return new DefaultImmutableHashMap<K, V>(table, length);
+  }
+
+  private static Object[] toDenseArray(final Object[] table, final int length)
+  {
+    final Object[] keysAndValues = new Object[length << 1];
+    int index = 0;
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        keysAndValues[index++] = table[i];
+        keysAndValues[index++] = table[i + 1];
+      }
+    }
+    return keysAndValues;
+  }
+
+  /**
+   * @return the index of the given key in the table or -1 if it is not found. The value is at the index + 1.
+   */
+  abstract int indexOfKey(Object key);
+
+  /**
+   * @return a map of the same kind with the given table laid out exactly like this map's table.
+   */
+  abstract <R> ImmutableHashMap<K, R> withTable(Object[] table);
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return 0 != length;
+  }
+
+  @Override
+  public V get(final Object key)
+  {
+    return getOrDefault(key, null);
+  }
+
+  @Override
+  public V getOrDefault(final Object key, final V defaultValue)
+  {
+    final int index = indexOfKey(key);
+    if (0 > index)
+    {
+      return defaultValue;
+    }
+    @SuppressWarnings("unchecked")
+    final V value = (V) table[index + 1];
+    return value;
+  }
+
+  @Override
+  public boolean containsKey(final Object key)
+  {
+    return 0 <= indexOfKey(key);
+  }
+
+  @Override
+  public boolean containsValue(final Object value)
+  {
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i] && equal(value, table[i + 1]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void forEach(final VoidFunction2<? super K, ? super V> function)
+  {
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        @SuppressWarnings("unchecked")
+        final K key = (K) table[i];
+        @SuppressWarnings("unchecked")
+        final V value = (V) table[i + 1];
+        function.apply(key, value);
+      }
+    }
+  }
+
+  @Override
+  public ImmutableSet<K> keys()
+  {
+    final Object[] keys = new Object[length];
+    int index = 0;
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        keys[index++] = table[i];
+      }
+    }
+    return ImmutableHashSet.of(keys, length);
+  }
+
+  @Override
+  public ImmutableList<V> values()
+  {
+    final Object[] values = new Object[length];
+    int index = 0;
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        values[index++] = table[i + 1];
+      }
+    }
+    @SuppressWarnings("unchecked")
+    final ImmutableList<V> immutableList = (ImmutableList<V>) ImmutableArrayList.listOf(values);
+    return immutableList;
+  }
+
+  @Override
+  public ImmutableHashMap<K, V> select(final Condition2<? super K, ? super V> condition)
+  {
+    final Object[] selected = new Object[length << 1];
+    int index = 0;
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        @SuppressWarnings("unchecked")
+        final K key = (K) table[i];
+        @SuppressWarnings("unchecked")
+        final V value = (V) table[i + 1];
+        if (condition.isMet(key, value))
+        {
+          selected[index++] = key;
+          selected[index++] = value;
+        }
+      }
+    }
+    final int howMany = index >> 1;
+    return howMany == length ? this : ImmutableHashMap.<K, V> of(selected, howMany);
+  }
+
+  /**
+   * As the keys stay the same, the result shares nothing but reuses the layout of this map so no key is hashed again.
+   */
+  @Override
+  public <R> ImmutableHashMap<K, R> mapValues(final Function1<? super V, R> function)
+  {
+    final Object[] mapped = table.clone();
+    for (int i = 0, end = mapped.length; i < end; i += 2)
+    {
+      if (null != mapped[i])
+      {
+        @SuppressWarnings("unchecked")
+        final V value = (V) mapped[i + 1];
+        mapped[i + 1] = function.apply(value);
+      }
+    }
+    return withTable(mapped);
+  }
+
+  @Override
+  public Map<K, V> convertTo()
+  {
+    final Map<K, V> map = newHashMapWithInitialCapacity(Math.max((int) (length / .75F) + 1, 16));
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        @SuppressWarnings("unchecked")
+        final K key = (K) table[i];
+        @SuppressWarnings("unchecked")
+        final V value = (V) table[i + 1];
+        map.put(key, value);
+      }
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int hash = 0;
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        hash += table[i].hashCode() ^ hashCodeOf(table[i + 1]);
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object immutableHashMap)
+  {
+    if (this == immutableHashMap)
+    {
+      return true;
+    }
+    final ImmutableMap<?, ?> that = castIfInstanceOf(ImmutableMap.class, immutableHashMap);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      final Object key = table[i];
+      if (null != key && !(that.containsKey(key) && equal(table[i + 1], that.get(key))))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder stringBuilder = new StringBuilder("{");
+    for (int i = 0, end = table.length; i < end; i += 2)
+    {
+      if (null != table[i])
+      {
+        if (1 < stringBuilder.length())
+        {
+          stringBuilder.append(", ");
+        }
+        final Object value = table[i + 1];
+        stringBuilder.append(this == table[i] ? "{this (ImmutableMap)}" : table[i])
+            .append("=")
+            .append(this == value ? "{this (ImmutableMap)}" : value);
+      }
+    }
+    return stringBuilder.append("}")
+        .toString();
+  }
+
+  private static class SerializationProxy implements Serializable
+  {
+    private static final long serialVersionUID = 0L;
+
+    final Object[] keysAndValues;
+
+    SerializationProxy(final Object[] keysAndValues)
+    {
+      this.keysAndValues = keysAndValues;
+    }
+
+    Object readResolve()
+    {
+      return of(keysAndValues, keysAndValues.length >> 1);
+    }
+  }
+
+  private void readObject(@SuppressWarnings("unused") final ObjectInputStream objectInputStream)
+      throws InvalidObjectException
+  {
+    throw new InvalidObjectException("For serialization, SerializationProxy must be used.");
+  }
+
+  protected Object writeReplace()
+  {
+    return new SerializationProxy(toDenseArray(table, length));
+  }
+}
+
+/**
+ * {@link ImmutableHashMap} with no more than {@link ImmutableHashing#MAX_SMALL_LENGTH} entries in a dense array.
+ */
+@SuppressWarnings("serial")
+final class SmallImmutableHashMap<K, V> extends ImmutableHashMap<K, V>
+{
+  static final SmallImmutableHashMap<?, ?> EMPTY_IMMUTABLE_HASH_MAP = new SmallImmutableHashMap<Object, Object>(
+      NeoArrays.EMPTY_OBJECT_ARRAY, 0);
+
+  SmallImmutableHashMap(final Object[] keysAndValues, final int length)
+  {
+    super(length << 1 == keysAndValues.length ? keysAndValues : Arrays.copyOf(keysAndValues, length << 1), length);
+  }
+
+  static int indexOfKey(final Object[] keysAndValues, final int length, final Object key)
+  {
+    for (int i = 0, end = length << 1; i < end; i += 2)
+    {
+      final Object each = keysAndValues[i];
+      if (key == each || key.equals(each))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  int indexOfKey(final Object key)
+  {
+    return null == key ? -1 : indexOfKey(table, length, key);
+  }
+
+  @Override
+  <R> SmallImmutableHashMap<K, R> withTable(final Object[] table)
+  {
+    return new SmallImmutableHashMap<K, R>(table, length);
+  }
+}
+
+/**
+ * {@link ImmutableHashMap} with an open-addressed table which is at most half full.
+ */
+@SuppressWarnings("serial")
+final class DefaultImmutableHashMap<K, V> extends ImmutableHashMap<K, V>
+{
+  DefaultImmutableHashMap(final Object[] table, final int length)
+  {
+    super(table, length);
+  }
+
+  /**
+   * @return true if the given key is added or false if it is already in the given table (then its value is replaced).
+   */
+  static boolean put(final Object[] table, final Object key, final Object value)
+  {
+    final int mask = table.length - 1;
+    int index = (smear(key.hashCode()) << 1) & mask;
+    Object found;
+    while (null != (found = table[index]))
+    {
+      if (key == found || key.equals(found))
+      {
+        table[index + 1] = value;
+        return false;
+      }
+      index = (index + 2) & mask;
+    }
+    table[index] = key;
+    table[index + 1] = value;
+    return true;
+  }
+
+  @Override
+  int indexOfKey(final Object key)
+  {
+    if (null == key)
+    {
+      return -1;
+    }
+    final Object[] table = this.table;
+    final int mask = table.length - 1;
+    int index = (smear(key.hashCode()) << 1) & mask;
+    Object found;
+    while (null != (found = table[index]))
+    {
+      if (key == found || key.equals(found))
+      {
+        return index;
+      }
+      index = (index + 2) & mask;
+    }
+    return -1;
+  }
+
+  @Override
+  <R> DefaultImmutableHashMap<K, R> withTable(final Object[] table)
+  {
+    return new DefaultImmutableHashMap<K, R>(table, length);
+  }
+}
@@ -0,0 +1,684 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.elixirian.kommonlee.collect.immutable.ImmutableHashing.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Sets.*;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.elixirian.kommonlee.collect.AbstractKollection;
+import org.elixirian.kommonlee.collect.Kollection;
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.UnmodifiableIterator;
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+import org.elixirian.kommonlee.util.NeoArrays;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link ImmutableSet} keeping its elements in a single flat array without any entry object. A set with up to
+ * {@link ImmutableHashing#MAX_SMALL_LENGTH} elements has a dense array searched linearly, which is cheaper than hashing
+ * for a few elements, and a larger one has an open-addressed table with null marking a free slot.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+@SuppressWarnings("serial")
+public abstract class ImmutableHashSet<E> extends AbstractKollection<E> implements ImmutableSet<E>, Serializable
+{
+  /**
+   * either the dense elements of a small set or the open-addressed table of a large one.
+   */
+  final transient Object[] table;
+
+  final transient int length;
+
+  ImmutableHashSet(final Object[] table, final int length)
+  {
+    this.table = table;
+    this.length = length;
+  }
+
+  static <E> ImmutableHashSet<E> emptySet()
+  {
+    @SuppressWarnings("unchecked")
+    final ImmutableHashSet<E> emptyImmutableHashSet =
+      (ImmutableHashSet<E>) SmallImmutableHashSet.EMPTY_IMMUTABLE_HASH_SET;
+    return emptyImmutableHashSet;
+  }
+
+  static <E> ImmutableHashSet<E> setOf(final E... elements)
+  {
+    return of(elements, elements.length);
+  }
+
+  static <E> ImmutableHashSet<E> copyOf(final Collection<? extends E> collection)
+  {
+    final Object[] elements = collection.toArray();
+    return of(elements, elements.length);
+  }
+
+  static <E> ImmutableHashSet<E> copyOf(final Kollection<? extends E> kollection)
+  {
+    if (kollection instanceof ImmutableHashSet)
+    {
+      @SuppressWarnings("unchecked")
+      final ImmutableHashSet<E> immutableHashSet = (ImmutableHashSet<E>) kollection;
+      return immutableHashSet;
+    }
+    final Object[] elements = kollection.toArray();
+    return of(elements, elements.length);
+  }
+
+  /**
+   * Creates an {@link ImmutableHashSet} with the first howMany elements in the given array. The duplicate elements are
+   * ignored and the given array is never kept.
+   *
+   * @exception NullPointerException
+   *              if any of the elements is null.
+   */
+  static <E> ImmutableHashSet<E> of(final Object[] elements, final int howMany)
+  {
+    if (0 == howMany)
+    {
+      return emptySet();
+    }
+    if (MAX_SMALL_LENGTH >= howMany)
+    {
+      final Object[] distinct = new Object[howMany];
+      int length = 0;
+      for (int i = 0; i < howMany; i++)
+      {
+        final Object element = mustNotBeNull(elements[i], "ImmutableSet cannot have null.");
+        if (!SmallImmutableHashSet.contains(distinct, length, element))
+        {
+          distinct[length++] = element;
+        }
+      }
+      return new SmallImmutableHashSet<E>(distinct, length);
+    }
+
+    Object[] table = new Object[tableLengthFor(howMany)];
+    int length = 0;
+    for (int i = 0; i < howMany; i++)
+    {
+      if (DefaultImmutableHashSet.insert(table, mustNotBeNull(elements[i], "ImmutableSet cannot have null.")))
+      {
+        length++;
+      }
+    }
+    if (MAX_SMALL_LENGTH >= length)
+    {
+      return new SmallImmutableHashSet<E>(toDenseArray(table, length), length);
+    }
+    final int tableLength = tableLengthFor(length);
+    if (tableLength < table.length)
+    {
+      /* there were many duplicates so the table is larger than necessary. */
+      final Object[] smallerTable = new Object[tableLength];
+      for (final Object element : table)
+      {
+        if (null != element)
+        {
+          DefaultImmutableHashSet.insert(smallerTable, element);
+        }
+      }
+      table = smallerTable;
+    }
+    return new DefaultImmutableHashSet<E>(table, length);
+  }
+
+  private static Object[] toDenseArray(final Object[] table, final int length)
+  {
+    final Object[] elements = new Object[length];
+    int i = 0;
+    for (final Object element : table)
+    {
+      if (null != element)
+      {
+        elements[i++] = element;
+      }
+    }
+    return elements;
+  }
+
+  @Override
+  public abstract boolean contains(Object element);
+
+  @Override
+  public UnmodifiableIterator<E> iterator()
+  {
+    return new McHammerIterator<E>() {
+      private int index = nextIndexFrom(0);
+
+      @Override
+      public boolean hasNext()
+      {
+        return index < table.length;
+      }
+
+      @Override
+      public E next()
+      {
+        if (index >= table.length)
+        {
+          throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked")
+        final E element = (E) table[index];
+        index = nextIndexFrom(index + 1);
+        return element;
+      }
+    };
+  }
+
+  private int nextIndexFrom(final int fromIndex)
+  {
+    int index = fromIndex;
+    while (index < table.length && null == table[index])
+    {
+      index++;
+    }
+    return index;
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return 0 != length;
+  }
+
+  @Override
+  public boolean exists(final Condition1<? super E> seeker)
+  {
+    return null != find(seeker);
+  }
+
+  @Override
+  public E find(final Condition1<? super E> condition)
+  {
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        if (condition.isMet(element))
+        {
+          return element;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public ImmutableHashSet<E> select(final Condition1<? super E> condition)
+  {
+    final Object[] selected = new Object[length];
+    int howMany = 0;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        if (condition.isMet(element))
+        {
+          selected[howMany++] = element;
+        }
+      }
+    }
+    return howMany == length ? this : ImmutableHashSet.<E> of(selected, howMany);
+  }
+
+  @Override
+  public <R> ImmutableHashSet<R> map(final Function1<? super E, R> function)
+  {
+    final Object[] mapped = new Object[length];
+    int howMany = 0;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        mapped[howMany++] = function.apply(element);
+      }
+    }
+    return of(mapped, howMany);
+  }
+
+  @Override
+  public <R> ImmutableHashSet<R> mapSelectively(final Condition1<? super E> condition,
+      final Function1<? super E, R> function)
+  {
+    final Object[] mapped = new Object[length];
+    int howMany = 0;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        if (condition.isMet(element))
+        {
+          mapped[howMany++] = function.apply(element);
+        }
+      }
+    }
+    return of(mapped, howMany);
+  }
+
+  @Override
+  public void forEach(final VoidFunction1<? super E> function)
+  {
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        function.apply(element);
+      }
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFunction1<? super E> function)
+  {
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        if (BreakOrContinue.BREAK == function.apply(element))
+        {
+          return;
+        }
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final Condition1<? super E> conditionToMeet)
+  {
+    int count = 0;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        if (conditionToMeet.isMet(element))
+        {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
+  {
+    R result = startValue;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        result = function.apply(result, element);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> Function1<F2, R> foldLeft(final R startValue)
+  {
+    return new Function1<F2, R>() {
+      @Override
+      public R apply(final F2 function)
+      {
+        return foldLeft(startValue, function);
+      }
+    };
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> R foldRight(final R startValue, final F2 function)
+  {
+    R result = startValue;
+    for (int i = table.length - 1; i >= 0; i--)
+    {
+      if (null != table[i])
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) table[i];
+        result = function.apply(element, result);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> Function1<F2, R> foldRight(final R startValue)
+  {
+    return new Function1<F2, R>() {
+      @Override
+      public R apply(final F2 function)
+      {
+        return foldRight(startValue, function);
+      }
+    };
+  }
+
+  @Override
+  public E reduce(final Function2<? super E, ? super E, E> function)
+  {
+    E result = null;
+    boolean first = true;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        result = first ? element : function.apply(result, element);
+        first = false;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public Object[] toArray()
+  {
+    return table.length == length ? table.clone() : toDenseArray(table, length);
+  }
+
+  @Override
+  public E[] toArray(final E[] elements)
+  {
+    @SuppressWarnings("unchecked")
+    final E[] array = length == elements.length ? elements : (E[]) Array.newInstance(elements.getClass()
+        .getComponentType(), length);
+    int i = 0;
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        array[i++] = element;
+      }
+    }
+    return array;
+  }
+
+  @Override
+  public Set<E> convertTo()
+  {
+    final Set<E> set = newHashSetWithInitialCapacity(Math.max((int) (length / .75F) + 1, 16));
+    for (final Object object : table)
+    {
+      if (null != object)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) object;
+        set.add(element);
+      }
+    }
+    return Collections.unmodifiableSet(set);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int hash = 0;
+    for (final Object element : table)
+    {
+      if (null != element)
+      {
+        hash += element.hashCode();
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object immutableHashSet)
+  {
+    if (this == immutableHashSet)
+    {
+      return true;
+    }
+    final ImmutableSet<?> that = castIfInstanceOf(ImmutableSet.class, immutableHashSet);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    for (final Object element : table)
+    {
+      if (null != element && !that.contains(element))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean notEquals(final Object element)
+  {
+    return !equals(element);
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder stringBuilder = new StringBuilder("[");
+    for (final Object element : table)
+    {
+      if (null != element)
+      {
+        if (1 < stringBuilder.length())
+        {
+          stringBuilder.append(", ");
+        }
+        stringBuilder.append(this == element ? "{this (ImmutableSet)}" : element);
+      }
+    }
+    return stringBuilder.append("]")
+        .toString();
+  }
+
+  private static class SerializationProxy implements Serializable
+  {
+    private static final long serialVersionUID = 0L;
+
+    final Object[] elements;
+
+    SerializationProxy(final Object[] elements)
+    {
+      this.elements = elements;
+    }
+
+    Object readResolve()
+    {
+      return of(elements, elements.length);
+    }
+  }
+
+  private void readObject(@SuppressWarnings("unused") final ObjectInputStream objectInputStream)
+      throws InvalidObjectException
+  {
+    throw new InvalidObjectException("For serialization, SerializationProxy must be used.");
+  }
+
+  protected Object writeReplace()
+  {
+    return new SerializationProxy(toArray());
+  }
+}
+
+/**
+ * {@link ImmutableHashSet} with no more than {@link ImmutableHashing#MAX_SMALL_LENGTH} elements in a dense array.
+ */
+@SuppressWarnings("serial")
+final class SmallImmutableHashSet<E> extends ImmutableHashSet<E>
+{
+  static final SmallImmutableHashSet<?> EMPTY_IMMUTABLE_HASH_SET = new SmallImmutableHashSet<Object>(
+      NeoArrays.EMPTY_OBJECT_ARRAY, 0);
+
+  SmallImmutableHashSet(final Object[] elements, final int length)
+  {
+    super(length == elements.length ? elements : Arrays.copyOf(elements, length), length);
+  }
+
+  static boolean contains(final Object[] elements, final int length, final Object element)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      final Object each = elements[i];
+      if (element == each || element.equals(each))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final Object element)
+  {
+    return null != element && contains(table, length, element);
+  }
+}
+
+/**
+ * {@link ImmutableHashSet} with an open-addressed table which is at most half full.
+ */
+@SuppressWarnings("serial")
+final class DefaultImmutableHashSet<E> extends ImmutableHashSet<E>
+{
+  DefaultImmutableHashSet(final Object[] table, final int length)
+  {
+    super(table, length);
+  }
+
+  /**
+   * @return true if the given element is added or false if it is already in the given table.
+   */
+  static boolean insert(final Object[] table, final Object element)
+  {
+    final int mask = table.length - 1;
+    int slot = smear(element.hashCode()) & mask;
+    Object found;
+    while (null != (found = table[slot]))
+    {
+      if (element == found || element.equals(found))
+      {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = element;
+    return true;
+  }
+
+  @Override
+  public boolean contains(final Object element)
+  {
+    if (null == element)
+    {
+      return false;
+    }
+    final Object[] table = this.table;
+    final int mask = table.length - 1;
+    int slot = smear(element.hashCode()) & mask;
+    Object found;
+    while (null != (found = table[slot]))
+    {
+      if (element == found || element.equals(found))
+      {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,100 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Helpers shared by {@link ImmutableHashSet} and {@link ImmutableHashMap}. The tables have a power of two length, use
+ * linear probing with null marking a free slot and are filled at most half so that a lookup rarely probes more than a
+ * couple of slots.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+final class ImmutableHashing
+{
+  /**
+   * the maximum number of the elements kept in a dense array searched linearly instead of a hash table.
+   */
+  static final int MAX_SMALL_LENGTH = 4;
+
+  static final int MIN_TABLE_LENGTH = 8;
+
+  static final int MAX_TABLE_LENGTH = 1 << 30;
+
+  private ImmutableHashing() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  /**
+   * Scrambles the given hash code as the slot is taken from its low bits which are often poorly distributed (e.g.
+   * {@link Integer#hashCode()} of sequential ids or the hash codes of objects aligned in memory).
+   */
+  static int smear(final int hashCode)
+  {
+    final int h = hashCode * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @param length
+   *          the number of the elements to store.
+   * @return the power of two table length which is at least twice the given length.
+   */
+  static int tableLengthFor(final int length)
+  {
+    int tableLength = MIN_TABLE_LENGTH;
+    while (tableLength < MAX_TABLE_LENGTH && tableLength < (long) length << 1)
+    {
+      tableLength <<= 1;
+    }
+    return tableLength;
+  }
+}
@@ -38,6 +38,7 @@ import org.elixirian.kommonlee.collect.ReadableList;
 import org.elixirian.kommonlee.collect.UnmodifiableIterator;
 import org.elixirian.kommonlee.type.functional.Condition1;
 import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
 
 /**
  * <pre>
@@ -111,4 +112,65 @@ public interface ImmutableList<E> extends ReadableList<E>, ImmutableCollection<E
 
   @Override
   List<E> convertTo();
+
+  /*
+   * The parallel methods below split the list into ranges processed by a shared ForkJoinPool. A list too short to
+   * benefit from it is processed sequentially. The given condition and functions are called from multiple threads at
+   * the same time so they must be thread-safe and should not depend on the order of the calls.
+   */
+
+  /**
+   * Parallel version of {@link #select(Condition1)}. The order of the selected elements is kept.
+   */
+  ImmutableList<E> parallelSelect(Condition1<? super E> condition);
+
+  /**
+   * Parallel version of {@link #map(Function1)}. The order of the elements is kept.
+   */
+  <R> ImmutableList<R> parallelMap(Function1<? super E, R> function);
+
+  /**
+   * Parallel version of {@link #howMany(Condition1)}.
+   */
+  int parallelHowMany(Condition1<? super E> conditionToMeet);
+
+  /**
+   * Parallel version of {@link #find(Condition1)}. It returns the same element as {@link #find(Condition1)} does. Use
+   * {@link #parallelFindAny(Condition1)} instead if any element satisfying the condition is good enough, as it can stop
+   * as soon as one is found.
+   *
+   * @return the first element satisfying the given condition. null if there is no element satisfying the condition.
+   */
+  E parallelFind(Condition1<? super E> condition);
+
+  /**
+   * @return any element satisfying the given condition. It is not necessarily the first one. null if there is no
+   *         element satisfying the condition.
+   */
+  E parallelFindAny(Condition1<? super E> condition);
+
+  /**
+   * Parallel version of {@link #reduce(Function2)}. The given function must be associative (e.g. sum, max, string
+   * concatenation) as the elements are reduced in ranges first and then the results of the ranges are reduced again
+   * with the same function.
+   *
+   * @return the result of the reduction. null if the list is empty.
+   */
+  E parallelReduce(Function2<? super E, ? super E, E> function);
+
+  /**
+   * Parallel version of {@link #foldLeft(Object, Function2)}. Each range is folded starting with the given identity and
+   * the results of the adjacent ranges are combined by the combiner.
+   *
+   * @param identity
+   *          the start value of each range which must not change the result when combined (e.g. 0 for sum, an empty
+   *          String for concatenation).
+   * @param function
+   *          the function to fold the elements.
+   * @param combiner
+   *          an associative function to combine the results of two adjacent ranges.
+   * @return the result of the folding.
+   */
+  <R> R parallelFoldLeft(R identity, Function2<? super R, ? super E, R> function,
+      Function2<? super R, ? super R, R> combiner);
 }
@@ -0,0 +1,200 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Canonicalises equal {@link ImmutableList}s so that only one instance of each is kept. Once lists are interned, equal
+ * lists are the same object so they share one elements array, and their equals() returns at the identity check. Their
+ * hash codes are calculated only once as well, which makes them cheap keys for a {@link Map}.
+ * <p>
+ * There are two kinds of interners.
+ * </p>
+ * <ul>
+ * <li>{@link #weakInterner()} keeps each canonical list only while it is used somewhere else.</li>
+ * <li>{@link #boundedInterner(int)} keeps at most the given number of the lists, evicting the least recently used
+ * one.</li>
+ * </ul>
+ * <p>
+ * Both are thread-safe.
+ * </p>
+ *
+ * <pre>
+ * final ImmutableListInterner interner = ImmutableListInterner.weakInterner();
+ * final ImmutableList&lt;String&gt; tags = interner.intern(ImmutableLists.listOf(&quot;a&quot;, &quot;b&quot;));
+ * </pre>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public abstract class ImmutableListInterner
+{
+  ImmutableListInterner()
+  {
+  }
+
+  /**
+   * @return a new {@link ImmutableListInterner} which keeps each canonical list only while it is strongly reachable
+   *         from somewhere else.
+   */
+  public static ImmutableListInterner weakInterner()
+  {
+    return new WeakImmutableListInterner();
+  }
+
+  /**
+   * @param maxSize
+   *          the maximum number of the lists to keep.
+   * @return a new {@link ImmutableListInterner} which keeps at most the given number of the lists, evicting the least
+   *         recently interned or looked up one.
+   * @exception IllegalArgumentException
+   *              if the maxSize is less than 1.
+   */
+  public static ImmutableListInterner boundedInterner(final int maxSize)
+  {
+    if (0 >= maxSize)
+    {
+      throw new IllegalArgumentException("maxSize must be greater than 0. [maxSize: " + maxSize + "]");
+    }
+    return new BoundedImmutableListInterner(maxSize);
+  }
+
+  /**
+   * @param immutableList
+   *          the list to intern.
+   * @return the canonical list equal to the given one. It is the given one itself if there is none yet.
+   */
+  public <E> ImmutableList<E> intern(final ImmutableList<E> immutableList)
+  {
+    if (immutableList.isEmpty())
+    {
+      /* all the empty lists are already the same one. */
+      return immutableList;
+    }
+    @SuppressWarnings("unchecked")
+    final ImmutableList<E> canonical = (ImmutableList<E>) intern0(immutableList);
+    return canonical;
+  }
+
+  abstract ImmutableList<?> intern0(ImmutableList<?> immutableList);
+
+  /**
+   * @return the number of the lists kept. For {@link #weakInterner()}, it may include the lists which are no longer
+   *         used but have not been garbage collected yet.
+   */
+  public abstract int size();
+
+  private static final class WeakImmutableListInterner extends ImmutableListInterner
+  {
+    /**
+     * The value refers to the key weakly as well so that it does not keep the key from being garbage collected.
+     */
+    private final Map<ImmutableList<?>, WeakReference<ImmutableList<?>>> map =
+      new WeakHashMap<ImmutableList<?>, WeakReference<ImmutableList<?>>>();
+
+    @Override
+    synchronized ImmutableList<?> intern0(final ImmutableList<?> immutableList)
+    {
+      final WeakReference<ImmutableList<?>> reference = map.get(immutableList);
+      final ImmutableList<?> canonical = null == reference ? null : reference.get();
+      if (null != canonical)
+      {
+        return canonical;
+      }
+      map.put(immutableList, new WeakReference<ImmutableList<?>>(immutableList));
+      return immutableList;
+    }
+
+    @Override
+    public synchronized int size()
+    {
+      return map.size();
+    }
+  }
+
+  private static final class BoundedImmutableListInterner extends ImmutableListInterner
+  {
+    private final Map<ImmutableList<?>, ImmutableList<?>> map;
+
+    BoundedImmutableListInterner(final int maxSize)
+    {
+      this.map = new LinkedHashMap<ImmutableList<?>, ImmutableList<?>>(16, 0.75F, true) {
+        private static final long serialVersionUID = 0L;
+
+        @Override
+        protected boolean removeEldestEntry(
+            @SuppressWarnings("unused") final Map.Entry<ImmutableList<?>, ImmutableList<?>> eldest)
+        {
+          return maxSize < size();
+        }
+      };
+    }
+
+    @Override
+    synchronized ImmutableList<?> intern0(final ImmutableList<?> immutableList)
+    {
+      final ImmutableList<?> canonical = map.get(immutableList);
+      if (null != canonical)
+      {
+        return canonical;
+      }
+      map.put(immutableList, immutableList);
+      return immutableList;
+    }
+
+    @Override
+    public synchronized int size()
+    {
+      return map.size();
+    }
+  }
+}
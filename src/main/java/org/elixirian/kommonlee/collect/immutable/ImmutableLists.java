@@ -58,11 +58,32 @@ import org.elixirian.kommonlee.util.CommonConstants;
  */
 public final class ImmutableLists
 {
+  public static final int DEFAULT_EXPECTED_SIZE = 10;
+
   private ImmutableLists() throws IllegalAccessException
   {
     throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
   }
 
+  /**
+   * @return a new {@link ImmutableArrayList.Builder} with the default expected size.
+   */
+  public static <T> ImmutableArrayList.Builder<T> builder()
+  {
+    return builder(DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * @param expectedSize
+   *          the expected number of the elements. If it is right, the builder never grows its array and the built list
+   *          uses the array without copying it.
+   * @return a new {@link ImmutableArrayList.Builder}.
+   */
+  public static <T> ImmutableArrayList.Builder<T> builder(final int expectedSize)
+  {
+    return new ImmutableArrayList.Builder<T>(expectedSize);
+  }
+
   public static <T> ImmutableList<T> emptyList()
   {
     return ImmutableArrayList.emptyList();
@@ -87,4 +108,28 @@ public final class ImmutableLists
   {
     return ImmutableArrayList.listOf(elements, howMany);
   }
+
+  /**
+   * Returns the {@link ImmutableList} with the same elements answering {@link ImmutableList#contains(Object)} and
+   * {@link ImmutableList#indexOf(Object)} with a hash index once it has been looked up several times (See
+   * {@link ImmutableArrayList#indexed()}). A {@link SortedImmutableList} is returned as it is since it already finds
+   * an element with a binary search.
+   *
+   * @param immutableList
+   *          the list to be looked up repeatedly.
+   * @return the indexed list.
+   */
+  public static <T> ImmutableList<T> indexed(final ImmutableList<T> immutableList)
+  {
+    if (immutableList instanceof SortedImmutableList)
+    {
+      return immutableList;
+    }
+    if (immutableList instanceof ImmutableArrayList)
+    {
+      return ((ImmutableArrayList<T>) immutableList).indexed();
+    }
+    return ImmutableArrayList.copyOf(immutableList)
+        .indexed();
+  }
 }
@@ -0,0 +1,126 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import java.util.Map;
+
+import org.elixirian.kommonlee.functional.VoidFunction2;
+import org.elixirian.kommonlee.type.checkable.EmptinessCheckable;
+import org.elixirian.kommonlee.type.checkable.LengthCheckable;
+import org.elixirian.kommonlee.type.checkable.NotEmptinessCheckable;
+import org.elixirian.kommonlee.type.checkable.SizeCheckable;
+import org.elixirian.kommonlee.type.functional.Condition2;
+import org.elixirian.kommonlee.type.functional.Function1;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable map which does not allow null keys yet allows null values. The iteration order is not specified.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <K>
+ *          the type of the keys
+ * @param <V>
+ *          the type of the values
+ */
+public interface ImmutableMap<K, V> extends LengthCheckable, SizeCheckable, EmptinessCheckable,
+    NotEmptinessCheckable
+{
+  @Override
+  int length();
+
+  /**
+   * It must be the same as {@link #length()}.
+   */
+  @Override
+  int size();
+
+  @Override
+  boolean isEmpty();
+
+  @Override
+  boolean isNotEmpty();
+
+  V get(Object key);
+
+  V getOrDefault(Object key, V defaultValue);
+
+  boolean containsKey(Object key);
+
+  boolean containsValue(Object value);
+
+  /**
+   * Calls the given function with each key and its value without creating any {@link java.util.Iterator} or
+   * {@link Map.Entry}.
+   *
+   * @param function
+   *          the given function
+   */
+  void forEach(VoidFunction2<? super K, ? super V> function);
+
+  ImmutableSet<K> keys();
+
+  ImmutableList<V> values();
+
+  ImmutableMap<K, V> select(Condition2<? super K, ? super V> condition);
+
+  <R> ImmutableMap<K, R> mapValues(Function1<? super V, R> function);
+
+  Map<K, V> convertTo();
+
+  /**
+   * @return the sum of key hash ^ value hash of all the entries like {@link Map#hashCode()}.
+   */
+  @Override
+  int hashCode();
+
+  @Override
+  boolean equals(Object element);
+
+  @Override
+  String toString();
+}
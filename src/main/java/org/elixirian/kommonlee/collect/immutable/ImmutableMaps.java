@@ -0,0 +1,105 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import java.util.Map;
+
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public final class ImmutableMaps
+{
+  private ImmutableMaps() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  public static <K, V> ImmutableMap<K, V> emptyMap()
+  {
+    return ImmutableHashMap.emptyMap();
+  }
+
+  public static <K, V> ImmutableMap<K, V> copyOf(final Map<? extends K, ? extends V> map)
+  {
+    return ImmutableHashMap.copyOf(map);
+  }
+
+  public static <K, V> ImmutableMap<K, V> copyOf(final ImmutableMap<K, V> immutableMap)
+  {
+    if (immutableMap instanceof ImmutableHashMap)
+    {
+      return immutableMap;
+    }
+    return ImmutableHashMap.copyOf(immutableMap.convertTo());
+  }
+
+  public static <K, V> ImmutableMap<K, V> mapOf(final K key, final V value)
+  {
+    return ImmutableHashMap.of(new Object[] { key, value }, 1);
+  }
+
+  public static <K, V> ImmutableMap<K, V> mapOf(final K key1, final V value1, final K key2, final V value2)
+  {
+    return ImmutableHashMap.of(new Object[] { key1, value1, key2, value2 }, 2);
+  }
+
+  public static <K, V> ImmutableMap<K, V> mapOf(final K key1, final V value1, final K key2, final V value2,
+      final K key3, final V value3)
+  {
+    return ImmutableHashMap.of(new Object[] { key1, value1, key2, value2, key3, value3 }, 3);
+  }
+
+  public static <K, V> ImmutableMap<K, V> mapOf(final K key1, final V value1, final K key2, final V value2,
+      final K key3, final V value3, final K key4, final V value4)
+  {
+    return ImmutableHashMap.of(new Object[] { key1, value1, key2, value2, key3, value3, key4, value4 }, 4);
+  }
+}
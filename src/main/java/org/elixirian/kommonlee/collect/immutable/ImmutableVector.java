@@ -0,0 +1,992 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.AbstractReadableList;
+import org.elixirian.kommonlee.collect.BulkReadable;
+import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.UnmodifiableIterator;
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.IndexedBreakableFunction1;
+import org.elixirian.kommonlee.functional.IndexedVoidFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.GenericBuilder;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Persistent {@link ImmutableList} which is a 32-way bit-partitioned trie with a tail buffer. {@link #with(int, Object)},
+ * {@link #append(Object)} and {@link #pop()} return a new {@link ImmutableVector} in O(log32 n) by copying only the
+ * path to the changed element, so the new one shares all the other nodes with this one. {@link #append(Object)} and
+ * {@link #pop()} are mostly O(1) as they only copy the tail which has up to 32 elements.
+ * <p>
+ * For many changes at once, use {@link #toBuilder()} which changes the nodes it has already copied in place and returns
+ * a new {@link ImmutableVector} sharing the untouched nodes when {@link Builder#build()} is called.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public final class ImmutableVector<E> extends AbstractReadableList<E> implements ImmutableList<E>, BulkReadable,
+    Serializable
+{
+  private static final long serialVersionUID = 0L;
+
+  private static final int BITS = 5;
+
+  private static final int WIDTH = 1 << BITS;
+
+  private static final int MASK = WIDTH - 1;
+
+  /**
+   * Node of the trie. The array has either the child nodes or the elements if it is a leaf.
+   */
+  private static final class Node
+  {
+    /**
+     * the {@link Builder} which can change this node in place or null if it belongs to {@link ImmutableVector}s only.
+     */
+    final Object owner;
+
+    final Object[] array;
+
+    Node(final Object owner, final Object[] array)
+    {
+      this.owner = owner;
+      this.array = array;
+    }
+  }
+
+  private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+  private static final ImmutableVector<?> EMPTY_IMMUTABLE_VECTOR = new ImmutableVector<Object>(0, BITS, EMPTY_NODE,
+      new Object[0]);
+
+  private final transient int length;
+
+  private final transient int shift;
+
+  private final transient Node root;
+
+  private final transient Object[] tail;
+
+  private ImmutableVector(final int length, final int shift, final Node root, final Object[] tail)
+  {
+    this.length = length;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  public static <E> ImmutableVector<E> emptyVector()
+  {
+    @SuppressWarnings("unchecked")
+    final ImmutableVector<E> emptyImmutableVector = (ImmutableVector<E>) EMPTY_IMMUTABLE_VECTOR;
+    return emptyImmutableVector;
+  }
+
+  public static <E> ImmutableVector<E> vectorOf(final E... elements)
+  {
+    return ImmutableVector.<E> builder()
+        .addAll(elements)
+        .build();
+  }
+
+  public static <E> ImmutableVector<E> copyOf(final Iterable<? extends E> elements)
+  {
+    if (elements instanceof ImmutableVector)
+    {
+      @SuppressWarnings("unchecked")
+      final ImmutableVector<E> immutableVector = (ImmutableVector<E>) elements;
+      return immutableVector;
+    }
+    return ImmutableVector.<E> builder()
+        .addAll(elements)
+        .build();
+  }
+
+  public static <E> Builder<E> builder()
+  {
+    return new Builder<E>(ImmutableVector.<E> emptyVector());
+  }
+
+  /**
+   * @return a {@link Builder} starting with the elements in this {@link ImmutableVector}. It copies nothing until it
+   *         changes this {@link ImmutableVector}'s nodes.
+   */
+  public Builder<E> toBuilder()
+  {
+    return new Builder<E>(this);
+  }
+
+  private static int tailOffset(final int length)
+  {
+    return WIDTH > length ? 0 : ((length - 1) >>> BITS) << BITS;
+  }
+
+  private static Object[] leafOf(final Node root, final int shift, final int index)
+  {
+    Node node = root;
+    for (int level = shift; level > 0; level -= BITS)
+    {
+      node = (Node) node.array[(index >>> level) & MASK];
+    }
+    return node.array;
+  }
+
+  private Object[] arrayFor(final int index)
+  {
+    return index >= tailOffset(length) ? tail : leafOf(root, shift, index);
+  }
+
+  /**
+   * @return the given node if the given owner can change it in place or a copy of it owned by the given owner.
+   */
+  private static Node editable(final Object owner, final Node node)
+  {
+    return null != owner && owner == node.owner ? node : new Node(owner, node.array.clone());
+  }
+
+  private static Node newPath(final Object owner, final int level, final Node node)
+  {
+    if (0 == level)
+    {
+      return node;
+    }
+    final Node path = new Node(owner, new Object[WIDTH]);
+    path.array[0] = newPath(owner, level - BITS, node);
+    return path;
+  }
+
+  /**
+   * @param lastIndex
+   *          the index of the last element in the tail node to push.
+   */
+  private static Node pushTail(final Object owner, final int lastIndex, final int level, final Node parent,
+      final Node tailNode)
+  {
+    final Node result = editable(owner, parent);
+    final int subIndex = (lastIndex >>> level) & MASK;
+    final Node nodeToInsert;
+    if (BITS == level)
+    {
+      nodeToInsert = tailNode;
+    }
+    else
+    {
+      final Node child = (Node) parent.array[subIndex];
+      nodeToInsert = null == child ? newPath(owner, level - BITS, tailNode) : pushTail(owner, lastIndex, level - BITS,
+          child, tailNode);
+    }
+    result.array[subIndex] = nodeToInsert;
+    return result;
+  }
+
+  /**
+   * @return true if the root has no room for another leaf so the trie needs one more level.
+   */
+  private static boolean isRootFull(final int length, final int shift)
+  {
+    return (length >>> BITS) > (1 << shift);
+  }
+
+  /**
+   * Pushes the given full tail node into the trie.
+   *
+   * @param length
+   *          the length including the elements in the tail node.
+   */
+  private static Node newRootWithTail(final Object owner, final int length, final int shift, final Node root,
+      final Node tailNode)
+  {
+    if (isRootFull(length, shift))
+    {
+      final Node newRoot = new Node(owner, new Object[WIDTH]);
+      newRoot.array[0] = root;
+      newRoot.array[1] = newPath(owner, shift, tailNode);
+      return newRoot;
+    }
+    return pushTail(owner, length - 1, shift, root, tailNode);
+  }
+
+  private static Node doWith(final Object owner, final int level, final Node node, final int index,
+      final Object element)
+  {
+    final Node result = editable(owner, node);
+    if (0 == level)
+    {
+      result.array[index & MASK] = element;
+    }
+    else
+    {
+      final int subIndex = (index >>> level) & MASK;
+      result.array[subIndex] = doWith(owner, level - BITS, (Node) node.array[subIndex], index, element);
+    }
+    return result;
+  }
+
+  /**
+   * @param lastIndex
+   *          the index of the last element after popping.
+   * @return the node without the last leaf or null if it becomes empty.
+   */
+  private static Node popTail(final Object owner, final int lastIndex, final int level, final Node node)
+  {
+    final int subIndex = (lastIndex >>> level) & MASK;
+    if (BITS < level)
+    {
+      final Node newChild = popTail(owner, lastIndex, level - BITS, (Node) node.array[subIndex]);
+      if (null == newChild && 0 == subIndex)
+      {
+        return null;
+      }
+      final Node result = editable(owner, node);
+      result.array[subIndex] = newChild;
+      return result;
+    }
+    if (0 == subIndex)
+    {
+      return null;
+    }
+    final Node result = editable(owner, node);
+    result.array[subIndex] = null;
+    return result;
+  }
+
+  /**
+   * @return a new {@link ImmutableVector} with the given element at the given index. If the index is the same as the
+   *         length, it is the same as {@link #append(Object)}.
+   * @exception IndexOutOfBoundsException
+   *              if the index is negative or greater than the length.
+   */
+  public ImmutableVector<E> with(final int index, final E element)
+  {
+    if (length == index)
+    {
+      return append(element);
+    }
+    checkIndex(length, index);
+    if (index >= tailOffset(length))
+    {
+      final Object[] newTail = tail.clone();
+      newTail[index & MASK] = element;
+      return new ImmutableVector<E>(length, shift, root, newTail);
+    }
+    return new ImmutableVector<E>(length, shift, doWith(null, shift, root, index, element), tail);
+  }
+
+  public ImmutableVector<E> append(final E element)
+  {
+    if (WIDTH > length - tailOffset(length))
+    {
+      final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+      newTail[tail.length] = element;
+      return new ImmutableVector<E>(length + 1, shift, root, newTail);
+    }
+    final Node newRoot = newRootWithTail(null, length, shift, root, new Node(null, tail));
+    return new ImmutableVector<E>(length + 1, isRootFull(length, shift) ? shift + BITS : shift, newRoot,
+        new Object[] { element });
+  }
+
+  /**
+   * @return a new {@link ImmutableVector} without the last element.
+   * @exception IllegalStateException
+   *              if this {@link ImmutableVector} is empty.
+   */
+  public ImmutableVector<E> pop()
+  {
+    if (0 == length)
+    {
+      throw new IllegalStateException("The empty ImmutableVector cannot be popped.");
+    }
+    if (1 == length)
+    {
+      return emptyVector();
+    }
+    if (1 < length - tailOffset(length))
+    {
+      return new ImmutableVector<E>(length - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+    }
+    final Object[] newTail = leafOf(root, shift, length - 2);
+    Node newRoot = popTail(null, length - 2, shift, root);
+    int newShift = shift;
+    if (null == newRoot)
+    {
+      newRoot = EMPTY_NODE;
+    }
+    if (BITS < shift && null == newRoot.array[1])
+    {
+      newRoot = (Node) newRoot.array[0];
+      newShift -= BITS;
+    }
+    return new ImmutableVector<E>(length - 1, newShift, newRoot, newTail);
+  }
+
+  @Override
+  public E get(final int index)
+  {
+    checkIndex(length, index);
+    @SuppressWarnings("unchecked")
+    final E element = (E) arrayFor(index)[index & MASK];
+    return element;
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return 0 != length;
+  }
+
+  @Override
+  public UnmodifiableIterator<E> iterator()
+  {
+    return new McHammerIterator<E>() {
+      private int index = 0;
+      private Object[] array = 0 == length ? null : arrayFor(0);
+
+      @Override
+      public boolean hasNext()
+      {
+        return index < length;
+      }
+
+      @Override
+      public E next()
+      {
+        if (index >= length)
+        {
+          throw new NoSuchElementException();
+        }
+        if (0 == (index & MASK) && 0 != index)
+        {
+          array = arrayFor(index);
+        }
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[index++ & MASK];
+        return element;
+      }
+    };
+  }
+
+  @Override
+  public boolean contains(final Object element)
+  {
+    return 0 <= indexOf0(element);
+  }
+
+  @Override
+  public E find(final Condition1<? super E> condition)
+  {
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        if (condition.isMet(element))
+        {
+          return element;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public ImmutableVector<E> select(final Condition1<? super E> condition)
+  {
+    final Builder<E> builder = builder();
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        if (condition.isMet(element))
+        {
+          builder.add(element);
+        }
+      }
+    }
+    return length == builder.length() ? this : builder.build();
+  }
+
+  @Override
+  public <R> ImmutableVector<R> map(final Function1<? super E, R> function)
+  {
+    final Builder<R> builder = builder();
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        builder.add(function.apply(element));
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public <R> ImmutableVector<R> mapSelectively(final Condition1<? super E> condition,
+      final Function1<? super E, R> function)
+  {
+    final Builder<R> builder = builder();
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        if (condition.isMet(element))
+        {
+          builder.add(function.apply(element));
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public void forEach(final VoidFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        function.apply(element);
+      }
+    }
+  }
+
+  @Override
+  public void forEach(final IndexedVoidFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        function.apply(i + j, element);
+      }
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        if (BreakOrContinue.BREAK == function.apply(element))
+        {
+          return;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void breakableForEach(final IndexedBreakableFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        if (BreakOrContinue.BREAK == function.apply(i + j, element))
+        {
+          return;
+        }
+      }
+    }
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
+  {
+    R result = startValue;
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      final Object[] array = arrayFor(i);
+      for (int j = 0, end = Math.min(WIDTH, length - i); j < end; j++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) array[j];
+        result = function.apply(result, element);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> Function1<F2, R> foldLeft(final R startValue)
+  {
+    return new Function1<F2, R>() {
+      @Override
+      public R apply(final F2 function)
+      {
+        return foldLeft(startValue, function);
+      }
+    };
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> R foldRight(final R startValue, final F2 function)
+  {
+    R result = startValue;
+    for (int i = length - 1; i >= 0; i--)
+    {
+      result = function.apply(get(i), result);
+    }
+    return result;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> Function1<F2, R> foldRight(final R startValue)
+  {
+    return new Function1<F2, R>() {
+      @Override
+      public R apply(final F2 function)
+      {
+        return foldRight(startValue, function);
+      }
+    };
+  }
+
+  @Override
+  public E reduce(final Function2<? super E, ? super E, E> function)
+  {
+    if (0 == length)
+    {
+      return null;
+    }
+    E result = get(0);
+    for (int i = 1; i < length; i++)
+    {
+      result = function.apply(result, get(i));
+    }
+    return result;
+  }
+
+  /**
+   * It copies the elements into an array first, which costs much less than running expensive conditions or functions
+   * on each element, and then processes the array in parallel.
+   */
+  @Override
+  public ImmutableVector<E> parallelSelect(final Condition1<? super E> condition)
+  {
+    final Object[] selected = ParallelArrays.select(toArray(), 0, length, condition);
+    if (length == selected.length)
+    {
+      return this;
+    }
+    @SuppressWarnings("unchecked")
+    final E[] selectedElements = (E[]) selected;
+    return ImmutableVector.<E> builder()
+        .addAll(selectedElements)
+        .build();
+  }
+
+  @Override
+  public <R> ImmutableVector<R> parallelMap(final Function1<? super E, R> function)
+  {
+    @SuppressWarnings("unchecked")
+    final R[] mapped = (R[]) ParallelArrays.map(toArray(), 0, length, function);
+    return ImmutableVector.<R> builder()
+        .addAll(mapped)
+        .build();
+  }
+
+  @Override
+  public int parallelHowMany(final Condition1<? super E> conditionToMeet)
+  {
+    return ParallelArrays.howMany(toArray(), 0, length, conditionToMeet);
+  }
+
+  @Override
+  public E parallelFind(final Condition1<? super E> condition)
+  {
+    final int index = ParallelArrays.find(toArray(), 0, length, condition, true);
+    return 0 > index ? null : get(index);
+  }
+
+  @Override
+  public E parallelFindAny(final Condition1<? super E> condition)
+  {
+    final int index = ParallelArrays.find(toArray(), 0, length, condition, false);
+    return 0 > index ? null : get(index);
+  }
+
+  @Override
+  public E parallelReduce(final Function2<? super E, ? super E, E> function)
+  {
+    if (0 == length)
+    {
+      return null;
+    }
+    return ParallelArrays.reduce(toArray(), 0, length, function);
+  }
+
+  @Override
+  public <R> R parallelFoldLeft(final R identity, final Function2<? super R, ? super E, R> function,
+      final Function2<? super R, ? super R, R> combiner)
+  {
+    return ParallelArrays.foldLeft(toArray(), 0, length, identity, function, combiner);
+  }
+
+  /**
+   * Copies the elements leaf by leaf into the given array. The range is checked first so that nothing is copied if
+   * the array does not have enough room.
+   */
+  @Override
+  public void copyInto(final Object[] destination, final int destinationPosition)
+  {
+    if (0 > destinationPosition || destination.length - destinationPosition < length)
+    {
+      throw new IndexOutOfBoundsException("destinationPosition: " + destinationPosition + ", length: " + length
+          + ", destination.length: " + destination.length);
+    }
+    for (int i = 0; i < length; i += WIDTH)
+    {
+      System.arraycopy(arrayFor(i), 0, destination, destinationPosition + i, Math.min(WIDTH, length - i));
+    }
+  }
+
+  @Override
+  public Object[] toArray()
+  {
+    final Object[] array = new Object[length];
+    copyInto(array, 0);
+    return array;
+  }
+
+  @Override
+  public E[] toArray(final E[] elements)
+  {
+    @SuppressWarnings("unchecked")
+    final E[] array = length == elements.length ? elements : (E[]) Array.newInstance(elements.getClass()
+        .getComponentType(), length);
+    copyInto(array, 0);
+    return array;
+  }
+
+  @Override
+  public ImmutableVector<E> subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    if (0 == fromIndex && length == toIndex)
+    {
+      return this;
+    }
+    if (0 == fromIndex)
+    {
+      /* popping the elements in a builder shares the remaining nodes. */
+      final Builder<E> builder = toBuilder();
+      while (builder.length() > toIndex)
+      {
+        builder.pop();
+      }
+      return builder.build();
+    }
+    final Builder<E> builder = builder();
+    for (int i = fromIndex; i < toIndex; i++)
+    {
+      builder.add(get(i));
+    }
+    return builder.build();
+  }
+
+  @Override
+  public List<E> convertTo()
+  {
+    @SuppressWarnings("unchecked")
+    final List<E> list = (List<E>) Arrays.asList(toArray());
+    return Collections.unmodifiableList(list);
+  }
+
+  @Override
+  public String toString()
+  {
+    return KollectionUtil.toStringOf("ImmutableList", this);
+  }
+
+  /**
+   * Builder of {@link ImmutableVector} which changes the nodes it has already copied in place instead of copying the
+   * path each time. It is not thread-safe. Once {@link #build()} is called, the nodes belong to the built
+   * {@link ImmutableVector} so the builder copies them again before changing them.
+   *
+   * @author Lee, SeongHyun (Kevin)
+   * @version 0.0.1 (2014-05-08)
+   */
+  public static final class Builder<E> implements GenericBuilder<ImmutableVector<E>>
+  {
+    private Object owner = new Object();
+
+    private int length;
+
+    private int shift;
+
+    private Node root;
+
+    /**
+     * always WIDTH long and owned by this builder.
+     */
+    private Object[] tail;
+
+    Builder(final ImmutableVector<E> immutableVector)
+    {
+      this.length = immutableVector.length;
+      this.shift = immutableVector.shift;
+      this.root = immutableVector.root;
+      this.tail = Arrays.copyOf(immutableVector.tail, WIDTH);
+    }
+
+    public int length()
+    {
+      return length;
+    }
+
+    public E get(final int index)
+    {
+      checkIndex(length, index);
+      @SuppressWarnings("unchecked")
+      final E element = (E) (index >= tailOffset(length) ? tail : leafOf(root, shift, index))[index & MASK];
+      return element;
+    }
+
+    public Builder<E> add(final E element)
+    {
+      final int index = length;
+      if (WIDTH > index - tailOffset(index))
+      {
+        tail[index & MASK] = element;
+        length++;
+        return this;
+      }
+      final boolean rootFull = isRootFull(length, shift);
+      root = newRootWithTail(owner, length, shift, root, new Node(owner, tail));
+      if (rootFull)
+      {
+        shift += BITS;
+      }
+      tail = new Object[WIDTH];
+      tail[0] = element;
+      length++;
+      return this;
+    }
+
+    public Builder<E> addAll(final E... elements)
+    {
+      for (final E element : elements)
+      {
+        add(element);
+      }
+      return this;
+    }
+
+    public Builder<E> addAll(final Iterable<? extends E> elements)
+    {
+      for (final E element : elements)
+      {
+        add(element);
+      }
+      return this;
+    }
+
+    /**
+     * @exception IndexOutOfBoundsException
+     *              if the index is negative or greater than the length.
+     */
+    public Builder<E> set(final int index, final E element)
+    {
+      if (length == index)
+      {
+        return add(element);
+      }
+      checkIndex(length, index);
+      if (index >= tailOffset(length))
+      {
+        tail[index & MASK] = element;
+      }
+      else
+      {
+        root = doWith(owner, shift, root, index, element);
+      }
+      return this;
+    }
+
+    /**
+     * @exception IllegalStateException
+     *              if it is empty.
+     */
+    public Builder<E> pop()
+    {
+      if (0 == length)
+      {
+        throw new IllegalStateException("The empty ImmutableVector.Builder cannot be popped.");
+      }
+      final int lastIndex = length - 1;
+      if (0 != (lastIndex & MASK) || 1 == length)
+      {
+        tail[lastIndex & MASK] = null;
+        length--;
+        return this;
+      }
+      final Node newTailNode = editable(owner, leafNodeOf(length - 2));
+      Node newRoot = popTail(owner, length - 2, shift, root);
+      if (null == newRoot)
+      {
+        newRoot = new Node(owner, new Object[WIDTH]);
+      }
+      if (BITS < shift && null == newRoot.array[1])
+      {
+        newRoot = (Node) newRoot.array[0];
+        shift -= BITS;
+      }
+      root = newRoot;
+      tail = newTailNode.array;
+      length--;
+      return this;
+    }
+
+    private Node leafNodeOf(final int index)
+    {
+      Node node = root;
+      for (int level = shift; level > 0; level -= BITS)
+      {
+        node = (Node) node.array[(index >>> level) & MASK];
+      }
+      return node;
+    }
+
+    @Override
+    public ImmutableVector<E> build()
+    {
+      if (0 == length)
+      {
+        return emptyVector();
+      }
+      final ImmutableVector<E> immutableVector = new ImmutableVector<E>(length, shift, root, Arrays.copyOf(tail,
+          length - tailOffset(length)));
+      /* the nodes changed so far now belong to the ImmutableVector. */
+      owner = new Object();
+      return immutableVector;
+    }
+  }
+
+  private static class SerializationProxy implements Serializable
+  {
+    private static final long serialVersionUID = 0L;
+
+    final Object[] elements;
+
+    SerializationProxy(final Object[] elements)
+    {
+      this.elements = elements;
+    }
+
+    Object readResolve()
+    {
+      return vectorOf(elements);
+    }
+  }
+
+  private void readObject(@SuppressWarnings("unused") final ObjectInputStream objectInputStream)
+      throws InvalidObjectException
+  {
+    throw new InvalidObjectException("For serialization, SerializationProxy must be used.");
+  }
+
+  private Object writeReplace()
+  {
+    return new SerializationProxy(toArray());
+  }
+}
@@ -0,0 +1,587 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.elixirian.kommonlee.collect.ForkJoinPools;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Parallel bulk operations on a range of an array of elements, used by the parallel methods in {@link ImmutableList}.
+ * The range is split in halves by {@link ForkJoinPool} tasks until each part has no more than the leaf length which is
+ * about a quarter of what each worker thread would get. If the range has fewer than {@link #PARALLEL_THRESHOLD}
+ * elements, it is processed sequentially in the calling thread.
+ * <p>
+ * All the operations run on the {@link ForkJoinPool} from {@link ForkJoinPools#sharedPool()}, which the other parallel
+ * operations in this library use as well.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+final class ParallelArrays
+{
+  /**
+   * A range shorter than this is processed sequentially as splitting it costs more than it saves.
+   */
+  static final int PARALLEL_THRESHOLD = 1 << 10;
+
+  static final int MIN_LEAF_LENGTH = 1 << 7;
+
+  private ParallelArrays() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  static ForkJoinPool forkJoinPool()
+  {
+    return ForkJoinPools.sharedPool();
+  }
+
+  static boolean isWorthParallel(final int length)
+  {
+    return PARALLEL_THRESHOLD <= length;
+  }
+
+  static int leafLengthFor(final int length)
+  {
+    return Math.max(MIN_LEAF_LENGTH, length / (forkJoinPool().getParallelism() << 2));
+  }
+
+  /* select */
+
+  /**
+   * @return the selected elements in the same order. It is the given elements array itself if the range is the whole
+   *         array and all the elements are selected.
+   */
+  static <E> Object[] select(final Object[] elements, final int from, final int to,
+      final Condition1<? super E> condition)
+  {
+    final int length = to - from;
+    final Selected selected =
+      isWorthParallel(length) ? forkJoinPool().invoke(
+          new SelectTask<E>(elements, from, to, leafLengthFor(length), condition)) : selectSequentially(elements,
+          from, to, condition);
+    if (selected.length == length && 0 == from && elements.length == to)
+    {
+      return elements;
+    }
+    final Object[] result = new Object[selected.length];
+    selected.copyTo(result, 0);
+    return result;
+  }
+
+  /**
+   * The result of a {@link SelectTask}. A leaf has its own selected elements and the others have the results of both
+   * halves so that the selected elements are copied only once into the final array in the original order.
+   */
+  private static final class Selected
+  {
+    final Object[] elements;
+    final Selected left;
+    final Selected right;
+    final int length;
+
+    Selected(final Object[] elements, final int length)
+    {
+      this.elements = elements;
+      this.left = null;
+      this.right = null;
+      this.length = length;
+    }
+
+    Selected(final Selected left, final Selected right)
+    {
+      this.elements = null;
+      this.left = left;
+      this.right = right;
+      this.length = left.length + right.length;
+    }
+
+    int copyTo(final Object[] array, final int index)
+    {
+      if (null == elements)
+      {
+        return right.copyTo(array, left.copyTo(array, index));
+      }
+      System.arraycopy(elements, 0, array, index, length);
+      return index + length;
+    }
+  }
+
+  private static <E> Selected selectSequentially(final Object[] elements, final int from, final int to,
+      final Condition1<? super E> condition)
+  {
+    final Object[] selected = new Object[to - from];
+    int howMany = 0;
+    for (int i = from; i < to; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      if (condition.isMet(element))
+      {
+        selected[howMany++] = element;
+      }
+    }
+    return new Selected(selected, howMany);
+  }
+
+  @SuppressWarnings("serial")
+  private static final class SelectTask<E> extends RecursiveTask<Selected>
+  {
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final int leafLength;
+    private final Condition1<? super E> condition;
+
+    SelectTask(final Object[] elements, final int from, final int to, final int leafLength,
+        final Condition1<? super E> condition)
+    {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.leafLength = leafLength;
+      this.condition = condition;
+    }
+
+    @Override
+    protected Selected compute()
+    {
+      if (to - from <= leafLength)
+      {
+        return selectSequentially(elements, from, to, condition);
+      }
+      final int middle = (from + to) >>> 1;
+      final SelectTask<E> right = new SelectTask<E>(elements, middle, to, leafLength, condition);
+      right.fork();
+      final Selected left = new SelectTask<E>(elements, from, middle, leafLength, condition).compute();
+      return new Selected(left, right.join());
+    }
+  }
+
+  /* map */
+
+  static <E, R> Object[] map(final Object[] elements, final int from, final int to,
+      final Function1<? super E, R> function)
+  {
+    final int length = to - from;
+    final Object[] result = new Object[length];
+    if (isWorthParallel(length))
+    {
+      forkJoinPool().invoke(new MapTask<E, R>(elements, from, to, leafLengthFor(length), function, result, from));
+    }
+    else
+    {
+      mapSequentially(elements, from, to, function, result, from);
+    }
+    return result;
+  }
+
+  private static <E, R> void mapSequentially(final Object[] elements, final int from, final int to,
+      final Function1<? super E, R> function, final Object[] result, final int resultOffset)
+  {
+    for (int i = from; i < to; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      result[i - resultOffset] = function.apply(element);
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static final class MapTask<E, R> extends RecursiveAction
+  {
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final int leafLength;
+    private final Function1<? super E, R> function;
+    private final Object[] result;
+    private final int resultOffset;
+
+    MapTask(final Object[] elements, final int from, final int to, final int leafLength,
+        final Function1<? super E, R> function, final Object[] result, final int resultOffset)
+    {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.leafLength = leafLength;
+      this.function = function;
+      this.result = result;
+      this.resultOffset = resultOffset;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (to - from <= leafLength)
+      {
+        mapSequentially(elements, from, to, function, result, resultOffset);
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      invokeAll(new MapTask<E, R>(elements, from, middle, leafLength, function, result, resultOffset),
+          new MapTask<E, R>(elements, middle, to, leafLength, function, result, resultOffset));
+    }
+  }
+
+  /* howMany */
+
+  static <E> int howMany(final Object[] elements, final int from, final int to,
+      final Condition1<? super E> condition)
+  {
+    final int length = to - from;
+    if (isWorthParallel(length))
+    {
+      return forkJoinPool().invoke(new HowManyTask<E>(elements, from, to, leafLengthFor(length), condition))
+          .intValue();
+    }
+    return howManySequentially(elements, from, to, condition);
+  }
+
+  private static <E> int howManySequentially(final Object[] elements, final int from, final int to,
+      final Condition1<? super E> condition)
+  {
+    int count = 0;
+    for (int i = from; i < to; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      if (condition.isMet(element))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @SuppressWarnings("serial")
+  private static final class HowManyTask<E> extends RecursiveTask<Integer>
+  {
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final int leafLength;
+    private final Condition1<? super E> condition;
+
+    HowManyTask(final Object[] elements, final int from, final int to, final int leafLength,
+        final Condition1<? super E> condition)
+    {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.leafLength = leafLength;
+      this.condition = condition;
+    }
+
+    @Override
+    protected Integer compute()
+    {
+      if (to - from <= leafLength)
+      {
+        return Integer.valueOf(howManySequentially(elements, from, to, condition));
+      }
+      final int middle = (from + to) >>> 1;
+      final HowManyTask<E> right = new HowManyTask<E>(elements, middle, to, leafLength, condition);
+      right.fork();
+      final int left = new HowManyTask<E>(elements, from, middle, leafLength, condition).compute()
+          .intValue();
+      return Integer.valueOf(left + right.join()
+          .intValue());
+    }
+  }
+
+  /* find */
+
+  /**
+   * @param firstMatch
+   *          true to find the first element satisfying the condition like {@link ImmutableList#find(Condition1)}.
+   *          false to find any element satisfying the condition which can stop all the tasks as soon as one is found.
+   * @return the index of the element found or -1 if there is none.
+   */
+  static <E> int find(final Object[] elements, final int from, final int to, final Condition1<? super E> condition,
+      final boolean firstMatch)
+  {
+    final int length = to - from;
+    if (!isWorthParallel(length))
+    {
+      for (int i = from; i < to; i++)
+      {
+        @SuppressWarnings("unchecked")
+        final E element = (E) elements[i];
+        if (condition.isMet(element))
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+    final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+    forkJoinPool().invoke(new FindTask<E>(elements, from, to, leafLengthFor(length), condition, firstMatch, found));
+    final int index = found.get();
+    return Integer.MAX_VALUE == index ? -1 : index;
+  }
+
+  /**
+   * Every task shares the index found so far. In the first match mode, a task stops once it reaches the index as no
+   * element after it can be the first match. Otherwise, all the tasks stop as soon as any index is found.
+   */
+  @SuppressWarnings("serial")
+  private static final class FindTask<E> extends RecursiveAction
+  {
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final int leafLength;
+    private final Condition1<? super E> condition;
+    private final boolean firstMatch;
+    private final AtomicInteger found;
+
+    FindTask(final Object[] elements, final int from, final int to, final int leafLength,
+        final Condition1<? super E> condition, final boolean firstMatch, final AtomicInteger found)
+    {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.leafLength = leafLength;
+      this.condition = condition;
+      this.firstMatch = firstMatch;
+      this.found = found;
+    }
+
+    private boolean isDone(final int index)
+    {
+      final int foundSoFar = found.get();
+      return firstMatch ? foundSoFar <= index : Integer.MAX_VALUE != foundSoFar;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (isDone(from))
+      {
+        return;
+      }
+      if (to - from <= leafLength)
+      {
+        for (int i = from; i < to && !isDone(i); i++)
+        {
+          @SuppressWarnings("unchecked")
+          final E element = (E) elements[i];
+          if (condition.isMet(element))
+          {
+            setFound(i);
+            return;
+          }
+        }
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      invokeAll(new FindTask<E>(elements, from, middle, leafLength, condition, firstMatch, found),
+          new FindTask<E>(elements, middle, to, leafLength, condition, firstMatch, found));
+    }
+
+    private void setFound(final int index)
+    {
+      int foundSoFar = found.get();
+      while (index < foundSoFar && !found.compareAndSet(foundSoFar, index))
+      {
+        foundSoFar = found.get();
+      }
+    }
+  }
+
+  /* reduce */
+
+  /**
+   * @param function
+   *          an associative function as the elements are reduced in ranges and the results of the ranges are reduced
+   *          again with the same function.
+   * @return the result of the reduction. The given range must not be empty.
+   */
+  static <E> E reduce(final Object[] elements, final int from, final int to,
+      final Function2<? super E, ? super E, E> function)
+  {
+    final int length = to - from;
+    if (isWorthParallel(length))
+    {
+      return forkJoinPool().invoke(new ReduceTask<E>(elements, from, to, leafLengthFor(length), function));
+    }
+    return reduceSequentially(elements, from, to, function);
+  }
+
+  private static <E> E reduceSequentially(final Object[] elements, final int from, final int to,
+      final Function2<? super E, ? super E, E> function)
+  {
+    @SuppressWarnings("unchecked")
+    E result = (E) elements[from];
+    for (int i = from + 1; i < to; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      result = function.apply(result, element);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("serial")
+  private static final class ReduceTask<E> extends RecursiveTask<E>
+  {
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final int leafLength;
+    private final Function2<? super E, ? super E, E> function;
+
+    ReduceTask(final Object[] elements, final int from, final int to, final int leafLength,
+        final Function2<? super E, ? super E, E> function)
+    {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.leafLength = leafLength;
+      this.function = function;
+    }
+
+    @Override
+    protected E compute()
+    {
+      if (to - from <= leafLength)
+      {
+        return reduceSequentially(elements, from, to, function);
+      }
+      final int middle = (from + to) >>> 1;
+      final ReduceTask<E> right = new ReduceTask<E>(elements, middle, to, leafLength, function);
+      right.fork();
+      final E left = new ReduceTask<E>(elements, from, middle, leafLength, function).compute();
+      return function.apply(left, right.join());
+    }
+  }
+
+  /* foldLeft with a combiner */
+
+  /**
+   * @param identity
+   *          the start value of each range. It must be the identity of the combiner (e.g. 0 for sum).
+   * @param function
+   *          the function to fold the elements in each range.
+   * @param combiner
+   *          an associative function to combine the results of two adjacent ranges.
+   */
+  static <E, R> R foldLeft(final Object[] elements, final int from, final int to, final R identity,
+      final Function2<? super R, ? super E, R> function, final Function2<? super R, ? super R, R> combiner)
+  {
+    final int length = to - from;
+    if (isWorthParallel(length))
+    {
+      return forkJoinPool().invoke(
+          new FoldLeftTask<E, R>(elements, from, to, leafLengthFor(length), identity, function, combiner));
+    }
+    return foldLeftSequentially(elements, from, to, identity, function);
+  }
+
+  private static <E, R> R foldLeftSequentially(final Object[] elements, final int from, final int to,
+      final R startValue, final Function2<? super R, ? super E, R> function)
+  {
+    R result = startValue;
+    for (int i = from; i < to; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      result = function.apply(result, element);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("serial")
+  private static final class FoldLeftTask<E, R> extends RecursiveTask<R>
+  {
+    private final Object[] elements;
+    private final int from;
+    private final int to;
+    private final int leafLength;
+    private final R identity;
+    private final Function2<? super R, ? super E, R> function;
+    private final Function2<? super R, ? super R, R> combiner;
+
+    FoldLeftTask(final Object[] elements, final int from, final int to, final int leafLength, final R identity,
+        final Function2<? super R, ? super E, R> function, final Function2<? super R, ? super R, R> combiner)
+    {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.leafLength = leafLength;
+      this.identity = identity;
+      this.function = function;
+      this.combiner = combiner;
+    }
+
+    @Override
+    protected R compute()
+    {
+      if (to - from <= leafLength)
+      {
+        return foldLeftSequentially(elements, from, to, identity, function);
+      }
+      final int middle = (from + to) >>> 1;
+      final FoldLeftTask<E, R> right =
+        new FoldLeftTask<E, R>(elements, middle, to, leafLength, identity, function, combiner);
+      right.fork();
+      final R left = new FoldLeftTask<E, R>(elements, from, middle, leafLength, identity, function, combiner).compute();
+      return combiner.apply(left, right.join());
+    }
+  }
+}
@@ -0,0 +1,597 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.elixirian.kommonlee.collect.AbstractReadableList;
+import org.elixirian.kommonlee.collect.BulkReadable;
+import org.elixirian.kommonlee.collect.Kollection;
+import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.collect.UnmodifiableIterator;
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.IndexedBreakableFunction1;
+import org.elixirian.kommonlee.functional.IndexedVoidFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link ImmutableList} whose elements are sorted by a {@link Comparator}. It finds an element with a binary search so
+ * {@link #indexOf(Object)}, {@link #lastIndexOf(Object)} and {@link #contains(Object)} take O(log n) time instead of
+ * scanning the whole list. {@link #floor(Object)}, {@link #ceiling(Object)} and {@link #range(Object, Object)} find
+ * elements by their order, and {@link #union(SortedImmutableList)} and {@link #intersection(SortedImmutableList)} merge
+ * two sorted lists in a single pass.
+ * <p>
+ * The comparator must be consistent with equals as an element equal to the given one is found by comparing them with
+ * the comparator. {@link #range(Object, Object)} and {@link #subList(int, int)} return views sharing the elements
+ * array so they copy nothing however small they are.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <E>
+ *          the type of the elements.
+ */
+public final class SortedImmutableList<E> extends AbstractReadableList<E> implements ImmutableList<E>, BulkReadable
+{
+  private final Comparator<? super E> comparator;
+
+  /**
+   * the sorted elements array which may be shared with other {@link SortedImmutableList}s and is never changed.
+   */
+  private final Object[] elements;
+
+  private final int offset;
+
+  private final int length;
+
+  /**
+   * the {@link ImmutableList} of the same elements to which the operations not depending on the order are delegated.
+   */
+  private final ImmutableArrayList<E> list;
+
+  private SortedImmutableList(final Comparator<? super E> comparator, final Object[] elements, final int offset,
+      final int length)
+  {
+    this.comparator = comparator;
+    this.elements = elements;
+    this.offset = offset;
+    this.length = length;
+    this.list = ImmutableArrayList.viewOf(elements, offset, length);
+  }
+
+  /**
+   * Takes the given new array, sorts it and uses it without copying it again.
+   */
+  private static <E> SortedImmutableList<E> sortAndTakeOver(final Comparator<? super E> comparator,
+      final Object[] newArray)
+  {
+    @SuppressWarnings("unchecked")
+    final Comparator<Object> objectComparator = (Comparator<Object>) comparator;
+    Arrays.sort(newArray, objectComparator);
+    return new SortedImmutableList<E>(comparator, newArray, 0, newArray.length);
+  }
+
+  public static <E> SortedImmutableList<E> sortedListOf(final Comparator<? super E> comparator, final E... elements)
+  {
+    return sortAndTakeOver(comparator, Arrays.copyOf(elements, elements.length, Object[].class));
+  }
+
+  public static <E> SortedImmutableList<E> sortedCopyOf(final Comparator<? super E> comparator,
+      final Collection<? extends E> collection)
+  {
+    return sortAndTakeOver(comparator, collection.toArray());
+  }
+
+  public static <E> SortedImmutableList<E> sortedCopyOf(final Comparator<? super E> comparator,
+      final Kollection<? extends E> kollection)
+  {
+    return sortAndTakeOver(comparator, kollection.toArray());
+  }
+
+  public Comparator<? super E> comparator()
+  {
+    return comparator;
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compareAt(final int index, final E element)
+  {
+    return comparator.compare((E) elements[offset + index], element);
+  }
+
+  /**
+   * @return the index (fromIndex <= index <= toIndex) of the first element which is not less than the given element,
+   *         or toIndex if there is no such element.
+   */
+  private int lowerBound(final E element, final int fromIndex, final int toIndex)
+  {
+    int low = fromIndex;
+    int high = toIndex;
+    while (low < high)
+    {
+      final int middle = (low + high) >>> 1;
+      if (0 > compareAt(middle, element))
+      {
+        low = middle + 1;
+      }
+      else
+      {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return the index (fromIndex <= index <= toIndex) of the first element which is greater than the given element,
+   *         or toIndex if there is no such element.
+   */
+  private int upperBound(final E element, final int fromIndex, final int toIndex)
+  {
+    int low = fromIndex;
+    int high = toIndex;
+    while (low < high)
+    {
+      final int middle = (low + high) >>> 1;
+      if (0 >= compareAt(middle, element))
+      {
+        low = middle + 1;
+      }
+      else
+      {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  @Override
+  public int indexOf(final E element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    final int index = lowerBound(element, fromIndex, length);
+    return index < length && 0 == compareAt(index, element) ? index : -1;
+  }
+
+  @Override
+  public int indexOf(final E element)
+  {
+    final int index = lowerBound(element, 0, length);
+    return index < length && 0 == compareAt(index, element) ? index : -1;
+  }
+
+  @Override
+  public int lastIndexOf(final E element, final int toIndex)
+  {
+    checkToIndex(length, toIndex);
+    final int index = upperBound(element, 0, toIndex) - 1;
+    return 0 <= index && 0 == compareAt(index, element) ? index : -1;
+  }
+
+  @Override
+  public int lastIndexOf(final E element)
+  {
+    final int index = upperBound(element, 0, length) - 1;
+    return 0 <= index && 0 == compareAt(index, element) ? index : -1;
+  }
+
+  /**
+   * @exception ClassCastException
+   *              if the given element cannot be compared by the comparator.
+   */
+  @Override
+  public boolean contains(final Object element)
+  {
+    @SuppressWarnings("unchecked")
+    final E e = (E) element;
+    return 0 <= indexOf(e);
+  }
+
+  /**
+   * @return the greatest element less than or equal to the given element, or null if there is no such element.
+   */
+  public E floor(final E element)
+  {
+    final int index = upperBound(element, 0, length) - 1;
+    return 0 <= index ? get(index) : null;
+  }
+
+  /**
+   * @return the least element greater than or equal to the given element, or null if there is no such element.
+   */
+  public E ceiling(final E element)
+  {
+    final int index = lowerBound(element, 0, length);
+    return index < length ? get(index) : null;
+  }
+
+  /**
+   * Returns a view of the elements from the given from element (inclusive) to the given to element (exclusive). It
+   * shares the elements array of this list.
+   *
+   * @param from
+   *          the lowest element (inclusive).
+   * @param to
+   *          the highest element (exclusive).
+   * @return the view of the elements in the range.
+   * @exception IllegalArgumentException
+   *              if from is greater than to.
+   */
+  public SortedImmutableList<E> range(final E from, final E to)
+  {
+    if (0 < comparator.compare(from, to))
+    {
+      throw new IllegalArgumentException("from cannot be greater than to. [from: " + from + ", to: " + to + "]");
+    }
+    final int fromIndex = lowerBound(from, 0, length);
+    return subList(fromIndex, lowerBound(to, fromIndex, length));
+  }
+
+  /**
+   * Merges this list and the given one which must be sorted by the same order into a new {@link SortedImmutableList}.
+   * An element in both of them is added only once (if an element is n times in one and m times in the other, it is
+   * max(n, m) times in the result).
+   *
+   * @param that
+   *          the other sorted list.
+   * @return the union of the two sorted lists.
+   */
+  public SortedImmutableList<E> union(final SortedImmutableList<? extends E> that)
+  {
+    final Object[] merged = new Object[this.length + that.length];
+    int i = 0;
+    int j = 0;
+    int howMany = 0;
+    while (i < this.length && j < that.length)
+    {
+      @SuppressWarnings("unchecked")
+      final E thatElement = (E) that.elements[that.offset + j];
+      final int compared = compareAt(i, thatElement);
+      if (0 > compared)
+      {
+        merged[howMany++] = this.elements[this.offset + i++];
+      }
+      else if (0 < compared)
+      {
+        merged[howMany++] = thatElement;
+        j++;
+      }
+      else
+      {
+        merged[howMany++] = this.elements[this.offset + i++];
+        j++;
+      }
+    }
+    System.arraycopy(this.elements, this.offset + i, merged, howMany, this.length - i);
+    howMany += this.length - i;
+    System.arraycopy(that.elements, that.offset + j, merged, howMany, that.length - j);
+    howMany += that.length - j;
+    return newTrimmed(merged, howMany);
+  }
+
+  /**
+   * Finds the elements in both this list and the given one which must be sorted by the same order in a single pass (if
+   * an element is n times in one and m times in the other, it is min(n, m) times in the result).
+   *
+   * @param that
+   *          the other sorted list.
+   * @return the intersection of the two sorted lists.
+   */
+  public SortedImmutableList<E> intersection(final SortedImmutableList<? extends E> that)
+  {
+    final Object[] merged = new Object[Math.min(this.length, that.length)];
+    int i = 0;
+    int j = 0;
+    int howMany = 0;
+    while (i < this.length && j < that.length)
+    {
+      @SuppressWarnings("unchecked")
+      final E thatElement = (E) that.elements[that.offset + j];
+      final int compared = compareAt(i, thatElement);
+      if (0 > compared)
+      {
+        i++;
+      }
+      else if (0 < compared)
+      {
+        j++;
+      }
+      else
+      {
+        merged[howMany++] = this.elements[this.offset + i++];
+        j++;
+      }
+    }
+    return newTrimmed(merged, howMany);
+  }
+
+  private SortedImmutableList<E> newTrimmed(final Object[] newArray, final int howMany)
+  {
+    /* the array is not shared with anyone else so it can be used without being copied again. */
+    return new SortedImmutableList<E>(comparator, isWorthSharing(howMany, newArray.length) ? newArray
+        : Arrays.copyOf(newArray, howMany), 0, howMany);
+  }
+
+  @Override
+  public UnmodifiableIterator<E> iterator()
+  {
+    return list.iterator();
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public E get(final int index)
+  {
+    return list.get(index);
+  }
+
+  @Override
+  public E find(final Condition1<? super E> condition)
+  {
+    return list.find(condition);
+  }
+
+  /**
+   * @return the selected elements as a {@link SortedImmutableList} since they are still in order.
+   */
+  @Override
+  public SortedImmutableList<E> select(final Condition1<? super E> condition)
+  {
+    final Object[] selected = new Object[length];
+    int howMany = 0;
+    for (int i = offset, end = offset + length; i < end; i++)
+    {
+      @SuppressWarnings("unchecked")
+      final E element = (E) elements[i];
+      if (condition.isMet(element))
+      {
+        selected[howMany++] = element;
+      }
+    }
+    return length == howMany ? this : newTrimmed(selected, howMany);
+  }
+
+  @Override
+  public <R> ImmutableList<R> map(final Function1<? super E, R> function)
+  {
+    return list.map(function);
+  }
+
+  @Override
+  public <R> ImmutableList<R> mapSelectively(final Condition1<? super E> condition,
+      final Function1<? super E, R> function)
+  {
+    return list.mapSelectively(condition, function);
+  }
+
+  @Override
+  public void forEach(final VoidFunction1<? super E> function)
+  {
+    list.forEach(function);
+  }
+
+  @Override
+  public void forEach(final IndexedVoidFunction1<? super E> function)
+  {
+    list.forEach(function);
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFunction1<? super E> function)
+  {
+    list.breakableForEach(function);
+  }
+
+  @Override
+  public void breakableForEach(final IndexedBreakableFunction1<? super E> function)
+  {
+    list.breakableForEach(function);
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
+  {
+    return list.foldLeft(startValue, function);
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> Function1<F2, R> foldLeft(final R startValue)
+  {
+    return list.foldLeft(startValue);
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> R foldRight(final R startValue, final F2 function)
+  {
+    return list.foldRight(startValue, function);
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> Function1<F2, R> foldRight(final R startValue)
+  {
+    return list.foldRight(startValue);
+  }
+
+  @Override
+  public E reduce(final Function2<? super E, ? super E, E> function)
+  {
+    return list.reduce(function);
+  }
+
+  @Override
+  public Object[] toArray()
+  {
+    return list.toArray();
+  }
+
+  @Override
+  public void copyInto(final Object[] destination, final int destinationPosition)
+  {
+    list.copyInto(destination, destinationPosition);
+  }
+
+  @Override
+  public E[] toArray(final E[] elements)
+  {
+    return list.toArray(elements);
+  }
+
+  /**
+   * @return the {@link ImmutableArrayList} backed by the same elements array as this list without copying it.
+   */
+  ImmutableArrayList<E> asImmutableArrayList()
+  {
+    return list;
+  }
+
+  @Override
+  public List<E> convertTo()
+  {
+    return list.convertTo();
+  }
+
+  /**
+   * @return the view of the given range which shares the elements array of this list.
+   */
+  @Override
+  public SortedImmutableList<E> subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    if (0 == fromIndex && length == toIndex)
+    {
+      return this;
+    }
+    return new SortedImmutableList<E>(comparator, elements, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public ImmutableList<E> parallelSelect(final Condition1<? super E> condition)
+  {
+    return list.parallelSelect(condition);
+  }
+
+  @Override
+  public <R> ImmutableList<R> parallelMap(final Function1<? super E, R> function)
+  {
+    return list.parallelMap(function);
+  }
+
+  @Override
+  public int parallelHowMany(final Condition1<? super E> conditionToMeet)
+  {
+    return list.parallelHowMany(conditionToMeet);
+  }
+
+  @Override
+  public E parallelFind(final Condition1<? super E> condition)
+  {
+    return list.parallelFind(condition);
+  }
+
+  @Override
+  public E parallelFindAny(final Condition1<? super E> condition)
+  {
+    return list.parallelFindAny(condition);
+  }
+
+  @Override
+  public E parallelReduce(final Function2<? super E, ? super E, E> function)
+  {
+    return list.parallelReduce(function);
+  }
+
+  @Override
+  public <R> R parallelFoldLeft(final R identity, final Function2<? super R, ? super E, R> function,
+      final Function2<? super R, ? super R, R> combiner)
+  {
+    return list.parallelFoldLeft(identity, function, combiner);
+  }
+
+  /**
+   * It is the same as the hash code of the {@link ImmutableArrayList} with the same elements.
+   */
+  @Override
+  public int hashCode()
+  {
+    return list.hashCode();
+  }
+
+  /**
+   * @return true if the given object is a {@link SortedImmutableList} with the same elements in the same order.
+   */
+  @Override
+  public boolean equals(final Object sortedImmutableList)
+  {
+    if (this == sortedImmutableList)
+    {
+      return true;
+    }
+    final SortedImmutableList<?> that = castIfInstanceOf(SortedImmutableList.class, sortedImmutableList);
+    return null != that && list.equals(that.list);
+  }
+
+  @Override
+  public String toString()
+  {
+    return KollectionUtil.toStringOf("SortedImmutableList", this);
+  }
+}
@@ -0,0 +1,693 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.mutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.AbstractReadableList;
+import org.elixirian.kommonlee.collect.BulkReadable;
+import org.elixirian.kommonlee.collect.Kollection;
+import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.collect.ReadableArrayList;
+import org.elixirian.kommonlee.collect.WritableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableArrayList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
+import org.elixirian.kommonlee.collect.immutable.ImmutableVector;
+import org.elixirian.kommonlee.collect.immutable.SortedImmutableList;
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.IndexedBreakableFunction1;
+import org.elixirian.kommonlee.functional.IndexedVoidFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Array backed {@link MutableCollection} and {@link WritableList}. The capacity grows by half each time it is full so
+ * adding n elements one by one copies the elements O(n) times in total. {@link #addAll(Kollection)} copies the given
+ * elements in one go, and {@link #removeAll(Kollection)} and {@link #retainAll(Kollection)} move each remaining element
+ * only once. When the given {@link Kollection} has more than {@link #HASH_LOOKUP_THRESHOLD} elements, they are put in a
+ * {@link HashSet} first so that the lookup for each element in this list does not scan all of them.
+ * <p>
+ * Once it is filled, {@link #freeze()} moves the elements to an {@link ImmutableList} with a single array copy.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ * @param <E>
+ *          the type of the elements.
+ */
+public class MutableArrayList<E> extends AbstractReadableList<E> implements MutableCollection<E>, WritableList<E>,
+    BulkReadable
+{
+  public static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+  /**
+   * {@link #removeAll(Kollection)} and {@link #retainAll(Kollection)} look up the elements in a {@link HashSet} made of
+   * the given {@link Kollection} if it has more elements than this and its contains method is known to use equals.
+   */
+  public static final int HASH_LOOKUP_THRESHOLD = 16;
+
+  private static final Object[] EMPTY_ELEMENTS = new Object[0];
+
+  private Object[] elements;
+
+  private int length;
+
+  private int modCount = 0;
+
+  public MutableArrayList(final int initialCapacity)
+  {
+    checkInitialLength(initialCapacity);
+    this.elements = 0 == initialCapacity ? EMPTY_ELEMENTS : new Object[initialCapacity];
+    this.length = 0;
+  }
+
+  public MutableArrayList()
+  {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public MutableArrayList(final Collection<? extends E> collection)
+  {
+    this(collection.toArray());
+  }
+
+  public MutableArrayList(final Kollection<? extends E> kollection)
+  {
+    this(kollection.length(), new Object[kollection.length()]);
+    KollectionUtil.copyInto(kollection, elements, 0);
+  }
+
+  /**
+   * Takes the given array returned by toArray() of a {@link Collection} which is a new array not shared with anyone
+   * else. It is copied only if it is not an Object[] (e.g. String[]) as other types of elements
+   * cannot be stored in it.
+   */
+  private MutableArrayList(final Object[] elements)
+  {
+    this(elements.length, Object[].class == elements.getClass() ? elements : Arrays.copyOf(elements,
+        elements.length, Object[].class));
+  }
+
+  /**
+   * Takes the given array without copying it. It is only for the new arrays created in this class.
+   */
+  private MutableArrayList(final int length, final Object[] elements)
+  {
+    this.elements = elements;
+    this.length = length;
+  }
+
+  public static <T> MutableArrayList<T> listOf(final T... elements)
+  {
+    return new MutableArrayList<T>(elements.length, Arrays.copyOf(elements, elements.length, Object[].class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private E elementAt(final int index)
+  {
+    return (E) elements[index];
+  }
+
+  private void ensureCapacity(final int lengthAfterAdding)
+  {
+    modCount++;
+    final int capacity = elements.length;
+    if (0 < lengthAfterAdding - capacity)
+    {
+      int newCapacity = capacity + (capacity >> 1);
+      if (0 > newCapacity - lengthAfterAdding)
+      {
+        newCapacity = lengthAfterAdding;
+      }
+      if (0 > newCapacity)
+      {
+        if (0 > lengthAfterAdding)
+        {
+          throw new OutOfMemoryError();
+        }
+        newCapacity = Integer.MAX_VALUE;
+      }
+      this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
+  }
+
+  int getCapacity()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public Iterator<E> iterator()
+  {
+    return new InternalIterator();
+  }
+
+  private class InternalIterator implements Iterator<E>
+  {
+    int current = 0;
+    int lastReturned = -1;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext()
+    {
+      return current != length;
+    }
+
+    @Override
+    public E next()
+    {
+      checkForComodification();
+      if (current >= length)
+      {
+        throw new NoSuchElementException();
+      }
+      lastReturned = current;
+      return elementAt(current++);
+    }
+
+    @Override
+    public void remove()
+    {
+      if (0 > lastReturned)
+      {
+        throw new IllegalStateException("next() has not been called or remove() has already been called after it.");
+      }
+      checkForComodification();
+      remove0(lastReturned);
+      current = lastReturned;
+      lastReturned = -1;
+      expectedModCount = modCount;
+    }
+
+    private void checkForComodification()
+    {
+      if (modCount != expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public boolean contains(final Object element)
+  {
+    return 0 <= indexOf0(element);
+  }
+
+  @Override
+  public E get(final int index)
+  {
+    checkIndex(length, index);
+    return elementAt(index);
+  }
+
+  /**
+   * Replaces the element at the given index with the given one.
+   *
+   * @param index
+   *          the index of the element to replace.
+   * @param element
+   *          the new element.
+   * @return the element previously at the given index.
+   */
+  public E set(final int index, final E element)
+  {
+    checkIndex(length, index);
+    final E old = elementAt(index);
+    elements[index] = element;
+    return old;
+  }
+
+  @Override
+  public E find(final Condition1<? super E> condition)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      final E element = elementAt(i);
+      if (condition.isMet(element))
+      {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public MutableArrayList<E> select(final Condition1<? super E> condition)
+  {
+    final Object[] selected = new Object[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final E element = elementAt(i);
+      if (condition.isMet(element))
+      {
+        selected[howMany++] = element;
+      }
+    }
+    return new MutableArrayList<E>(howMany, selected);
+  }
+
+  @Override
+  public <R> MutableArrayList<R> map(final Function1<? super E, R> function)
+  {
+    final Object[] mapped = new Object[length];
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(elementAt(i));
+    }
+    return new MutableArrayList<R>(length, mapped);
+  }
+
+  @Override
+  public <R> MutableArrayList<R> mapSelectively(final Condition1<? super E> condition,
+      final Function1<? super E, R> function)
+  {
+    final Object[] mapped = new Object[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final E element = elementAt(i);
+      if (condition.isMet(element))
+      {
+        mapped[howMany++] = function.apply(element);
+      }
+    }
+    return new MutableArrayList<R>(howMany, mapped);
+  }
+
+  @Override
+  public void forEach(final VoidFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(elementAt(i));
+    }
+  }
+
+  @Override
+  public void forEach(final IndexedVoidFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(i, elementAt(i));
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(elementAt(i)))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void breakableForEach(final IndexedBreakableFunction1<? super E> function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(i, elementAt(i)))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> R foldLeft(final R startValue, final F2 function)
+  {
+    R result = startValue;
+    for (int i = 0; i < length; i++)
+    {
+      result = function.apply(result, elementAt(i));
+    }
+    return result;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super R, ? super E, R>> Function1<F2, R> foldLeft(final R startValue)
+  {
+    return new Function1<F2, R>() {
+      @Override
+      public R apply(final F2 function)
+      {
+        return foldLeft(startValue, function);
+      }
+    };
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> R foldRight(final R startValue, final F2 function)
+  {
+    R result = startValue;
+    for (int i = length - 1; i >= 0; i--)
+    {
+      result = function.apply(elementAt(i), result);
+    }
+    return result;
+  }
+
+  @Override
+  public <R, F2 extends Function2<? super E, ? super R, R>> Function1<F2, R> foldRight(final R startValue)
+  {
+    return new Function1<F2, R>() {
+      @Override
+      public R apply(final F2 function)
+      {
+        return foldRight(startValue, function);
+      }
+    };
+  }
+
+  @Override
+  public E reduce(final Function2<? super E, ? super E, E> function)
+  {
+    if (0 == length)
+    {
+      return null;
+    }
+    E result = elementAt(0);
+    for (int i = 1; i < length; i++)
+    {
+      result = function.apply(result, elementAt(i));
+    }
+    return result;
+  }
+
+  @Override
+  public Object[] toArray()
+  {
+    return Arrays.copyOf(elements, length);
+  }
+
+  @Override
+  public void copyInto(final Object[] destination, final int destinationPosition)
+  {
+    System.arraycopy(elements, 0, destination, destinationPosition, length);
+  }
+
+  @Override
+  public E[] toArray(final E[] elements)
+  {
+    if (length == elements.length)
+    {
+      System.arraycopy(this.elements, 0, elements, 0, length);
+      return elements;
+    }
+    @SuppressWarnings("unchecked")
+    final E[] copyOf = (E[]) Arrays.copyOf(this.elements, length, elements.getClass());
+    return copyOf;
+  }
+
+  /**
+   * @return a new {@link MutableArrayList} with a copy of the given range which is independent of this list.
+   */
+  @Override
+  public MutableArrayList<E> subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    final int howMany = toIndex - fromIndex;
+    return new MutableArrayList<E>(howMany, Arrays.copyOfRange(elements, fromIndex, toIndex));
+  }
+
+  @Override
+  public ArrayList<E> convertTo()
+  {
+    final ArrayList<E> list = new ArrayList<E>(length);
+    for (int i = 0; i < length; i++)
+    {
+      list.add(elementAt(i));
+    }
+    return list;
+  }
+
+  @Override
+  public boolean add(final E element)
+  {
+    ensureCapacity(length + 1);
+    elements[length++] = element;
+    return true;
+  }
+
+  @Override
+  public void add(final int index, final E element)
+  {
+    if (0 > index || length < index)
+    {
+      throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+    }
+    ensureCapacity(length + 1);
+    System.arraycopy(elements, index, elements, index + 1, length - index);
+    elements[index] = element;
+    length++;
+  }
+
+  @Override
+  public boolean addAll(final Kollection<? extends E> commonCollection)
+  {
+    /*
+     * copy straight into the elements array (even from this list) instead of making a copy with toArray() first. The
+     * length is changed only after copying so copying this list copies only the elements it had before.
+     */
+    final int howMany = commonCollection.length();
+    ensureCapacity(length + howMany);
+    KollectionUtil.copyInto(commonCollection, elements, length);
+    length += howMany;
+    return 0 != howMany;
+  }
+
+  private void remove0(final int index)
+  {
+    modCount++;
+    final int howManyToMove = length - index - 1;
+    if (0 < howManyToMove)
+    {
+      System.arraycopy(elements, index + 1, elements, index, howManyToMove);
+    }
+    elements[--length] = null;
+  }
+
+  @Override
+  public boolean remove(final E element)
+  {
+    final int index = indexOf0(element);
+    if (0 > index)
+    {
+      return false;
+    }
+    remove0(index);
+    return true;
+  }
+
+  /**
+   * Removes the element at the given index.
+   *
+   * @param index
+   *          the index of the element to remove.
+   * @return the removed element.
+   */
+  public E removeAt(final int index)
+  {
+    checkIndex(length, index);
+    final E element = elementAt(index);
+    remove0(index);
+    return element;
+  }
+
+  @Override
+  public boolean removeAll(final Kollection<?> elements)
+  {
+    if (this == elements)
+    {
+      final boolean notEmpty = 0 != length;
+      clear();
+      return notEmpty;
+    }
+    return batchRemove(elements, false);
+  }
+
+  @Override
+  public boolean retainAll(final Kollection<?> elements)
+  {
+    if (this == elements)
+    {
+      return false;
+    }
+    return batchRemove(elements, true);
+  }
+
+  /**
+   * Keeps the elements which are (if retain is true) or are not (if retain is false) in the given {@link Kollection}
+   * moving each kept element only once. If {@link Kollection#contains(Object)} throws an exception, the elements not
+   * checked yet are kept so that the list stays consistent.
+   */
+  private boolean batchRemove(final Kollection<?> kollection, final boolean retain)
+  {
+    final HashSet<Object> hashSet =
+      HASH_LOOKUP_THRESHOLD < kollection.length() && isEqualsBased(kollection) ? newHashSetOf(kollection) : null;
+    final Object[] elements = this.elements;
+    final int oldLength = length;
+    int howManyKept = 0;
+    int i = 0;
+    try
+    {
+      for (; i < oldLength; i++)
+      {
+        final Object element = elements[i];
+        final boolean found = null == hashSet ? kollection.contains(element) : hashSet.contains(element);
+        if (retain == found)
+        {
+          elements[howManyKept++] = element;
+        }
+      }
+    }
+    finally
+    {
+      if (i < oldLength)
+      {
+        System.arraycopy(elements, i, elements, howManyKept, oldLength - i);
+        howManyKept += oldLength - i;
+      }
+      if (howManyKept != oldLength)
+      {
+        modCount++;
+        Arrays.fill(elements, howManyKept, oldLength, null);
+        length = howManyKept;
+      }
+    }
+    return howManyKept != oldLength;
+  }
+
+  /**
+   * @return true if the contains method of the given {@link Kollection} is known to find an element with equals, so a
+   *         {@link HashSet} of it finds the same elements. It is false for the others, e.g. {@link SortedImmutableList}
+   *         which uses its comparator, and for the subclasses which may override contains.
+   */
+  private static boolean isEqualsBased(final Kollection<?> kollection)
+  {
+    final Class<?> kollectionClass = kollection.getClass();
+    return kollection instanceof ImmutableArrayList || ImmutableVector.class == kollectionClass
+        || MutableArrayList.class == kollectionClass || ReadableArrayList.class == kollectionClass;
+  }
+
+  private static HashSet<Object> newHashSetOf(final Kollection<?> kollection)
+  {
+    final HashSet<Object> hashSet = new HashSet<Object>(Math.max((int) (kollection.length() / .75F) + 1, 16));
+    for (final Object element : kollection)
+    {
+      hashSet.add(element);
+    }
+    return hashSet;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    Arrays.fill(elements, 0, length, null);
+    length = 0;
+  }
+
+  /**
+   * Reduces the capacity to the current length.
+   *
+   * @return this {@link MutableArrayList}.
+   */
+  public MutableArrayList<E> trim()
+  {
+    modCount++;
+    if (length != elements.length)
+    {
+      elements = 0 == length ? EMPTY_ELEMENTS : Arrays.copyOf(elements, length);
+    }
+    return this;
+  }
+
+  /**
+   * Moves all the elements to a new {@link ImmutableList} and leaves this list empty. The elements are copied once,
+   * straight into the array of an {@link ImmutableLists#builder(int)} which the built list takes over, as no array can
+   * be handed over to an {@link ImmutableList} from outside without breaking its immutability. This list can still be
+   * used to build another list.
+   *
+   * @return the {@link ImmutableList} containing all the elements of this list.
+   */
+  public ImmutableList<E> freeze()
+  {
+    final ImmutableList<E> immutableList = ImmutableLists.<E> builder(length)
+        .addAll(this)
+        .build();
+    modCount++;
+    elements = EMPTY_ELEMENTS;
+    length = 0;
+    return immutableList;
+  }
+}
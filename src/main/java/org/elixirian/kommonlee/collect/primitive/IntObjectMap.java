@@ -0,0 +1,98 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive;
+
+import org.elixirian.kommonlee.type.checkable.EmptinessCheckable;
+import org.elixirian.kommonlee.type.checkable.NotEmptinessCheckable;
+import org.elixirian.kommonlee.type.checkable.SizeCheckable;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntObjectFunction2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Map from primitive int keys to objects which does not box the keys.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-07)
+ * @param <V>
+ *          the type of the values
+ */
+public interface IntObjectMap<V> extends SizeCheckable, EmptinessCheckable, NotEmptinessCheckable
+{
+  /**
+   * @param key
+   *          the given key
+   * @return the value mapped to the given key or null if there is none.
+   */
+  V get(int key);
+
+  V getOrDefault(int key, V defaultValue);
+
+  boolean containsKey(int key);
+
+  /**
+   * Calls the given function with each key and its value without creating any {@link java.util.Iterator} or entry.
+   * The order is not specified.
+   *
+   * @param function
+   *          the given function
+   */
+  void forEach(VoidIntObjectFunction2<? super V> function);
+
+  void forEachKey(VoidIntFunction1 function);
+
+  int[] keys();
+
+  @Override
+  int size();
+
+  @Override
+  boolean isEmpty();
+
+  @Override
+  boolean isNotEmpty();
+}
@@ -0,0 +1,484 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.elixirian.kommonlee.collect.ForkJoinPools;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * In-place sorting of primitive arrays without boxing, used by the sort methods of the mutable primitive lists.
+ * <ul>
+ * <li>byte and boolean: counting sort, which takes one pass to count and another to write the elements back.</li>
+ * <li>int, long, float and double: LSD radix sort with 8-bit digits. Each digit takes one counting pass and one
+ * scattering pass. A pass is skipped when all the elements have the same digit, e.g. the high digits of ids within a
+ * small range. The signed and IEEE 754 values are mapped to unsigned keys with the same order, so -0.0 comes before
+ * 0.0 and NaN comes last as it does with {@link Arrays#sort(double[])}.</li>
+ * <li>char and short: {@link Arrays#sort(char[], int, int)} and {@link Arrays#sort(short[], int, int)}, which already
+ * use counting sort for large ranges.</li>
+ * </ul>
+ * A range shorter than {@link #RADIX_SORT_THRESHOLD} is sorted with {@link Arrays} as radix sort does not pay off for
+ * it. A range with at least {@link #PARALLEL_THRESHOLD} elements is split into as many chunks as the parallelism of the
+ * {@link ForkJoinPool} from {@link ForkJoinPools#sharedPool()}, and each pass counts and scatters the chunks in
+ * parallel. Each chunk writes to its own part of every bucket so the result is the same as the sequential one.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public final class PrimitiveSorts
+{
+  /**
+   * A range shorter than this is sorted with {@link Arrays} instead.
+   */
+  public static final int RADIX_SORT_THRESHOLD = 1 << 12;
+
+  /**
+   * A range with at least this many elements is sorted in parallel.
+   */
+  public static final int PARALLEL_THRESHOLD = 1 << 17;
+
+  static final int MIN_CHUNK_LENGTH = 1 << 15;
+
+  private static final int COUNTING_SORT_THRESHOLD = 1 << 6;
+
+  private static final int DIGIT_BITS = 8;
+
+  private static final int RADIX = 1 << DIGIT_BITS;
+
+  private static final int DIGIT_MASK = RADIX - 1;
+
+  private PrimitiveSorts() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  public static void sort(final boolean[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    int howManyFalse = 0;
+    for (int i = from; i < to; i++)
+    {
+      if (!elements[i])
+      {
+        howManyFalse++;
+      }
+    }
+    Arrays.fill(elements, from, from + howManyFalse, false);
+    Arrays.fill(elements, from + howManyFalse, to, true);
+  }
+
+  public static void sort(final byte[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    if (COUNTING_SORT_THRESHOLD > to - from)
+    {
+      Arrays.sort(elements, from, to);
+      return;
+    }
+    final int[] counts = new int[RADIX];
+    for (int i = from; i < to; i++)
+    {
+      counts[elements[i] - Byte.MIN_VALUE]++;
+    }
+    int index = from;
+    for (int digit = 0; digit < RADIX; digit++)
+    {
+      final int count = counts[digit];
+      Arrays.fill(elements, index, index + count, (byte) (digit + Byte.MIN_VALUE));
+      index += count;
+    }
+  }
+
+  public static void sort(final char[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    Arrays.sort(elements, from, to);
+  }
+
+  public static void sort(final short[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    Arrays.sort(elements, from, to);
+  }
+
+  public static void sort(final int[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    if (RADIX_SORT_THRESHOLD > to - from)
+    {
+      Arrays.sort(elements, from, to);
+      return;
+    }
+    radixSort(INT_KEYS, elements, from, to);
+  }
+
+  public static void sort(final long[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    if (RADIX_SORT_THRESHOLD > to - from)
+    {
+      Arrays.sort(elements, from, to);
+      return;
+    }
+    radixSort(LONG_KEYS, elements, from, to);
+  }
+
+  public static void sort(final float[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    if (RADIX_SORT_THRESHOLD > to - from)
+    {
+      Arrays.sort(elements, from, to);
+      return;
+    }
+    radixSort(FLOAT_KEYS, elements, from, to);
+  }
+
+  public static void sort(final double[] elements, final int from, final int to)
+  {
+    checkRange(elements.length, from, to);
+    if (RADIX_SORT_THRESHOLD > to - from)
+    {
+      Arrays.sort(elements, from, to);
+      return;
+    }
+    radixSort(DOUBLE_KEYS, elements, from, to);
+  }
+
+  /**
+   * Maps the given float to an int whose unsigned order is the order of the floats. The sign bit is flipped for a
+   * positive value and all the bits are flipped for a negative one. {@link Float#floatToIntBits(float)} makes every
+   * NaN the same so they all come last.
+   */
+  static int unsignedKeyOf(final float element)
+  {
+    final int bits = Float.floatToIntBits(element);
+    return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+  }
+
+  /**
+   * Maps the given double to a long whose unsigned order is the order of the doubles in the same way as
+   * {@link #unsignedKeyOf(float)}.
+   */
+  static long unsignedKeyOf(final double element)
+  {
+    final long bits = Double.doubleToLongBits(element);
+    return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+  }
+
+  /**
+   * Counts and scatters the elements of one type of array by a digit of their unsigned keys.
+   */
+  private abstract static class RadixKeys<A>
+  {
+    final int keyBits;
+
+    RadixKeys(final int keyBits)
+    {
+      this.keyBits = keyBits;
+    }
+
+    abstract A newArray(int length);
+
+    abstract void count(A source, int from, int to, int shift, int[] counts);
+
+    abstract void scatter(A source, int from, int to, int shift, int[] offsets, A destination, int destinationFrom);
+  }
+
+  private static final RadixKeys<int[]> INT_KEYS = new RadixKeys<int[]>(Integer.SIZE) {
+    @Override
+    int[] newArray(final int length)
+    {
+      return new int[length];
+    }
+
+    @Override
+    void count(final int[] source, final int from, final int to, final int shift, final int[] counts)
+    {
+      for (int i = from; i < to; i++)
+      {
+        counts[((source[i] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+      }
+    }
+
+    @Override
+    void scatter(final int[] source, final int from, final int to, final int shift, final int[] offsets,
+        final int[] destination, final int destinationFrom)
+    {
+      for (int i = from; i < to; i++)
+      {
+        final int element = source[i];
+        destination[destinationFrom + offsets[((element ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = element;
+      }
+    }
+  };
+
+  private static final RadixKeys<long[]> LONG_KEYS = new RadixKeys<long[]>(Long.SIZE) {
+    @Override
+    long[] newArray(final int length)
+    {
+      return new long[length];
+    }
+
+    @Override
+    void count(final long[] source, final int from, final int to, final int shift, final int[] counts)
+    {
+      for (int i = from; i < to; i++)
+      {
+        counts[(int) ((source[i] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+      }
+    }
+
+    @Override
+    void scatter(final long[] source, final int from, final int to, final int shift, final int[] offsets,
+        final long[] destination, final int destinationFrom)
+    {
+      for (int i = from; i < to; i++)
+      {
+        final long element = source[i];
+        destination[destinationFrom + offsets[(int) ((element ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++] =
+          element;
+      }
+    }
+  };
+
+  private static final RadixKeys<float[]> FLOAT_KEYS = new RadixKeys<float[]>(Integer.SIZE) {
+    @Override
+    float[] newArray(final int length)
+    {
+      return new float[length];
+    }
+
+    @Override
+    void count(final float[] source, final int from, final int to, final int shift, final int[] counts)
+    {
+      for (int i = from; i < to; i++)
+      {
+        counts[(unsignedKeyOf(source[i]) >>> shift) & DIGIT_MASK]++;
+      }
+    }
+
+    @Override
+    void scatter(final float[] source, final int from, final int to, final int shift, final int[] offsets,
+        final float[] destination, final int destinationFrom)
+    {
+      for (int i = from; i < to; i++)
+      {
+        /* the element itself is moved so a NaN keeps its own bits. */
+        final float element = source[i];
+        destination[destinationFrom + offsets[(unsignedKeyOf(element) >>> shift) & DIGIT_MASK]++] = element;
+      }
+    }
+  };
+
+  private static final RadixKeys<double[]> DOUBLE_KEYS = new RadixKeys<double[]>(Long.SIZE) {
+    @Override
+    double[] newArray(final int length)
+    {
+      return new double[length];
+    }
+
+    @Override
+    void count(final double[] source, final int from, final int to, final int shift, final int[] counts)
+    {
+      for (int i = from; i < to; i++)
+      {
+        counts[(int) (unsignedKeyOf(source[i]) >>> shift) & DIGIT_MASK]++;
+      }
+    }
+
+    @Override
+    void scatter(final double[] source, final int from, final int to, final int shift, final int[] offsets,
+        final double[] destination, final int destinationFrom)
+    {
+      for (int i = from; i < to; i++)
+      {
+        /* the element itself is moved so a NaN keeps its own bits. */
+        final double element = source[i];
+        destination[destinationFrom + offsets[(int) (unsignedKeyOf(element) >>> shift) & DIGIT_MASK]++] = element;
+      }
+    }
+  };
+
+  static int chunkCountFor(final int length)
+  {
+    if (PARALLEL_THRESHOLD > length)
+    {
+      return 1;
+    }
+    return Math.max(1, Math.min(ForkJoinPools.sharedPool().getParallelism(), length / MIN_CHUNK_LENGTH));
+  }
+
+  private static int chunkStart(final int from, final int length, final int chunkCount, final int chunk)
+  {
+    return from + (int) ((long) length * chunk / chunkCount);
+  }
+
+  /**
+   * Sorts the range with a counting pass and a scattering pass per digit, switching between the array and a buffer,
+   * and copies the result back if it ends up in the buffer.
+   */
+  private static <A> void radixSort(final RadixKeys<A> keys, final A elements, final int from, final int to)
+  {
+    final int length = to - from;
+    final int chunkCount = chunkCountFor(length);
+    final int[][] counts = new int[chunkCount][RADIX];
+    A source = elements;
+    int sourceFrom = from;
+    A destination = keys.newArray(length);
+    int destinationFrom = 0;
+    for (int shift = 0; shift < keys.keyBits; shift += DIGIT_BITS)
+    {
+      final A passSource = source;
+      final int passSourceFrom = sourceFrom;
+      final A passDestination = destination;
+      final int passDestinationFrom = destinationFrom;
+      final int passShift = shift;
+      forEachChunk(chunkCount, new VoidIntFunction1() {
+        @Override
+        public void apply(final int chunk)
+        {
+          final int[] chunkCounts = counts[chunk];
+          Arrays.fill(chunkCounts, 0);
+          keys.count(passSource, chunkStart(passSourceFrom, length, chunkCount, chunk),
+              chunkStart(passSourceFrom, length, chunkCount, chunk + 1), passShift, chunkCounts);
+        }
+      });
+      if (!toOffsets(counts, length))
+      {
+        continue;
+      }
+      forEachChunk(chunkCount, new VoidIntFunction1() {
+        @Override
+        public void apply(final int chunk)
+        {
+          keys.scatter(passSource, chunkStart(passSourceFrom, length, chunkCount, chunk),
+              chunkStart(passSourceFrom, length, chunkCount, chunk + 1), passShift, counts[chunk], passDestination,
+              passDestinationFrom);
+        }
+      });
+      source = passDestination;
+      sourceFrom = passDestinationFrom;
+      destination = passSource;
+      destinationFrom = passSourceFrom;
+    }
+    if (source != elements)
+    {
+      System.arraycopy(source, sourceFrom, elements, from, length);
+    }
+  }
+
+  /**
+   * Turns the counts of each chunk into the position where the chunk writes its first element of each digit. The
+   * chunks of a digit are placed in order so the sort stays stable.
+   *
+   * @return false if all the elements have the same digit so the pass can be skipped.
+   */
+  private static boolean toOffsets(final int[][] counts, final int length)
+  {
+    int offset = 0;
+    for (int digit = 0; digit < RADIX; digit++)
+    {
+      final int offsetBefore = offset;
+      for (final int[] chunkCounts : counts)
+      {
+        final int count = chunkCounts[digit];
+        chunkCounts[digit] = offset;
+        offset += count;
+      }
+      if (length == offset - offsetBefore)
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void forEachChunk(final int chunkCount, final VoidIntFunction1 function)
+  {
+    if (1 == chunkCount)
+    {
+      function.apply(0);
+      return;
+    }
+    ForkJoinPools.sharedPool().invoke(new ChunkTask(0, chunkCount, function));
+  }
+
+  @SuppressWarnings("serial")
+  private static final class ChunkTask extends RecursiveAction
+  {
+    private final int from;
+    private final int to;
+    private final VoidIntFunction1 function;
+
+    ChunkTask(final int from, final int to, final VoidIntFunction1 function)
+    {
+      this.from = from;
+      this.to = to;
+      this.function = function;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (1 == to - from)
+      {
+        function.apply(from);
+        return;
+      }
+      final int middle = (from + to) >>> 1;
+      invokeAll(new ChunkTask(from, middle, function), new ChunkTask(middle, to, function));
+    }
+  }
+}
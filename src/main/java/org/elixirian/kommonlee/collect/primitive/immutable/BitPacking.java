@@ -0,0 +1,202 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import java.util.Arrays;
+
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Frame-of-reference bit-packing used by {@link CompressedImmutableIntList} and {@link CompressedImmutableLongList}.
+ * The elements are split into blocks of {@link #BLOCK_LENGTH}, and each element in a block is kept as its distance
+ * from the smallest element in the block (the reference) using only as many bits as the largest distance needs. Each
+ * block starts at a new word so it can be found and decoded on its own.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+final class BitPacking
+{
+  /**
+   * the number of the elements in each block (except the last one which may have fewer).
+   */
+  static final int BLOCK_LENGTH = 128;
+
+  /**
+   * index &gt;&gt;&gt; BLOCK_SHIFT is the block of the index.
+   */
+  static final int BLOCK_SHIFT = 7;
+
+  /**
+   * index &amp; BLOCK_MASK is the position of the index in its block.
+   */
+  static final int BLOCK_MASK = BLOCK_LENGTH - 1;
+
+  private BitPacking() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  static int blockCountFor(final int length)
+  {
+    return (length + BLOCK_MASK) >>> BLOCK_SHIFT;
+  }
+
+  /**
+   * @param maxDistance
+   *          the largest distance from the reference as an unsigned long.
+   * @return the number of the bits needed to keep the given distance (0 to 64).
+   */
+  static int bitWidthFor(final long maxDistance)
+  {
+    return Long.SIZE - Long.numberOfLeadingZeros(maxDistance);
+  }
+
+  /**
+   * @return the number of the words needed to keep the given number of the values with the given bit width.
+   */
+  static int wordsFor(final int howMany, final int bitWidth)
+  {
+    return (int) (((long) howMany * bitWidth + Long.SIZE - 1) >>> 6);
+  }
+
+  private static long maskOf(final int bitWidth)
+  {
+    return Long.SIZE == bitWidth ? -1L : (1L << bitWidth) - 1;
+  }
+
+  /**
+   * Writes the given value, which must fit in the given bit width, at the given bit position. The bits must still be
+   * all 0.
+   */
+  static void write(final long[] words, final long bitPosition, final int bitWidth, final long value)
+  {
+    final int wordIndex = (int) (bitPosition >>> 6);
+    final int shift = (int) bitPosition & (Long.SIZE - 1);
+    words[wordIndex] |= value << shift;
+    if (Long.SIZE < shift + bitWidth)
+    {
+      words[wordIndex + 1] |= value >>> (Long.SIZE - shift);
+    }
+  }
+
+  /**
+   * @return the value with the given bit width at the given bit position.
+   */
+  static long read(final long[] words, final long bitPosition, final int bitWidth)
+  {
+    if (0 == bitWidth)
+    {
+      return 0L;
+    }
+    final int wordIndex = (int) (bitPosition >>> 6);
+    final int shift = (int) bitPosition & (Long.SIZE - 1);
+    long value = words[wordIndex] >>> shift;
+    if (Long.SIZE < shift + bitWidth)
+    {
+      value |= words[wordIndex + 1] << (Long.SIZE - shift);
+    }
+    return value & maskOf(bitWidth);
+  }
+
+  /**
+   * Decodes the given number of the int values starting at the given word into the given array. It is a single loop
+   * without any method calls so that the JIT compiler can optimise it well.
+   */
+  static void unpack(final long[] words, final int wordOffset, final int bitWidth, final int reference,
+      final int[] destination, final int destinationPosition, final int howMany)
+  {
+    if (0 == bitWidth)
+    {
+      Arrays.fill(destination, destinationPosition, destinationPosition + howMany, reference);
+      return;
+    }
+    final long mask = maskOf(bitWidth);
+    long bitPosition = (long) wordOffset << 6;
+    for (int i = destinationPosition, end = destinationPosition + howMany; i < end; i++)
+    {
+      final int wordIndex = (int) (bitPosition >>> 6);
+      final int shift = (int) bitPosition & (Long.SIZE - 1);
+      long value = words[wordIndex] >>> shift;
+      if (Long.SIZE < shift + bitWidth)
+      {
+        value |= words[wordIndex + 1] << (Long.SIZE - shift);
+      }
+      destination[i] = reference + (int) (value & mask);
+      bitPosition += bitWidth;
+    }
+  }
+
+  /**
+   * Decodes the given number of the long values starting at the given word into the given array. It is a single loop
+   * without any method calls so that the JIT compiler can optimise it well.
+   */
+  static void unpack(final long[] words, final int wordOffset, final int bitWidth, final long reference,
+      final long[] destination, final int destinationPosition, final int howMany)
+  {
+    if (0 == bitWidth)
+    {
+      Arrays.fill(destination, destinationPosition, destinationPosition + howMany, reference);
+      return;
+    }
+    final long mask = maskOf(bitWidth);
+    long bitPosition = (long) wordOffset << 6;
+    for (int i = destinationPosition, end = destinationPosition + howMany; i < end; i++)
+    {
+      final int wordIndex = (int) (bitPosition >>> 6);
+      final int shift = (int) bitPosition & (Long.SIZE - 1);
+      long value = words[wordIndex] >>> shift;
+      if (Long.SIZE < shift + bitWidth)
+      {
+        value |= words[wordIndex + 1] << (Long.SIZE - shift);
+      }
+      destination[i] = reference + (value & mask);
+      bitPosition += bitWidth;
+    }
+  }
+}
@@ -0,0 +1,638 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.collect.primitive.immutable.BitPacking.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.LongList;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.LongCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.LongToLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable {@link LongList} which keeps the elements compressed with frame-of-reference bit-packing (See
+ * {@link BitPacking}). The elements are split into blocks of {@link #BLOCK_LENGTH}, and each one is kept as its
+ * distance from the smallest element in its block using only as many bits as the largest distance in the block
+ * needs. Sorted or clustered elements, such as ids, timestamps or posting lists, are close to each other in each
+ * block so they take only a few bits each instead of 64.
+ * <p>
+ * {@link #get(int)} decodes only the element at the index so it takes O(1) time. The smallest and the largest elements
+ * of each block are kept as well, and {@link #indexOf(long)}, {@link #contains(long)} and {@link #lastIndexOf(long)}
+ * skip the blocks which cannot have the element. The bulk operations, such as {@link #forEach(VoidLongFunction1)} and
+ * {@link #toArray()}, decode a whole block at a time in a tight loop.
+ * </p>
+ * <p>
+ * It is equal to any other {@link LongList} with the same elements in the same order, and its hash code is the same as
+ * the one of {@link ImmutableLongArrayList}. Methods returning a list, such as {@link #select(LongCondition1)} and
+ * {@link #subList(int, int)}, return a new {@link CompressedImmutableLongList}.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public final class CompressedImmutableLongList implements LongList, ImmutablePrimitiveCollection
+{
+  public static final int BLOCK_LENGTH = BitPacking.BLOCK_LENGTH;
+
+  private static final CompressedImmutableLongList EMPTY_COMPRESSED_IMMUTABLE_LONG_LIST =
+    new CompressedImmutableLongList(NeoArrays.EMPTY_LONG_ARRAY);
+
+  private final int length;
+
+  private final long[] words;
+
+  /**
+   * the smallest element in each block.
+   */
+  private final long[] references;
+
+  /**
+   * the largest element in each block.
+   */
+  private final long[] maxima;
+
+  private final byte[] bitWidths;
+
+  /**
+   * the index of the first word of each block in the words array.
+   */
+  private final int[] wordOffsets;
+
+  private CompressedImmutableLongList(final long[] elements)
+  {
+    final int length = elements.length;
+    final int blockCount = blockCountFor(length);
+    this.length = length;
+    this.references = new long[blockCount];
+    this.maxima = new long[blockCount];
+    this.bitWidths = new byte[blockCount];
+    this.wordOffsets = new int[blockCount];
+
+    int wordCount = 0;
+    for (int block = 0; block < blockCount; block++)
+    {
+      final int from = block << BLOCK_SHIFT;
+      final int to = Math.min(from + BLOCK_LENGTH, length);
+      long min = elements[from];
+      long max = min;
+      for (int i = from + 1; i < to; i++)
+      {
+        final long element = elements[i];
+        if (element < min)
+        {
+          min = element;
+        }
+        else if (element > max)
+        {
+          max = element;
+        }
+      }
+      final int bitWidth = bitWidthFor(max - min);
+      references[block] = min;
+      maxima[block] = max;
+      bitWidths[block] = (byte) bitWidth;
+      wordOffsets[block] = wordCount;
+      wordCount += wordsFor(to - from, bitWidth);
+    }
+
+    this.words = new long[wordCount];
+    for (int block = 0; block < blockCount; block++)
+    {
+      final int from = block << BLOCK_SHIFT;
+      final int to = Math.min(from + BLOCK_LENGTH, length);
+      final int bitWidth = bitWidths[block];
+      if (0 == bitWidth)
+      {
+        continue;
+      }
+      final long reference = references[block];
+      long bitPosition = (long) wordOffsets[block] << 6;
+      for (int i = from; i < to; i++)
+      {
+        write(words, bitPosition, bitWidth, elements[i] - reference);
+        bitPosition += bitWidth;
+      }
+    }
+  }
+
+  public static CompressedImmutableLongList emptyList()
+  {
+    return EMPTY_COMPRESSED_IMMUTABLE_LONG_LIST;
+  }
+
+  public static CompressedImmutableLongList listOf(final long... elements)
+  {
+    return copyOf(elements);
+  }
+
+  /**
+   * @param elements
+   *          the elements to compress. The given array is not kept so it can be changed afterwards.
+   * @return a new {@link CompressedImmutableLongList} with the given elements.
+   */
+  public static CompressedImmutableLongList copyOf(final long[] elements)
+  {
+    return 0 == elements.length ? EMPTY_COMPRESSED_IMMUTABLE_LONG_LIST : new CompressedImmutableLongList(elements);
+  }
+
+  public static CompressedImmutableLongList copyOf(final LongList elements)
+  {
+    if (elements instanceof CompressedImmutableLongList)
+    {
+      return (CompressedImmutableLongList) elements;
+    }
+    return copyOf(elements.toArray());
+  }
+
+  /**
+   * @return the number of the words used to keep the compressed elements.
+   */
+  int packedWordLength()
+  {
+    return words.length;
+  }
+
+  private long valueAt(final int index)
+  {
+    final int block = index >>> BLOCK_SHIFT;
+    final int bitWidth = bitWidths[block];
+    final long bitPosition = ((long) wordOffsets[block] << 6) + (long) (index & BLOCK_MASK) * bitWidth;
+    return references[block] + read(words, bitPosition, bitWidth);
+  }
+
+  private int blockLength(final int block)
+  {
+    return Math.min(BLOCK_LENGTH, length - (block << BLOCK_SHIFT));
+  }
+
+  /**
+   * Decodes the given block into the given buffer.
+   *
+   * @return the number of the elements in the block.
+   */
+  private int decode(final int block, final long[] buffer)
+  {
+    final int blockLength = blockLength(block);
+    unpack(words, wordOffsets[block], bitWidths[block], references[block], buffer, 0, blockLength);
+    return blockLength;
+  }
+
+  @Override
+  public long get(final int index)
+  {
+    checkIndex(length, index);
+    return valueAt(index);
+  }
+
+  private int indexOf0(final long element, final int fromIndex)
+  {
+    for (int block = fromIndex >>> BLOCK_SHIFT, blockCount = references.length; block < blockCount; block++)
+    {
+      final long reference = references[block];
+      if (element < reference || element > maxima[block])
+      {
+        continue;
+      }
+      final int bitWidth = bitWidths[block];
+      final int blockStart = block << BLOCK_SHIFT;
+      final int from = Math.max(fromIndex, blockStart);
+      if (0 == bitWidth)
+      {
+        return from;
+      }
+      final long distance = element - reference;
+      final long blockBitPosition = (long) wordOffsets[block] << 6;
+      for (int i = from, end = blockStart + blockLength(block); i < end; i++)
+      {
+        if (distance == read(words, blockBitPosition + (long) (i - blockStart) * bitWidth, bitWidth))
+        {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final long element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    return indexOf0(element, fromIndex);
+  }
+
+  @Override
+  public int indexOf(final long element)
+  {
+    return indexOf0(element, 0);
+  }
+
+  private int lastIndexOf0(final long element, final int toIndex)
+  {
+    for (int block = (toIndex - 1) >>> BLOCK_SHIFT; block >= 0; block--)
+    {
+      final long reference = references[block];
+      if (element < reference || element > maxima[block])
+      {
+        continue;
+      }
+      final int bitWidth = bitWidths[block];
+      final int blockStart = block << BLOCK_SHIFT;
+      final int last = Math.min(toIndex, blockStart + blockLength(block)) - 1;
+      if (0 == bitWidth)
+      {
+        return last;
+      }
+      final long distance = element - reference;
+      final long blockBitPosition = (long) wordOffsets[block] << 6;
+      for (int i = last; i >= blockStart; i--)
+      {
+        if (distance == read(words, blockBitPosition + (long) (i - blockStart) * bitWidth, bitWidth))
+        {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final long element, final int toIndex)
+  {
+    checkIndex(length, toIndex - 1);
+    return lastIndexOf0(element, toIndex);
+  }
+
+  @Override
+  public int lastIndexOf(final long element)
+  {
+    return 0 == length ? -1 : lastIndexOf0(element, length);
+  }
+
+  @Override
+  public boolean exists(final LongCondition1 seeker)
+  {
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      for (int i = 0, blockLength = decode(block, buffer); i < blockLength; i++)
+      {
+        if (seeker.isMet(buffer[i]))
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final long element)
+  {
+    return 0 <= indexOf0(element, 0);
+  }
+
+  @Override
+  public boolean containsAll(final long[] elements)
+  {
+    for (final long element : elements)
+    {
+      if (!contains(element))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final LongList elements)
+  {
+    return containsAll(elements.toArray());
+  }
+
+  @Override
+  public CompressedImmutableLongList select(final LongCondition1 condition)
+  {
+    final long[] selected = new long[length];
+    int howMany = 0;
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      for (int i = 0, blockLength = decode(block, buffer); i < blockLength; i++)
+      {
+        final long element = buffer[i];
+        if (condition.isMet(element))
+        {
+          selected[howMany++] = element;
+        }
+      }
+    }
+    return howMany == length ? this : copyOf(Arrays.copyOf(selected, howMany));
+  }
+
+  @Override
+  public CompressedImmutableLongList mapToLong(final LongToLongFunction1 function)
+  {
+    final long[] mapped = toArray();
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(mapped[i]);
+    }
+    return copyOf(mapped);
+  }
+
+  @Override
+  public CompressedImmutableLongList mapToLongSelectively(final LongCondition1 condition,
+      final LongToLongFunction1 function)
+  {
+    final long[] mapped = toArray();
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final long element = mapped[i];
+      if (condition.isMet(element))
+      {
+        mapped[howMany++] = function.apply(element);
+      }
+    }
+    return copyOf(howMany == length ? mapped : Arrays.copyOf(mapped, howMany));
+  }
+
+  /**
+   * Decodes a block at a time into a buffer and applies the given function to the elements in the buffer.
+   */
+  @Override
+  public void forEach(final VoidLongFunction1 function)
+  {
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      for (int i = 0, blockLength = decode(block, buffer); i < blockLength; i++)
+      {
+        function.apply(buffer[i]);
+      }
+    }
+  }
+
+  /**
+   * It always throws {@link UnsupportedOperationException} as the elements cannot be replaced. Use
+   * {@link #mapToLong(LongToLongFunction1)} instead.
+   *
+   * @exception UnsupportedOperationException
+   *              always
+   */
+  @Override
+  public void forEach(final LongToLongFunction1 function)
+  {
+    throw new UnsupportedOperationException(
+        "The elements in CompressedImmutableLongList cannot be replaced. Use mapToLong(LongToLongFunction1) instead.");
+  }
+
+  @Override
+  public void breakableForEach(final BreakableLongFunction1 function)
+  {
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      for (int i = 0, blockLength = decode(block, buffer); i < blockLength; i++)
+      {
+        if (BreakOrContinue.BREAK == function.apply(buffer[i]))
+        {
+          return;
+        }
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final LongCondition1 conditionToMeet)
+  {
+    int count = 0;
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      for (int i = 0, blockLength = decode(block, buffer); i < blockLength; i++)
+      {
+        if (conditionToMeet.isMet(buffer[i]))
+        {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public CompressedImmutableLongList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    if (0 == fromIndex && length == toIndex)
+    {
+      return this;
+    }
+    return copyOf(toArray(fromIndex, toIndex));
+  }
+
+  /**
+   * Decodes only the blocks in the given range.
+   */
+  private long[] toArray(final int fromIndex, final int toIndex)
+  {
+    final long[] elements = new long[toIndex - fromIndex];
+    if (fromIndex == toIndex)
+    {
+      return elements;
+    }
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = fromIndex >>> BLOCK_SHIFT, lastBlock = (toIndex - 1) >>> BLOCK_SHIFT; block <= lastBlock; block++)
+    {
+      final int blockStart = block << BLOCK_SHIFT;
+      final int from = Math.max(fromIndex, blockStart);
+      final int to = Math.min(toIndex, blockStart + decode(block, buffer));
+      System.arraycopy(buffer, from - blockStart, elements, from - fromIndex, to - from);
+    }
+    return elements;
+  }
+
+  @Override
+  public long[] toArray()
+  {
+    final long[] elements = new long[length];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      unpack(words, wordOffsets[block], bitWidths[block], references[block], elements, block << BLOCK_SHIFT,
+          blockLength(block));
+    }
+    return elements;
+  }
+
+  @Override
+  public McHammerIterator<Long> iterator()
+  {
+    return new McHammerIterator<Long>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < length;
+      }
+
+      @Override
+      public Long next()
+      {
+        if (current >= length)
+        {
+          throw new NoSuchElementException();
+        }
+        return Long.valueOf(valueAt(current++));
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Long[] toBoxedArray()
+  {
+    final long[] elements = toArray();
+    final Long[] boxedElements = new Long[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Long.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Long> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  /**
+   * @return the same hash code as {@link ImmutableLongArrayList} with the same elements has.
+   */
+  @Override
+  public int hashCode()
+  {
+    int result = 1;
+    final long[] buffer = new long[BLOCK_LENGTH];
+    for (int block = 0, blockCount = references.length; block < blockCount; block++)
+    {
+      for (int i = 0, blockLength = decode(block, buffer); i < blockLength; i++)
+      {
+        final long element = buffer[i];
+        result = 31 * result + (int) (element ^ (element >>> 32));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object compressedImmutableLongList)
+  {
+    if (this == compressedImmutableLongList)
+    {
+      return true;
+    }
+    final LongList that = castIfInstanceOf(LongList.class, compressedImmutableLongList);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (valueAt(i) != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(toArray());
+  }
+}
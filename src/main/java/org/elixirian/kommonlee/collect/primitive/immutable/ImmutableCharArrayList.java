@@ -0,0 +1,450 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.CharList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableCharFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.CharCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.CharToCharFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidCharFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable {@link CharList} backed by a char array which is never exposed. Methods returning a list, such as
+ * {@link #select(CharCondition1)} and {@link #subList(int, int)}, return a new {@link ImmutableCharArrayList}.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public final class ImmutableCharArrayList implements CharList, ImmutablePrimitiveCollection
+{
+  private static final ImmutableCharArrayList EMPTY_IMMUTABLE_CHAR_ARRAY_LIST = new ImmutableCharArrayList(
+      NeoArrays.EMPTY_CHAR_ARRAY);
+
+  private final char[] elements;
+
+  private ImmutableCharArrayList(final char[] elements)
+  {
+    this.elements = elements;
+  }
+
+  public static ImmutableCharArrayList emptyList()
+  {
+    return EMPTY_IMMUTABLE_CHAR_ARRAY_LIST;
+  }
+
+  public static ImmutableCharArrayList listOf(final char... elements)
+  {
+    return copyOf(elements);
+  }
+
+  public static ImmutableCharArrayList copyOf(final char[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_CHAR_ARRAY_LIST : new ImmutableCharArrayList(Arrays.copyOf(elements,
+        elements.length));
+  }
+
+  public static ImmutableCharArrayList copyOf(final CharList elements)
+  {
+    if (elements instanceof ImmutableCharArrayList)
+    {
+      return (ImmutableCharArrayList) elements;
+    }
+    return of(elements.toArray());
+  }
+
+  /**
+   * @return a new {@link ImmutableCharArrayList} with the given elements sorted in ascending order. The array from
+   *         {@link CharList#toArray()} is sorted in place and taken as it is so the elements are copied only once.
+   */
+  public static ImmutableCharArrayList sortedCopyOf(final CharList elements)
+  {
+    final char[] sorted = elements.toArray();
+    PrimitiveSorts.sort(sorted, 0, sorted.length);
+    return of(sorted);
+  }
+
+  /**
+   * Takes the given array without copying it so it must not be used by anyone else afterwards.
+   */
+  static ImmutableCharArrayList of(final char[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_CHAR_ARRAY_LIST : new ImmutableCharArrayList(elements);
+  }
+
+  @Override
+  public char get(final int index)
+  {
+    checkIndex(elements.length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final char element, final int fromIndex)
+  {
+    final int length = elements.length;
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (element == elements[i])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final char element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final char element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(elements.length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (element == elements[i])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final char element)
+  {
+    return lastIndexOf(element, elements.length);
+  }
+
+  @Override
+  public boolean exists(final CharCondition1 seeker)
+  {
+    for (final char b : elements)
+    {
+      if (seeker.isMet(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final char element)
+  {
+    for (final char b : elements)
+    {
+      if (element == b)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final char[] elements)
+  {
+    for (final char b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final CharList elements)
+  {
+    for (final char b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ImmutableCharArrayList select(final CharCondition1 condition)
+  {
+    final int length = elements.length;
+    final char[] selected = new char[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final char b = elements[i];
+      if (condition.isMet(b))
+      {
+        selected[howMany++] = b;
+      }
+    }
+    return howMany == length ? this : of(Arrays.copyOf(selected, howMany));
+  }
+
+  @Override
+  public ImmutableCharArrayList mapToChar(final CharToCharFunction1 function)
+  {
+    final int length = elements.length;
+    final char[] mapped = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(elements[i]);
+    }
+    return of(mapped);
+  }
+
+  @Override
+  public ImmutableCharArrayList mapToCharSelectively(final CharCondition1 condition,
+      final CharToCharFunction1 function)
+  {
+    final int length = elements.length;
+    final char[] mapped = new char[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final char b = elements[i];
+      if (condition.isMet(b))
+      {
+        mapped[howMany++] = function.apply(b);
+      }
+    }
+    return of(howMany == length ? mapped : Arrays.copyOf(mapped, howMany));
+  }
+
+  @Override
+  public void forEach(final VoidCharFunction1 function)
+  {
+    for (final char b : elements)
+    {
+      function.apply(b);
+    }
+  }
+
+  /**
+   * It always throws {@link UnsupportedOperationException} as the elements cannot be replaced. Use
+   * {@link #mapToChar(CharToCharFunction1)} instead.
+   *
+   * @exception UnsupportedOperationException
+   *              always
+   */
+  @Override
+  public void forEach(final CharToCharFunction1 function)
+  {
+    throw new UnsupportedOperationException(
+        "The elements in ImmutableCharArrayList cannot be replaced. Use mapToChar(CharToCharFunction1) instead.");
+  }
+
+  @Override
+  public void breakableForEach(final BreakableCharFunction1 function)
+  {
+    for (final char b : elements)
+    {
+      if (BreakOrContinue.BREAK == function.apply(b))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final CharCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (final char b : elements)
+    {
+      if (conditionToMeet.isMet(b))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public ImmutableCharArrayList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(elements.length, fromIndex, toIndex);
+    if (0 == fromIndex && elements.length == toIndex)
+    {
+      return this;
+    }
+    return of(Arrays.copyOfRange(elements, fromIndex, toIndex));
+  }
+
+  @Override
+  public char[] toArray()
+  {
+    return Arrays.copyOf(elements, elements.length);
+  }
+
+  @Override
+  public McHammerIterator<Character> iterator()
+  {
+    return new McHammerIterator<Character>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < elements.length;
+      }
+
+      @Override
+      public Character next()
+      {
+        if (current >= elements.length)
+        {
+          throw new NoSuchElementException();
+        }
+        return Character.valueOf(elements[current++]);
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == elements.length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Character[] toBoxedArray()
+  {
+    final int length = elements.length;
+    final Character[] boxedElements = new Character[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Character.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Character> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean equals(final Object immutableCharArrayList)
+  {
+    if (this == immutableCharArrayList)
+    {
+      return true;
+    }
+    final CharList that = castIfInstanceOf(CharList.class, immutableCharArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int length = elements.length;
+    if (length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (elements[i] != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(elements);
+  }
+}
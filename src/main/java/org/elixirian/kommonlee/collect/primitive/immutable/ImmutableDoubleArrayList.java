@@ -0,0 +1,450 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.DoubleList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableDoubleFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleToDoubleFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidDoubleFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable {@link DoubleList} backed by a double array which is never exposed. Methods returning a list, such as
+ * {@link #select(DoubleCondition1)} and {@link #subList(int, int)}, return a new {@link ImmutableDoubleArrayList}.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public final class ImmutableDoubleArrayList implements DoubleList, ImmutablePrimitiveCollection
+{
+  private static final ImmutableDoubleArrayList EMPTY_IMMUTABLE_DOUBLE_ARRAY_LIST = new ImmutableDoubleArrayList(
+      NeoArrays.EMPTY_DOUBLE_ARRAY);
+
+  private final double[] elements;
+
+  private ImmutableDoubleArrayList(final double[] elements)
+  {
+    this.elements = elements;
+  }
+
+  public static ImmutableDoubleArrayList emptyList()
+  {
+    return EMPTY_IMMUTABLE_DOUBLE_ARRAY_LIST;
+  }
+
+  public static ImmutableDoubleArrayList listOf(final double... elements)
+  {
+    return copyOf(elements);
+  }
+
+  public static ImmutableDoubleArrayList copyOf(final double[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_DOUBLE_ARRAY_LIST : new ImmutableDoubleArrayList(Arrays.copyOf(elements,
+        elements.length));
+  }
+
+  public static ImmutableDoubleArrayList copyOf(final DoubleList elements)
+  {
+    if (elements instanceof ImmutableDoubleArrayList)
+    {
+      return (ImmutableDoubleArrayList) elements;
+    }
+    return of(elements.toArray());
+  }
+
+  /**
+   * @return a new {@link ImmutableDoubleArrayList} with the given elements sorted in ascending order. The array from
+   *         {@link DoubleList#toArray()} is sorted in place and taken as it is so the elements are copied only once.
+   */
+  public static ImmutableDoubleArrayList sortedCopyOf(final DoubleList elements)
+  {
+    final double[] sorted = elements.toArray();
+    PrimitiveSorts.sort(sorted, 0, sorted.length);
+    return of(sorted);
+  }
+
+  /**
+   * Takes the given array without copying it so it must not be used by anyone else afterwards.
+   */
+  static ImmutableDoubleArrayList of(final double[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_DOUBLE_ARRAY_LIST : new ImmutableDoubleArrayList(elements);
+  }
+
+  @Override
+  public double get(final int index)
+  {
+    checkIndex(elements.length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final double element, final int fromIndex)
+  {
+    final int length = elements.length;
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (Double.doubleToLongBits(element) == Double.doubleToLongBits(elements[i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final double element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final double element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(elements.length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (Double.doubleToLongBits(element) == Double.doubleToLongBits(elements[i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final double element)
+  {
+    return lastIndexOf(element, elements.length);
+  }
+
+  @Override
+  public boolean exists(final DoubleCondition1 seeker)
+  {
+    for (final double b : elements)
+    {
+      if (seeker.isMet(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final double element)
+  {
+    for (final double b : elements)
+    {
+      if (Double.doubleToLongBits(element) == Double.doubleToLongBits(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final double[] elements)
+  {
+    for (final double b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final DoubleList elements)
+  {
+    for (final double b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ImmutableDoubleArrayList select(final DoubleCondition1 condition)
+  {
+    final int length = elements.length;
+    final double[] selected = new double[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final double b = elements[i];
+      if (condition.isMet(b))
+      {
+        selected[howMany++] = b;
+      }
+    }
+    return howMany == length ? this : of(Arrays.copyOf(selected, howMany));
+  }
+
+  @Override
+  public ImmutableDoubleArrayList mapToDouble(final DoubleToDoubleFunction1 function)
+  {
+    final int length = elements.length;
+    final double[] mapped = new double[length];
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(elements[i]);
+    }
+    return of(mapped);
+  }
+
+  @Override
+  public ImmutableDoubleArrayList mapToDoubleSelectively(final DoubleCondition1 condition,
+      final DoubleToDoubleFunction1 function)
+  {
+    final int length = elements.length;
+    final double[] mapped = new double[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final double b = elements[i];
+      if (condition.isMet(b))
+      {
+        mapped[howMany++] = function.apply(b);
+      }
+    }
+    return of(howMany == length ? mapped : Arrays.copyOf(mapped, howMany));
+  }
+
+  @Override
+  public void forEach(final VoidDoubleFunction1 function)
+  {
+    for (final double b : elements)
+    {
+      function.apply(b);
+    }
+  }
+
+  /**
+   * It always throws {@link UnsupportedOperationException} as the elements cannot be replaced. Use
+   * {@link #mapToDouble(DoubleToDoubleFunction1)} instead.
+   *
+   * @exception UnsupportedOperationException
+   *              always
+   */
+  @Override
+  public void forEach(final DoubleToDoubleFunction1 function)
+  {
+    throw new UnsupportedOperationException(
+        "The elements in ImmutableDoubleArrayList cannot be replaced. Use mapToDouble(DoubleToDoubleFunction1) instead.");
+  }
+
+  @Override
+  public void breakableForEach(final BreakableDoubleFunction1 function)
+  {
+    for (final double b : elements)
+    {
+      if (BreakOrContinue.BREAK == function.apply(b))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final DoubleCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (final double b : elements)
+    {
+      if (conditionToMeet.isMet(b))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public ImmutableDoubleArrayList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(elements.length, fromIndex, toIndex);
+    if (0 == fromIndex && elements.length == toIndex)
+    {
+      return this;
+    }
+    return of(Arrays.copyOfRange(elements, fromIndex, toIndex));
+  }
+
+  @Override
+  public double[] toArray()
+  {
+    return Arrays.copyOf(elements, elements.length);
+  }
+
+  @Override
+  public McHammerIterator<Double> iterator()
+  {
+    return new McHammerIterator<Double>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < elements.length;
+      }
+
+      @Override
+      public Double next()
+      {
+        if (current >= elements.length)
+        {
+          throw new NoSuchElementException();
+        }
+        return Double.valueOf(elements[current++]);
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == elements.length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Double[] toBoxedArray()
+  {
+    final int length = elements.length;
+    final Double[] boxedElements = new Double[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Double.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Double> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean equals(final Object immutableDoubleArrayList)
+  {
+    if (this == immutableDoubleArrayList)
+    {
+      return true;
+    }
+    final DoubleList that = castIfInstanceOf(DoubleList.class, immutableDoubleArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int length = elements.length;
+    if (length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(that.get(i)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(elements);
+  }
+}
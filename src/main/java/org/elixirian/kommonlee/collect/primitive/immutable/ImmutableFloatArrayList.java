@@ -0,0 +1,450 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.FloatList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatToFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidFloatFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable {@link FloatList} backed by a float array which is never exposed. Methods returning a list, such as
+ * {@link #select(FloatCondition1)} and {@link #subList(int, int)}, return a new {@link ImmutableFloatArrayList}.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public final class ImmutableFloatArrayList implements FloatList, ImmutablePrimitiveCollection
+{
+  private static final ImmutableFloatArrayList EMPTY_IMMUTABLE_FLOAT_ARRAY_LIST = new ImmutableFloatArrayList(
+      NeoArrays.EMPTY_FLOAT_ARRAY);
+
+  private final float[] elements;
+
+  private ImmutableFloatArrayList(final float[] elements)
+  {
+    this.elements = elements;
+  }
+
+  public static ImmutableFloatArrayList emptyList()
+  {
+    return EMPTY_IMMUTABLE_FLOAT_ARRAY_LIST;
+  }
+
+  public static ImmutableFloatArrayList listOf(final float... elements)
+  {
+    return copyOf(elements);
+  }
+
+  public static ImmutableFloatArrayList copyOf(final float[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_FLOAT_ARRAY_LIST : new ImmutableFloatArrayList(Arrays.copyOf(elements,
+        elements.length));
+  }
+
+  public static ImmutableFloatArrayList copyOf(final FloatList elements)
+  {
+    if (elements instanceof ImmutableFloatArrayList)
+    {
+      return (ImmutableFloatArrayList) elements;
+    }
+    return of(elements.toArray());
+  }
+
+  /**
+   * @return a new {@link ImmutableFloatArrayList} with the given elements sorted in ascending order. The array from
+   *         {@link FloatList#toArray()} is sorted in place and taken as it is so the elements are copied only once.
+   */
+  public static ImmutableFloatArrayList sortedCopyOf(final FloatList elements)
+  {
+    final float[] sorted = elements.toArray();
+    PrimitiveSorts.sort(sorted, 0, sorted.length);
+    return of(sorted);
+  }
+
+  /**
+   * Takes the given array without copying it so it must not be used by anyone else afterwards.
+   */
+  static ImmutableFloatArrayList of(final float[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_FLOAT_ARRAY_LIST : new ImmutableFloatArrayList(elements);
+  }
+
+  @Override
+  public float get(final int index)
+  {
+    checkIndex(elements.length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final float element, final int fromIndex)
+  {
+    final int length = elements.length;
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(elements[i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final float element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final float element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(elements.length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(elements[i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final float element)
+  {
+    return lastIndexOf(element, elements.length);
+  }
+
+  @Override
+  public boolean exists(final FloatCondition1 seeker)
+  {
+    for (final float b : elements)
+    {
+      if (seeker.isMet(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final float element)
+  {
+    for (final float b : elements)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final float[] elements)
+  {
+    for (final float b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final FloatList elements)
+  {
+    for (final float b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ImmutableFloatArrayList select(final FloatCondition1 condition)
+  {
+    final int length = elements.length;
+    final float[] selected = new float[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final float b = elements[i];
+      if (condition.isMet(b))
+      {
+        selected[howMany++] = b;
+      }
+    }
+    return howMany == length ? this : of(Arrays.copyOf(selected, howMany));
+  }
+
+  @Override
+  public ImmutableFloatArrayList mapToFloat(final FloatToFloatFunction1 function)
+  {
+    final int length = elements.length;
+    final float[] mapped = new float[length];
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(elements[i]);
+    }
+    return of(mapped);
+  }
+
+  @Override
+  public ImmutableFloatArrayList mapToFloatSelectively(final FloatCondition1 condition,
+      final FloatToFloatFunction1 function)
+  {
+    final int length = elements.length;
+    final float[] mapped = new float[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final float b = elements[i];
+      if (condition.isMet(b))
+      {
+        mapped[howMany++] = function.apply(b);
+      }
+    }
+    return of(howMany == length ? mapped : Arrays.copyOf(mapped, howMany));
+  }
+
+  @Override
+  public void forEach(final VoidFloatFunction1 function)
+  {
+    for (final float b : elements)
+    {
+      function.apply(b);
+    }
+  }
+
+  /**
+   * It always throws {@link UnsupportedOperationException} as the elements cannot be replaced. Use
+   * {@link #mapToFloat(FloatToFloatFunction1)} instead.
+   *
+   * @exception UnsupportedOperationException
+   *              always
+   */
+  @Override
+  public void forEach(final FloatToFloatFunction1 function)
+  {
+    throw new UnsupportedOperationException(
+        "The elements in ImmutableFloatArrayList cannot be replaced. Use mapToFloat(FloatToFloatFunction1) instead.");
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFloatFunction1 function)
+  {
+    for (final float b : elements)
+    {
+      if (BreakOrContinue.BREAK == function.apply(b))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final FloatCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (final float b : elements)
+    {
+      if (conditionToMeet.isMet(b))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public ImmutableFloatArrayList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(elements.length, fromIndex, toIndex);
+    if (0 == fromIndex && elements.length == toIndex)
+    {
+      return this;
+    }
+    return of(Arrays.copyOfRange(elements, fromIndex, toIndex));
+  }
+
+  @Override
+  public float[] toArray()
+  {
+    return Arrays.copyOf(elements, elements.length);
+  }
+
+  @Override
+  public McHammerIterator<Float> iterator()
+  {
+    return new McHammerIterator<Float>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < elements.length;
+      }
+
+      @Override
+      public Float next()
+      {
+        if (current >= elements.length)
+        {
+          throw new NoSuchElementException();
+        }
+        return Float.valueOf(elements[current++]);
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == elements.length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Float[] toBoxedArray()
+  {
+    final int length = elements.length;
+    final Float[] boxedElements = new Float[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Float.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Float> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean equals(final Object immutableFloatArrayList)
+  {
+    if (this == immutableFloatArrayList)
+    {
+      return true;
+    }
+    final FloatList that = castIfInstanceOf(FloatList.class, immutableFloatArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int length = elements.length;
+    if (length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (Float.floatToIntBits(elements[i]) != Float.floatToIntBits(that.get(i)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(elements);
+  }
+}
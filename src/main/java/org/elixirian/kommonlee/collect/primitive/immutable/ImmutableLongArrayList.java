@@ -0,0 +1,450 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.LongList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.LongCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.LongToLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable {@link LongList} backed by a long array which is never exposed. Methods returning a list, such as
+ * {@link #select(LongCondition1)} and {@link #subList(int, int)}, return a new {@link ImmutableLongArrayList}.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public final class ImmutableLongArrayList implements LongList, ImmutablePrimitiveCollection
+{
+  private static final ImmutableLongArrayList EMPTY_IMMUTABLE_LONG_ARRAY_LIST = new ImmutableLongArrayList(
+      NeoArrays.EMPTY_LONG_ARRAY);
+
+  private final long[] elements;
+
+  private ImmutableLongArrayList(final long[] elements)
+  {
+    this.elements = elements;
+  }
+
+  public static ImmutableLongArrayList emptyList()
+  {
+    return EMPTY_IMMUTABLE_LONG_ARRAY_LIST;
+  }
+
+  public static ImmutableLongArrayList listOf(final long... elements)
+  {
+    return copyOf(elements);
+  }
+
+  public static ImmutableLongArrayList copyOf(final long[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_LONG_ARRAY_LIST : new ImmutableLongArrayList(Arrays.copyOf(elements,
+        elements.length));
+  }
+
+  public static ImmutableLongArrayList copyOf(final LongList elements)
+  {
+    if (elements instanceof ImmutableLongArrayList)
+    {
+      return (ImmutableLongArrayList) elements;
+    }
+    return of(elements.toArray());
+  }
+
+  /**
+   * @return a new {@link ImmutableLongArrayList} with the given elements sorted in ascending order. The array from
+   *         {@link LongList#toArray()} is sorted in place and taken as it is so the elements are copied only once.
+   */
+  public static ImmutableLongArrayList sortedCopyOf(final LongList elements)
+  {
+    final long[] sorted = elements.toArray();
+    PrimitiveSorts.sort(sorted, 0, sorted.length);
+    return of(sorted);
+  }
+
+  /**
+   * Takes the given array without copying it so it must not be used by anyone else afterwards.
+   */
+  static ImmutableLongArrayList of(final long[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_LONG_ARRAY_LIST : new ImmutableLongArrayList(elements);
+  }
+
+  @Override
+  public long get(final int index)
+  {
+    checkIndex(elements.length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final long element, final int fromIndex)
+  {
+    final int length = elements.length;
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (element == elements[i])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final long element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final long element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(elements.length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (element == elements[i])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final long element)
+  {
+    return lastIndexOf(element, elements.length);
+  }
+
+  @Override
+  public boolean exists(final LongCondition1 seeker)
+  {
+    for (final long b : elements)
+    {
+      if (seeker.isMet(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final long element)
+  {
+    for (final long b : elements)
+    {
+      if (element == b)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final long[] elements)
+  {
+    for (final long b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final LongList elements)
+  {
+    for (final long b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ImmutableLongArrayList select(final LongCondition1 condition)
+  {
+    final int length = elements.length;
+    final long[] selected = new long[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final long b = elements[i];
+      if (condition.isMet(b))
+      {
+        selected[howMany++] = b;
+      }
+    }
+    return howMany == length ? this : of(Arrays.copyOf(selected, howMany));
+  }
+
+  @Override
+  public ImmutableLongArrayList mapToLong(final LongToLongFunction1 function)
+  {
+    final int length = elements.length;
+    final long[] mapped = new long[length];
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(elements[i]);
+    }
+    return of(mapped);
+  }
+
+  @Override
+  public ImmutableLongArrayList mapToLongSelectively(final LongCondition1 condition,
+      final LongToLongFunction1 function)
+  {
+    final int length = elements.length;
+    final long[] mapped = new long[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final long b = elements[i];
+      if (condition.isMet(b))
+      {
+        mapped[howMany++] = function.apply(b);
+      }
+    }
+    return of(howMany == length ? mapped : Arrays.copyOf(mapped, howMany));
+  }
+
+  @Override
+  public void forEach(final VoidLongFunction1 function)
+  {
+    for (final long b : elements)
+    {
+      function.apply(b);
+    }
+  }
+
+  /**
+   * It always throws {@link UnsupportedOperationException} as the elements cannot be replaced. Use
+   * {@link #mapToLong(LongToLongFunction1)} instead.
+   *
+   * @exception UnsupportedOperationException
+   *              always
+   */
+  @Override
+  public void forEach(final LongToLongFunction1 function)
+  {
+    throw new UnsupportedOperationException(
+        "The elements in ImmutableLongArrayList cannot be replaced. Use mapToLong(LongToLongFunction1) instead.");
+  }
+
+  @Override
+  public void breakableForEach(final BreakableLongFunction1 function)
+  {
+    for (final long b : elements)
+    {
+      if (BreakOrContinue.BREAK == function.apply(b))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final LongCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (final long b : elements)
+    {
+      if (conditionToMeet.isMet(b))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public ImmutableLongArrayList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(elements.length, fromIndex, toIndex);
+    if (0 == fromIndex && elements.length == toIndex)
+    {
+      return this;
+    }
+    return of(Arrays.copyOfRange(elements, fromIndex, toIndex));
+  }
+
+  @Override
+  public long[] toArray()
+  {
+    return Arrays.copyOf(elements, elements.length);
+  }
+
+  @Override
+  public McHammerIterator<Long> iterator()
+  {
+    return new McHammerIterator<Long>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < elements.length;
+      }
+
+      @Override
+      public Long next()
+      {
+        if (current >= elements.length)
+        {
+          throw new NoSuchElementException();
+        }
+        return Long.valueOf(elements[current++]);
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == elements.length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Long[] toBoxedArray()
+  {
+    final int length = elements.length;
+    final Long[] boxedElements = new Long[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Long.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Long> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean equals(final Object immutableLongArrayList)
+  {
+    if (this == immutableLongArrayList)
+    {
+      return true;
+    }
+    final LongList that = castIfInstanceOf(LongList.class, immutableLongArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int length = elements.length;
+    if (length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (elements[i] != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(elements);
+  }
+}
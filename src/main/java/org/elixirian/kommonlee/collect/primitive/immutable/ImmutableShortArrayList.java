@@ -0,0 +1,450 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.ShortList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableShortFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.ShortCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.ShortToShortFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidShortFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Immutable {@link ShortList} backed by a short array which is never exposed. Methods returning a list, such as
+ * {@link #select(ShortCondition1)} and {@link #subList(int, int)}, return a new {@link ImmutableShortArrayList}.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public final class ImmutableShortArrayList implements ShortList, ImmutablePrimitiveCollection
+{
+  private static final ImmutableShortArrayList EMPTY_IMMUTABLE_SHORT_ARRAY_LIST = new ImmutableShortArrayList(
+      NeoArrays.EMPTY_SHORT_ARRAY);
+
+  private final short[] elements;
+
+  private ImmutableShortArrayList(final short[] elements)
+  {
+    this.elements = elements;
+  }
+
+  public static ImmutableShortArrayList emptyList()
+  {
+    return EMPTY_IMMUTABLE_SHORT_ARRAY_LIST;
+  }
+
+  public static ImmutableShortArrayList listOf(final short... elements)
+  {
+    return copyOf(elements);
+  }
+
+  public static ImmutableShortArrayList copyOf(final short[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_SHORT_ARRAY_LIST : new ImmutableShortArrayList(Arrays.copyOf(elements,
+        elements.length));
+  }
+
+  public static ImmutableShortArrayList copyOf(final ShortList elements)
+  {
+    if (elements instanceof ImmutableShortArrayList)
+    {
+      return (ImmutableShortArrayList) elements;
+    }
+    return of(elements.toArray());
+  }
+
+  /**
+   * @return a new {@link ImmutableShortArrayList} with the given elements sorted in ascending order. The array from
+   *         {@link ShortList#toArray()} is sorted in place and taken as it is so the elements are copied only once.
+   */
+  public static ImmutableShortArrayList sortedCopyOf(final ShortList elements)
+  {
+    final short[] sorted = elements.toArray();
+    PrimitiveSorts.sort(sorted, 0, sorted.length);
+    return of(sorted);
+  }
+
+  /**
+   * Takes the given array without copying it so it must not be used by anyone else afterwards.
+   */
+  static ImmutableShortArrayList of(final short[] elements)
+  {
+    return 0 == elements.length ? EMPTY_IMMUTABLE_SHORT_ARRAY_LIST : new ImmutableShortArrayList(elements);
+  }
+
+  @Override
+  public short get(final int index)
+  {
+    checkIndex(elements.length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final short element, final int fromIndex)
+  {
+    final int length = elements.length;
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (element == elements[i])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final short element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final short element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(elements.length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (element == elements[i])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final short element)
+  {
+    return lastIndexOf(element, elements.length);
+  }
+
+  @Override
+  public boolean exists(final ShortCondition1 seeker)
+  {
+    for (final short b : elements)
+    {
+      if (seeker.isMet(b))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final short element)
+  {
+    for (final short b : elements)
+    {
+      if (element == b)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final short[] elements)
+  {
+    for (final short b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final ShortList elements)
+  {
+    for (final short b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ImmutableShortArrayList select(final ShortCondition1 condition)
+  {
+    final int length = elements.length;
+    final short[] selected = new short[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final short b = elements[i];
+      if (condition.isMet(b))
+      {
+        selected[howMany++] = b;
+      }
+    }
+    return howMany == length ? this : of(Arrays.copyOf(selected, howMany));
+  }
+
+  @Override
+  public ImmutableShortArrayList mapToShort(final ShortToShortFunction1 function)
+  {
+    final int length = elements.length;
+    final short[] mapped = new short[length];
+    for (int i = 0; i < length; i++)
+    {
+      mapped[i] = function.apply(elements[i]);
+    }
+    return of(mapped);
+  }
+
+  @Override
+  public ImmutableShortArrayList mapToShortSelectively(final ShortCondition1 condition,
+      final ShortToShortFunction1 function)
+  {
+    final int length = elements.length;
+    final short[] mapped = new short[length];
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final short b = elements[i];
+      if (condition.isMet(b))
+      {
+        mapped[howMany++] = function.apply(b);
+      }
+    }
+    return of(howMany == length ? mapped : Arrays.copyOf(mapped, howMany));
+  }
+
+  @Override
+  public void forEach(final VoidShortFunction1 function)
+  {
+    for (final short b : elements)
+    {
+      function.apply(b);
+    }
+  }
+
+  /**
+   * It always throws {@link UnsupportedOperationException} as the elements cannot be replaced. Use
+   * {@link #mapToShort(ShortToShortFunction1)} instead.
+   *
+   * @exception UnsupportedOperationException
+   *              always
+   */
+  @Override
+  public void forEach(final ShortToShortFunction1 function)
+  {
+    throw new UnsupportedOperationException(
+        "The elements in ImmutableShortArrayList cannot be replaced. Use mapToShort(ShortToShortFunction1) instead.");
+  }
+
+  @Override
+  public void breakableForEach(final BreakableShortFunction1 function)
+  {
+    for (final short b : elements)
+    {
+      if (BreakOrContinue.BREAK == function.apply(b))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final ShortCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (final short b : elements)
+    {
+      if (conditionToMeet.isMet(b))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public ImmutableShortArrayList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(elements.length, fromIndex, toIndex);
+    if (0 == fromIndex && elements.length == toIndex)
+    {
+      return this;
+    }
+    return of(Arrays.copyOfRange(elements, fromIndex, toIndex));
+  }
+
+  @Override
+  public short[] toArray()
+  {
+    return Arrays.copyOf(elements, elements.length);
+  }
+
+  @Override
+  public McHammerIterator<Short> iterator()
+  {
+    return new McHammerIterator<Short>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < elements.length;
+      }
+
+      @Override
+      public Short next()
+      {
+        if (current >= elements.length)
+        {
+          throw new NoSuchElementException();
+        }
+        return Short.valueOf(elements[current++]);
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == elements.length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Short[] toBoxedArray()
+  {
+    final int length = elements.length;
+    final Short[] boxedElements = new Short[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Short.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Short> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean equals(final Object immutableShortArrayList)
+  {
+    if (this == immutableShortArrayList)
+    {
+      return true;
+    }
+    final ShortList that = castIfInstanceOf(ShortList.class, immutableShortArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int length = elements.length;
+    if (length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (elements[i] != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(elements);
+  }
+}
@@ -0,0 +1,1011 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.ReadableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableArrayList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
+import org.elixirian.kommonlee.collect.primitive.BooleanList;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanToBooleanFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableBooleanFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidBooleanFunction1;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link MutableBooleanList} which keeps each element in a single bit of a long[] so it takes an eighth of the memory
+ * {@link MutableBooleanArrayList} does. The bits after the last element are always 0, so the operations on the whole
+ * list are done a word (64 elements) at a time.
+ * <ul>
+ * <li>{@link #cardinality()} and {@link #howMany(BooleanCondition1)} count the true elements with
+ * {@link Long#bitCount(long)}.</li>
+ * <li>{@link #and(MutableBitList)}, {@link #or(MutableBitList)}, {@link #xor(MutableBitList)} and
+ * {@link #andNot(MutableBitList)} change this list in place with the elements in another one.</li>
+ * <li>{@link #nextSetBit(int)} and {@link #nextClearBit(int)} skip a word at a time, and {@link #indexOf(boolean)} uses
+ * them.</li>
+ * <li>{@link #selectFrom(ReadableList)} uses this list as a mask to select the elements of another list.</li>
+ * </ul>
+ * <p>
+ * An element can only be true or false, so {@link #exists(BooleanCondition1)}, {@link #howMany(BooleanCondition1)},
+ * {@link #select(BooleanCondition1)}, {@link #mapToBoolean(BooleanToBooleanFunction1)},
+ * {@link #mapToBooleanSelectively(BooleanCondition1, BooleanToBooleanFunction1)} and
+ * {@link #forEach(BooleanToBooleanFunction1)} apply the given condition or function at most once to true and once to
+ * false, only if this list has such an element, and work on the whole words with the results. The condition and the
+ * function must therefore depend only on their input.
+ * </p>
+ *
+ * <pre>
+ * final MutableBitList mask = new MutableBitList(flags);
+ * mask.and(enabled);
+ * for (int i = mask.nextSetBit(0); 0 &lt;= i; i = mask.nextSetBit(i + 1))
+ * {
+ *   // ...
+ * }
+ * </pre>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public class MutableBitList implements MutableBooleanList
+{
+  public static final int DEFAULT_INITIAL_LENGTH = 64;
+
+  public static final int DEFAULT_INCREASE_BY = 64;
+
+  private static final int ADDRESS_BITS_PER_WORD = 6;
+
+  private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+  private long[] words;
+
+  private int length;
+
+  private final int initialCapacity;
+
+  private final int increaseBy;
+
+  private int modCount = 0;
+
+  public MutableBitList(final int initialCapacity, final int increaseBy)
+  {
+    checkInitialLength(initialCapacity);
+    this.words = new long[wordCountFor(initialCapacity)];
+    this.length = 0;
+    this.initialCapacity = initialCapacity;
+    this.increaseBy = increaseBy;
+  }
+
+  public MutableBitList(final int initialCapacity)
+  {
+    this(initialCapacity, DEFAULT_INCREASE_BY);
+  }
+
+  public MutableBitList()
+  {
+    this(DEFAULT_INITIAL_LENGTH, DEFAULT_INCREASE_BY);
+  }
+
+  public MutableBitList(final boolean[] elements)
+  {
+    this(elements.length, DEFAULT_INCREASE_BY);
+    addAll(elements);
+  }
+
+  /**
+   * @return the number of the words needed for the given number of the bits.
+   */
+  private static int wordCountFor(final int bitCount)
+  {
+    return (int) (((long) bitCount + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD);
+  }
+
+  private int wordsInUse()
+  {
+    return wordCountFor(length);
+  }
+
+  private boolean get0(final int index)
+  {
+    return 0L != (words[index >>> ADDRESS_BITS_PER_WORD] & (1L << index));
+  }
+
+  /**
+   * Clears the bits after the last element in the last word in use.
+   */
+  private void clearUnusedBits()
+  {
+    final int bitsInLastWord = length & (BITS_PER_WORD - 1);
+    if (0 != bitsInLastWord)
+    {
+      words[length >>> ADDRESS_BITS_PER_WORD] &= -1L >>> (BITS_PER_WORD - bitsInLastWord);
+    }
+  }
+
+  /**
+   * @return the 64 bits starting at the given bit index. The bits after the end of the array are 0.
+   */
+  private static long wordAt(final long[] words, final int bitIndex)
+  {
+    final int wordIndex = bitIndex >>> ADDRESS_BITS_PER_WORD;
+    final int shift = bitIndex & (BITS_PER_WORD - 1);
+    long word = wordIndex < words.length ? words[wordIndex] >>> shift : 0L;
+    if (0 != shift && wordIndex + 1 < words.length)
+    {
+      word |= words[wordIndex + 1] << (BITS_PER_WORD - shift);
+    }
+    return word;
+  }
+
+  @Override
+  public boolean get(final int index)
+  {
+    checkIndex(length, index);
+    return get0(index);
+  }
+
+  /**
+   * Replaces the element at the given index.
+   *
+   * @param index
+   *          the index of the element to replace.
+   * @param element
+   *          the new element.
+   * @return the old element at the index.
+   */
+  public boolean set(final int index, final boolean element)
+  {
+    checkIndex(length, index);
+    final boolean old = get0(index);
+    if (element)
+    {
+      words[index >>> ADDRESS_BITS_PER_WORD] |= 1L << index;
+    }
+    else
+    {
+      words[index >>> ADDRESS_BITS_PER_WORD] &= ~(1L << index);
+    }
+    return old;
+  }
+
+  /**
+   * Replaces all the elements in the given range with the given element a word at a time.
+   *
+   * @param fromIndex
+   *          the index of the first element to replace (inclusive).
+   * @param toIndex
+   *          the index after the last element to replace (exclusive).
+   * @param element
+   *          the new element.
+   */
+  public void set(final int fromIndex, final int toIndex, final boolean element)
+  {
+    checkRange(length, fromIndex, toIndex);
+    if (fromIndex == toIndex)
+    {
+      return;
+    }
+    final int firstWord = fromIndex >>> ADDRESS_BITS_PER_WORD;
+    final int lastWord = (toIndex - 1) >>> ADDRESS_BITS_PER_WORD;
+    final long firstMask = -1L << fromIndex;
+    final long lastMask = -1L >>> -toIndex;
+    for (int i = firstWord; i <= lastWord; i++)
+    {
+      long mask = -1L;
+      if (i == firstWord)
+      {
+        mask &= firstMask;
+      }
+      if (i == lastWord)
+      {
+        mask &= lastMask;
+      }
+      if (element)
+      {
+        words[i] |= mask;
+      }
+      else
+      {
+        words[i] &= ~mask;
+      }
+    }
+  }
+
+  /**
+   * Flips the element at the given index.
+   *
+   * @param index
+   *          the index of the element to flip.
+   * @return the new element at the index.
+   */
+  public boolean flip(final int index)
+  {
+    checkIndex(length, index);
+    words[index >>> ADDRESS_BITS_PER_WORD] ^= 1L << index;
+    return get0(index);
+  }
+
+  /**
+   * @return the number of the true elements.
+   */
+  public int cardinality()
+  {
+    int count = 0;
+    for (int i = 0, wordsInUse = wordsInUse(); i < wordsInUse; i++)
+    {
+      count += Long.bitCount(words[i]);
+    }
+    return count;
+  }
+
+  /**
+   * @param fromIndex
+   *          the index to start from (inclusive).
+   * @return the index of the first true element from the given index or -1 if there is none.
+   * @exception IndexOutOfBoundsException
+   *              if the fromIndex is negative.
+   */
+  public int nextSetBit(final int fromIndex)
+  {
+    if (0 > fromIndex)
+    {
+      throw new IndexOutOfBoundsException("fromIndex: " + fromIndex);
+    }
+    if (fromIndex >= length)
+    {
+      return -1;
+    }
+    int wordIndex = fromIndex >>> ADDRESS_BITS_PER_WORD;
+    final int wordsInUse = wordsInUse();
+    long word = words[wordIndex] & (-1L << fromIndex);
+    while (true)
+    {
+      if (0L != word)
+      {
+        /* the bits after the last element are always 0 so it is always less than the length. */
+        return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+      }
+      if (++wordIndex == wordsInUse)
+      {
+        return -1;
+      }
+      word = words[wordIndex];
+    }
+  }
+
+  /**
+   * @param fromIndex
+   *          the index to start from (inclusive).
+   * @return the index of the first false element from the given index or -1 if there is none.
+   * @exception IndexOutOfBoundsException
+   *              if the fromIndex is negative.
+   */
+  public int nextClearBit(final int fromIndex)
+  {
+    if (0 > fromIndex)
+    {
+      throw new IndexOutOfBoundsException("fromIndex: " + fromIndex);
+    }
+    if (fromIndex >= length)
+    {
+      return -1;
+    }
+    int wordIndex = fromIndex >>> ADDRESS_BITS_PER_WORD;
+    final int wordsInUse = wordsInUse();
+    long word = ~words[wordIndex] & (-1L << fromIndex);
+    while (true)
+    {
+      if (0L != word)
+      {
+        final int index = (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+        return index < length ? index : -1;
+      }
+      if (++wordIndex == wordsInUse)
+      {
+        return -1;
+      }
+      word = ~words[wordIndex];
+    }
+  }
+
+  /**
+   * @return the index of the last element equal to the given one at or before the given index or -1 if there is none.
+   */
+  private int previous(final boolean element, final int fromIndex)
+  {
+    int wordIndex = fromIndex >>> ADDRESS_BITS_PER_WORD;
+    long word = (element ? words[wordIndex] : ~words[wordIndex]) & (-1L >>> -(fromIndex + 1));
+    while (true)
+    {
+      if (0L != word)
+      {
+        return ((wordIndex + 1) << ADDRESS_BITS_PER_WORD) - 1 - Long.numberOfLeadingZeros(word);
+      }
+      if (0 == wordIndex--)
+      {
+        return -1;
+      }
+      word = element ? words[wordIndex] : ~words[wordIndex];
+    }
+  }
+
+  @Override
+  public int indexOf(final boolean element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    return element ? nextSetBit(fromIndex) : nextClearBit(fromIndex);
+  }
+
+  @Override
+  public int indexOf(final boolean element)
+  {
+    return element ? nextSetBit(0) : nextClearBit(0);
+  }
+
+  @Override
+  public int lastIndexOf(final boolean element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(length, toIndexToUse);
+    return previous(element, toIndexToUse);
+  }
+
+  @Override
+  public int lastIndexOf(final boolean element)
+  {
+    return 0 == length ? -1 : previous(element, length - 1);
+  }
+
+  @Override
+  public boolean exists(final BooleanCondition1 seeker)
+  {
+    return (contains(true) && seeker.isMet(true)) || (contains(false) && seeker.isMet(false));
+  }
+
+  @Override
+  public boolean contains(final boolean element)
+  {
+    return 0 <= indexOf(element);
+  }
+
+  @Override
+  public boolean containsAll(final boolean[] elements)
+  {
+    for (final boolean b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final BooleanList elements)
+  {
+    return (!elements.contains(true) || contains(true)) && (!elements.contains(false) || contains(false));
+  }
+
+  /**
+   * @return a new {@link MutableBitList} with the given number of the given element.
+   */
+  private static MutableBitList filledWith(final int length, final boolean element)
+  {
+    final MutableBitList bitList = new MutableBitList(length);
+    bitList.length = length;
+    if (element)
+    {
+      Arrays.fill(bitList.words, -1L);
+      bitList.clearUnusedBits();
+    }
+    return bitList;
+  }
+
+  @Override
+  public MutableBitList select(final BooleanCondition1 condition)
+  {
+    final int howManyTrue = cardinality();
+    final int howManyFalse = length - howManyTrue;
+    final boolean trueMet = 0 < howManyTrue && condition.isMet(true);
+    final boolean falseMet = 0 < howManyFalse && condition.isMet(false);
+    if (trueMet && falseMet)
+    {
+      return subList(0, length);
+    }
+    if (trueMet)
+    {
+      return filledWith(howManyTrue, true);
+    }
+    return filledWith(falseMet ? howManyFalse : 0, false);
+  }
+
+  @Override
+  public MutableBitList mapToBoolean(final BooleanToBooleanFunction1 function)
+  {
+    final MutableBitList bitList = subList(0, length);
+    bitList.forEach(function);
+    return bitList;
+  }
+
+  @Override
+  public MutableBitList mapToBooleanSelectively(final BooleanCondition1 condition,
+      final BooleanToBooleanFunction1 function)
+  {
+    final MutableBitList bitList = select(condition);
+    bitList.forEach(function);
+    return bitList;
+  }
+
+  @Override
+  public void forEach(final VoidBooleanFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(get0(i));
+    }
+  }
+
+  /**
+   * Replaces each element with the result of the given function a word at a time.
+   */
+  @Override
+  public void forEach(final BooleanToBooleanFunction1 function)
+  {
+    final int cardinality = cardinality();
+    if (0 == cardinality)
+    {
+      if (0 != length && function.apply(false))
+      {
+        set(0, length, true);
+      }
+      return;
+    }
+    if (length == cardinality)
+    {
+      if (!function.apply(true))
+      {
+        set(0, length, false);
+      }
+      return;
+    }
+    final boolean trueBecomes = function.apply(true);
+    final boolean falseBecomes = function.apply(false);
+    if (trueBecomes == falseBecomes)
+    {
+      set(0, length, trueBecomes);
+    }
+    else if (!trueBecomes)
+    {
+      for (int i = 0, wordsInUse = wordsInUse(); i < wordsInUse; i++)
+      {
+        words[i] = ~words[i];
+      }
+      clearUnusedBits();
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableBooleanFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(get0(i)))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final BooleanCondition1 conditionToMeet)
+  {
+    final int howManyTrue = cardinality();
+    final int howManyFalse = length - howManyTrue;
+    return (0 < howManyTrue && conditionToMeet.isMet(true) ? howManyTrue : 0)
+        + (0 < howManyFalse && conditionToMeet.isMet(false) ? howManyFalse : 0);
+  }
+
+  /**
+   * Copies the given range a word at a time.
+   */
+  @Override
+  public MutableBitList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    final int newLength = toIndex - fromIndex;
+    final MutableBitList bitList = new MutableBitList(newLength, increaseBy);
+    final long[] newWords = bitList.words;
+    for (int i = 0; i < newWords.length; i++)
+    {
+      newWords[i] = wordAt(words, fromIndex + (i << ADDRESS_BITS_PER_WORD));
+    }
+    bitList.length = newLength;
+    bitList.clearUnusedBits();
+    return bitList;
+  }
+
+  /**
+   * Changes this list to the result of the logical AND of this list and the given one. The elements after the end of
+   * the given list are regarded as false so they become false in this list.
+   *
+   * @param that
+   *          the given list.
+   * @return this {@link MutableBitList}.
+   */
+  public MutableBitList and(final MutableBitList that)
+  {
+    final int wordsInUse = wordsInUse();
+    final int common = Math.min(wordsInUse, that.wordsInUse());
+    for (int i = 0; i < common; i++)
+    {
+      words[i] &= that.words[i];
+    }
+    Arrays.fill(words, common, wordsInUse, 0L);
+    return this;
+  }
+
+  /**
+   * Changes this list to the result of the logical OR of this list and the given one. The elements after the end of
+   * this list are ignored.
+   *
+   * @param that
+   *          the given list.
+   * @return this {@link MutableBitList}.
+   */
+  public MutableBitList or(final MutableBitList that)
+  {
+    for (int i = 0, common = Math.min(wordsInUse(), that.wordsInUse()); i < common; i++)
+    {
+      words[i] |= that.words[i];
+    }
+    clearUnusedBits();
+    return this;
+  }
+
+  /**
+   * Changes this list to the result of the logical XOR of this list and the given one. The elements after the end of
+   * this list are ignored.
+   *
+   * @param that
+   *          the given list.
+   * @return this {@link MutableBitList}.
+   */
+  public MutableBitList xor(final MutableBitList that)
+  {
+    for (int i = 0, common = Math.min(wordsInUse(), that.wordsInUse()); i < common; i++)
+    {
+      words[i] ^= that.words[i];
+    }
+    clearUnusedBits();
+    return this;
+  }
+
+  /**
+   * Makes each element false if the element at the same index in the given list is true. The elements after the end
+   * of the given list are not changed.
+   *
+   * @param that
+   *          the given list.
+   * @return this {@link MutableBitList}.
+   */
+  public MutableBitList andNot(final MutableBitList that)
+  {
+    for (int i = 0, common = Math.min(wordsInUse(), that.wordsInUse()); i < common; i++)
+    {
+      words[i] &= ~that.words[i];
+    }
+    return this;
+  }
+
+  /**
+   * Selects the elements in the given list at the indices of the true elements in this list.
+   *
+   * @param list
+   *          the given list which must have the same length as this list.
+   * @return an {@link ImmutableList} containing the selected elements in order.
+   * @exception IllegalArgumentException
+   *              if the length of the given list is not the same as the one of this list.
+   */
+  public <E> ImmutableList<E> selectFrom(final ReadableList<? extends E> list)
+  {
+    if (length != list.length())
+    {
+      throw new IllegalArgumentException("The given list must have the same length as the mask. [list.length(): "
+          + list.length() + ", length: " + length + "]");
+    }
+    final ImmutableArrayList.Builder<E> builder = ImmutableLists.builder(cardinality());
+    for (int i = nextSetBit(0); 0 <= i; i = nextSetBit(i + 1))
+    {
+      builder.add(list.get(i));
+    }
+    return builder.build();
+  }
+
+  @Override
+  public boolean[] toArray()
+  {
+    final boolean[] elements = new boolean[length];
+    for (int i = nextSetBit(0); 0 <= i; i = nextSetBit(i + 1))
+    {
+      elements[i] = true;
+    }
+    return elements;
+  }
+
+  private class InternalIterator implements Iterator<Boolean>
+  {
+    int current = 0;
+    int last = -1;
+    int expectedModCount = modCount;
+
+    private void checkForComodification()
+    {
+      if (modCount != expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void remove()
+    {
+      if (0 > last)
+      {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      MutableBitList.this.removeAt(last);
+      current = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+
+    @Override
+    public Boolean next()
+    {
+      checkForComodification();
+      final int index = current;
+      if (index >= length)
+      {
+        throw new NoSuchElementException();
+      }
+      current = index + 1;
+      last = index;
+      return Boolean.valueOf(get0(index));
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return current < length;
+    }
+  }
+
+  @Override
+  public Iterator<Boolean> iterator()
+  {
+    return new InternalIterator();
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Boolean[] toBoxedArray()
+  {
+    final Boolean[] boxedElements = new Boolean[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Boolean.valueOf(get0(i));
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Boolean> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  private void ensureCapacity(final int lengthAfterAdding)
+  {
+    modCount++;
+    final int wordsNeeded = wordCountFor(lengthAfterAdding);
+    final int capacity = words.length;
+    if (0 < wordsNeeded - capacity)
+    {
+      int newCapacity = capacity + Math.max(wordCountFor(increaseBy), capacity >> 1);
+      if (0 > newCapacity - wordsNeeded)
+      {
+        newCapacity = wordsNeeded;
+      }
+      this.words = Arrays.copyOf(this.words, newCapacity);
+    }
+  }
+
+  @Override
+  public boolean add(final boolean element)
+  {
+    if (Integer.MAX_VALUE == length)
+    {
+      throw new OutOfMemoryError();
+    }
+    ensureCapacity(length + 1);
+    if (element)
+    {
+      words[length >>> ADDRESS_BITS_PER_WORD] |= 1L << length;
+    }
+    length++;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final boolean[] elements)
+  {
+    final int oldLength = length;
+    ensureCapacity(oldLength + elements.length);
+    for (final boolean element : elements)
+    {
+      if (element)
+      {
+        words[length >>> ADDRESS_BITS_PER_WORD] |= 1L << length;
+      }
+      length++;
+    }
+    return oldLength != length;
+  }
+
+  /**
+   * Adds all the given elements. If they are in a {@link MutableBitList}, they are added a word at a time.
+   */
+  @Override
+  public boolean addAll(final BooleanList elements)
+  {
+    if (!(elements instanceof MutableBitList))
+    {
+      return addAll(elements.toArray());
+    }
+    final MutableBitList that = (MutableBitList) elements;
+    final int howMany = that.length;
+    /* copy the words first if it is this list as adding them changes the words. */
+    final long[] wordsToAdd = this == that ? Arrays.copyOf(words, wordsInUse()) : that.words;
+    final int oldLength = length;
+    ensureCapacity(oldLength + howMany);
+    final int shift = oldLength & (BITS_PER_WORD - 1);
+    int wordIndex = oldLength >>> ADDRESS_BITS_PER_WORD;
+    for (int i = 0, end = wordCountFor(howMany); i < end; i++, wordIndex++)
+    {
+      final long word = wordsToAdd[i];
+      words[wordIndex] |= word << shift;
+      if (0 != shift && wordIndex + 1 < words.length)
+      {
+        words[wordIndex + 1] |= word >>> (BITS_PER_WORD - shift);
+      }
+    }
+    length += howMany;
+    return 0 != howMany;
+  }
+
+  @Override
+  public boolean remove(final boolean element)
+  {
+    final int index = indexOf(element);
+    if (0 > index)
+    {
+      return false;
+    }
+    remove0(index);
+    return true;
+  }
+
+  /**
+   * Shifts the elements after the given index down by one a word at a time.
+   */
+  private void remove0(final int index)
+  {
+    modCount++;
+    final int firstWord = index >>> ADDRESS_BITS_PER_WORD;
+    final long lowerBits = (1L << index) - 1;
+    final long word = words[firstWord];
+    words[firstWord] = (word & lowerBits) | ((word >>> 1) & ~lowerBits);
+    for (int i = firstWord + 1, wordsInUse = wordsInUse(); i < wordsInUse; i++)
+    {
+      words[i - 1] |= words[i] << (BITS_PER_WORD - 1);
+      words[i] >>>= 1;
+    }
+    length--;
+  }
+
+  @Override
+  public boolean removeAt(final int index)
+  {
+    checkIndex(this.length, index);
+    final boolean b = get0(index);
+    remove0(index);
+    return b;
+  }
+
+  /**
+   * Sorts the elements by counting the true ones and filling the words.
+   */
+  @Override
+  public void sort()
+  {
+    modCount++;
+    final int howManyFalse = length - cardinality();
+    set(0, howManyFalse, false);
+    set(howManyFalse, length, true);
+  }
+
+  @Override
+  public int getIncreaseBy()
+  {
+    return increaseBy;
+  }
+
+  /**
+   * @return 1.5 as the capacity always grows by half of it or by {@link #getIncreaseBy()}, whichever is more.
+   */
+  @Override
+  public float getGrowthFactor()
+  {
+    return 1.5F;
+  }
+
+  int getCapacity()
+  {
+    return words.length << ADDRESS_BITS_PER_WORD;
+  }
+
+  @Override
+  public MutableBitList trim()
+  {
+    modCount++;
+    final int wordsInUse = wordsInUse();
+    if (wordsInUse != words.length)
+    {
+      this.words = Arrays.copyOf(this.words, wordsInUse);
+    }
+    return this;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    words = new long[wordCountFor(initialCapacity)];
+    length = 0;
+  }
+
+  /**
+   * @return the same hash code as {@link MutableBooleanArrayList} with the same elements has.
+   */
+  @Override
+  public int hashCode()
+  {
+    int result = 1;
+    for (int i = 0; i < length; i++)
+    {
+      result = 31 * result + (get0(i) ? 1231 : 1237);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object mutableBitList)
+  {
+    if (this == mutableBitList)
+    {
+      return true;
+    }
+    final BooleanList that = castIfInstanceOf(BooleanList.class, mutableBitList);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    if (that instanceof MutableBitList)
+    {
+      final long[] thatWords = ((MutableBitList) that).words;
+      for (int i = 0, wordsInUse = wordsInUse(); i < wordsInUse; i++)
+      {
+        if (words[i] != thatWords[i])
+        {
+          return false;
+        }
+      }
+      return true;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (get0(i) != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(toArray());
+  }
+}
@@ -35,6 +35,7 @@ import static org.elixirian.kommonlee.collect.KollectionUtil.*;
 import static org.elixirian.kommonlee.util.Objects.*;
 import static org.elixirian.kommonlee.util.collect.Lists.*;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
@@ -42,6 +43,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.elixirian.kommonlee.collect.primitive.ByteList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
 import org.elixirian.kommonlee.type.functional.BreakOrContinue;
 import org.elixirian.kommonlee.type.functional.primitive.BreakableByteFunction1;
 import org.elixirian.kommonlee.type.functional.primitive.ByteCondition1;
@@ -76,6 +78,12 @@ public class MutableByteArrayList implements MutableByteList
 
   public static final int DEFAULT_INCREASE_BY = 16;
 
+  /**
+   * The default growth factor. With it, the capacity grows by half each time so adding n elements one by one copies
+   * the elements O(n) times in total instead of O(n^2) times with the fixed increaseBy only.
+   */
+  public static final float DEFAULT_GROWTH_FACTOR = 1.5F;
+
   private byte[] elements;
 
   private int length;
@@ -84,24 +92,79 @@ public class MutableByteArrayList implements MutableByteList
 
   private int increaseBy;
 
+  private final float growthFactor;
+
   private int modCount = 0;
 
-  public MutableByteArrayList(final byte[] elements, final int length, final int increaseBy)
+  /**
+   * @param elements
+   *          the elements to copy.
+   * @param length
+   *          the number of the elements to copy.
+   * @param increaseBy
+   *          the minimum number of the elements the capacity grows by.
+   * @param growthFactor
+   *          the factor the capacity is multiplied by when it grows. 1 means it always grows by increaseBy only.
+   */
+  public MutableByteArrayList(final byte[] elements, final int length, final int increaseBy, final float growthFactor)
   {
     checkCapacityAndLength(elements.length, length);
+    checkGrowthFactor(growthFactor);
     this.elements = Arrays.copyOf(elements, length);
     this.length = length;
     this.initialCapacity = length;
     this.increaseBy = increaseBy;
+    this.growthFactor = growthFactor;
   }
 
-  public MutableByteArrayList(final int initialCapacity, final int increaseBy)
+  public MutableByteArrayList(final byte[] elements, final int length, final int increaseBy)
+  {
+    this(elements, length, increaseBy, DEFAULT_GROWTH_FACTOR);
+  }
+
+  /**
+   * @param initialCapacity
+   *          the initial capacity.
+   * @param increaseBy
+   *          the minimum number of the elements the capacity grows by.
+   * @param growthFactor
+   *          the factor the capacity is multiplied by when it grows. 1 means it always grows by increaseBy only.
+   */
+  public MutableByteArrayList(final int initialCapacity, final int increaseBy, final float growthFactor)
   {
     checkInitialLength(initialCapacity);
+    checkGrowthFactor(growthFactor);
     this.elements = new byte[initialCapacity];
     this.length = 0;
     this.initialCapacity = initialCapacity;
     this.increaseBy = increaseBy;
+    this.growthFactor = growthFactor;
+  }
+
+  public MutableByteArrayList(final int initialCapacity, final int increaseBy)
+  {
+    this(initialCapacity, increaseBy, DEFAULT_GROWTH_FACTOR);
+  }
+
+  /**
+   * Takes the given array as it is without copying it. It is only for the new arrays created in this class.
+   */
+  private MutableByteArrayList(final int length, final byte[] elements)
+  {
+    this.elements = elements;
+    this.length = length;
+    this.initialCapacity = length;
+    this.increaseBy = DEFAULT_INCREASE_BY;
+    this.growthFactor = DEFAULT_GROWTH_FACTOR;
+  }
+
+  private static void checkGrowthFactor(final float growthFactor)
+  {
+    if (!(1.0F <= growthFactor))
+    {
+      throw new IllegalArgumentException("growthFactor must be greater than or equal to 1. [growthFactor: "
+          + growthFactor + "]");
+    }
   }
 
   public MutableByteArrayList(final byte[] elements)
@@ -215,50 +278,49 @@ public class MutableByteArrayList implements MutableByteList
   @Override
   public MutableByteList select(final ByteCondition1 condition)
   {
-    final MutableByteList byteList = new MutableByteArrayList(length, DEFAULT_INCREASE_BY);
+    final byte[] selected = new byte[length];
+    int howMany = 0;
     for (int i = 0; i < length; i++)
     {
       final byte b = this.elements[i];
       if (condition.isMet(b))
       {
-        byteList.add(b);
+        selected[howMany++] = b;
       }
     }
-    byteList.trim();
-    return byteList;
+    return newTrimmed(selected, howMany);
   }
 
   @Override
   public MutableByteList mapToByte(final ByteToByteFunction1 function)
   {
-    final MutableByteList byteList = new MutableByteArrayList(length, DEFAULT_INCREASE_BY);
+    final byte[] mapped = new byte[length];
     for (int i = 0; i < length; i++)
     {
-      /* @formatter:off */
-      byteList.add(function
-                  .apply(this.elements[i]));
-      /* @formatter:on */
+      mapped[i] = function.apply(this.elements[i]);
     }
-    return byteList;
+    return new MutableByteArrayList(length, mapped);
   }
 
   @Override
   public MutableByteList mapToByteSelectively(final ByteCondition1 condition, final ByteToByteFunction1 function)
   {
-    final MutableByteList byteList = new MutableByteArrayList(length, DEFAULT_INCREASE_BY);
+    final byte[] mapped = new byte[length];
+    int howMany = 0;
     for (int i = 0; i < length; i++)
     {
       final byte b = this.elements[i];
       if (condition.isMet(b))
       {
-        /* @formatter:off */
-        byteList.add(function
-                    .apply(b));
-        /* @formatter:on */
+        mapped[howMany++] = function.apply(b);
       }
     }
-    byteList.trim();
-    return byteList;
+    return newTrimmed(mapped, howMany);
+  }
+
+  private static MutableByteArrayList newTrimmed(final byte[] elements, final int length)
+  {
+    return new MutableByteArrayList(length, length == elements.length ? elements : Arrays.copyOf(elements, length));
   }
 
   @Override
@@ -444,7 +506,8 @@ public class MutableByteArrayList implements MutableByteList
     modCount++;
     if (0 < lengthAfterAdding - elements.length)
     {
-      int newCapacity = elements.length + increaseBy;
+      /* the float to int conversion saturates at Integer.MAX_VALUE and the overflow is handled below. */
+      int newCapacity = elements.length + Math.max(increaseBy, (int) (elements.length * (growthFactor - 1.0F)));
       if (0 > newCapacity - lengthAfterAdding)
       {
         newCapacity = lengthAfterAdding;
@@ -481,9 +544,41 @@ public class MutableByteArrayList implements MutableByteList
     return oldLength != length;
   }
 
+  @Override
+  public boolean addAll(final byte[] elements, final int offset, final int length)
+  {
+    checkRange(elements.length, offset, offset + length);
+    final int oldLength = this.length;
+    ensureCapacity(oldLength + length);
+    System.arraycopy(elements, offset, this.elements, oldLength, length);
+    this.length += length;
+    return 0 != length;
+  }
+
+  @Override
+  public boolean addAll(final ByteBuffer buffer)
+  {
+    final int oldLength = length;
+    final int howMany = buffer.remaining();
+    ensureCapacity(oldLength + howMany);
+    buffer.get(this.elements, oldLength, howMany);
+    length += howMany;
+    return 0 != howMany;
+  }
+
   @Override
   public boolean addAll(final ByteList elements)
   {
+    if (elements instanceof MutableByteArrayList)
+    {
+      /* copy straight from its array (even when it is this list) instead of making a copy with toArray() first. */
+      final MutableByteArrayList that = (MutableByteArrayList) elements;
+      final int howMany = that.length;
+      ensureCapacity(length + howMany);
+      System.arraycopy(that.elements, 0, this.elements, length, howMany);
+      length += howMany;
+      return 0 != howMany;
+    }
     return addAll(elements.toArray());
   }
 
@@ -522,12 +617,80 @@ public class MutableByteArrayList implements MutableByteList
     return b;
   }
 
+  @Override
+  public void removeRange(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    modCount++;
+    System.arraycopy(this.elements, toIndex, this.elements, fromIndex, length - toIndex);
+    final int newLength = length - (toIndex - fromIndex);
+    Arrays.fill(this.elements, newLength, length, (byte) 0);
+    length = newLength;
+  }
+
+  @Override
+  public boolean retainIf(final ByteCondition1 condition)
+  {
+    final int oldLength = length;
+    int howManyKept = 0;
+    int i = 0;
+    try
+    {
+      for (; i < oldLength; i++)
+      {
+        final byte b = this.elements[i];
+        if (condition.isMet(b))
+        {
+          this.elements[howManyKept++] = b;
+        }
+      }
+    }
+    finally
+    {
+      if (i < oldLength)
+      {
+        System.arraycopy(this.elements, i, this.elements, howManyKept, oldLength - i);
+        howManyKept += oldLength - i;
+      }
+      if (howManyKept != oldLength)
+      {
+        modCount++;
+        Arrays.fill(this.elements, howManyKept, oldLength, (byte) 0);
+        length = howManyKept;
+      }
+    }
+    return howManyKept != oldLength;
+  }
+
+  @Override
+  public void replaceAll(final ByteToByteFunction1 function)
+  {
+    modCount++;
+    for (int i = 0; i < length; i++)
+    {
+      this.elements[i] = function.apply(this.elements[i]);
+    }
+  }
+
+  @Override
+  public void sort()
+  {
+    modCount++;
+    PrimitiveSorts.sort(this.elements, 0, length);
+  }
+
   @Override
   public int getIncreaseBy()
   {
     return increaseBy;
   }
 
+  @Override
+  public float getGrowthFactor()
+  {
+    return growthFactor;
+  }
+
   int getCapacity()
   {
     return this.elements.length;
@@ -594,6 +757,6 @@ public class MutableByteArrayList implements MutableByteList
   @Override
   public String toString()
   {
-    return Objects.toStringOf(this.elements);
+    return Objects.toStringOf(toArray());
   }
 }
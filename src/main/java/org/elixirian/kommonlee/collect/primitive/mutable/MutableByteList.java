@@ -31,9 +31,11 @@
  */
 package org.elixirian.kommonlee.collect.primitive.mutable;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.elixirian.kommonlee.collect.primitive.ByteList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
 import org.elixirian.kommonlee.type.functional.primitive.ByteCondition1;
 import org.elixirian.kommonlee.type.functional.primitive.ByteToByteFunction1;
 import org.elixirian.kommonlee.type.mutable.Clearable;
@@ -82,12 +84,74 @@ public interface MutableByteList extends ByteList, Trimmable<MutableByteList>, C
 
   boolean addAll(ByteList elements);
 
+  /**
+   * Adds the given range of the array in one copy.
+   *
+   * @param elements
+   *          the array containing the elements to add.
+   * @param offset
+   *          the index of the first element to add.
+   * @param length
+   *          the number of the elements to add.
+   * @return true if any element has been added.
+   */
+  boolean addAll(byte[] elements, int offset, int length);
+
+  /**
+   * Adds all the remaining bytes of the given buffer in one copy. The position of the buffer is moved to its limit as
+   * {@link ByteBuffer#get(byte[], int, int)} does.
+   *
+   * @param buffer
+   *          the buffer containing the bytes to add.
+   * @return true if any element has been added.
+   */
+  boolean addAll(ByteBuffer buffer);
+
   byte removeAt(int index);
 
   boolean remove(byte element);
 
+  /**
+   * Removes the elements from the fromIndex (inclusive) to the toIndex (exclusive) in one move.
+   *
+   * @param fromIndex
+   *          the index of the first element to remove.
+   * @param toIndex
+   *          the index after the last element to remove.
+   */
+  void removeRange(int fromIndex, int toIndex);
+
+  /**
+   * Removes, in place, all the elements not meeting the given condition. If the condition throws an exception, the
+   * elements it has not checked yet are kept so that the list stays consistent.
+   *
+   * @param condition
+   *          the condition the elements to keep should meet.
+   * @return true if any element has been removed.
+   */
+  boolean retainIf(ByteCondition1 condition);
+
+  /**
+   * Replaces, in place, each element with the result of the given function.
+   *
+   * @param function
+   *          the function to apply to each element.
+   */
+  void replaceAll(ByteToByteFunction1 function);
+
+  /**
+   * Sorts the elements in ascending order in place without boxing them. See {@link PrimitiveSorts} for how it is done.
+   */
+  void sort();
+
   int getIncreaseBy();
 
+  /**
+   * @return the factor the capacity is multiplied by when it needs to grow. The capacity grows by at least
+   *         {@link #getIncreaseBy()}.
+   */
+  float getGrowthFactor();
+
   @Override
   MutableByteList trim();
 
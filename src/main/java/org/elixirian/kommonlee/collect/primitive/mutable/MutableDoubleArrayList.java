@@ -0,0 +1,664 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.primitive.DoubleList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableDoubleFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleToDoubleFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidDoubleFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______  
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \ 
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public class MutableDoubleArrayList implements MutableDoubleList
+{
+  public static final int DEFAULT_INITIAL_LENGTH = 8;
+
+  public static final int DEFAULT_INCREASE_BY = 16;
+
+  /**
+   * The default growth factor. With it, the capacity grows by half each time so adding n elements one by one copies
+   * the elements O(n) times in total instead of O(n^2) times with the fixed increaseBy only.
+   */
+  public static final float DEFAULT_GROWTH_FACTOR = 1.5F;
+
+  private double[] elements;
+
+  private int length;
+
+  private final int initialCapacity;
+
+  private int increaseBy;
+
+  private final float growthFactor;
+
+  private int modCount = 0;
+
+  /**
+   * @param elements
+   *          the elements to copy.
+   * @param length
+   *          the number of the elements to copy.
+   * @param increaseBy
+   *          the minimum number of the elements the capacity grows by.
+   * @param growthFactor
+   *          the factor the capacity is multiplied by when it grows. 1 means it always grows by increaseBy only.
+   */
+  public MutableDoubleArrayList(final double[] elements, final int length, final int increaseBy,
+      final float growthFactor)
+  {
+    checkCapacityAndLength(elements.length, length);
+    checkGrowthFactor(growthFactor);
+    this.elements = Arrays.copyOf(elements, length);
+    this.length = length;
+    this.initialCapacity = length;
+    this.increaseBy = increaseBy;
+    this.growthFactor = growthFactor;
+  }
+
+  public MutableDoubleArrayList(final double[] elements, final int length, final int increaseBy)
+  {
+    this(elements, length, increaseBy, DEFAULT_GROWTH_FACTOR);
+  }
+
+  /**
+   * @param initialCapacity
+   *          the initial capacity.
+   * @param increaseBy
+   *          the minimum number of the elements the capacity grows by.
+   * @param growthFactor
+   *          the factor the capacity is multiplied by when it grows. 1 means it always grows by increaseBy only.
+   */
+  public MutableDoubleArrayList(final int initialCapacity, final int increaseBy, final float growthFactor)
+  {
+    checkInitialLength(initialCapacity);
+    checkGrowthFactor(growthFactor);
+    this.elements = new double[initialCapacity];
+    this.length = 0;
+    this.initialCapacity = initialCapacity;
+    this.increaseBy = increaseBy;
+    this.growthFactor = growthFactor;
+  }
+
+  public MutableDoubleArrayList(final int initialCapacity, final int increaseBy)
+  {
+    this(initialCapacity, increaseBy, DEFAULT_GROWTH_FACTOR);
+  }
+
+  public MutableDoubleArrayList(final double[] elements)
+  {
+    this(elements, elements.length, DEFAULT_INCREASE_BY);
+  }
+
+  public MutableDoubleArrayList()
+  {
+    this(DEFAULT_INITIAL_LENGTH, DEFAULT_INCREASE_BY);
+  }
+
+  private static void checkGrowthFactor(final float growthFactor)
+  {
+    if (!(1.0F <= growthFactor))
+    {
+      throw new IllegalArgumentException("growthFactor must be greater than or equal to 1. [growthFactor: "
+          + growthFactor + "]");
+    }
+  }
+
+  @Override
+  public double get(final int index)
+  {
+    checkIndex(length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final double element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+      if (Double.doubleToLongBits(element) == Double.doubleToLongBits(this.elements[i]))
+      {
+        return i;
+      }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final double element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final double element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (Double.doubleToLongBits(element) == Double.doubleToLongBits(this.elements[i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final double element)
+  {
+    return lastIndexOf(element, length);
+  }
+
+  @Override
+  public boolean exists(final DoubleCondition1 seeker)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (seeker.isMet(elements[i]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final double element)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (Double.doubleToLongBits(element) == Double.doubleToLongBits(elements[i]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final double[] elements)
+  {
+    for (final double b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final DoubleList elements)
+  {
+    for (final double b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public MutableDoubleList select(final DoubleCondition1 condition)
+  {
+    final MutableDoubleList doubleList = new MutableDoubleArrayList(length, DEFAULT_INCREASE_BY);
+    for (int i = 0; i < length; i++)
+    {
+      final double b = this.elements[i];
+      if (condition.isMet(b))
+      {
+        doubleList.add(b);
+      }
+    }
+    doubleList.trim();
+    return doubleList;
+  }
+
+  @Override
+  public MutableDoubleList mapToDouble(final DoubleToDoubleFunction1 function)
+  {
+    final MutableDoubleList doubleList = new MutableDoubleArrayList(length, DEFAULT_INCREASE_BY);
+    for (int i = 0; i < length; i++)
+    {
+      /* @formatter:off */
+      doubleList.add(function
+                  .apply(this.elements[i]));
+      /* @formatter:on */
+    }
+    return doubleList;
+  }
+
+  @Override
+  public MutableDoubleList mapToDoubleSelectively(final DoubleCondition1 condition, final DoubleToDoubleFunction1 function)
+  {
+    final MutableDoubleList doubleList = new MutableDoubleArrayList(length, DEFAULT_INCREASE_BY);
+    for (int i = 0; i < length; i++)
+    {
+      final double b = this.elements[i];
+      if (condition.isMet(b))
+      {
+        /* @formatter:off */
+        doubleList.add(function
+                    .apply(b));
+        /* @formatter:on */
+      }
+    }
+    doubleList.trim();
+    return doubleList;
+  }
+
+  @Override
+  public void forEach(final VoidDoubleFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(this.elements[i]);
+    }
+  }
+
+  @Override
+  public void forEach(final DoubleToDoubleFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      this.elements[i] = function.apply(this.elements[i]);
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableDoubleFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(this.elements[i]))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final DoubleCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (int i = 0; i < length; i++)
+    {
+      if (conditionToMeet.isMet(this.elements[i]))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public MutableDoubleList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    final int newLength = toIndex - fromIndex;
+    final double[] newElements = new double[newLength];
+    System.arraycopy(this.elements, fromIndex, newElements, 0, newLength);
+
+    return new MutableDoubleArrayList(newElements);
+  }
+
+  @Override
+  public double[] toArray()
+  {
+    final double[] newElements = new double[length];
+    System.arraycopy(this.elements, 0, newElements, 0, length);
+    return newElements;
+  }
+
+  private class InternalIterator implements Iterator<Double>
+  {
+
+    int current = 0;
+    int last = -1;
+    int expectedModCount = modCount;
+
+    private void checkForComodification()
+    {
+      if (modCount != expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void remove()
+    {
+      if (0 > last)
+      {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      try
+      {
+        MutableDoubleArrayList.this.removeAt(last);
+        current = last;
+        last = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e)
+      {
+        throw new ConcurrentModificationException(
+            "ConcurrentModificationException is thrown when removing an element at the index, " + last + ". cause: "
+                + e.toString());
+      }
+    }
+
+    @Override
+    public Double next()
+    {
+      checkForComodification();
+
+      final int index = current;
+      if (index >= length)
+      {
+        throw new NoSuchElementException();
+      }
+      final double[] elements = MutableDoubleArrayList.this.elements;
+      if (index >= elements.length)
+      {
+        throw new ConcurrentModificationException("index >= capacity [index: " + index + ", capacity: "
+            + elements.length + "]");
+      }
+      @SuppressWarnings("boxing")
+      final Double next = elements[index];
+      current = index + 1;
+      last = index;
+      return next;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return current < length;
+    }
+  }
+
+  @Override
+  public Iterator<Double> iterator()
+  {
+    return new InternalIterator();
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Double[] toBoxedArray()
+  {
+    final Double[] boxedElements = new Double[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Double.valueOf(this.elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Double> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  private void ensureCapacity(final int lengthAfterAdding)
+  {
+    modCount++;
+    if (0 < lengthAfterAdding - elements.length)
+    {
+      /* the float to int conversion saturates at Integer.MAX_VALUE and the overflow is handled below. */
+      int newCapacity = elements.length + Math.max(increaseBy, (int) (elements.length * (growthFactor - 1.0F)));
+      if (0 > newCapacity - lengthAfterAdding)
+      {
+        newCapacity = lengthAfterAdding;
+      }
+      if (0 > newCapacity)
+      {
+        if (0 > lengthAfterAdding)
+        {
+          throw new OutOfMemoryError();
+        }
+        newCapacity = Integer.MAX_VALUE;
+      }
+      this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
+  }
+
+  @Override
+  public boolean add(final double element)
+  {
+    ensureCapacity(length + 1);
+    this.elements[length] = element;
+    length++;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final double[] elements)
+  {
+    final int oldLength = length;
+    final int newElementLength = elements.length;
+    ensureCapacity(oldLength + newElementLength);
+    System.arraycopy(elements, 0, this.elements, oldLength, newElementLength);
+    length += newElementLength;
+    return oldLength != length;
+  }
+
+  @Override
+  public boolean addAll(final DoubleList elements)
+  {
+    return addAll(elements.toArray());
+  }
+
+  @Override
+  public boolean remove(final double element)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (Double.doubleToLongBits(this.elements[i]) == Double.doubleToLongBits(element))
+      {
+        remove0(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void remove0(final int index)
+  {
+    modCount++;
+    final int howManyToMove = length - index - 1;
+    if (0 < howManyToMove)
+    {
+      System.arraycopy(this.elements, index + 1, this.elements, index, howManyToMove);
+    }
+    length--;
+    elements[length] = 0;
+  }
+
+  @Override
+  public double removeAt(final int index)
+  {
+    checkIndex(this.length, index);
+    final double b = this.elements[index];
+    remove0(index);
+    return b;
+  }
+
+  @Override
+  public void sort()
+  {
+    modCount++;
+    PrimitiveSorts.sort(this.elements, 0, length);
+  }
+
+  @Override
+  public int getIncreaseBy()
+  {
+    return increaseBy;
+  }
+
+  @Override
+  public float getGrowthFactor()
+  {
+    return growthFactor;
+  }
+
+  int getCapacity()
+  {
+    return this.elements.length;
+  }
+
+  @Override
+  public MutableDoubleArrayList trim()
+  {
+    modCount++;
+    if (length != elements.length)
+    {
+      this.elements = Arrays.copyOf(this.elements, length);
+    }
+    return this;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    elements = new double[initialCapacity];
+    length = 0;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(this.elements, 0, length);
+  }
+
+  @Override
+  public boolean equals(final Object mutableDoubleArrayList)
+  {
+    if (this == mutableDoubleArrayList)
+    {
+      return true;
+    }
+    final DoubleList that = castIfInstanceOf(DoubleList.class, mutableDoubleArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int thisLength = this.length;
+    final int thatLength = that.length();
+    if (thisLength != thatLength)
+    {
+      return false;
+    }
+
+    int thisIndex = 0;
+    int thatIndex = 0;
+    while (thisLength > thisIndex && thatLength > thatIndex)
+    {
+      if (Double.doubleToLongBits(this.elements[thisIndex]) != Double.doubleToLongBits(that.get(thatIndex)))
+      {
+        return false;
+      }
+      thisIndex++;
+      thatIndex++;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(toArray());
+  }
+}
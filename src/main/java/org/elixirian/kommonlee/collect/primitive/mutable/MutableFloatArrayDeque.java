@@ -0,0 +1,646 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.nio.FloatBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.primitive.FloatList;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatToFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidFloatFunction1;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link MutableFloatDeque} backed by a circular array. The head moves instead of the elements so adding or
+ * removing at either end takes constant time, and the bulk operations copy with at most two
+ * {@link System#arraycopy(Object, int, Object, int, int)} calls (one for each side of the wrap-around). The capacity
+ * is always a power of two so the index in the array is found with a mask, and it doubles when it is full.
+ * <p>
+ * Its iterator is fail-fast but does not support {@link Iterator#remove()}.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public class MutableFloatArrayDeque implements MutableFloatDeque
+{
+  public static final int DEFAULT_INITIAL_LENGTH = 16;
+
+  /**
+   * the largest power of two an array can have.
+   */
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private float[] elements;
+
+  private int head;
+
+  private int length;
+
+  private final int initialCapacity;
+
+  private int modCount = 0;
+
+  /**
+   * @param initialCapacity
+   *          the initial capacity which is rounded up to a power of two.
+   */
+  public MutableFloatArrayDeque(final int initialCapacity)
+  {
+    checkInitialLength(initialCapacity);
+    this.initialCapacity = capacityFor(initialCapacity);
+    this.elements = new float[this.initialCapacity];
+  }
+
+  public MutableFloatArrayDeque()
+  {
+    this(DEFAULT_INITIAL_LENGTH);
+  }
+
+  public MutableFloatArrayDeque(final float[] elements)
+  {
+    this(elements.length);
+    addAll(elements);
+  }
+
+  /**
+   * @return the smallest power of two greater than or equal to the given capacity.
+   */
+  private static int capacityFor(final int capacity)
+  {
+    if (MAXIMUM_CAPACITY < capacity || 0 > capacity)
+    {
+      throw new OutOfMemoryError();
+    }
+    return 1 >= capacity ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  private int indexInArray(final int index)
+  {
+    return (head + index) & (elements.length - 1);
+  }
+
+  /**
+   * Copies the given number of the elements from the given index in order into the given array.
+   */
+  private void copyTo(final int fromIndex, final float[] destination, final int destinationPosition, final int howMany)
+  {
+    final int from = indexInArray(fromIndex);
+    final int firstPart = Math.min(howMany, elements.length - from);
+    System.arraycopy(elements, from, destination, destinationPosition, firstPart);
+    System.arraycopy(elements, 0, destination, destinationPosition + firstPart, howMany - firstPart);
+  }
+
+  private void ensureCapacity(final int lengthAfterAdding)
+  {
+    modCount++;
+    if (0 < lengthAfterAdding - elements.length)
+    {
+      final float[] newElements = new float[capacityFor(lengthAfterAdding)];
+      copyTo(0, newElements, 0, length);
+      this.elements = newElements;
+      this.head = 0;
+    }
+  }
+
+  @Override
+  public float get(final int index)
+  {
+    checkIndex(length, index);
+    return elements[indexInArray(index)];
+  }
+
+  @Override
+  public int indexOf(final float element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(elements[indexInArray(i)]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final float element)
+  {
+    return 0 == length ? -1 : indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final float element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(elements[indexInArray(i)]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final float element)
+  {
+    return 0 == length ? -1 : lastIndexOf(element, length);
+  }
+
+  @Override
+  public boolean exists(final FloatCondition1 seeker)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (seeker.isMet(elements[indexInArray(i)]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final float element)
+  {
+    return 0 <= indexOf(element);
+  }
+
+  @Override
+  public boolean containsAll(final float[] elements)
+  {
+    for (final float element : elements)
+    {
+      if (!contains(element))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final FloatList elements)
+  {
+    return containsAll(elements.toArray());
+  }
+
+  @Override
+  public MutableFloatArrayDeque select(final FloatCondition1 condition)
+  {
+    final MutableFloatArrayDeque selected = new MutableFloatArrayDeque(length);
+    for (int i = 0; i < length; i++)
+    {
+      final float element = elements[indexInArray(i)];
+      if (condition.isMet(element))
+      {
+        selected.addLast(element);
+      }
+    }
+    return selected;
+  }
+
+  @Override
+  public MutableFloatArrayDeque mapToFloat(final FloatToFloatFunction1 function)
+  {
+    final MutableFloatArrayDeque mapped = new MutableFloatArrayDeque(length);
+    for (int i = 0; i < length; i++)
+    {
+      mapped.addLast(function.apply(elements[indexInArray(i)]));
+    }
+    return mapped;
+  }
+
+  @Override
+  public MutableFloatArrayDeque mapToFloatSelectively(final FloatCondition1 condition,
+      final FloatToFloatFunction1 function)
+  {
+    final MutableFloatArrayDeque mapped = new MutableFloatArrayDeque(length);
+    for (int i = 0; i < length; i++)
+    {
+      final float element = elements[indexInArray(i)];
+      if (condition.isMet(element))
+      {
+        mapped.addLast(function.apply(element));
+      }
+    }
+    return mapped;
+  }
+
+  @Override
+  public void forEach(final VoidFloatFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(elements[indexInArray(i)]);
+    }
+  }
+
+  @Override
+  public void forEach(final FloatToFloatFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      final int index = indexInArray(i);
+      elements[index] = function.apply(elements[index]);
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFloatFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(elements[indexInArray(i)]))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final FloatCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (int i = 0; i < length; i++)
+    {
+      if (conditionToMeet.isMet(elements[indexInArray(i)]))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public MutableFloatArrayDeque subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    final int newLength = toIndex - fromIndex;
+    final MutableFloatArrayDeque subList = new MutableFloatArrayDeque(newLength);
+    copyTo(fromIndex, subList.elements, 0, newLength);
+    subList.length = newLength;
+    return subList;
+  }
+
+  @Override
+  public float[] toArray()
+  {
+    final float[] newElements = new float[length];
+    copyTo(0, newElements, 0, length);
+    return newElements;
+  }
+
+  @Override
+  public void addFirst(final float element)
+  {
+    ensureCapacity(length + 1);
+    head = (head - 1) & (elements.length - 1);
+    elements[head] = element;
+    length++;
+  }
+
+  @Override
+  public void addLast(final float element)
+  {
+    ensureCapacity(length + 1);
+    elements[indexInArray(length)] = element;
+    length++;
+  }
+
+  @Override
+  public boolean addAll(final float[] elements)
+  {
+    return addAll(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean addAll(final float[] elements, final int offset, final int length)
+  {
+    checkRange(elements.length, offset, offset + length);
+    ensureCapacity(this.length + length);
+    final int tail = indexInArray(this.length);
+    final int firstPart = Math.min(length, this.elements.length - tail);
+    System.arraycopy(elements, offset, this.elements, tail, firstPart);
+    System.arraycopy(elements, offset + firstPart, this.elements, 0, length - firstPart);
+    this.length += length;
+    return 0 != length;
+  }
+
+  @Override
+  public boolean addAll(final FloatList elements)
+  {
+    if (elements instanceof MutableFloatArrayDeque)
+    {
+      final MutableFloatArrayDeque that = (MutableFloatArrayDeque) elements;
+      final int howMany = that.length;
+      ensureCapacity(length + howMany);
+      if (this == that)
+      {
+        /* the tail part of this deque is free so copying it there does not overwrite the elements still to copy. */
+        for (int i = 0; i < howMany; i++)
+        {
+          this.elements[indexInArray(howMany + i)] = this.elements[indexInArray(i)];
+        }
+      }
+      else
+      {
+        final int tail = indexInArray(length);
+        final int firstPart = Math.min(howMany, this.elements.length - tail);
+        that.copyTo(0, this.elements, tail, firstPart);
+        that.copyTo(firstPart, this.elements, 0, howMany - firstPart);
+      }
+      length += howMany;
+      return 0 != howMany;
+    }
+    return addAll(elements.toArray());
+  }
+
+  @Override
+  public boolean addAll(final FloatBuffer buffer)
+  {
+    final int howMany = buffer.remaining();
+    ensureCapacity(length + howMany);
+    final int tail = indexInArray(length);
+    final int firstPart = Math.min(howMany, elements.length - tail);
+    buffer.get(elements, tail, firstPart);
+    buffer.get(elements, 0, howMany - firstPart);
+    length += howMany;
+    return 0 != howMany;
+  }
+
+  private void checkNotEmpty()
+  {
+    if (0 == length)
+    {
+      throw new NoSuchElementException("The deque is empty.");
+    }
+  }
+
+  @Override
+  public float peekFirst()
+  {
+    checkNotEmpty();
+    return elements[head];
+  }
+
+  @Override
+  public float peekLast()
+  {
+    checkNotEmpty();
+    return elements[indexInArray(length - 1)];
+  }
+
+  @Override
+  public float pollFirst()
+  {
+    checkNotEmpty();
+    modCount++;
+    final float element = elements[head];
+    head = (head + 1) & (elements.length - 1);
+    length--;
+    return element;
+  }
+
+  @Override
+  public float pollLast()
+  {
+    checkNotEmpty();
+    modCount++;
+    length--;
+    return elements[indexInArray(length)];
+  }
+
+  @Override
+  public void discardFirst(final int howMany)
+  {
+    checkRange(length, 0, howMany);
+    modCount++;
+    head = indexInArray(howMany);
+    length -= howMany;
+  }
+
+  @Override
+  public int drainTo(final float[] destination)
+  {
+    return drainTo(destination, 0, destination.length);
+  }
+
+  @Override
+  public int drainTo(final float[] destination, final int offset, final int length)
+  {
+    checkRange(destination.length, offset, offset + length);
+    final int howMany = Math.min(length, this.length);
+    copyTo(0, destination, offset, howMany);
+    discardFirst(howMany);
+    return howMany;
+  }
+
+  @Override
+  public int drainTo(final FloatBuffer buffer)
+  {
+    final int howMany = Math.min(buffer.remaining(), length);
+    final int firstPart = Math.min(howMany, elements.length - head);
+    buffer.put(elements, head, firstPart);
+    buffer.put(elements, 0, howMany - firstPart);
+    discardFirst(howMany);
+    return howMany;
+  }
+
+  private class InternalIterator implements Iterator<Float>
+  {
+    int current = 0;
+    int expectedModCount = modCount;
+
+    @Override
+    public void remove()
+    {
+      throw new UnsupportedOperationException(
+          "MutableFloatArrayDeque does not support removing through its iterator.");
+    }
+
+    @Override
+    public Float next()
+    {
+      if (modCount != expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+      final int index = current;
+      if (index >= length)
+      {
+        throw new NoSuchElementException();
+      }
+      current = index + 1;
+      return Float.valueOf(elements[indexInArray(index)]);
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return current < length;
+    }
+  }
+
+  @Override
+  public Iterator<Float> iterator()
+  {
+    return new InternalIterator();
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Float[] toBoxedArray()
+  {
+    final Float[] boxedElements = new Float[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Float.valueOf(elements[indexInArray(i)]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Float> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  int getCapacity()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    elements = new float[initialCapacity];
+    head = 0;
+    length = 0;
+  }
+
+  /**
+   * @return the same hash code as {@link MutableFloatArrayList} with the same elements has.
+   */
+  @Override
+  public int hashCode()
+  {
+    int result = 1;
+    for (int i = 0; i < length; i++)
+    {
+      result = 31 * result + Float.floatToIntBits(elements[indexInArray(i)]);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object mutableFloatArrayDeque)
+  {
+    if (this == mutableFloatArrayDeque)
+    {
+      return true;
+    }
+    final FloatList that = castIfInstanceOf(FloatList.class, mutableFloatArrayDeque);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (Float.floatToIntBits(elements[indexInArray(i)]) != Float.floatToIntBits(that.get(i)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(toArray());
+  }
+}
@@ -0,0 +1,663 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.primitive.FloatList;
+import org.elixirian.kommonlee.collect.primitive.PrimitiveSorts;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatToFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidFloatFunction1;
+import org.elixirian.kommonlee.util.NeoArrays;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______  
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \ 
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-06)
+ */
+public class MutableFloatArrayList implements MutableFloatList
+{
+  public static final int DEFAULT_INITIAL_LENGTH = 8;
+
+  public static final int DEFAULT_INCREASE_BY = 16;
+
+  /**
+   * The default growth factor. With it, the capacity grows by half each time so adding n elements one by one copies
+   * the elements O(n) times in total instead of O(n^2) times with the fixed increaseBy only.
+   */
+  public static final float DEFAULT_GROWTH_FACTOR = 1.5F;
+
+  private float[] elements;
+
+  private int length;
+
+  private final int initialCapacity;
+
+  private int increaseBy;
+
+  private final float growthFactor;
+
+  private int modCount = 0;
+
+  /**
+   * @param elements
+   *          the elements to copy.
+   * @param length
+   *          the number of the elements to copy.
+   * @param increaseBy
+   *          the minimum number of the elements the capacity grows by.
+   * @param growthFactor
+   *          the factor the capacity is multiplied by when it grows. 1 means it always grows by increaseBy only.
+   */
+  public MutableFloatArrayList(final float[] elements, final int length, final int increaseBy, final float growthFactor)
+  {
+    checkCapacityAndLength(elements.length, length);
+    checkGrowthFactor(growthFactor);
+    this.elements = Arrays.copyOf(elements, length);
+    this.length = length;
+    this.initialCapacity = length;
+    this.increaseBy = increaseBy;
+    this.growthFactor = growthFactor;
+  }
+
+  public MutableFloatArrayList(final float[] elements, final int length, final int increaseBy)
+  {
+    this(elements, length, increaseBy, DEFAULT_GROWTH_FACTOR);
+  }
+
+  /**
+   * @param initialCapacity
+   *          the initial capacity.
+   * @param increaseBy
+   *          the minimum number of the elements the capacity grows by.
+   * @param growthFactor
+   *          the factor the capacity is multiplied by when it grows. 1 means it always grows by increaseBy only.
+   */
+  public MutableFloatArrayList(final int initialCapacity, final int increaseBy, final float growthFactor)
+  {
+    checkInitialLength(initialCapacity);
+    checkGrowthFactor(growthFactor);
+    this.elements = new float[initialCapacity];
+    this.length = 0;
+    this.initialCapacity = initialCapacity;
+    this.increaseBy = increaseBy;
+    this.growthFactor = growthFactor;
+  }
+
+  public MutableFloatArrayList(final int initialCapacity, final int increaseBy)
+  {
+    this(initialCapacity, increaseBy, DEFAULT_GROWTH_FACTOR);
+  }
+
+  public MutableFloatArrayList(final float[] elements)
+  {
+    this(elements, elements.length, DEFAULT_INCREASE_BY);
+  }
+
+  public MutableFloatArrayList()
+  {
+    this(DEFAULT_INITIAL_LENGTH, DEFAULT_INCREASE_BY);
+  }
+
+  private static void checkGrowthFactor(final float growthFactor)
+  {
+    if (!(1.0F <= growthFactor))
+    {
+      throw new IllegalArgumentException("growthFactor must be greater than or equal to 1. [growthFactor: "
+          + growthFactor + "]");
+    }
+  }
+
+  @Override
+  public float get(final int index)
+  {
+    checkIndex(length, index);
+    return elements[index];
+  }
+
+  @Override
+  public int indexOf(final float element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(this.elements[i]))
+      {
+        return i;
+      }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final float element)
+  {
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final float element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(this.elements[i]))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final float element)
+  {
+    return lastIndexOf(element, length);
+  }
+
+  @Override
+  public boolean exists(final FloatCondition1 seeker)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (seeker.isMet(elements[i]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final float element)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (Float.floatToIntBits(element) == Float.floatToIntBits(elements[i]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final float[] elements)
+  {
+    for (final float b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final FloatList elements)
+  {
+    for (final float b : elements.toArray())
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public MutableFloatList select(final FloatCondition1 condition)
+  {
+    final MutableFloatList floatList = new MutableFloatArrayList(length, DEFAULT_INCREASE_BY);
+    for (int i = 0; i < length; i++)
+    {
+      final float b = this.elements[i];
+      if (condition.isMet(b))
+      {
+        floatList.add(b);
+      }
+    }
+    floatList.trim();
+    return floatList;
+  }
+
+  @Override
+  public MutableFloatList mapToFloat(final FloatToFloatFunction1 function)
+  {
+    final MutableFloatList floatList = new MutableFloatArrayList(length, DEFAULT_INCREASE_BY);
+    for (int i = 0; i < length; i++)
+    {
+      /* @formatter:off */
+      floatList.add(function
+                  .apply(this.elements[i]));
+      /* @formatter:on */
+    }
+    return floatList;
+  }
+
+  @Override
+  public MutableFloatList mapToFloatSelectively(final FloatCondition1 condition, final FloatToFloatFunction1 function)
+  {
+    final MutableFloatList floatList = new MutableFloatArrayList(length, DEFAULT_INCREASE_BY);
+    for (int i = 0; i < length; i++)
+    {
+      final float b = this.elements[i];
+      if (condition.isMet(b))
+      {
+        /* @formatter:off */
+        floatList.add(function
+                    .apply(b));
+        /* @formatter:on */
+      }
+    }
+    floatList.trim();
+    return floatList;
+  }
+
+  @Override
+  public void forEach(final VoidFloatFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(this.elements[i]);
+    }
+  }
+
+  @Override
+  public void forEach(final FloatToFloatFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      this.elements[i] = function.apply(this.elements[i]);
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableFloatFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(this.elements[i]))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final FloatCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (int i = 0; i < length; i++)
+    {
+      if (conditionToMeet.isMet(this.elements[i]))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public MutableFloatList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    final int newLength = toIndex - fromIndex;
+    final float[] newElements = new float[newLength];
+    System.arraycopy(this.elements, fromIndex, newElements, 0, newLength);
+
+    return new MutableFloatArrayList(newElements);
+  }
+
+  @Override
+  public float[] toArray()
+  {
+    final float[] newElements = new float[length];
+    System.arraycopy(this.elements, 0, newElements, 0, length);
+    return newElements;
+  }
+
+  private class InternalIterator implements Iterator<Float>
+  {
+
+    int current = 0;
+    int last = -1;
+    int expectedModCount = modCount;
+
+    private void checkForComodification()
+    {
+      if (modCount != expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void remove()
+    {
+      if (0 > last)
+      {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      try
+      {
+        MutableFloatArrayList.this.removeAt(last);
+        current = last;
+        last = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e)
+      {
+        throw new ConcurrentModificationException(
+            "ConcurrentModificationException is thrown when removing an element at the index, " + last + ". cause: "
+                + e.toString());
+      }
+    }
+
+    @Override
+    public Float next()
+    {
+      checkForComodification();
+
+      final int index = current;
+      if (index >= length)
+      {
+        throw new NoSuchElementException();
+      }
+      final float[] elements = MutableFloatArrayList.this.elements;
+      if (index >= elements.length)
+      {
+        throw new ConcurrentModificationException("index >= capacity [index: " + index + ", capacity: "
+            + elements.length + "]");
+      }
+      @SuppressWarnings("boxing")
+      final Float next = elements[index];
+      current = index + 1;
+      last = index;
+      return next;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return current < length;
+    }
+  }
+
+  @Override
+  public Iterator<Float> iterator()
+  {
+    return new InternalIterator();
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Float[] toBoxedArray()
+  {
+    final Float[] boxedElements = new Float[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Float.valueOf(this.elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Float> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  private void ensureCapacity(final int lengthAfterAdding)
+  {
+    modCount++;
+    if (0 < lengthAfterAdding - elements.length)
+    {
+      /* the float to int conversion saturates at Integer.MAX_VALUE and the overflow is handled below. */
+      int newCapacity = elements.length + Math.max(increaseBy, (int) (elements.length * (growthFactor - 1.0F)));
+      if (0 > newCapacity - lengthAfterAdding)
+      {
+        newCapacity = lengthAfterAdding;
+      }
+      if (0 > newCapacity)
+      {
+        if (0 > lengthAfterAdding)
+        {
+          throw new OutOfMemoryError();
+        }
+        newCapacity = Integer.MAX_VALUE;
+      }
+      this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
+  }
+
+  @Override
+  public boolean add(final float element)
+  {
+    ensureCapacity(length + 1);
+    this.elements[length] = element;
+    length++;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final float[] elements)
+  {
+    final int oldLength = length;
+    final int newElementLength = elements.length;
+    ensureCapacity(oldLength + newElementLength);
+    System.arraycopy(elements, 0, this.elements, oldLength, newElementLength);
+    length += newElementLength;
+    return oldLength != length;
+  }
+
+  @Override
+  public boolean addAll(final FloatList elements)
+  {
+    return addAll(elements.toArray());
+  }
+
+  @Override
+  public boolean remove(final float element)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (Float.floatToIntBits(this.elements[i]) == Float.floatToIntBits(element))
+      {
+        remove0(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void remove0(final int index)
+  {
+    modCount++;
+    final int howManyToMove = length - index - 1;
+    if (0 < howManyToMove)
+    {
+      System.arraycopy(this.elements, index + 1, this.elements, index, howManyToMove);
+    }
+    length--;
+    elements[length] = 0;
+  }
+
+  @Override
+  public float removeAt(final int index)
+  {
+    checkIndex(this.length, index);
+    final float b = this.elements[index];
+    remove0(index);
+    return b;
+  }
+
+  @Override
+  public void sort()
+  {
+    modCount++;
+    PrimitiveSorts.sort(this.elements, 0, length);
+  }
+
+  @Override
+  public int getIncreaseBy()
+  {
+    return increaseBy;
+  }
+
+  @Override
+  public float getGrowthFactor()
+  {
+    return growthFactor;
+  }
+
+  int getCapacity()
+  {
+    return this.elements.length;
+  }
+
+  @Override
+  public MutableFloatArrayList trim()
+  {
+    modCount++;
+    if (length != elements.length)
+    {
+      this.elements = Arrays.copyOf(this.elements, length);
+    }
+    return this;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    elements = new float[initialCapacity];
+    length = 0;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return NeoArrays.hash(this.elements, 0, length);
+  }
+
+  @Override
+  public boolean equals(final Object mutableFloatArrayList)
+  {
+    if (this == mutableFloatArrayList)
+    {
+      return true;
+    }
+    final FloatList that = castIfInstanceOf(FloatList.class, mutableFloatArrayList);
+    if (null == that)
+    {
+      return false;
+    }
+    final int thisLength = this.length;
+    final int thatLength = that.length();
+    if (thisLength != thatLength)
+    {
+      return false;
+    }
+
+    int thisIndex = 0;
+    int thatIndex = 0;
+    while (thisLength > thisIndex && thatLength > thatIndex)
+    {
+      if (Float.floatToIntBits(this.elements[thisIndex]) != Float.floatToIntBits(that.get(thatIndex)))
+      {
+        return false;
+      }
+      thisIndex++;
+      thatIndex++;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(toArray());
+  }
+}
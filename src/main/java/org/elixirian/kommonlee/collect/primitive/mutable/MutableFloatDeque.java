@@ -0,0 +1,209 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+
+import org.elixirian.kommonlee.collect.primitive.FloatList;
+import org.elixirian.kommonlee.type.functional.primitive.FloatCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatToFloatFunction1;
+import org.elixirian.kommonlee.type.mutable.Clearable;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Double-ended queue of float values which can be read as a {@link FloatList}. Adding and removing at either end
+ * takes constant time so it suits FIFO use, such as appending at the tail and consuming from the head, which costs a
+ * copy of the whole tail per removal with {@link MutableFloatList#removeAt(int)}.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public interface MutableFloatDeque extends FloatList, Clearable
+{
+  @Override
+  MutableFloatDeque select(FloatCondition1 condition);
+
+  @Override
+  MutableFloatDeque mapToFloat(FloatToFloatFunction1 function);
+
+  @Override
+  MutableFloatDeque mapToFloatSelectively(FloatCondition1 condition, FloatToFloatFunction1 function);
+
+  @Override
+  List<Float> convertTo();
+
+  @Override
+  MutableFloatDeque subList(int fromIndex, int toIndex);
+
+  /**
+   * Inserts the given element at the head.
+   *
+   * @param element
+   *          the element to insert.
+   */
+  void addFirst(float element);
+
+  /**
+   * Appends the given element at the tail.
+   *
+   * @param element
+   *          the element to append.
+   */
+  void addLast(float element);
+
+  /**
+   * Appends all the given elements at the tail in order.
+   *
+   * @param elements
+   *          the elements to append.
+   * @return true if any element has been added.
+   */
+  boolean addAll(float[] elements);
+
+  /**
+   * Appends the given range of the array at the tail in order.
+   *
+   * @param elements
+   *          the array containing the elements to append.
+   * @param offset
+   *          the index of the first element to append.
+   * @param length
+   *          the number of the elements to append.
+   * @return true if any element has been added.
+   */
+  boolean addAll(float[] elements, int offset, int length);
+
+  boolean addAll(FloatList elements);
+
+  /**
+   * Appends all the remaining elements of the given buffer at the tail. The position of the buffer is moved to its
+   * limit.
+   *
+   * @param buffer
+   *          the buffer containing the elements to append.
+   * @return true if any element has been added.
+   */
+  boolean addAll(FloatBuffer buffer);
+
+  /**
+   * @return the element at the head.
+   * @exception java.util.NoSuchElementException
+   *              if it is empty.
+   */
+  float peekFirst();
+
+  /**
+   * @return the element at the tail.
+   * @exception java.util.NoSuchElementException
+   *              if it is empty.
+   */
+  float peekLast();
+
+  /**
+   * Removes the element at the head.
+   *
+   * @return the removed element.
+   * @exception java.util.NoSuchElementException
+   *              if it is empty as a primitive value cannot be null.
+   */
+  float pollFirst();
+
+  /**
+   * Removes the element at the tail.
+   *
+   * @return the removed element.
+   * @exception java.util.NoSuchElementException
+   *              if it is empty as a primitive value cannot be null.
+   */
+  float pollLast();
+
+  /**
+   * Removes the given number of the elements from the head without copying them.
+   *
+   * @param howMany
+   *          the number of the elements to remove.
+   * @exception IndexOutOfBoundsException
+   *              if howMany is negative or greater than the length.
+   */
+  void discardFirst(int howMany);
+
+  /**
+   * Removes the elements from the head into the given array, as many as the array can take.
+   *
+   * @param destination
+   *          the array to put the removed elements.
+   * @return the number of the removed elements.
+   */
+  int drainTo(float[] destination);
+
+  /**
+   * Removes the elements from the head into the given range of the array, as many as the range can take.
+   *
+   * @param destination
+   *          the array to put the removed elements.
+   * @param offset
+   *          the index in the destination array to put the first removed element.
+   * @param length
+   *          the maximum number of the elements to remove.
+   * @return the number of the removed elements.
+   */
+  int drainTo(float[] destination, int offset, int length);
+
+  /**
+   * Removes the elements from the head into the given buffer, as many as the remaining space of the buffer can take.
+   * The position of the buffer is moved past the elements put.
+   *
+   * @param buffer
+   *          the buffer to put the removed elements.
+   * @return the number of the removed elements.
+   */
+  int drainTo(FloatBuffer buffer);
+
+  @Override
+  void clear();
+}
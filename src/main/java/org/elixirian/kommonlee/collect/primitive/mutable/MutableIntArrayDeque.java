@@ -0,0 +1,646 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+
+import java.nio.IntBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.primitive.IntList;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableIntFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.IntCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.IntToIntFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link MutableIntDeque} backed by a circular array. The head moves instead of the elements so adding or
+ * removing at either end takes constant time, and the bulk operations copy with at most two
+ * {@link System#arraycopy(Object, int, Object, int, int)} calls (one for each side of the wrap-around). The capacity
+ * is always a power of two so the index in the array is found with a mask, and it doubles when it is full.
+ * <p>
+ * Its iterator is fail-fast but does not support {@link Iterator#remove()}.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public class MutableIntArrayDeque implements MutableIntDeque
+{
+  public static final int DEFAULT_INITIAL_LENGTH = 16;
+
+  /**
+   * the largest power of two an array can have.
+   */
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private int[] elements;
+
+  private int head;
+
+  private int length;
+
+  private final int initialCapacity;
+
+  private int modCount = 0;
+
+  /**
+   * @param initialCapacity
+   *          the initial capacity which is rounded up to a power of two.
+   */
+  public MutableIntArrayDeque(final int initialCapacity)
+  {
+    checkInitialLength(initialCapacity);
+    this.initialCapacity = capacityFor(initialCapacity);
+    this.elements = new int[this.initialCapacity];
+  }
+
+  public MutableIntArrayDeque()
+  {
+    this(DEFAULT_INITIAL_LENGTH);
+  }
+
+  public MutableIntArrayDeque(final int[] elements)
+  {
+    this(elements.length);
+    addAll(elements);
+  }
+
+  /**
+   * @return the smallest power of two greater than or equal to the given capacity.
+   */
+  private static int capacityFor(final int capacity)
+  {
+    if (MAXIMUM_CAPACITY < capacity || 0 > capacity)
+    {
+      throw new OutOfMemoryError();
+    }
+    return 1 >= capacity ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  private int indexInArray(final int index)
+  {
+    return (head + index) & (elements.length - 1);
+  }
+
+  /**
+   * Copies the given number of the elements from the given index in order into the given array.
+   */
+  private void copyTo(final int fromIndex, final int[] destination, final int destinationPosition, final int howMany)
+  {
+    final int from = indexInArray(fromIndex);
+    final int firstPart = Math.min(howMany, elements.length - from);
+    System.arraycopy(elements, from, destination, destinationPosition, firstPart);
+    System.arraycopy(elements, 0, destination, destinationPosition + firstPart, howMany - firstPart);
+  }
+
+  private void ensureCapacity(final int lengthAfterAdding)
+  {
+    modCount++;
+    if (0 < lengthAfterAdding - elements.length)
+    {
+      final int[] newElements = new int[capacityFor(lengthAfterAdding)];
+      copyTo(0, newElements, 0, length);
+      this.elements = newElements;
+      this.head = 0;
+    }
+  }
+
+  @Override
+  public int get(final int index)
+  {
+    checkIndex(length, index);
+    return elements[indexInArray(index)];
+  }
+
+  @Override
+  public int indexOf(final int element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (element == elements[indexInArray(i)])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final int element)
+  {
+    return 0 == length ? -1 : indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final int element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(length, toIndexToUse);
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (element == elements[indexInArray(i)])
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final int element)
+  {
+    return 0 == length ? -1 : lastIndexOf(element, length);
+  }
+
+  @Override
+  public boolean exists(final IntCondition1 seeker)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (seeker.isMet(elements[indexInArray(i)]))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final int element)
+  {
+    return 0 <= indexOf(element);
+  }
+
+  @Override
+  public boolean containsAll(final int[] elements)
+  {
+    for (final int element : elements)
+    {
+      if (!contains(element))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final IntList elements)
+  {
+    return containsAll(elements.toArray());
+  }
+
+  @Override
+  public MutableIntArrayDeque select(final IntCondition1 condition)
+  {
+    final MutableIntArrayDeque selected = new MutableIntArrayDeque(length);
+    for (int i = 0; i < length; i++)
+    {
+      final int element = elements[indexInArray(i)];
+      if (condition.isMet(element))
+      {
+        selected.addLast(element);
+      }
+    }
+    return selected;
+  }
+
+  @Override
+  public MutableIntArrayDeque mapToInt(final IntToIntFunction1 function)
+  {
+    final MutableIntArrayDeque mapped = new MutableIntArrayDeque(length);
+    for (int i = 0; i < length; i++)
+    {
+      mapped.addLast(function.apply(elements[indexInArray(i)]));
+    }
+    return mapped;
+  }
+
+  @Override
+  public MutableIntArrayDeque mapToIntSelectively(final IntCondition1 condition,
+      final IntToIntFunction1 function)
+  {
+    final MutableIntArrayDeque mapped = new MutableIntArrayDeque(length);
+    for (int i = 0; i < length; i++)
+    {
+      final int element = elements[indexInArray(i)];
+      if (condition.isMet(element))
+      {
+        mapped.addLast(function.apply(element));
+      }
+    }
+    return mapped;
+  }
+
+  @Override
+  public void forEach(final VoidIntFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(elements[indexInArray(i)]);
+    }
+  }
+
+  @Override
+  public void forEach(final IntToIntFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      final int index = indexInArray(i);
+      elements[index] = function.apply(elements[index]);
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableIntFunction1 function)
+  {
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(elements[indexInArray(i)]))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final IntCondition1 conditionToMeet)
+  {
+    int count = 0;
+    for (int i = 0; i < length; i++)
+    {
+      if (conditionToMeet.isMet(elements[indexInArray(i)]))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public MutableIntArrayDeque subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    final int newLength = toIndex - fromIndex;
+    final MutableIntArrayDeque subList = new MutableIntArrayDeque(newLength);
+    copyTo(fromIndex, subList.elements, 0, newLength);
+    subList.length = newLength;
+    return subList;
+  }
+
+  @Override
+  public int[] toArray()
+  {
+    final int[] newElements = new int[length];
+    copyTo(0, newElements, 0, length);
+    return newElements;
+  }
+
+  @Override
+  public void addFirst(final int element)
+  {
+    ensureCapacity(length + 1);
+    head = (head - 1) & (elements.length - 1);
+    elements[head] = element;
+    length++;
+  }
+
+  @Override
+  public void addLast(final int element)
+  {
+    ensureCapacity(length + 1);
+    elements[indexInArray(length)] = element;
+    length++;
+  }
+
+  @Override
+  public boolean addAll(final int[] elements)
+  {
+    return addAll(elements, 0, elements.length);
+  }
+
+  @Override
+  public boolean addAll(final int[] elements, final int offset, final int length)
+  {
+    checkRange(elements.length, offset, offset + length);
+    ensureCapacity(this.length + length);
+    final int tail = indexInArray(this.length);
+    final int firstPart = Math.min(length, this.elements.length - tail);
+    System.arraycopy(elements, offset, this.elements, tail, firstPart);
+    System.arraycopy(elements, offset + firstPart, this.elements, 0, length - firstPart);
+    this.length += length;
+    return 0 != length;
+  }
+
+  @Override
+  public boolean addAll(final IntList elements)
+  {
+    if (elements instanceof MutableIntArrayDeque)
+    {
+      final MutableIntArrayDeque that = (MutableIntArrayDeque) elements;
+      final int howMany = that.length;
+      ensureCapacity(length + howMany);
+      if (this == that)
+      {
+        /* the tail part of this deque is free so copying it there does not overwrite the elements still to copy. */
+        for (int i = 0; i < howMany; i++)
+        {
+          this.elements[indexInArray(howMany + i)] = this.elements[indexInArray(i)];
+        }
+      }
+      else
+      {
+        final int tail = indexInArray(length);
+        final int firstPart = Math.min(howMany, this.elements.length - tail);
+        that.copyTo(0, this.elements, tail, firstPart);
+        that.copyTo(firstPart, this.elements, 0, howMany - firstPart);
+      }
+      length += howMany;
+      return 0 != howMany;
+    }
+    return addAll(elements.toArray());
+  }
+
+  @Override
+  public boolean addAll(final IntBuffer buffer)
+  {
+    final int howMany = buffer.remaining();
+    ensureCapacity(length + howMany);
+    final int tail = indexInArray(length);
+    final int firstPart = Math.min(howMany, elements.length - tail);
+    buffer.get(elements, tail, firstPart);
+    buffer.get(elements, 0, howMany - firstPart);
+    length += howMany;
+    return 0 != howMany;
+  }
+
+  private void checkNotEmpty()
+  {
+    if (0 == length)
+    {
+      throw new NoSuchElementException("The deque is empty.");
+    }
+  }
+
+  @Override
+  public int peekFirst()
+  {
+    checkNotEmpty();
+    return elements[head];
+  }
+
+  @Override
+  public int peekLast()
+  {
+    checkNotEmpty();
+    return elements[indexInArray(length - 1)];
+  }
+
+  @Override
+  public int pollFirst()
+  {
+    checkNotEmpty();
+    modCount++;
+    final int element = elements[head];
+    head = (head + 1) & (elements.length - 1);
+    length--;
+    return element;
+  }
+
+  @Override
+  public int pollLast()
+  {
+    checkNotEmpty();
+    modCount++;
+    length--;
+    return elements[indexInArray(length)];
+  }
+
+  @Override
+  public void discardFirst(final int howMany)
+  {
+    checkRange(length, 0, howMany);
+    modCount++;
+    head = indexInArray(howMany);
+    length -= howMany;
+  }
+
+  @Override
+  public int drainTo(final int[] destination)
+  {
+    return drainTo(destination, 0, destination.length);
+  }
+
+  @Override
+  public int drainTo(final int[] destination, final int offset, final int length)
+  {
+    checkRange(destination.length, offset, offset + length);
+    final int howMany = Math.min(length, this.length);
+    copyTo(0, destination, offset, howMany);
+    discardFirst(howMany);
+    return howMany;
+  }
+
+  @Override
+  public int drainTo(final IntBuffer buffer)
+  {
+    final int howMany = Math.min(buffer.remaining(), length);
+    final int firstPart = Math.min(howMany, elements.length - head);
+    buffer.put(elements, head, firstPart);
+    buffer.put(elements, 0, howMany - firstPart);
+    discardFirst(howMany);
+    return howMany;
+  }
+
+  private class InternalIterator implements Iterator<Integer>
+  {
+    int current = 0;
+    int expectedModCount = modCount;
+
+    @Override
+    public void remove()
+    {
+      throw new UnsupportedOperationException(
+          "MutableIntArrayDeque does not support removing through its iterator.");
+    }
+
+    @Override
+    public Integer next()
+    {
+      if (modCount != expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+      final int index = current;
+      if (index >= length)
+      {
+        throw new NoSuchElementException();
+      }
+      current = index + 1;
+      return Integer.valueOf(elements[indexInArray(index)]);
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return current < length;
+    }
+  }
+
+  @Override
+  public Iterator<Integer> iterator()
+  {
+    return new InternalIterator();
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Integer[] toBoxedArray()
+  {
+    final Integer[] boxedElements = new Integer[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Integer.valueOf(elements[indexInArray(i)]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Integer> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  int getCapacity()
+  {
+    return elements.length;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    elements = new int[initialCapacity];
+    head = 0;
+    length = 0;
+  }
+
+  /**
+   * @return the same hash code as {@link MutableIntArrayList} with the same elements has.
+   */
+  @Override
+  public int hashCode()
+  {
+    int result = 1;
+    for (int i = 0; i < length; i++)
+    {
+      result = 31 * result + elements[indexInArray(i)];
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object mutableIntArrayDeque)
+  {
+    if (this == mutableIntArrayDeque)
+    {
+      return true;
+    }
+    final IntList that = castIfInstanceOf(IntList.class, mutableIntArrayDeque);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    for (int i = 0; i < length; i++)
+    {
+      if (elements[indexInArray(i)] != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    return Objects.toStringOf(toArray());
+  }
+}
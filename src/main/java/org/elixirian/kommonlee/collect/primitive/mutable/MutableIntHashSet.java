@@ -0,0 +1,525 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.primitive.mutable.PrimitiveHashing.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.IntSet;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link MutableIntSet} using open addressing with linear probing over a flat int array so that there is neither an
+ * entry object nor a boxed {@link Integer} per element. The key 0 marks a free slot in the table so the element 0 is kept
+ * in a separate flag. Removal shifts the following entries back instead of leaving tombstones so lookups never slow
+ * down after many removals.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-07)
+ */
+public class MutableIntHashSet implements MutableIntSet
+{
+  private final float loadFactor;
+
+  private int[] keys;
+
+  private int mask;
+
+  private int resizeAt;
+
+  /**
+   * the number of the elements in the table (i.e. the size excluding the element 0).
+   */
+  private int occupied;
+
+  private boolean hasZero;
+
+  private int modCount;
+
+  public MutableIntHashSet(final int expectedSize, final float loadFactor)
+  {
+    checkLoadFactor(loadFactor);
+    this.loadFactor = loadFactor;
+    allocate(capacityFor(expectedSize, loadFactor));
+  }
+
+  public MutableIntHashSet(final int expectedSize)
+  {
+    this(expectedSize, DEFAULT_LOAD_FACTOR);
+  }
+
+  public MutableIntHashSet()
+  {
+    this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+  }
+
+  public MutableIntHashSet(final int[] elements)
+  {
+    this(elements.length, DEFAULT_LOAD_FACTOR);
+    addAll(elements);
+  }
+
+  private void allocate(final int capacity)
+  {
+    this.keys = new int[capacity];
+    this.mask = capacity - 1;
+    this.resizeAt = MAX_CAPACITY == capacity ? capacity - 1 : resizeAtFor(capacity, loadFactor);
+  }
+
+  private int slotOf(final int key)
+  {
+    int slot = mix(key) & mask;
+    int found;
+    while (0 != (found = keys[slot]))
+    {
+      if (key == found)
+      {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean contains(final int element)
+  {
+    if (0 == element)
+    {
+      return hasZero;
+    }
+    return 0 <= slotOf(element);
+  }
+
+  @Override
+  public boolean containsAll(final int[] elements)
+  {
+    for (final int element : elements)
+    {
+      if (!contains(element))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final IntSet elements)
+  {
+    if (elements.size() > size())
+    {
+      return false;
+    }
+    return containsAll(elements.toArray());
+  }
+
+  @Override
+  public boolean add(final int element)
+  {
+    if (0 == element)
+    {
+      if (hasZero)
+      {
+        return false;
+      }
+      modCount++;
+      hasZero = true;
+      return true;
+    }
+    int slot = mix(element) & mask;
+    int found;
+    while (0 != (found = keys[slot]))
+    {
+      if (element == found)
+      {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    modCount++;
+    keys[slot] = element;
+    if (++occupied >= resizeAt)
+    {
+      grow();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final int[] elements)
+  {
+    ensureCapacity(size() + elements.length);
+    boolean changed = false;
+    for (final int element : elements)
+    {
+      changed |= add(element);
+    }
+    return changed;
+  }
+
+  @Override
+  public boolean remove(final int element)
+  {
+    if (0 == element)
+    {
+      if (!hasZero)
+      {
+        return false;
+      }
+      modCount++;
+      hasZero = false;
+      return true;
+    }
+    final int slot = slotOf(element);
+    if (0 > slot)
+    {
+      return false;
+    }
+    modCount++;
+    shiftKeys(slot);
+    occupied--;
+    return true;
+  }
+
+  /**
+   * Removes the key at the given slot by moving back the following keys which cannot be found any more once the slot
+   * is emptied (i.e. whose ideal slot is not cyclically between the emptied slot and their current slot).
+   */
+  private void shiftKeys(final int slotToEmpty)
+  {
+    int slot = slotToEmpty;
+    int last;
+    while (true)
+    {
+      last = slot;
+      slot = (slot + 1) & mask;
+      int current;
+      while (true)
+      {
+        current = keys[slot];
+        if (0 == current)
+        {
+          keys[last] = 0;
+          return;
+        }
+        final int ideal = mix(current) & mask;
+        if (last <= slot ? (last >= ideal || ideal > slot) : (last >= ideal && ideal > slot))
+        {
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[last] = current;
+    }
+  }
+
+  private void grow()
+  {
+    if (MAX_CAPACITY == keys.length)
+    {
+      if (occupied >= MAX_CAPACITY - 1)
+      {
+        throw new IllegalStateException("The set is full. [size: " + size() + "]");
+      }
+      return;
+    }
+    rehash(keys.length << 1);
+  }
+
+  private void rehash(final int newCapacity)
+  {
+    final int[] oldKeys = this.keys;
+    allocate(newCapacity);
+    final int[] newKeys = this.keys;
+    final int newMask = this.mask;
+    for (final int key : oldKeys)
+    {
+      if (0 != key)
+      {
+        int slot = mix(key) & newMask;
+        while (0 != newKeys[slot])
+        {
+          slot = (slot + 1) & newMask;
+        }
+        newKeys[slot] = key;
+      }
+    }
+  }
+
+  @Override
+  public void ensureCapacity(final int expectedSize)
+  {
+    final int capacity = capacityFor(expectedSize, loadFactor);
+    if (capacity > keys.length)
+    {
+      modCount++;
+      rehash(capacity);
+    }
+  }
+
+  @Override
+  public MutableIntHashSet trim()
+  {
+    final int capacity = capacityFor(occupied, loadFactor);
+    if (capacity < keys.length)
+    {
+      modCount++;
+      rehash(capacity);
+    }
+    return this;
+  }
+
+  @Override
+  public void clear()
+  {
+    modCount++;
+    allocate(capacityFor(DEFAULT_EXPECTED_SIZE, loadFactor));
+    occupied = 0;
+    hasZero = false;
+  }
+
+  @Override
+  public void forEach(final VoidIntFunction1 function)
+  {
+    if (hasZero)
+    {
+      function.apply(0);
+    }
+    for (final int key : keys)
+    {
+      if (0 != key)
+      {
+        function.apply(key);
+      }
+    }
+  }
+
+  @Override
+  public int[] toArray()
+  {
+    final int[] elements = new int[size()];
+    int index = 0;
+    if (hasZero)
+    {
+      elements[index++] = 0;
+    }
+    for (final int key : keys)
+    {
+      if (0 != key)
+      {
+        elements[index++] = key;
+      }
+    }
+    return elements;
+  }
+
+  @Override
+  public McHammerIterator<Integer> iterator()
+  {
+    return new McHammerIterator<Integer>() {
+      private final int expectedModCount = modCount;
+      private boolean zeroToReturn = hasZero;
+      private int slot = nextSlot(0);
+
+      private int nextSlot(final int from)
+      {
+        int i = from;
+        while (i < keys.length && 0 == keys[i])
+        {
+          i++;
+        }
+        return i;
+      }
+
+      @Override
+      public boolean hasNext()
+      {
+        return zeroToReturn || slot < keys.length;
+      }
+
+      @Override
+      public Integer next()
+      {
+        if (modCount != expectedModCount)
+        {
+          throw new ConcurrentModificationException();
+        }
+        if (zeroToReturn)
+        {
+          zeroToReturn = false;
+          return Integer.valueOf(0);
+        }
+        if (slot >= keys.length)
+        {
+          throw new NoSuchElementException();
+        }
+        final int key = keys[slot];
+        slot = nextSlot(slot + 1);
+        return Integer.valueOf(key);
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return size();
+  }
+
+  @Override
+  public int size()
+  {
+    return hasZero ? occupied + 1 : occupied;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == size();
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Integer[] toBoxedArray()
+  {
+    final int[] elements = toArray();
+    final Integer[] boxedElements = new Integer[elements.length];
+    for (int i = 0; i < elements.length; i++)
+    {
+      boxedElements[i] = Integer.valueOf(elements[i]);
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public Set<Integer> convertTo()
+  {
+    final Set<Integer> set = new LinkedHashSet<Integer>();
+    for (final int element : toArray())
+    {
+      set.add(Integer.valueOf(element));
+    }
+    return set;
+  }
+
+  int getCapacity()
+  {
+    return keys.length;
+  }
+
+  /**
+   * @return the sum of the hash codes of the elements like {@link java.util.Set#hashCode()}.
+   */
+  @Override
+  public int hashCode()
+  {
+    int hash = 0;
+    for (final int key : keys)
+    {
+      if (0 != key)
+      {
+        hash += hashCodeOf(key);
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object mutableIntHashSet)
+  {
+    if (this == mutableIntHashSet)
+    {
+      return true;
+    }
+    final IntSet that = castIfInstanceOf(IntSet.class, mutableIntHashSet);
+    if (null == that || size() != that.size())
+    {
+      return false;
+    }
+    if (hasZero && !that.contains(0))
+    {
+      return false;
+    }
+    for (final int key : keys)
+    {
+      if (0 != key && !that.contains(key))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder stringBuilder = new StringBuilder("[");
+    for (final int element : toArray())
+    {
+      if (1 < stringBuilder.length())
+      {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append(element);
+    }
+    return stringBuilder.append("]")
+        .toString();
+  }
+}
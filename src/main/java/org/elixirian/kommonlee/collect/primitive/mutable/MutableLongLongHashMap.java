@@ -0,0 +1,508 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.collect.primitive.mutable.PrimitiveHashing.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+
+import org.elixirian.kommonlee.collect.primitive.LongLongMap;
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongLongFunction2;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link MutableLongLongMap} using open addressing with linear probing over two parallel flat arrays, one for the keys
+ * and the other for the values, so that there is neither an entry object nor a boxed key per mapping. The key 0 marks a
+ * free slot in the table so the value of the key 0 is kept in separate fields. Removal shifts the following entries
+ * back instead of leaving tombstones so lookups never slow down after many removals.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-07)
+ */
+public class MutableLongLongHashMap implements MutableLongLongMap
+{
+  private final float loadFactor;
+
+  private long[] keys;
+
+  private long[] values;
+
+  private int mask;
+
+  private int resizeAt;
+
+  /**
+   * the number of the entries in the table (i.e. the size excluding the key 0).
+   */
+  private int occupied;
+
+  private boolean hasZeroKey;
+
+  private long zeroKeyValue;
+
+  public MutableLongLongHashMap(final int expectedSize, final float loadFactor)
+  {
+    checkLoadFactor(loadFactor);
+    this.loadFactor = loadFactor;
+    allocate(capacityFor(expectedSize, loadFactor));
+  }
+
+  public MutableLongLongHashMap(final int expectedSize)
+  {
+    this(expectedSize, DEFAULT_LOAD_FACTOR);
+  }
+
+  public MutableLongLongHashMap()
+  {
+    this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+  }
+
+  private void allocate(final int capacity)
+  {
+    this.keys = new long[capacity];
+    this.values = new long[capacity];
+    this.mask = capacity - 1;
+    this.resizeAt = MAX_CAPACITY == capacity ? capacity - 1 : resizeAtFor(capacity, loadFactor);
+  }
+
+  private int slotOf(final long key)
+  {
+    int slot = mix(key) & mask;
+    long found;
+    while (0 != (found = keys[slot]))
+    {
+      if (key == found)
+      {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private long valueAt(final int slot)
+  {
+    return values[slot];
+  }
+
+  @Override
+  public long get(final long key)
+  {
+    return getOrDefault(key, 0);
+  }
+
+  @Override
+  public long getOrDefault(final long key, final long defaultValue)
+  {
+    if (0 == key)
+    {
+      return hasZeroKey ? zeroKeyValue : defaultValue;
+    }
+    final int slot = slotOf(key);
+    return 0 > slot ? defaultValue : valueAt(slot);
+  }
+
+  @Override
+  public boolean containsKey(final long key)
+  {
+    if (0 == key)
+    {
+      return hasZeroKey;
+    }
+    return 0 <= slotOf(key);
+  }
+
+  @Override
+  public long put(final long key, final long value)
+  {
+    if (0 == key)
+    {
+      final long previous = hasZeroKey ? zeroKeyValue : 0;
+      hasZeroKey = true;
+      zeroKeyValue = value;
+      return previous;
+    }
+    int slot = mix(key) & mask;
+    long found;
+    while (0 != (found = keys[slot]))
+    {
+      if (key == found)
+      {
+        final long previous = valueAt(slot);
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++occupied >= resizeAt)
+    {
+      grow();
+    }
+    return 0;
+  }
+
+  @Override
+  public long addTo(final long key, final long delta)
+  {
+    if (0 == key)
+    {
+      zeroKeyValue = hasZeroKey ? zeroKeyValue + delta : delta;
+      hasZeroKey = true;
+      return zeroKeyValue;
+    }
+    int slot = mix(key) & mask;
+    long found;
+    while (0 != (found = keys[slot]))
+    {
+      if (key == found)
+      {
+        return values[slot] += delta;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = delta;
+    if (++occupied >= resizeAt)
+    {
+      grow();
+    }
+    return delta;
+  }
+
+  @Override
+  public long remove(final long key)
+  {
+    if (0 == key)
+    {
+      if (!hasZeroKey)
+      {
+        return 0;
+      }
+      final long removed = zeroKeyValue;
+      hasZeroKey = false;
+      zeroKeyValue = 0;
+      return removed;
+    }
+    final int slot = slotOf(key);
+    if (0 > slot)
+    {
+      return 0;
+    }
+    final long removed = valueAt(slot);
+    shiftKeys(slot);
+    occupied--;
+    return removed;
+  }
+
+  /**
+   * Removes the entry at the given slot by moving back the following entries which cannot be found any more once the
+   * slot is emptied (i.e. whose ideal slot is not cyclically between the emptied slot and their current slot).
+   */
+  private void shiftKeys(final int slotToEmpty)
+  {
+    int slot = slotToEmpty;
+    int last;
+    while (true)
+    {
+      last = slot;
+      slot = (slot + 1) & mask;
+      long current;
+      while (true)
+      {
+        current = keys[slot];
+        if (0 == current)
+        {
+          keys[last] = 0;
+          values[last] = 0;
+          return;
+        }
+        final int ideal = mix(current) & mask;
+        if (last <= slot ? (last >= ideal || ideal > slot) : (last >= ideal && ideal > slot))
+        {
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[last] = current;
+      values[last] = values[slot];
+    }
+  }
+
+  private void grow()
+  {
+    if (MAX_CAPACITY == keys.length)
+    {
+      if (occupied >= MAX_CAPACITY - 1)
+      {
+        throw new IllegalStateException("The map is full. [size: " + size() + "]");
+      }
+      return;
+    }
+    rehash(keys.length << 1);
+  }
+
+  private void rehash(final int newCapacity)
+  {
+    final long[] oldKeys = this.keys;
+    final long[] oldValues = this.values;
+    allocate(newCapacity);
+    final long[] newKeys = this.keys;
+    final long[] newValues = this.values;
+    final int newMask = this.mask;
+    for (int i = 0, length = oldKeys.length; i < length; i++)
+    {
+      final long key = oldKeys[i];
+      if (0 != key)
+      {
+        int slot = mix(key) & newMask;
+        while (0 != newKeys[slot])
+        {
+          slot = (slot + 1) & newMask;
+        }
+        newKeys[slot] = key;
+        newValues[slot] = oldValues[i];
+      }
+    }
+  }
+
+  @Override
+  public void ensureCapacity(final int expectedSize)
+  {
+    final int capacity = capacityFor(expectedSize, loadFactor);
+    if (capacity > keys.length)
+    {
+      rehash(capacity);
+    }
+  }
+
+  @Override
+  public MutableLongLongHashMap trim()
+  {
+    final int capacity = capacityFor(occupied, loadFactor);
+    if (capacity < keys.length)
+    {
+      rehash(capacity);
+    }
+    return this;
+  }
+
+  @Override
+  public void clear()
+  {
+    allocate(capacityFor(DEFAULT_EXPECTED_SIZE, loadFactor));
+    occupied = 0;
+    hasZeroKey = false;
+    zeroKeyValue = 0;
+  }
+
+  @Override
+  public void forEach(final VoidLongLongFunction2 function)
+  {
+    if (hasZeroKey)
+    {
+      function.apply(0, zeroKeyValue);
+    }
+    final long[] keys = this.keys;
+    for (int i = 0, length = keys.length; i < length; i++)
+    {
+      if (0 != keys[i])
+      {
+        function.apply(keys[i], valueAt(i));
+      }
+    }
+  }
+
+  @Override
+  public void forEachKey(final VoidLongFunction1 function)
+  {
+    if (hasZeroKey)
+    {
+      function.apply(0);
+    }
+    for (final long key : keys)
+    {
+      if (0 != key)
+      {
+        function.apply(key);
+      }
+    }
+  }
+
+  @Override
+  public long[] keys()
+  {
+    final long[] result = new long[size()];
+    int index = 0;
+    if (hasZeroKey)
+    {
+      result[index++] = 0;
+    }
+    for (final long key : keys)
+    {
+      if (0 != key)
+      {
+        result[index++] = key;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public long[] values()
+  {
+    final long[] result = new long[size()];
+    int index = 0;
+    if (hasZeroKey)
+    {
+      result[index++] = zeroKeyValue;
+    }
+    for (int i = 0, length = keys.length; i < length; i++)
+    {
+      if (0 != keys[i])
+      {
+        result[index++] = values[i];
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public int size()
+  {
+    return hasZeroKey ? occupied + 1 : occupied;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == size();
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  int getCapacity()
+  {
+    return keys.length;
+  }
+
+  /**
+   * @return the sum of key hash ^ value hash of all the entries like {@link java.util.Map#hashCode()}.
+   */
+  @Override
+  public int hashCode()
+  {
+    int hash = hasZeroKey ? hashCodeOf(zeroKeyValue) : 0;
+    for (int i = 0, length = keys.length; i < length; i++)
+    {
+      if (0 != keys[i])
+      {
+        hash += hashCodeOf(keys[i]) ^ hashCodeOf(valueAt(i));
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object mutableLongLongHashMap)
+  {
+    if (this == mutableLongLongHashMap)
+    {
+      return true;
+    }
+    final LongLongMap that = castIfInstanceOf(LongLongMap.class, mutableLongLongHashMap);
+    if (null == that || size() != that.size())
+    {
+      return false;
+    }
+    if (hasZeroKey && !(that.containsKey(0) && equal(zeroKeyValue, that.get(0))))
+    {
+      return false;
+    }
+    for (int i = 0, length = keys.length; i < length; i++)
+    {
+      final long key = keys[i];
+      if (0 != key && !(that.containsKey(key) && equal(valueAt(i), that.get(key))))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder stringBuilder = new StringBuilder("{");
+    if (hasZeroKey)
+    {
+      stringBuilder.append(0)
+          .append("=")
+          .append(zeroKeyValue);
+    }
+    for (int i = 0, length = keys.length; i < length; i++)
+    {
+      if (0 != keys[i])
+      {
+        if (1 < stringBuilder.length())
+        {
+          stringBuilder.append(", ");
+        }
+        stringBuilder.append(keys[i])
+            .append("=")
+            .append(valueAt(i));
+      }
+    }
+    return stringBuilder.append("}")
+        .toString();
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import org.elixirian.kommonlee.collect.primitive.LongLongMap;
+import org.elixirian.kommonlee.type.mutable.Clearable;
+import org.elixirian.kommonlee.type.mutable.Trimmable;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-07)
+ */
+public interface MutableLongLongMap extends LongLongMap, Trimmable<MutableLongLongMap>, Clearable
+{
+  /**
+   * @param key
+   *          the given key
+   * @param value
+   *          the value to put
+   * @return the previous value mapped to the key or 0 if there was none.
+   */
+  long put(long key, long value);
+
+  /**
+   * Adds the given delta to the value mapped to the key. If there is no value for the key, the delta is put as the
+   * value.
+   *
+   * @param key
+   *          the given key
+   * @param delta
+   *          the amount to add
+   * @return the new value mapped to the key.
+   */
+  long addTo(long key, long delta);
+
+  /**
+   * @param key
+   *          the given key
+   * @return the removed value or 0 if there was none.
+   */
+  long remove(long key);
+
+  /**
+   * Makes sure that the given number of entries can be stored without resizing the table again.
+   *
+   * @param expectedSize
+   *          the expected number of entries
+   */
+  void ensureCapacity(int expectedSize);
+
+  /**
+   * Shrinks the table to the smallest one which can hold the current entries.
+   */
+  @Override
+  MutableLongLongMap trim();
+
+  @Override
+  void clear();
+}
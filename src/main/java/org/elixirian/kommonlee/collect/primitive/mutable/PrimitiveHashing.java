@@ -0,0 +1,132 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.elixirian.kommonlee.validation.Assertions.*;
+
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Helpers shared by the open-addressing primitive hash maps and sets. The tables have a power of two length and use
+ * linear probing with the key 0 marking a free slot (the key 0 itself is kept outside the table by each collection).
+ * Since the slot is taken from the low bits of the hash, the keys are scrambled by multiplying the golden ratio first
+ * so that sequential ids and ids sharing low bits are still spread over the table.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-07)
+ */
+final class PrimitiveHashing
+{
+  static final float DEFAULT_LOAD_FACTOR = 0.75F;
+
+  static final int DEFAULT_EXPECTED_SIZE = 8;
+
+  static final int MIN_CAPACITY = 4;
+
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private PrimitiveHashing() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  static int mix(final int key)
+  {
+    final int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  static int mix(final long key)
+  {
+    final long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  static void checkLoadFactor(final float loadFactor)
+  {
+    assertTrue(0F < loadFactor && loadFactor < 1F, "The loadFactor must be greater than 0 and less than 1. [loadFactor: %s]",
+        Float.valueOf(loadFactor));
+  }
+
+  /**
+   * @param expectedSize
+   *          the number of the elements expected to be stored.
+   * @param loadFactor
+   *          the load factor.
+   * @return the power of two table length which can hold the expectedSize elements without being resized.
+   */
+  static int capacityFor(final int expectedSize, final float loadFactor)
+  {
+    assertTrue(0 <= expectedSize, "The expectedSize must not be negative. [expectedSize: %s]",
+        Integer.valueOf(expectedSize));
+    final long required = (long) Math.ceil(expectedSize / (double) loadFactor);
+    if (MAX_CAPACITY <= required)
+    {
+      return MAX_CAPACITY;
+    }
+    int capacity = MIN_CAPACITY;
+    while (capacity < required || (int) (capacity * loadFactor) <= expectedSize && capacity < MAX_CAPACITY)
+    {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /**
+   * @param capacity
+   *          the length of the table.
+   * @param loadFactor
+   *          the load factor.
+   * @return the size at which the table must grow. It is always less than the capacity so that there is at least one
+   *         free slot to stop probing.
+   */
+  static int resizeAtFor(final int capacity, final float loadFactor)
+  {
+    return Math.min(capacity - 1, (int) (capacity * loadFactor));
+  }
+}
@@ -0,0 +1,143 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.offheap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import org.elixirian.kommonlee.util.CommonConstants;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Frees the memory of a direct (or memory-mapped) {@link ByteBuffer} right away instead of waiting for the buffer to be
+ * garbage collected. There is no public API for it so it uses sun.misc.Unsafe.invokeCleaner(ByteBuffer) if the JVM
+ * has it, or the cleaner of the buffer otherwise. If neither is available, nothing is done and the memory is freed
+ * when the buffer is garbage collected.
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+final class DirectBuffers
+{
+  private DirectBuffers() throws IllegalAccessException
+  {
+    throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
+  }
+
+  private static final class UnsafeHolder
+  {
+    static final Object UNSAFE;
+    static final Method INVOKE_CLEANER;
+
+    static
+    {
+      Object unsafe = null;
+      Method invokeCleaner = null;
+      try
+      {
+        final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        unsafe = theUnsafe.get(null);
+      }
+      catch (final Exception e)
+      {
+        /* the JVM does not have it so the cleaner of the buffer is used instead. */
+        invokeCleaner = null;
+      }
+      UNSAFE = unsafe;
+      INVOKE_CLEANER = invokeCleaner;
+    }
+  }
+
+  /**
+   * @param buffer
+   *          the buffer to release. It must be the buffer which owns the memory, not a slice or a duplicate of it, and
+   *          it must never be used after this method is called.
+   * @return true if the memory has been freed. false if it could not be freed now (e.g. it is a heap buffer).
+   */
+  static boolean release(final ByteBuffer buffer)
+  {
+    if (!buffer.isDirect())
+    {
+      return false;
+    }
+    if (null != UnsafeHolder.INVOKE_CLEANER)
+    {
+      try
+      {
+        UnsafeHolder.INVOKE_CLEANER.invoke(UnsafeHolder.UNSAFE, buffer);
+        return true;
+      }
+      catch (final Exception e)
+      {
+        return false;
+      }
+    }
+    try
+    {
+      final Method cleanerMethod = buffer.getClass()
+          .getMethod("cleaner");
+      cleanerMethod.setAccessible(true);
+      final Object cleaner = cleanerMethod.invoke(buffer);
+      if (null == cleaner)
+      {
+        return false;
+      }
+      cleaner.getClass()
+          .getMethod("clean")
+          .invoke(cleaner);
+      return true;
+    }
+    catch (final Exception e)
+    {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,722 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.collect.primitive.offheap;
+
+import static org.elixirian.kommonlee.collect.KollectionUtil.*;
+import static org.elixirian.kommonlee.util.MessageFormatter.*;
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.util.collect.Lists.*;
+import static org.elixirian.kommonlee.validation.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.McHammerIterator;
+import org.elixirian.kommonlee.collect.primitive.ByteList;
+import org.elixirian.kommonlee.io.exception.RuntimeIoException;
+import org.elixirian.kommonlee.io.util.IoUtil;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableByteFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.ByteCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.ByteToByteFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidByteFunction1;
+import org.elixirian.kommonlee.util.Objects;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * {@link ByteList} backed by a direct {@link ByteBuffer} or a {@link java.nio.MappedByteBuffer} so that its elements
+ * are kept outside the garbage collected heap. It has a fixed length. The elements can be changed with
+ * {@link #set(int, byte)} and {@link #forEach(ByteToByteFunction1)} unless the buffer is read-only.
+ * <p>
+ * {@link #subList(int, int)} returns a view sharing the same memory. {@link #select(ByteCondition1)},
+ * {@link #mapToByte(ByteToByteFunction1)} and {@link #mapToByteSelectively(ByteCondition1, ByteToByteFunction1)} return
+ * a new {@link OffHeapByteList} with its own direct memory.
+ * </p>
+ * <p>
+ * The memory allocated or mapped by this class is freed by {@link #release()} without waiting for the garbage
+ * collector. After that, the list and all its views throw {@link IllegalStateException} when their elements are
+ * accessed. Releasing the memory while another thread is still reading it is not safe, so the list must not be
+ * released until all the threads using it are done.
+ * </p>
+ *
+ * <pre>
+ * final OffHeapByteList list = OffHeapByteList.map(file, MapMode.READ_ONLY);
+ * try
+ * {
+ *   final int index = list.indexOf((byte) '\n');
+ *   ...
+ * }
+ * finally
+ * {
+ *   list.release();
+ * }
+ * </pre>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-08)
+ */
+public final class OffHeapByteList implements ByteList
+{
+  /**
+   * The memory shared by a list and all its views.
+   */
+  private static final class Memory
+  {
+    final ByteBuffer buffer;
+
+    /**
+     * true if the buffer has been allocated or mapped by {@link OffHeapByteList} so it can be freed on release.
+     */
+    final boolean owned;
+
+    volatile boolean released;
+
+    Memory(final ByteBuffer buffer, final boolean owned)
+    {
+      this.buffer = buffer;
+      this.owned = owned;
+    }
+  }
+
+  private final Memory memory;
+
+  /**
+   * the part of the memory for this list. Its position is always 0 and it is accessed only with absolute indices so
+   * that it can be shared by multiple threads.
+   */
+  private final ByteBuffer buffer;
+
+  private final int length;
+
+  private OffHeapByteList(final Memory memory, final ByteBuffer buffer)
+  {
+    this.memory = memory;
+    this.buffer = buffer;
+    this.length = buffer.remaining();
+  }
+
+  private static OffHeapByteList newOwnedList(final ByteBuffer buffer)
+  {
+    return new OffHeapByteList(new Memory(buffer, true), buffer);
+  }
+
+  /**
+   * @param length
+   *          the length of the list.
+   * @return a new {@link OffHeapByteList} filled with 0 in newly allocated direct memory.
+   */
+  public static OffHeapByteList allocate(final int length)
+  {
+    assertTrue(0 <= length, "The length must not be negative. [length: %s]", Integer.valueOf(length));
+    return newOwnedList(ByteBuffer.allocateDirect(length));
+  }
+
+  public static OffHeapByteList copyOf(final byte[] elements)
+  {
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(elements.length);
+    buffer.put(elements);
+    buffer.clear();
+    return newOwnedList(buffer);
+  }
+
+  public static OffHeapByteList copyOf(final ByteList elements)
+  {
+    final int length = elements.length();
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+    if (elements instanceof OffHeapByteList)
+    {
+      buffer.put(((OffHeapByteList) elements).readableBuffer());
+    }
+    else
+    {
+      for (int i = 0; i < length; i++)
+      {
+        buffer.put(i, elements.get(i));
+      }
+    }
+    buffer.clear();
+    return newOwnedList(buffer);
+  }
+
+  /**
+   * Creates a list over the remaining bytes of the given buffer without copying them. The buffer can be either a heap
+   * or a direct one. Its position and limit are not changed. As the memory belongs to the given buffer,
+   * {@link #release()} only makes the list unusable and does not free the memory.
+   *
+   * @param buffer
+   *          the buffer to wrap.
+   * @return the list sharing the remaining bytes of the given buffer.
+   */
+  public static OffHeapByteList wrap(final ByteBuffer buffer)
+  {
+    mustNotBeNull(buffer, "buffer must not be null.");
+    final ByteBuffer slice = buffer.slice();
+    return new OffHeapByteList(new Memory(slice, false), slice);
+  }
+
+  /**
+   * Maps the whole given file into memory.
+   *
+   * @see #map(File, MapMode, long, int)
+   */
+  public static OffHeapByteList map(final File file, final MapMode mapMode)
+  {
+    mustNotBeNull(file, "file must not be null.");
+    final long fileLength = file.length();
+    assertTrue(fileLength <= Integer.MAX_VALUE,
+        "The file is too big to be mapped into one OffHeapByteList. [file: %s, length: %s]", file,
+        Long.valueOf(fileLength));
+    return map(file, mapMode, 0L, (int) fileLength);
+  }
+
+  /**
+   * Maps the given region of the file into memory. The file is closed once it is mapped as the mapping stays valid
+   * until it is released.
+   *
+   * @param file
+   *          the file to map.
+   * @param mapMode
+   *          {@link MapMode#READ_ONLY} for a read-only list, {@link MapMode#READ_WRITE} to write the changes to the file
+   *          or {@link MapMode#PRIVATE} to keep the changes private to the list.
+   * @param position
+   *          the position in the file where the region starts.
+   * @param length
+   *          the length of the region. With {@link MapMode#READ_WRITE}, the file grows if it is shorter than the
+   *          region.
+   * @return the list over the mapped region.
+   * @throws RuntimeIoException
+   *           if the file cannot be opened or mapped.
+   */
+  public static OffHeapByteList map(final File file, final MapMode mapMode, final long position, final int length)
+  {
+    mustNotBeNull(file, "file must not be null.");
+    mustNotBeNull(mapMode, "mapMode must not be null.");
+    assertTrue(0L <= position && 0 <= length,
+        "Neither position nor length can be negative. [position: %s, length: %s]", Long.valueOf(position),
+        Integer.valueOf(length));
+
+    RandomAccessFile randomAccessFile = null;
+    FileChannel fileChannel = null;
+    try
+    {
+      randomAccessFile = new RandomAccessFile(file, MapMode.READ_ONLY == mapMode ? "r" : "rw");
+      fileChannel = randomAccessFile.getChannel();
+      return newOwnedList(fileChannel.map(mapMode, position, length));
+    }
+    catch (final IOException e)
+    {
+      /* @formatter:off */
+      throw new RuntimeIoException(
+          format("File file: %s\n" +
+                 "MapMode mapMode: %s\n" +
+                 "long position: %s\n" +
+                 "int length: %s",
+                 file,
+                 mapMode,
+                 String.valueOf(position),
+                 String.valueOf(length)), e);
+      /* @formatter:on */
+    }
+    finally
+    {
+      IoUtil.closeQuietly(fileChannel, randomAccessFile);
+    }
+  }
+
+  private void mustNotBeReleased()
+  {
+    if (memory.released)
+    {
+      throw new IllegalStateException("The memory of this OffHeapByteList has already been released.");
+    }
+  }
+
+  /**
+   * Reads the element at the given index after checking the memory has not been released. It is used in the loops
+   * calling the given functions since they can release this list in the middle of the loop.
+   */
+  private byte elementAt(final int index)
+  {
+    mustNotBeReleased();
+    return buffer.get(index);
+  }
+
+  /**
+   * @return a duplicate of the buffer, which can be read without changing the position of the shared buffer.
+   */
+  private ByteBuffer readableBuffer()
+  {
+    mustNotBeReleased();
+    return buffer.duplicate();
+  }
+
+  /**
+   * Frees the memory of this list right away if it has been allocated or mapped by this class. The memory is shared
+   * with all the views from {@link #subList(int, int)} and the list it is a view of, so none of them can be used
+   * afterwards. Calling it more than once does nothing.
+   */
+  public void release()
+  {
+    synchronized (memory)
+    {
+      if (memory.released)
+      {
+        return;
+      }
+      memory.released = true;
+      if (memory.owned)
+      {
+        DirectBuffers.release(memory.buffer);
+      }
+    }
+  }
+
+  public boolean isReleased()
+  {
+    return memory.released;
+  }
+
+  public boolean isReadOnly()
+  {
+    return buffer.isReadOnly();
+  }
+
+  @Override
+  public byte get(final int index)
+  {
+    checkIndex(length, index);
+    mustNotBeReleased();
+    return buffer.get(index);
+  }
+
+  /**
+   * @param index
+   *          the index of the element to replace.
+   * @param element
+   *          the new element.
+   * @return the old element.
+   * @throws java.nio.ReadOnlyBufferException
+   *           if the buffer is read-only.
+   */
+  public byte set(final int index, final byte element)
+  {
+    checkIndex(length, index);
+    mustNotBeReleased();
+    final byte old = buffer.get(index);
+    buffer.put(index, element);
+    return old;
+  }
+
+  @Override
+  public int indexOf(final byte element, final int fromIndex)
+  {
+    checkIndex(length, fromIndex);
+    mustNotBeReleased();
+    for (int i = fromIndex; i < length; i++)
+    {
+      if (element == buffer.get(i))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(final byte element)
+  {
+    if (0 == length)
+    {
+      return -1;
+    }
+    return indexOf(element, 0);
+  }
+
+  @Override
+  public int lastIndexOf(final byte element, final int toIndex)
+  {
+    final int toIndexToUse = toIndex - 1;
+    checkIndex(length, toIndexToUse);
+    mustNotBeReleased();
+    for (int i = toIndexToUse; i >= 0; i--)
+    {
+      if (element == buffer.get(i))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final byte element)
+  {
+    if (0 == length)
+    {
+      return -1;
+    }
+    return lastIndexOf(element, length);
+  }
+
+  @Override
+  public boolean exists(final ByteCondition1 seeker)
+  {
+    mustNotBeReleased();
+    for (int i = 0; i < length; i++)
+    {
+      if (seeker.isMet(elementAt(i)))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(final byte element)
+  {
+    return 0 <= indexOf(element);
+  }
+
+  @Override
+  public boolean containsAll(final byte[] elements)
+  {
+    for (final byte b : elements)
+    {
+      if (!contains(b))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final ByteList elements)
+  {
+    for (int i = 0, size = elements.length(); i < size; i++)
+    {
+      if (!contains(elements.get(i)))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Keeps the first howMany bytes of the given buffer, which has been allocated for the result of this list, as a new
+   * list. If some have been dropped, they are copied into a buffer with the exact length so that the memory of the
+   * dropped ones is freed right away.
+   */
+  private static OffHeapByteList newOwnedList(final ByteBuffer result, final int howMany)
+  {
+    if (howMany == result.capacity())
+    {
+      return newOwnedList(result);
+    }
+    final ByteBuffer exact = ByteBuffer.allocateDirect(howMany);
+    final ByteBuffer source = result.duplicate();
+    source.limit(howMany);
+    exact.put(source);
+    exact.clear();
+    DirectBuffers.release(result);
+    return newOwnedList(exact);
+  }
+
+  @Override
+  public OffHeapByteList select(final ByteCondition1 condition)
+  {
+    mustNotBeReleased();
+    final ByteBuffer selected = ByteBuffer.allocateDirect(length);
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final byte b = elementAt(i);
+      if (condition.isMet(b))
+      {
+        selected.put(howMany++, b);
+      }
+    }
+    return newOwnedList(selected, howMany);
+  }
+
+  @Override
+  public OffHeapByteList mapToByte(final ByteToByteFunction1 function)
+  {
+    mustNotBeReleased();
+    final ByteBuffer mapped = ByteBuffer.allocateDirect(length);
+    for (int i = 0; i < length; i++)
+    {
+      mapped.put(i, function.apply(elementAt(i)));
+    }
+    return newOwnedList(mapped);
+  }
+
+  @Override
+  public OffHeapByteList mapToByteSelectively(final ByteCondition1 condition, final ByteToByteFunction1 function)
+  {
+    mustNotBeReleased();
+    final ByteBuffer mapped = ByteBuffer.allocateDirect(length);
+    int howMany = 0;
+    for (int i = 0; i < length; i++)
+    {
+      final byte b = elementAt(i);
+      if (condition.isMet(b))
+      {
+        mapped.put(howMany++, function.apply(b));
+      }
+    }
+    return newOwnedList(mapped, howMany);
+  }
+
+  @Override
+  public void forEach(final VoidByteFunction1 function)
+  {
+    mustNotBeReleased();
+    for (int i = 0; i < length; i++)
+    {
+      function.apply(elementAt(i));
+    }
+  }
+
+  /**
+   * Replaces each element with the result of the given function.
+   *
+   * @throws java.nio.ReadOnlyBufferException
+   *           if the buffer is read-only.
+   */
+  @Override
+  public void forEach(final ByteToByteFunction1 function)
+  {
+    mustNotBeReleased();
+    for (int i = 0; i < length; i++)
+    {
+      final byte result = function.apply(elementAt(i));
+      mustNotBeReleased();
+      buffer.put(i, result);
+    }
+  }
+
+  @Override
+  public void breakableForEach(final BreakableByteFunction1 function)
+  {
+    mustNotBeReleased();
+    for (int i = 0; i < length; i++)
+    {
+      if (BreakOrContinue.BREAK == function.apply(elementAt(i)))
+      {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int howMany(final ByteCondition1 conditionToMeet)
+  {
+    mustNotBeReleased();
+    int count = 0;
+    for (int i = 0; i < length; i++)
+    {
+      if (conditionToMeet.isMet(elementAt(i)))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return a view sharing the memory with this list so releasing either of them releases both.
+   */
+  @Override
+  public OffHeapByteList subList(final int fromIndex, final int toIndex)
+  {
+    checkRange(length, fromIndex, toIndex);
+    if (0 == fromIndex && length == toIndex)
+    {
+      return this;
+    }
+    final ByteBuffer view = readableBuffer();
+    view.position(fromIndex);
+    view.limit(toIndex);
+    return new OffHeapByteList(memory, view.slice());
+  }
+
+  /**
+   * @return a new byte array on the heap with all the elements in this list.
+   */
+  @Override
+  public byte[] toArray()
+  {
+    final byte[] array = new byte[length];
+    readableBuffer().get(array);
+    return array;
+  }
+
+  @Override
+  public McHammerIterator<Byte> iterator()
+  {
+    mustNotBeReleased();
+    return new McHammerIterator<Byte>() {
+      private int current = 0;
+
+      @Override
+      public boolean hasNext()
+      {
+        return current < length;
+      }
+
+      @Override
+      public Byte next()
+      {
+        if (current >= length)
+        {
+          throw new NoSuchElementException();
+        }
+        mustNotBeReleased();
+        return Byte.valueOf(buffer.get(current++));
+      }
+    };
+  }
+
+  @Override
+  public int length()
+  {
+    return length;
+  }
+
+  @Override
+  public int size()
+  {
+    return length();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return 0 == length;
+  }
+
+  @Override
+  public boolean isNotEmpty()
+  {
+    return !isEmpty();
+  }
+
+  @Override
+  public Byte[] toBoxedArray()
+  {
+    mustNotBeReleased();
+    final Byte[] boxedElements = new Byte[length];
+    for (int i = 0; i < length; i++)
+    {
+      boxedElements[i] = Byte.valueOf(buffer.get(i));
+    }
+    return boxedElements;
+  }
+
+  @Override
+  public List<Byte> convertTo()
+  {
+    return newArrayList(toBoxedArray());
+  }
+
+  /**
+   * It is the same as the hash code of the other {@link ByteList}s with the same elements.
+   */
+  @Override
+  public int hashCode()
+  {
+    mustNotBeReleased();
+    int result = 1;
+    for (int i = 0; i < length; i++)
+    {
+      result = 31 * result + elementAt(i);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object offHeapByteList)
+  {
+    if (this == offHeapByteList)
+    {
+      return true;
+    }
+    final ByteList that = castIfInstanceOf(ByteList.class, offHeapByteList);
+    if (null == that || length != that.length())
+    {
+      return false;
+    }
+    mustNotBeReleased();
+    for (int i = 0; i < length; i++)
+    {
+      if (elementAt(i) != that.get(i))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString()
+  {
+    if (memory.released)
+    {
+      return "[released]";
+    }
+    return Objects.toStringOf(toArray());
+  }
+}
@@ -32,6 +32,7 @@
 package org.elixirian.kommonlee.io;
 
 import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.elixirian.kommonlee.type.checkable.EmptinessCheckable;
@@ -61,6 +62,11 @@ import org.elixirian.kommonlee.type.checkable.NotEmptinessCheckable;
 public class ByteArrayThreadUnsafeInputStream extends ByteArrayInputStream implements LengthCheckable,
     EmptinessCheckable, NotEmptinessCheckable
 {
+  /**
+   * the index of the first byte of this stream in {@link #buf}.
+   */
+  protected final int offset;
+
   public ByteArrayThreadUnsafeInputStream(final byte[] bytes)
   {
     this(bytes, 0, bytes.length);
@@ -69,6 +75,7 @@ public class ByteArrayThreadUnsafeInputStream extends ByteArrayInputStream imple
   public ByteArrayThreadUnsafeInputStream(final byte[] bytes, final int offset, final int length)
   {
     super(bytes, offset, length);
+    this.offset = Math.min(offset, count);
   }
 
   @SuppressWarnings("sync-override")
@@ -193,7 +200,278 @@ public class ByteArrayThreadUnsafeInputStream extends ByteArrayInputStream imple
 
   public byte[] toByteArray()
   {
-    return Arrays.copyOf(this.buf, this.count);
+    return Arrays.copyOfRange(this.buf, this.offset, this.count);
+  }
+
+  /**
+   * Returns a new {@link ByteArrayThreadUnsafeInputStream} which reads the given range of this stream. The byte array is
+   * shared, not copied, so creating a slice costs no more than creating the stream object.
+   *
+   * @param offset
+   *          the offset relative to the beginning of this stream (not to the current position).
+   * @param length
+   *          the number of bytes in the slice.
+   * @return a new {@link ByteArrayThreadUnsafeInputStream} sharing the byte array with this one.
+   * @throws IndexOutOfBoundsException
+   *           if the range is not within this stream.
+   */
+  public ByteArrayThreadUnsafeInputStream slice(final int offset, final int length) throws IndexOutOfBoundsException
+  {
+    checkSliceRange(offset, length);
+    return new ByteArrayThreadUnsafeInputStream(this.buf, this.offset + offset, length);
+  }
+
+  protected void checkSliceRange(final int offset, final int length) throws IndexOutOfBoundsException
+  {
+    final int thisLength = length();
+    if (0 > offset || 0 > length || length > thisLength - offset)
+    {
+      throw new IndexOutOfBoundsException(
+          "offset and length must be non-negative int and offset + length must not be greater than length(). [length(): "
+              + thisLength + ", offset: " + offset + ", length: " + length + "]");
+    }
+  }
+
+  /**
+   * Returns a read-only {@link ByteBuffer} view of all the bytes in this stream regardless of the current position. The
+   * byte array is shared, not copied, and the position of the returned buffer is 0.
+   *
+   * @return a read-only {@link ByteBuffer} view of this stream.
+   */
+  public ByteBuffer asReadOnlyByteBuffer()
+  {
+    return ByteBuffer.wrap(this.buf, this.offset, length())
+        .slice()
+        .asReadOnlyBuffer();
+  }
+
+  public int getOffset()
+  {
+    return offset;
+  }
+
+  /*
+   * Direct binary decoding methods which read what ByteArrayThreadUnsafeOutputStream's put methods write.
+   *
+   * Each of the following methods checks the available bytes only once and reads straight from the internal buffer.
+   * Unlike read(), they throw IndexOutOfBoundsException if there are not enough bytes left instead of returning -1.
+   */
+
+  private int advance(final int howMany) throws IndexOutOfBoundsException
+  {
+    final int position = pos;
+    if (howMany > count - position)
+    {
+      throw new IndexOutOfBoundsException("Not enough bytes left to read. [required: " + howMany + ", available: "
+          + (count - position) + "]");
+    }
+    pos = position + howMany;
+    return position;
+  }
+
+  public byte getByte() throws IndexOutOfBoundsException
+  {
+    return buf[advance(1)];
+  }
+
+  public short getShort() throws IndexOutOfBoundsException
+  {
+    final int i = advance(2);
+    final byte[] buf = this.buf;
+    return (short) ((buf[i] << 8) | (buf[i + 1] & 0xFF));
+  }
+
+  public short getShortLittleEndian() throws IndexOutOfBoundsException
+  {
+    final int i = advance(2);
+    final byte[] buf = this.buf;
+    return (short) ((buf[i] & 0xFF) | (buf[i + 1] << 8));
+  }
+
+  public char getChar() throws IndexOutOfBoundsException
+  {
+    return (char) getShort();
+  }
+
+  public char getCharLittleEndian() throws IndexOutOfBoundsException
+  {
+    return (char) getShortLittleEndian();
+  }
+
+  public int getInt() throws IndexOutOfBoundsException
+  {
+    final int i = advance(4);
+    final byte[] buf = this.buf;
+    /* @formatter:off */
+    return (buf[i]            << 24) |
+           ((buf[i + 1] & 0xFF) << 16) |
+           ((buf[i + 2] & 0xFF) <<  8) |
+            (buf[i + 3] & 0xFF);
+    /* @formatter:on */
+  }
+
+  public int getIntLittleEndian() throws IndexOutOfBoundsException
+  {
+    final int i = advance(4);
+    final byte[] buf = this.buf;
+    /* @formatter:off */
+    return (buf[i] & 0xFF) |
+           ((buf[i + 1] & 0xFF) <<  8) |
+           ((buf[i + 2] & 0xFF) << 16) |
+            (buf[i + 3]         << 24);
+    /* @formatter:on */
+  }
+
+  public long getLong() throws IndexOutOfBoundsException
+  {
+    final int i = advance(8);
+    final byte[] buf = this.buf;
+    /* @formatter:off */
+    return ((long) buf[i]            << 56) |
+           ((buf[i + 1] & 0xFFL) << 48) |
+           ((buf[i + 2] & 0xFFL) << 40) |
+           ((buf[i + 3] & 0xFFL) << 32) |
+           ((buf[i + 4] & 0xFFL) << 24) |
+           ((buf[i + 5] & 0xFFL) << 16) |
+           ((buf[i + 6] & 0xFFL) <<  8) |
+            (buf[i + 7] & 0xFFL);
+    /* @formatter:on */
+  }
+
+  public long getLongLittleEndian() throws IndexOutOfBoundsException
+  {
+    final int i = advance(8);
+    final byte[] buf = this.buf;
+    /* @formatter:off */
+    return (buf[i] & 0xFFL) |
+           ((buf[i + 1] & 0xFFL) <<  8) |
+           ((buf[i + 2] & 0xFFL) << 16) |
+           ((buf[i + 3] & 0xFFL) << 24) |
+           ((buf[i + 4] & 0xFFL) << 32) |
+           ((buf[i + 5] & 0xFFL) << 40) |
+           ((buf[i + 6] & 0xFFL) << 48) |
+           ((long) buf[i + 7]       << 56);
+    /* @formatter:on */
+  }
+
+  public float getFloat() throws IndexOutOfBoundsException
+  {
+    return Float.intBitsToFloat(getInt());
+  }
+
+  public float getFloatLittleEndian() throws IndexOutOfBoundsException
+  {
+    return Float.intBitsToFloat(getIntLittleEndian());
+  }
+
+  public double getDouble() throws IndexOutOfBoundsException
+  {
+    return Double.longBitsToDouble(getLong());
+  }
+
+  public double getDoubleLittleEndian() throws IndexOutOfBoundsException
+  {
+    return Double.longBitsToDouble(getLongLittleEndian());
+  }
+
+  /**
+   * Reads an unsigned variable-length int written by {@link ByteArrayThreadUnsafeOutputStream#putVarInt(int)}.
+   *
+   * @return the int value read.
+   * @throws IndexOutOfBoundsException
+   *           if the stream ends before the varint does.
+   * @throws IllegalStateException
+   *           if the varint is longer than 5 bytes.
+   */
+  public int getVarInt() throws IndexOutOfBoundsException, IllegalStateException
+  {
+    final byte[] buf = this.buf;
+    final int count = this.count;
+    int i = pos;
+    int result = 0;
+    for (int shift = 0; shift < 35; shift += 7)
+    {
+      if (i >= count)
+      {
+        throw new IndexOutOfBoundsException("Not enough bytes left to read the varint. [position: " + pos
+            + ", count: " + count + "]");
+      }
+      final byte b = buf[i++];
+      result |= (b & 0x7F) << shift;
+      if (0 <= b)
+      {
+        pos = i;
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed varint. It is longer than 5 bytes. [position: " + pos + "]");
+  }
+
+  public int getVarIntZigZag() throws IndexOutOfBoundsException, IllegalStateException
+  {
+    final int value = getVarInt();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Reads an unsigned variable-length long written by {@link ByteArrayThreadUnsafeOutputStream#putVarLong(long)}.
+   *
+   * @return the long value read.
+   * @throws IndexOutOfBoundsException
+   *           if the stream ends before the varint does.
+   * @throws IllegalStateException
+   *           if the varint is longer than 10 bytes.
+   */
+  public long getVarLong() throws IndexOutOfBoundsException, IllegalStateException
+  {
+    final byte[] buf = this.buf;
+    final int count = this.count;
+    int i = pos;
+    long result = 0L;
+    for (int shift = 0; shift < 70; shift += 7)
+    {
+      if (i >= count)
+      {
+        throw new IndexOutOfBoundsException("Not enough bytes left to read the varint. [position: " + pos
+            + ", count: " + count + "]");
+      }
+      final byte b = buf[i++];
+      result |= (b & 0x7FL) << shift;
+      if (0 <= b)
+      {
+        pos = i;
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed varint. It is longer than 10 bytes. [position: " + pos + "]");
+  }
+
+  public long getVarLongZigZag() throws IndexOutOfBoundsException, IllegalStateException
+  {
+    final long value = getVarLong();
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  /**
+   * Reads a String written by {@link ByteArrayThreadUnsafeOutputStream#putUtf8(String)} that is the length of the
+   * UTF-8 bytes as a varint followed by the bytes.
+   *
+   * @return the String read.
+   * @throws IndexOutOfBoundsException
+   *           if there are not enough bytes left.
+   */
+  public String getUtf8() throws IndexOutOfBoundsException, IllegalStateException
+  {
+    final int position = pos;
+    final int length = getVarInt();
+    if (0 > length || length > count - pos)
+    {
+      pos = position;
+      throw new IndexOutOfBoundsException("Not enough bytes left to read the String. [required: " + length
+          + ", available: " + (count - position) + "]");
+    }
+    final int i = advance(length);
+    return new String(buf, i, length, IoCommonConstants.UTF_8);
   }
 
   public int getCurrentPosition()
@@ -215,12 +493,12 @@ public class ByteArrayThreadUnsafeInputStream extends ByteArrayInputStream imple
   @Override
   public boolean isEmpty()
   {
-    return 0 == count;
+    return offset == count;
   }
 
   @Override
   public int length()
   {
-    return count;
+    return count - offset;
   }
 }
@@ -243,6 +243,277 @@ public class ByteArrayThreadUnsafeOutputStream extends ByteArrayOutputStream imp
     return buf.length;
   }
 
+  /*
+   * Direct binary encoding methods.
+   *
+   * Each of the following methods checks the capacity only once and writes the value straight into the internal buffer
+   * so that it is much cheaper than writing through DataOutputStream which synchronizes and calls write(int) per byte.
+   * The methods without 'LittleEndian' write in big-endian (network byte order) just like DataOutputStream and
+   * ByteBuffer do by default.
+   */
+
+  private int reserve(final int howMany)
+  {
+    final int position = count;
+    final int newcount = position + howMany;
+    ensureCapacity(newcount);
+    count = newcount;
+    return position;
+  }
+
+  public void putByte(final byte value)
+  {
+    write(value);
+  }
+
+  public void putShort(final short value)
+  {
+    final int i = reserve(2);
+    final byte[] buf = this.buf;
+    buf[i] = (byte) (value >>> 8);
+    buf[i + 1] = (byte) value;
+  }
+
+  public void putShortLittleEndian(final short value)
+  {
+    final int i = reserve(2);
+    final byte[] buf = this.buf;
+    buf[i] = (byte) value;
+    buf[i + 1] = (byte) (value >>> 8);
+  }
+
+  public void putChar(final char value)
+  {
+    putShort((short) value);
+  }
+
+  public void putCharLittleEndian(final char value)
+  {
+    putShortLittleEndian((short) value);
+  }
+
+  public void putInt(final int value)
+  {
+    final int i = reserve(4);
+    final byte[] buf = this.buf;
+    buf[i] = (byte) (value >>> 24);
+    buf[i + 1] = (byte) (value >>> 16);
+    buf[i + 2] = (byte) (value >>> 8);
+    buf[i + 3] = (byte) value;
+  }
+
+  public void putIntLittleEndian(final int value)
+  {
+    final int i = reserve(4);
+    final byte[] buf = this.buf;
+    buf[i] = (byte) value;
+    buf[i + 1] = (byte) (value >>> 8);
+    buf[i + 2] = (byte) (value >>> 16);
+    buf[i + 3] = (byte) (value >>> 24);
+  }
+
+  public void putLong(final long value)
+  {
+    final int i = reserve(8);
+    final byte[] buf = this.buf;
+    buf[i] = (byte) (value >>> 56);
+    buf[i + 1] = (byte) (value >>> 48);
+    buf[i + 2] = (byte) (value >>> 40);
+    buf[i + 3] = (byte) (value >>> 32);
+    buf[i + 4] = (byte) (value >>> 24);
+    buf[i + 5] = (byte) (value >>> 16);
+    buf[i + 6] = (byte) (value >>> 8);
+    buf[i + 7] = (byte) value;
+  }
+
+  public void putLongLittleEndian(final long value)
+  {
+    final int i = reserve(8);
+    final byte[] buf = this.buf;
+    buf[i] = (byte) value;
+    buf[i + 1] = (byte) (value >>> 8);
+    buf[i + 2] = (byte) (value >>> 16);
+    buf[i + 3] = (byte) (value >>> 24);
+    buf[i + 4] = (byte) (value >>> 32);
+    buf[i + 5] = (byte) (value >>> 40);
+    buf[i + 6] = (byte) (value >>> 48);
+    buf[i + 7] = (byte) (value >>> 56);
+  }
+
+  public void putFloat(final float value)
+  {
+    putInt(Float.floatToRawIntBits(value));
+  }
+
+  public void putFloatLittleEndian(final float value)
+  {
+    putIntLittleEndian(Float.floatToRawIntBits(value));
+  }
+
+  public void putDouble(final double value)
+  {
+    putLong(Double.doubleToRawLongBits(value));
+  }
+
+  public void putDoubleLittleEndian(final double value)
+  {
+    putLongLittleEndian(Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Writes the given int as an unsigned variable-length int (LEB128: 7 bits per byte, the least significant group
+   * first, the high bit set on every byte but the last). It takes 1 to 5 bytes. Negative numbers always take 5 bytes so
+   * use {@link #putVarIntZigZag(int)} for signed values which can be negative.
+   *
+   * @param value
+   *          the given int value.
+   */
+  public void putVarInt(final int value)
+  {
+    ensureCapacity(count + 5);
+    count = putVarInt0(buf, count, value);
+  }
+
+  private static int putVarInt0(final byte[] buf, final int position, final int value)
+  {
+    int i = position;
+    int v = value;
+    while (0 != (v & ~0x7F))
+    {
+      buf[i++] = (byte) ((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    buf[i++] = (byte) v;
+    return i;
+  }
+
+  /**
+   * Writes the given int as a ZigZag-encoded variable-length int so that small negative numbers take as few bytes as
+   * small positive ones do (0 =&gt; 0, -1 =&gt; 1, 1 =&gt; 2, -2 =&gt; 3 and so on).
+   *
+   * @param value
+   *          the given int value.
+   */
+  public void putVarIntZigZag(final int value)
+  {
+    putVarInt((value << 1) ^ (value >> 31));
+  }
+
+  /**
+   * Writes the given long as an unsigned variable-length long (LEB128). It takes 1 to 10 bytes.
+   *
+   * @param value
+   *          the given long value.
+   */
+  public void putVarLong(final long value)
+  {
+    ensureCapacity(count + 10);
+    final byte[] buf = this.buf;
+    int i = count;
+    long v = value;
+    while (0L != (v & ~0x7FL))
+    {
+      buf[i++] = (byte) ((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    buf[i++] = (byte) v;
+    count = i;
+  }
+
+  public void putVarLongZigZag(final long value)
+  {
+    putVarLong((value << 1) ^ (value >> 63));
+  }
+
+  /**
+   * Writes the given String in UTF-8 preceded by the length of the encoded bytes written by {@link #putVarInt(int)}.
+   * The String is encoded directly into the internal buffer so no intermediate byte array is created. An unpaired
+   * surrogate is written as '?' just like {@link String#getBytes(Charset)} does.
+   *
+   * @param str
+   *          the given String to write.
+   */
+  public void putUtf8(final String str)
+  {
+    if (null == str)
+    {
+      throw new NullPointerException("The given String str is null.");
+    }
+    final int utf8Length = utf8LengthOf(str);
+    ensureCapacity(count + 5 + utf8Length);
+    final byte[] buf = this.buf;
+    int i = putVarInt0(buf, count, utf8Length);
+
+    final int length = str.length();
+    for (int index = 0; index < length; index++)
+    {
+      final char c = str.charAt(index);
+      if (0x80 > c)
+      {
+        buf[i++] = (byte) c;
+      }
+      else if (0x800 > c)
+      {
+        buf[i++] = (byte) (0xC0 | (c >> 6));
+        buf[i++] = (byte) (0x80 | (c & 0x3F));
+      }
+      else if (Character.MIN_SURROGATE <= c && Character.MAX_SURROGATE >= c)
+      {
+        if (Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(str.charAt(index + 1)))
+        {
+          final int codePoint = Character.toCodePoint(c, str.charAt(++index));
+          buf[i++] = (byte) (0xF0 | (codePoint >> 18));
+          buf[i++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+          buf[i++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+          buf[i++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        else
+        {
+          buf[i++] = (byte) '?';
+        }
+      }
+      else
+      {
+        buf[i++] = (byte) (0xE0 | (c >> 12));
+        buf[i++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        buf[i++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    count = i;
+  }
+
+  static int utf8LengthOf(final String str)
+  {
+    final int length = str.length();
+    int utf8Length = length;
+    for (int index = 0; index < length; index++)
+    {
+      final char c = str.charAt(index);
+      if (0x80 > c)
+      {
+        continue;
+      }
+      if (0x800 > c)
+      {
+        utf8Length += 1;
+      }
+      else if (Character.MIN_SURROGATE <= c && Character.MAX_SURROGATE >= c)
+      {
+        if (Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(str.charAt(index + 1)))
+        {
+          /* 2 chars => 4 bytes */
+          utf8Length += 2;
+          index++;
+        }
+      }
+      else
+      {
+        utf8Length += 2;
+      }
+    }
+    return utf8Length;
+  }
+
   public static ByteArrayThreadUnsafeOutputStream newInstance()
   {
     return new ByteArrayThreadUnsafeOutputStream();
@@ -65,8 +65,19 @@ public class DataProducers
     return new SimpleByteArrayProducer(bytes);
   }
 
+  public static ByteArrayProducer newSimpleByteArrayProducer(final byte[] bytes, final int offset, final int length)
+  {
+    return new SimpleByteArrayProducer(bytes, offset, length);
+  }
+
   public static ResetableByteArrayProducer newResetableSimpleByteArrayProducer(final byte[] bytes)
   {
     return new ResetableSimpleByteArrayProducer(bytes);
   }
+
+  public static ResetableByteArrayProducer newResetableSimpleByteArrayProducer(final byte[] bytes, final int offset,
+      final int length)
+  {
+    return new ResetableSimpleByteArrayProducer(bytes, offset, length);
+  }
 }
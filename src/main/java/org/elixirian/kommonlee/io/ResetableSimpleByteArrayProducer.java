@@ -58,6 +58,22 @@ public class ResetableSimpleByteArrayProducer extends SimpleByteArrayProducer im
     super(byteArray);
   }
 
+  protected ResetableSimpleByteArrayProducer(final byte[] byteArray, final int offset, final int length)
+  {
+    super(byteArray, offset, length);
+  }
+
+  protected ResetableSimpleByteArrayProducer(final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream)
+  {
+    super(byteArrayThreadUnsafeInputStream);
+  }
+
+  @Override
+  public ResetableSimpleByteArrayProducer slice(final int offset, final int length) throws IndexOutOfBoundsException
+  {
+    return new ResetableSimpleByteArrayProducer(byteArrayThreadUnsafeInputStream.slice(offset, length));
+  }
+
   @Override
   public void reset()
   {
@@ -32,6 +32,7 @@
 package org.elixirian.kommonlee.io;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.elixirian.kommonlee.validation.Assertions;
 
@@ -65,6 +66,19 @@ public class SimpleByteArrayProducer implements ByteArrayProducer
     this.byteArrayThreadUnsafeInputStream = new ByteArrayThreadUnsafeInputStream(byteArray);
   }
 
+  protected SimpleByteArrayProducer(final byte[] byteArray, final int offset, final int length)
+  {
+    Assertions.assertNotNull(byteArray, "byteArray is null yet it must not be null.");
+    this.byteArrayThreadUnsafeInputStream = new ByteArrayThreadUnsafeInputStream(byteArray, offset, length);
+  }
+
+  protected SimpleByteArrayProducer(final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream)
+  {
+    this.byteArrayThreadUnsafeInputStream =
+      Assertions.assertNotNull(byteArrayThreadUnsafeInputStream,
+          "byteArrayThreadUnsafeInputStream is null yet it must not be null.");
+  }
+
   @Override
   public int produce(final byte[] bytes) throws IOException
   {
@@ -82,4 +96,30 @@ public class SimpleByteArrayProducer implements ByteArrayProducer
   {
     return byteArrayThreadUnsafeInputStream.toByteArray();
   }
+
+  /**
+   * Returns a new {@link SimpleByteArrayProducer} producing only the given range of the bytes of this producer. The
+   * byte array is shared, not copied, so one large payload can be split into many part producers (e.g. for a multipart
+   * upload) without any extra byte array allocation.
+   *
+   * @param offset
+   *          the offset relative to the first byte of this producer.
+   * @param length
+   *          the number of bytes the new producer has.
+   * @return a new {@link SimpleByteArrayProducer} sharing the byte array with this one.
+   * @throws IndexOutOfBoundsException
+   *           if the range is not within this producer.
+   */
+  public SimpleByteArrayProducer slice(final int offset, final int length) throws IndexOutOfBoundsException
+  {
+    return new SimpleByteArrayProducer(byteArrayThreadUnsafeInputStream.slice(offset, length));
+  }
+
+  /**
+   * @return a read-only {@link ByteBuffer} view of all the bytes of this producer.
+   */
+  public ByteBuffer asReadOnlyByteBuffer()
+  {
+    return byteArrayThreadUnsafeInputStream.asReadOnlyByteBuffer();
+  }
 }
@@ -52,17 +52,145 @@ import java.io.Writer;
  * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
  * </pre>
  * 
+ * {@link Writer} backed by a {@link StringBuilder}. Unlike {@link java.io.StringWriter}, it is not synchronized.
+ * <p>
+ * For hot paths creating a writer just to get a {@link String} (e.g. rendering templates or printing exceptions),
+ * {@link #acquire()} returns the writer kept by the current thread so that its {@link StringBuilder} can be reused
+ * instead of allocating a new one each time. It should be given back with {@link #release()} (or
+ * {@link #toStringAndRelease()}) once it is done.
+ * </p>
+ * 
+ * <pre>
+ * final StringBuildWriter writer = StringBuildWriter.acquire();
+ * exception.printStackTrace(new PrintWriter(writer));
+ * final String stackTrace = writer.toStringAndRelease();
+ * </pre>
+ * 
  * @author Lee, SeongHyun (Kevin)
  * @version 0.0.1 (2010-09-18)
+ * @version 0.0.2 (2014-05-04)
  */
 public final class StringBuildWriter extends Writer
 {
+  /**
+   * The maximum capacity of the {@link StringBuilder} a pooled writer keeps after being released. If it has grown bigger
+   * than this, the builder is trimmed so that one huge string does not stay in memory for the lifetime of the thread.
+   */
+  public static final int DEFAULT_MAX_RETAINED_CAPACITY = 16 * 1024;
+
+  private static final int DEFAULT_INITIAL_SIZE = 256;
+
+  private static final ThreadLocal<StringBuildWriter> POOLED_WRITER = new ThreadLocal<StringBuildWriter>() {
+    @Override
+    protected StringBuildWriter initialValue()
+    {
+      return new StringBuildWriter(DEFAULT_INITIAL_SIZE, true);
+    }
+  };
+
   private final StringBuilder builder;
 
+  private final boolean pooled;
+
+  private boolean inUse;
+
   public StringBuildWriter()
   {
     this.builder = new StringBuilder();
     lock = builder;
+    this.pooled = false;
+  }
+
+  private StringBuildWriter(final int initialSize, final boolean pooled)
+  {
+    this.builder = new StringBuilder(initialSize);
+    lock = builder;
+    this.pooled = pooled;
+  }
+
+  /**
+   * Returns the {@link StringBuildWriter} kept by the current thread after resetting it. If it is already in use (e.g.
+   * {@link #acquire()} is called again before {@link #release()} is called), a new non-pooled one is returned instead so
+   * the writer in use is never shared.
+   * <p>
+   * The returned writer must not be used by any other thread or after it is released.
+   * </p>
+   * 
+   * @return an empty {@link StringBuildWriter} ready to be written.
+   */
+  public static StringBuildWriter acquire()
+  {
+    final StringBuildWriter writer = POOLED_WRITER.get();
+    if (writer.inUse)
+    {
+      return new StringBuildWriter(DEFAULT_INITIAL_SIZE, false);
+    }
+    writer.inUse = true;
+    return writer;
+  }
+
+  /**
+   * Gives this writer back to the pool if it is the one from {@link #acquire()}. Its content is cleared and its
+   * {@link StringBuilder} is trimmed if the capacity is greater than {@link #DEFAULT_MAX_RETAINED_CAPACITY}. It does
+   * nothing if this writer is not pooled.
+   */
+  public void release()
+  {
+    if (pooled)
+    {
+      reset(DEFAULT_MAX_RETAINED_CAPACITY);
+      inUse = false;
+    }
+  }
+
+  /**
+   * Gets the written {@link String} then calls {@link #release()}.
+   * 
+   * @return the written {@link String}.
+   */
+  public String toStringAndRelease()
+  {
+    final String result = builder.toString();
+    release();
+    return result;
+  }
+
+  /**
+   * Clears the content so that this writer can be reused. The capacity of the {@link StringBuilder} is kept as is.
+   * 
+   * @return this {@link StringBuildWriter}
+   */
+  public StringBuildWriter reset()
+  {
+    builder.setLength(0);
+    return this;
+  }
+
+  /**
+   * Clears the content so that this writer can be reused and shrinks the capacity of the {@link StringBuilder} down to
+   * the given maxRetainedCapacity if it is greater than that.
+   * 
+   * @param maxRetainedCapacity
+   *          the maximum capacity to keep.
+   * @return this {@link StringBuildWriter}
+   */
+  public StringBuildWriter reset(final int maxRetainedCapacity)
+  {
+    assertTrue(0 <= maxRetainedCapacity, "maxRetainedCapacity must not be negative. [maxRetainedCapacity: %s]",
+        Integer.valueOf(maxRetainedCapacity));
+    if (maxRetainedCapacity < builder.capacity())
+    {
+      /* shrinks the capacity down to maxRetainedCapacity rather than 0 so that it is still reusable. */
+      builder.setLength(maxRetainedCapacity);
+      builder.trimToSize();
+    }
+    builder.setLength(0);
+    return this;
+  }
+
+  public boolean isPooled()
+  {
+    return pooled;
   }
 
   public StringBuildWriter(final int initialSize)
@@ -70,6 +198,7 @@ public final class StringBuildWriter extends Writer
     assertTrue(0 < initialSize, "Negative int [%s] is entered as a builder initial size", Integer.valueOf(initialSize));
     builder = new StringBuilder(initialSize);
     lock = builder;
+    this.pooled = false;
   }
 
   private void write0(final int c)
@@ -120,7 +249,7 @@ public final class StringBuildWriter extends Writer
   @Override
   public void write(final String str, final int off, final int len)
   {
-    builder.append(str.substring(off, off + len));
+    builder.append(str, off, off + len);
   }
 
   @Override
@@ -133,9 +262,7 @@ public final class StringBuildWriter extends Writer
   @Override
   public StringBuildWriter append(final CharSequence csq, final int start, final int end)
   {
-    final CharSequence charSequence = null == csq ? "null" : csq;
-    write0(charSequence.subSequence(start, end)
-        .toString());
+    builder.append(null == csq ? "null" : csq, start, end);
     return this;
   }
 
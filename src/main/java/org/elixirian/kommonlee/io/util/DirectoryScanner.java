@@ -0,0 +1,426 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.io.util;
+
+import static org.elixirian.kommonlee.util.Objects.*;
+import static org.elixirian.kommonlee.validation.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.io.exception.RuntimeIoException;
+import org.elixirian.kommonlee.type.GenericBuilder;
+import org.elixirian.kommonlee.type.functional.Condition1;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Walks a directory tree in parallel using {@link ForkJoinPool}. Each directory is listed with
+ * {@link Files#newDirectoryStream(Path)} by its own task and every sub-directory found is forked as another task, so
+ * sibling directories are read concurrently. Regular files matching all the given filters (extensions by
+ * {@link FileUtil#findExtension(String)}, size, last modified time and the custom condition) are passed to the
+ * consumer as soon as they are found.
+ * <p>
+ * The consumer is called from multiple threads at the same time so it must be thread-safe. Symbolic links are not
+ * followed.
+ * </p>
+ *
+ * <pre>
+ * final long found = DirectoryScanner.builder()
+ *     .withExtensions("java", "xml")
+ *     .withMinSize(1L)
+ *     .build()
+ *     .scan(directory, new VoidFunction1&lt;Path&gt;() {
+ *       &#064;Override
+ *       public void apply(final Path path)
+ *       {
+ *         queue.add(path);
+ *       }
+ *     });
+ * </pre>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-05)
+ */
+public final class DirectoryScanner
+{
+  private final Set<String> extensions;
+  private final long minSize;
+  private final long maxSize;
+  private final long modifiedSince;
+  private final long modifiedBefore;
+  private final Condition1<Path> condition;
+  private final boolean ignoringIoException;
+  private final int parallelism;
+
+  private DirectoryScanner(final Builder builder)
+  {
+    this.extensions = new HashSet<String>(builder.extensions);
+    this.minSize = builder.minSize;
+    this.maxSize = builder.maxSize;
+    this.modifiedSince = builder.modifiedSince;
+    this.modifiedBefore = builder.modifiedBefore;
+    this.condition = builder.condition;
+    this.ignoringIoException = builder.ignoringIoException;
+    this.parallelism = builder.parallelism;
+  }
+
+  public static final class Builder implements GenericBuilder<DirectoryScanner>
+  {
+    private final Set<String> extensions = new HashSet<String>();
+    private long minSize = 0L;
+    private long maxSize = Long.MAX_VALUE;
+    private long modifiedSince = Long.MIN_VALUE;
+    private long modifiedBefore = Long.MAX_VALUE;
+    private Condition1<Path> condition;
+    private boolean ignoringIoException;
+    private int parallelism = Runtime.getRuntime()
+        .availableProcessors();
+
+    Builder()
+    {
+    }
+
+    /**
+     * Only the files having one of the given extensions are matched. The extensions are compared ignoring case, and
+     * the leading dot is optional (e.g. both "java" and ".java" are fine). If it is never called, files are matched
+     * regardless of their extensions.
+     *
+     * @param extensions
+     *          the extensions to match.
+     * @return this {@link Builder}
+     */
+    public Builder withExtensions(final String... extensions)
+    {
+      for (final String extension : extensions)
+      {
+        final String withoutDot = mustNotBeNull(extension, "extension must not be null.").startsWith(".") ? extension
+            .substring(1) : extension;
+        assertTrue(!withoutDot.isEmpty(), "extension must not be empty.");
+        this.extensions.add(withoutDot.toLowerCase(Locale.ENGLISH));
+      }
+      return this;
+    }
+
+    public Builder withMinSize(final long minSize)
+    {
+      assertTrue(0L <= minSize, "minSize must not be negative. [minSize: %s]", Long.valueOf(minSize));
+      this.minSize = minSize;
+      return this;
+    }
+
+    public Builder withMaxSize(final long maxSize)
+    {
+      assertTrue(0L <= maxSize, "maxSize must not be negative. [maxSize: %s]", Long.valueOf(maxSize));
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    /**
+     * @param timeInMillis
+     *          the files last modified at or after this time are matched.
+     * @return this {@link Builder}
+     */
+    public Builder modifiedSince(final long timeInMillis)
+    {
+      this.modifiedSince = timeInMillis;
+      return this;
+    }
+
+    /**
+     * @param timeInMillis
+     *          the files last modified before this time are matched.
+     * @return this {@link Builder}
+     */
+    public Builder modifiedBefore(final long timeInMillis)
+    {
+      this.modifiedBefore = timeInMillis;
+      return this;
+    }
+
+    /**
+     * Adds a custom condition checked after all the other filters are passed.
+     *
+     * @param condition
+     *          the given condition which must be thread-safe.
+     * @return this {@link Builder}
+     */
+    public Builder matching(final Condition1<Path> condition)
+    {
+      this.condition = mustNotBeNull(condition, "condition must not be null.");
+      return this;
+    }
+
+    /**
+     * Skips the directories and files which cannot be read instead of throwing {@link RuntimeIoException}.
+     *
+     * @return this {@link Builder}
+     */
+    public Builder ignoringIoException()
+    {
+      this.ignoringIoException = true;
+      return this;
+    }
+
+    public Builder withParallelism(final int parallelism)
+    {
+      assertTrue(0 < parallelism, "parallelism must be greater than 0. [parallelism: %s]",
+          Integer.valueOf(parallelism));
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    @Override
+    public DirectoryScanner build()
+    {
+      assertTrue(minSize <= maxSize, "minSize must not be greater than maxSize. [minSize: %s, maxSize: %s]",
+          Long.valueOf(minSize), Long.valueOf(maxSize));
+      return new DirectoryScanner(this);
+    }
+  }
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  /**
+   * Scans the given directory and all its sub-directories.
+   *
+   * @param directory
+   *          the directory to scan.
+   * @param consumer
+   *          the thread-safe consumer taking the path of each matched file.
+   * @return the number of the matched files.
+   * @throws RuntimeIoException
+   *           if any directory or file cannot be read unless {@link Builder#ignoringIoException()} is set.
+   */
+  public long scan(final File directory, final VoidFunction1<Path> consumer)
+  {
+    return scan(mustNotBeNull(directory, "directory must not be null.").toPath(), consumer);
+  }
+
+  /**
+   * Scans the given directory and all its sub-directories.
+   *
+   * @param directory
+   *          the directory to scan.
+   * @param consumer
+   *          the thread-safe consumer taking the path of each matched file.
+   * @return the number of the matched files.
+   * @throws RuntimeIoException
+   *           if any directory or file cannot be read unless {@link Builder#ignoringIoException()} is set.
+   */
+  public long scan(final Path directory, final VoidFunction1<Path> consumer)
+  {
+    mustNotBeNull(directory, "directory must not be null.");
+    mustNotBeNull(consumer, "consumer must not be null.");
+    assertTrue(Files.isDirectory(directory), "The given path is not a directory. [directory: %s]", directory);
+
+    final AtomicLong found = new AtomicLong();
+    final ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try
+    {
+      forkJoinPool.invoke(new ScanTask(directory, consumer, found));
+    }
+    finally
+    {
+      forkJoinPool.shutdown();
+    }
+    return found.get();
+  }
+
+  /**
+   * Scans the given directory and all its sub-directories, and returns all the matched files. The order of the files
+   * is not guaranteed.
+   *
+   * @param directory
+   *          the directory to scan.
+   * @return all the matched files.
+   */
+  public List<Path> scan(final File directory)
+  {
+    final List<Path> result = new ArrayList<Path>();
+    scan(directory, new VoidFunction1<Path>() {
+      @Override
+      public void apply(final Path path)
+      {
+        synchronized (result)
+        {
+          result.add(path);
+        }
+      }
+    });
+    return result;
+  }
+
+  boolean isMatched(final Path path, final BasicFileAttributes attributes)
+  {
+    if (!attributes.isRegularFile())
+    {
+      return false;
+    }
+    if (!extensions.isEmpty() && !extensions.contains(FileUtil.findExtension(String.valueOf(path.getFileName()))
+        .toLowerCase(Locale.ENGLISH)))
+    {
+      return false;
+    }
+    final long size = attributes.size();
+    if (size < minSize || maxSize < size)
+    {
+      return false;
+    }
+    final long lastModified = attributes.lastModifiedTime()
+        .toMillis();
+    if (lastModified < modifiedSince || modifiedBefore <= lastModified)
+    {
+      return false;
+    }
+    return null == condition || condition.isMet(path);
+  }
+
+  private final class ScanTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final Path directory;
+    private final VoidFunction1<Path> consumer;
+    private final AtomicLong found;
+
+    ScanTask(final Path directory, final VoidFunction1<Path> consumer, final AtomicLong found)
+    {
+      this.directory = directory;
+      this.consumer = consumer;
+      this.found = found;
+    }
+
+    @Override
+    protected void compute()
+    {
+      final List<ScanTask> subTasks = new ArrayList<ScanTask>();
+      DirectoryStream<Path> directoryStream = null;
+      try
+      {
+        directoryStream = Files.newDirectoryStream(directory);
+        for (final Path path : directoryStream)
+        {
+          final BasicFileAttributes attributes = readAttributes(path);
+          if (null == attributes)
+          {
+            continue;
+          }
+          if (attributes.isDirectory())
+          {
+            final ScanTask subTask = new ScanTask(path, consumer, found);
+            /* starts reading the sub-directory right away so that idle workers can steal it. */
+            subTask.fork();
+            subTasks.add(subTask);
+          }
+          else if (isMatched(path, attributes))
+          {
+            found.incrementAndGet();
+            consumer.apply(path);
+          }
+        }
+      }
+      catch (final IOException e)
+      {
+        failedToRead(e);
+      }
+      catch (final DirectoryIteratorException e)
+      {
+        failedToRead(e.getCause());
+      }
+      finally
+      {
+        IoUtil.closeQuietly(directoryStream);
+        for (final ScanTask subTask : subTasks)
+        {
+          subTask.join();
+        }
+      }
+    }
+
+    private void failedToRead(final IOException e)
+    {
+      if (!ignoringIoException)
+      {
+        throw new RuntimeIoException("Failed to read the directory [" + directory + "]", e);
+      }
+    }
+
+    private BasicFileAttributes readAttributes(final Path path) throws IOException
+    {
+      try
+      {
+        return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+      }
+      catch (final IOException e)
+      {
+        if (ignoringIoException)
+        {
+          return null;
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/**
+ * This project is licensed under the Apache License, Version 2.0
+ * if the following condition is met:
+ * (otherwise it cannot be used by anyone but the author, Kevin, only)
+ *
+ * The original KommonLee project is owned by Lee, Seong Hyun (Kevin).
+ *
+ * -What does it mean to you?
+ * Nothing, unless you want to take the ownership of
+ * "the original project" (not yours or forked & modified one).
+ * You are free to use it for both non-commercial and commercial projects
+ * and free to modify it as the Apache License allows.
+ *
+ * -So why is this condition necessary?
+ * It is only to protect the original project (See the case of Java).
+ *
+ *
+ * Copyright 2009 Lee, Seong Hyun (Kevin)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.elixirian.kommonlee.nio.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.elixirian.kommonlee.util.NeoArrays;
+
+/**
+ * <pre>
+ *     ___  _____                                              _____
+ *    /   \/    / ______ __________________  ______ __ ______ /    /   ______  ______
+ *   /        / _/ __  // /  /   / /  /   /_/ __  // //     //    /   /  ___ \/  ___ \
+ *  /        \ /  /_/ _/  _  _  /  _  _  //  /_/ _/   __   //    /___/  _____/  _____/
+ * /____/\____\/_____//__//_//_/__//_//_/ /_____//___/ /__//________/\_____/ \_____/
+ * </pre>
+ * 
+ * <pre>
+ *     ___  _____                                _____
+ *    /   \/    /_________  ___ ____ __ ______  /    /   ______  ______
+ *   /        / /  ___ \  \/  //___// //     / /    /   /  ___ \/  ___ \
+ *  /        \ /  _____/\    //   //   __   / /    /___/  _____/  _____/
+ * /____/\____\\_____/   \__//___//___/ /__/ /________/\_____/ \_____/
+ * </pre>
+ * 
+ * Scans byte chunks for a delimiter byte eight bytes at a time (SWAR: SIMD within a register). Each 64-bit word read
+ * from the chunk is XORed with the delimiter broadcast to all eight bytes so that every matching byte becomes 0, then
+ * the zero bytes are turned into a mask having only the high bit of each matching byte set. The number of matches in a
+ * word is {@link Long#bitCount(long)} of the mask and the position of the first match is
+ * {@link Long#numberOfTrailingZeros(long)} / 8 since the chunks are read in little-endian order.
+ * <p>
+ * It is stateful and not thread-safe. One {@link DelimiterScanner} is meant to scan one file (or stream) from the
+ * beginning to the end, chunk by chunk.
+ * </p>
+ *
+ * @author Lee, SeongHyun (Kevin)
+ * @version 0.0.1 (2014-05-03)
+ */
+final class DelimiterScanner
+{
+  private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+  private static final long LOWEST_BITS = 0x0101010101010101L;
+
+  private final byte delimiter;
+
+  private final long pattern;
+
+  /**
+   * 0 means counting only.
+   */
+  private final int every;
+
+  private long count;
+
+  private long[] index;
+
+  private int indexLength;
+
+  DelimiterScanner(final byte delimiter, final int every)
+  {
+    this.delimiter = delimiter;
+    this.pattern = (delimiter & 0xFFL) * LOWEST_BITS;
+    this.every = every;
+    if (0 < every)
+    {
+      this.index = new long[16];
+      /* the first record always starts at 0. */
+      this.index[0] = 0L;
+      this.indexLength = 1;
+    }
+    else
+    {
+      this.index = NeoArrays.EMPTY_LONG_ARRAY;
+      this.indexLength = 0;
+    }
+  }
+
+  static ByteBuffer newChunk(final int bufferSize)
+  {
+    return ByteBuffer.allocate(bufferSize)
+        .order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Returns a mask which has only the high bit of each byte in the given word set where the byte is 0. Unlike the
+   * well-known (v - 0x01..01) & ~v & 0x80..80 trick, it has no false positive so it can be used for counting.
+   *
+   * @param word
+   *          the given word
+   * @return the mask with the high bit of every zero byte set.
+   */
+  static long zeroByteMask(final long word)
+  {
+    return ~(((word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | word | LOW_SEVEN_BITS);
+  }
+
+  /**
+   * Scans the bytes in the given chunk from 0 to its limit.
+   *
+   * @param chunk
+   *          the given chunk in {@link ByteOrder#LITTLE_ENDIAN}.
+   * @param offsetOfChunk
+   *          the offset of the first byte of the chunk in the whole source.
+   */
+  void scan(final ByteBuffer chunk, final long offsetOfChunk)
+  {
+    final int limit = chunk.limit();
+    final int wordLimit = limit - 7;
+    int i = 0;
+    if (0 == every)
+    {
+      long found = 0L;
+      for (; i < wordLimit; i += 8)
+      {
+        found += Long.bitCount(zeroByteMask(chunk.getLong(i) ^ pattern));
+      }
+      for (; i < limit; i++)
+      {
+        if (delimiter == chunk.get(i))
+        {
+          found++;
+        }
+      }
+      count += found;
+      return;
+    }
+
+    for (; i < wordLimit; i += 8)
+    {
+      long mask = zeroByteMask(chunk.getLong(i) ^ pattern);
+      while (0L != mask)
+      {
+        found(offsetOfChunk + i + (Long.numberOfTrailingZeros(mask) >>> 3));
+        /* clears the lowest set bit */
+        mask &= mask - 1;
+      }
+    }
+    for (; i < limit; i++)
+    {
+      if (delimiter == chunk.get(i))
+      {
+        found(offsetOfChunk + i);
+      }
+    }
+  }
+
+  private void found(final long position)
+  {
+    count++;
+    if (0 == count % every)
+    {
+      if (indexLength == index.length)
+      {
+        index = Arrays.copyOf(index, indexLength << 1);
+      }
+      /* the next record starts right after the delimiter. */
+      index[indexLength++] = position + 1;
+    }
+  }
+
+  long getCount()
+  {
+    return count;
+  }
+
+  /**
+   * @param sourceLength
+   *          the length of the whole scanned source. The entry pointing at the end of the source (i.e. the one made by
+   *          the delimiter at the very end) is not a start of any record so it is excluded.
+   * @return the offsets of the records 0, every, 2 * every and so on.
+   */
+  long[] toIndex(final long sourceLength)
+  {
+    if (0L == sourceLength)
+    {
+      return NeoArrays.EMPTY_LONG_ARRAY;
+    }
+    int length = indexLength;
+    if (0 < length && sourceLength <= index[length - 1])
+    {
+      length--;
+    }
+    return Arrays.copyOf(index, length);
+  }
+}
@@ -42,6 +42,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -62,6 +63,7 @@ import org.elixirian.kommonlee.io.exception.RuntimeFileNotFoundException;
 import org.elixirian.kommonlee.io.exception.RuntimeIoException;
 import org.elixirian.kommonlee.io.util.IoUtil;
 import org.elixirian.kommonlee.util.CommonConstants;
+import org.elixirian.kommonlee.validation.Assertions;
 
 /**
  * <pre>
@@ -83,6 +85,7 @@ import org.elixirian.kommonlee.util.CommonConstants;
  * @author Lee, SeongHyun (Kevin)
  * @version 0.0.1 (2010-07-13)
  * @version 0.0.2 (2010-11-03) moved from the elixirian-common-filemanager package.
+ * @version 0.0.3 (2014-05-03) record (line) counting and indexing added.
  */
 public final class NioUtil
 {
@@ -91,6 +94,10 @@ public final class NioUtil
    */
   public static final int DEFAULT_BUFFER_SIZE = BUFFER_SIZE_128Ki;
 
+  public static final byte LINE_FEED = '\n';
+
+  public static final String RECORD_INDEX_FILE_SUFFIX = ".idx";
+
   private NioUtil() throws IllegalAccessException
   {
     throw new IllegalAccessException(getClass().getName() + CommonConstants.CANNOT_BE_INSTANTIATED);
@@ -343,7 +350,8 @@ public final class NioUtil
       final ByteArrayProducer byteArrayProducer) throws IOException
   {
     final int bytesLength = byteArrayProducer.length();
-    final int actualBufferSize = bytesLength < bufferSize ? bytesLength : bufferSize;
+    /* an empty buffer would make the producer return 0 forever so the bufferSize is used for empty content. */
+    final int actualBufferSize = 0 < bytesLength && bytesLength < bufferSize ? bytesLength : bufferSize;
     final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(actualBufferSize);
     final byte[] bytes = new byte[actualBufferSize];
 
@@ -395,7 +403,8 @@ public final class NioUtil
       final ByteArrayProducer byteArrayProducer) throws IOException
   {
     final int bytesLength = byteArrayProducer.length();
-    final int actualBufferSize = bytesLength < bufferSize ? bytesLength : bufferSize;
+    /* an empty buffer would make the producer return 0 forever so the bufferSize is used for empty content. */
+    final int actualBufferSize = 0 < bytesLength && bytesLength < bufferSize ? bytesLength : bufferSize;
     final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(actualBufferSize);
 
     final byte[] bytes = new byte[actualBufferSize];
@@ -513,4 +522,251 @@ public final class NioUtil
       read += targetFileChannel.transferFrom(sourceFileChannel, read, size - read);
     }
   }
+
+  /**
+   * Counts how many times the given delimiter byte appears in the given file. The file is read in chunks of
+   * {@link #DEFAULT_BUFFER_SIZE} bytes and each chunk is searched eight bytes at a time.
+   *
+   * @param file
+   *          the given file to scan.
+   * @param delimiter
+   *          the given delimiter byte to count.
+   * @return the number of the delimiter bytes in the file.
+   */
+  public static long countDelimiters(final File file, final byte delimiter)
+  {
+    return countDelimiters(file, DEFAULT_BUFFER_SIZE, delimiter);
+  }
+
+  public static long countDelimiters(final File file, final int bufferSize, final byte delimiter)
+  {
+    final DelimiterScanner delimiterScanner = new DelimiterScanner(delimiter, 0);
+    scanFile(file, bufferSize, delimiterScanner);
+    return delimiterScanner.getCount();
+  }
+
+  /**
+   * Counts the lines in the given file. The last line is counted even if it does not end with '\n' so an empty file
+   * has 0 lines, "a" has 1 line and so do "a\n" while "a\nb" has 2 lines.
+   *
+   * @param file
+   *          the given file to count the lines in.
+   * @return the number of the lines in the given file.
+   */
+  public static long countLines(final File file)
+  {
+    return countLines(file, DEFAULT_BUFFER_SIZE);
+  }
+
+  public static long countLines(final File file, final int bufferSize)
+  {
+    final DelimiterScanner delimiterScanner = new DelimiterScanner(LINE_FEED, 0);
+    final long fileLength = scanFile(file, bufferSize, delimiterScanner);
+    final long count = delimiterScanner.getCount();
+    return 0L == fileLength || endsWith(file, fileLength, LINE_FEED) ? count : count + 1;
+  }
+
+  /**
+   * Builds an index of the byte offsets of every n-th record in the given file where records are separated by the
+   * given delimiter. The first element is always 0 (the offset of the first record) unless the file is empty, the
+   * second one is the offset of the record at index 'every', the third is the one of the record at 2 * 'every' and so
+   * on. So the record at index i can be found by seeking to index[i / every] and skipping (i % every) records.
+   *
+   * @param file
+   *          the given file to index.
+   * @param delimiter
+   *          the delimiter separating the records (e.g. '\n' for lines).
+   * @param every
+   *          the distance between the indexed records. It must be greater than 0.
+   * @return the record index of the given file.
+   */
+  public static long[] indexRecords(final File file, final byte delimiter, final int every)
+  {
+    return indexRecords(file, DEFAULT_BUFFER_SIZE, delimiter, every);
+  }
+
+  public static long[] indexRecords(final File file, final int bufferSize, final byte delimiter, final int every)
+  {
+    Assertions.assertTrue(0 < every, "every must be greater than 0. [every: %s]", Integer.valueOf(every));
+    final DelimiterScanner delimiterScanner = new DelimiterScanner(delimiter, every);
+    final long fileLength = scanFile(file, bufferSize, delimiterScanner);
+    return delimiterScanner.toIndex(fileLength);
+  }
+
+  private static long scanFile(final File file, final int bufferSize, final DelimiterScanner delimiterScanner)
+  {
+    assertBufferSize(bufferSize);
+
+    FileInputStream fileInputStream = null;
+    FileChannel fileChannel = null;
+
+    try
+    {
+      fileInputStream = new FileInputStream(file);
+      fileChannel = fileInputStream.getChannel();
+      return scanFileChannel(fileChannel, bufferSize, delimiterScanner);
+    }
+    catch (final FileNotFoundException e)
+    {
+      throw new RuntimeFileNotFoundException(e);
+    }
+    catch (final IOException e)
+    {
+      throw new RuntimeIoException(e);
+    }
+    finally
+    {
+      closeQuietly(fileChannel);
+      closeQuietly(fileInputStream);
+    }
+  }
+
+  private static long scanFileChannel(final FileChannel fileChannel, final int bufferSize,
+      final DelimiterScanner delimiterScanner) throws IOException
+  {
+    final ByteBuffer chunk = DelimiterScanner.newChunk(bufferSize);
+    long offset = 0L;
+    int bytesRead = fileChannel.read(chunk);
+    while (-1 != bytesRead)
+    {
+      if (!chunk.hasRemaining())
+      {
+        offset += scanChunk(chunk, offset, delimiterScanner);
+      }
+      bytesRead = fileChannel.read(chunk);
+    }
+    if (0 < chunk.position())
+    {
+      offset += scanChunk(chunk, offset, delimiterScanner);
+    }
+    return offset;
+  }
+
+  private static int scanChunk(final ByteBuffer chunk, final long offset, final DelimiterScanner delimiterScanner)
+  {
+    chunk.flip();
+    delimiterScanner.scan(chunk, offset);
+    final int scanned = chunk.limit();
+    chunk.clear();
+    return scanned;
+  }
+
+  private static boolean endsWith(final File file, final long fileLength, final byte b)
+  {
+    RandomAccessFile randomAccessFile = null;
+    try
+    {
+      randomAccessFile = new RandomAccessFile(file, "r");
+      randomAccessFile.seek(fileLength - 1);
+      return b == randomAccessFile.readByte();
+    }
+    catch (final FileNotFoundException e)
+    {
+      throw new RuntimeFileNotFoundException(e);
+    }
+    catch (final IOException e)
+    {
+      throw new RuntimeIoException(e);
+    }
+    finally
+    {
+      closeQuietly(randomAccessFile);
+    }
+  }
+
+  /**
+   * Returns the file to keep the record index of the given file, which is the file with the same name and
+   * {@link #RECORD_INDEX_FILE_SUFFIX} in the same directory (e.g. data.csv =&gt; data.csv.idx).
+   *
+   * @param file
+   *          the given file indexed.
+   * @return the record index file for the given file.
+   */
+  public static File recordIndexFileOf(final File file)
+  {
+    return new File(file.getParentFile(), file.getName() + RECORD_INDEX_FILE_SUFFIX);
+  }
+
+  /**
+   * Writes the given record index into the given file as a sequence of big-endian longs (8 bytes each).
+   *
+   * @param indexFile
+   *          the given file to write the index into.
+   * @param recordIndex
+   *          the record index made by {@link #indexRecords(File, byte, int)}.
+   */
+  public static void writeRecordIndex(final File indexFile, final long[] recordIndex)
+  {
+    FileOutputStream fileOutputStream = null;
+    FileChannel fileChannel = null;
+
+    try
+    {
+      fileOutputStream = new FileOutputStream(indexFile);
+      fileChannel = fileOutputStream.getChannel();
+      final ByteBuffer byteBuffer = ByteBuffer.allocate(recordIndex.length << 3);
+      byteBuffer.asLongBuffer()
+          .put(recordIndex);
+      while (byteBuffer.hasRemaining())
+        fileChannel.write(byteBuffer);
+    }
+    catch (final FileNotFoundException e)
+    {
+      throw new RuntimeFileNotFoundException(e);
+    }
+    catch (final IOException e)
+    {
+      throw new RuntimeIoException(e);
+    }
+    finally
+    {
+      closeQuietly(fileChannel);
+      closeQuietly(fileOutputStream);
+    }
+  }
+
+  /**
+   * Reads the record index written by {@link #writeRecordIndex(File, long[])}.
+   *
+   * @param indexFile
+   *          the given record index file.
+   * @return the record index.
+   */
+  public static long[] readRecordIndex(final File indexFile)
+  {
+    FileInputStream fileInputStream = null;
+    FileChannel fileChannel = null;
+
+    try
+    {
+      fileInputStream = new FileInputStream(indexFile);
+      fileChannel = fileInputStream.getChannel();
+      final long size = fileChannel.size();
+      Assertions.assertTrue(0 == (size & 7) && Integer.MAX_VALUE >= size,
+          "The given file is not a valid record index file. [file: %s, size: %s]", indexFile, Long.valueOf(size));
+      final ByteBuffer byteBuffer = ByteBuffer.allocate((int) size);
+      while (byteBuffer.hasRemaining() && -1 != fileChannel.read(byteBuffer))
+      {
+        /* keep reading */
+      }
+      byteBuffer.flip();
+      final long[] recordIndex = new long[byteBuffer.remaining() >>> 3];
+      byteBuffer.asLongBuffer()
+          .get(recordIndex);
+      return recordIndex;
+    }
+    catch (final FileNotFoundException e)
+    {
+      throw new RuntimeFileNotFoundException(e);
+    }
+    catch (final IOException e)
+    {
+      throw new RuntimeIoException(e);
+    }
+    finally
+    {
+      closeQuietly(fileChannel);
+      closeQuietly(fileInputStream);
+    }
+  }
 }
@@ -1306,6 +1306,190 @@ public final class NeoArrays
     return result;
   }
 
+  /**
+   * @param elements
+   *          the given char array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>chars</tt> 'elements' array.
+   */
+  public static int hash(final char[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      result = 31 * result + elements[i];
+    }
+    return result;
+  }
+
+  /**
+   * @param elements
+   *          the given short array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>shorts</tt> 'elements' array.
+   */
+  public static int hash(final short[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      result = 31 * result + elements[i];
+    }
+    return result;
+  }
+
+  /**
+   * @param elements
+   *          the given int array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>ints</tt> 'elements' array.
+   */
+  public static int hash(final int[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      result = 31 * result + elements[i];
+    }
+    return result;
+  }
+
+  /**
+   * @param elements
+   *          the given long array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>longs</tt> 'elements' array.
+   */
+  public static int hash(final long[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      final long element = elements[i];
+      result = 31 * result + (int) (element ^ (element >>> 32));
+    }
+    return result;
+  }
+
+  /**
+   * @param elements
+   *          the given float array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>floats</tt> 'elements' array.
+   */
+  public static int hash(final float[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      result = 31 * result + Float.floatToIntBits(elements[i]);
+    }
+    return result;
+  }
+
+  /**
+   * @param elements
+   *          the given double array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>doubles</tt> 'elements' array.
+   */
+  public static int hash(final double[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      final long bits = Double.doubleToLongBits(elements[i]);
+      result = 31 * result + (int) (bits ^ (bits >>> 32));
+    }
+    return result;
+  }
+
+  /**
+   * @param elements
+   *          the given boolean array.
+   * @param from
+   *          the initial index of the range to be included for the hash calculation, inclusive
+   * @param to
+   *          the final index of the range to be included for the hash calculation, exclusive. (This index may lie
+   *          outside the array.)
+   * @return a content-based hash code for the given <tt>booleans</tt> 'elements' array.
+   */
+  public static int hash(final boolean[] elements, final int from, final int to)
+  {
+    if (null == elements)
+    {
+      return 0;
+    }
+    KollectionUtil.checkRange(elements.length, from, to);
+
+    int result = 1;
+    for (int i = from; i < to; i++)
+    {
+      result = 31 * result + (elements[i] ? 1231 : 1237);
+    }
+    return result;
+  }
+
   public static <E> E[] glue(final E head, final E... tail)
   {
     Objects.mustNotBeNull(
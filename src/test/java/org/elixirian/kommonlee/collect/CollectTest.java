@@ -31,6 +31,8 @@
  */
 package org.elixirian.kommonlee.collect;
 
+import static org.assertj.core.api.Assertions.*;
+
 import org.elixirian.kommonlee.collect.immutable.ImmutableList;
 import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
 import org.elixirian.kommonlee.type.functional.Condition1;
@@ -166,4 +168,35 @@ public class CollectTest
     System.out.println("Objects.toStringOf(list2.toArray()): " + Objects.toStringOf(list2.toArray()));
   }
 
+  @Test
+  public final void testSubListOfReadableArrayList()
+  {
+    /* given */
+    final ReadableList<Integer> list = new ReadableArrayList<Integer>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+
+    /* when */
+    final ReadableList<Integer> actual = list.subList(3, 9);
+    final ReadableList<Integer> actualFromSubList = actual.subList(1, 3);
+    final ReadableList<Integer> actualSmall = list.subList(0, 2);
+
+    /* then */
+    assertThat(actual).containsExactly(4, 5, 6, 7, 8, 9);
+    assertThat(actual.toArray()).containsExactly(4, 5, 6, 7, 8, 9);
+    assertThat(actual.convertTo()).containsExactly(4, 5, 6, 7, 8, 9);
+    assertThat(actual.get(5)).isEqualTo(9);
+    assertThat(actual.contains(10)).isFalse();
+    assertThat(actual.select(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 2;
+      }
+    })).containsExactly(4, 6, 8);
+    assertThat(actualFromSubList).containsExactly(5, 6);
+    assertThat(actualSmall).containsExactly(1, 2);
+    assertThat(actual).isEqualTo(new ReadableArrayList<Integer>(4, 5, 6, 7, 8, 9));
+    assertThat(actual.hashCode()).isEqualTo(new ReadableArrayList<Integer>(4, 5, 6, 7, 8, 9).hashCode());
+    assertThat(list.subList(0, list.length())).isSameAs(list);
+  }
+
 }
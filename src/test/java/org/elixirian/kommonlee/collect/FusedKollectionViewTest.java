@@ -0,0 +1,241 @@
+package org.elixirian.kommonlee.collect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.elixirian.kommonlee.collect.immutable.ImmutableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
+import org.elixirian.kommonlee.collect.immutable.ImmutableSets;
+import org.elixirian.kommonlee.functional.BreakableFunction1;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class FusedKollectionViewTest
+{
+  private static final Condition1<Integer> IS_EVEN = new Condition1<Integer>() {
+    @Override
+    public boolean isMet(final Integer input)
+    {
+      return 0 == input.intValue() % 2;
+    }
+  };
+
+  private static final Function2<Integer, Integer, Integer> PLUS = new Function2<Integer, Integer, Integer>() {
+    @Override
+    public Integer apply(final Integer input1, final Integer input2)
+    {
+      return Integer.valueOf(input1.intValue() + input2.intValue());
+    }
+  };
+
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  private static Function1<Integer, Integer> timesTen(final List<Integer> calledWith)
+  {
+    return new Function1<Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input)
+      {
+        calledWith.add(input);
+        return Integer.valueOf(input.intValue() * 10);
+      }
+    };
+  }
+
+  @Test
+  public final void testSelectMapSelectFoldLeft()
+  {
+    /* given */
+    final ImmutableList<Integer> list = ImmutableLists.listOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    final List<Integer> calledWith = new ArrayList<Integer>();
+
+    /* when */
+    final KollectionView<Integer> view = list.view()
+        .select(IS_EVEN)
+        .map(timesTen(calledWith))
+        .select(new Condition1<Integer>() {
+          @Override
+          public boolean isMet(final Integer input)
+          {
+            return 30 < input.intValue();
+          }
+        });
+
+    /* then */
+    assertThat(calledWith).isEmpty();
+    assertThat(view.foldLeft(Integer.valueOf(0), PLUS)).isEqualTo(40 + 60 + 80 + 100);
+    assertThat(calledWith).containsExactly(2, 4, 6, 8, 10);
+    assertThat(view.toArray()).containsExactly(40, 60, 80, 100);
+    assertThat(view.toArray(new Integer[4])).containsExactly(40, 60, 80, 100);
+    assertThat(view.toArray(new Integer[0])).containsExactly(40, 60, 80, 100);
+    assertThat(view.howMany()).isEqualTo(4);
+    assertThat(view.howMany(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 80 <= input.intValue();
+      }
+    })).isEqualTo(2);
+    assertThat(view.reduce(PLUS)).isEqualTo(280);
+    assertThat(list).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+  }
+
+  @Test
+  public final void testMapSelectively()
+  {
+    /* given */
+    final ImmutableList<Integer> list = ImmutableLists.listOf(1, 2, 3, 4, 5);
+
+    /* when */
+    final KollectionView<String> view = list.view()
+        .mapSelectively(IS_EVEN, new Function1<Integer, String>() {
+          @Override
+          public String apply(final Integer input)
+          {
+            return "[" + input + "]";
+          }
+        });
+    final List<String> actual = new ArrayList<String>();
+    view.forEach(new VoidFunction1<String>() {
+      @Override
+      public void apply(final String input)
+      {
+        actual.add(input);
+      }
+    });
+
+    /* then */
+    assertThat(actual).containsExactly("[2]", "[4]");
+    assertThat(view.toArray()).containsExactly("[2]", "[4]");
+  }
+
+  @Test
+  public final void testFindAndExistsStopEarly()
+  {
+    /* given */
+    final ImmutableList<Integer> list = ImmutableLists.listOf(1, 2, 3, 4, 5, 6, 7, 8);
+    final List<Integer> calledWith = new ArrayList<Integer>();
+    final KollectionView<Integer> view = list.view()
+        .map(timesTen(calledWith));
+
+    /* when */
+    final Integer actual = view.find(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 30 == input.intValue();
+      }
+    });
+
+    /* then */
+    assertThat(actual).isEqualTo(30);
+    assertThat(calledWith).containsExactly(1, 2, 3);
+    assertThat(view.exists(IS_EVEN)).isTrue();
+    assertThat(view.find(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 > input.intValue();
+      }
+    })).isNull();
+    assertThat(view.select(IS_EVEN)
+        .exists(new Condition1<Integer>() {
+          @Override
+          public boolean isMet(final Integer input)
+          {
+            return 0 != input.intValue() % 10;
+          }
+        })).isFalse();
+  }
+
+  @Test
+  public final void testBreakableForEach()
+  {
+    /* given */
+    final ImmutableList<Integer> list = ImmutableLists.listOf(1, 2, 3, 4, 5, 6, 7, 8);
+    final List<Integer> actual = new ArrayList<Integer>();
+
+    /* when */
+    list.view()
+        .select(IS_EVEN)
+        .breakableForEach(new BreakableFunction1<Integer>() {
+          @Override
+          public BreakOrContinue apply(final Integer input)
+          {
+            actual.add(input);
+            return 2 == actual.size() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+          }
+        });
+
+    /* then */
+    assertThat(actual).containsExactly(2, 4);
+  }
+
+  @Test
+  public final void testEmptyResult()
+  {
+    /* given */
+    final ImmutableList<Integer> list = ImmutableLists.listOf(1, 3, 5);
+
+    /* when */
+    final KollectionView<Integer> view = list.view()
+        .select(IS_EVEN);
+
+    /* then */
+    assertThat(view.toArray()).isEmpty();
+    assertThat(view.howMany()).isEqualTo(0);
+    assertThat(view.reduce(PLUS)).isNull();
+    assertThat(view.foldLeft(Integer.valueOf(7), PLUS)).isEqualTo(7);
+    assertThat(ImmutableLists.<Integer> emptyList()
+        .view()
+        .toArray()).isEmpty();
+  }
+
+  @Test
+  public final void testViewWithoutStep()
+  {
+    /* given */
+    final Kollection<Integer> set = ImmutableSets.setOf(1, 2, 3);
+    final Kollection<Integer> list = new ReadableArrayList<Integer>(1, 2, 3, 4, 5, 6)
+        .subList(1, 5);
+
+    /* when */
+    final KollectionView<Integer> view = set.view();
+    final KollectionView<Integer> viewOfSubList = list.view();
+
+    /* then */
+    assertThat(view.howMany()).isEqualTo(3);
+    assertThat(view.foldLeft(Integer.valueOf(0), PLUS)).isEqualTo(6);
+    assertThat(viewOfSubList.toArray()).containsExactly(2, 3, 4, 5);
+    assertThat(viewOfSubList.select(IS_EVEN)
+        .toArray()).containsExactly(2, 4);
+  }
+}
@@ -0,0 +1,128 @@
+package org.elixirian.kommonlee.collect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.elixirian.kommonlee.collect.immutable.ImmutableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class McHammerArrayIteratorTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  private static <E> List<E> collect(final McHammerArrayIterator<E> iterator)
+  {
+    final List<E> list = new ArrayList<E>();
+    iterator.applyToRemaining(new VoidFunction1<E>() {
+      @Override
+      public void apply(final E input)
+      {
+        list.add(input);
+      }
+    });
+    return list;
+  }
+
+  @Test
+  public final void testIteration()
+  {
+    /* given */
+    final Object[] elements = { "a", "b", "c", "d", "e" };
+    final McHammerArrayIterator<String> iterator = new McHammerArrayIterator<String>(elements, 1, 4);
+
+    /* when */
+    final List<String> actual = new ArrayList<String>();
+    while (iterator.hasNext())
+    {
+      actual.add(iterator.next());
+    }
+
+    /* then */
+    assertThat(actual).containsExactly("b", "c", "d");
+    assertThat(iterator.remaining()).isEqualTo(0);
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public final void testNextAfterTheEnd()
+  {
+    final McHammerArrayIterator<String> iterator = new McHammerArrayIterator<String>(new Object[] { "a", "b" }, 1, 2);
+    iterator.next();
+    iterator.next();
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testInvalidRange()
+  {
+    new McHammerArrayIterator<String>(new Object[] { "a", "b" }, 1, 3);
+  }
+
+  @Test
+  public final void testTrySplit()
+  {
+    /* given */
+    final Object[] elements = { 0, 1, 2, 3, 4, 5, 6, 7, 8 };
+    final McHammerArrayIterator<Integer> iterator = new McHammerArrayIterator<Integer>(elements, 0, elements.length);
+    iterator.next();
+
+    /* when */
+    final McHammerArrayIterator<Integer> firstHalf = iterator.trySplit();
+    final McHammerArrayIterator<Integer> firstQuarter = firstHalf.trySplit();
+
+    /* then */
+    assertThat(firstQuarter.remaining() + firstHalf.remaining() + iterator.remaining()).isEqualTo(8);
+    assertThat(collect(firstQuarter)).containsExactly(1, 2);
+    assertThat(collect(firstHalf)).containsExactly(3, 4);
+    assertThat(collect(iterator)).containsExactly(5, 6, 7, 8);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(iterator.trySplit()).isNull();
+    assertThat(new McHammerArrayIterator<Integer>(elements, 3, 4).trySplit()).isNull();
+  }
+
+  @Test
+  public final void testIteratorOfSubLists()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(1, 2, 3, 4, 5, 6, 7, 8);
+    final ReadableList<Integer> readableList = new ReadableArrayList<Integer>(1, 2, 3, 4, 5, 6, 7, 8);
+
+    /* when */
+    final Iterator<Integer> iterator = immutableList.subList(2, 6)
+        .iterator();
+    final Iterator<Integer> iterator2 = readableList.subList(3, 8)
+        .iterator();
+
+    /* then */
+    assertThat(iterator instanceof McHammerArrayIterator).isTrue();
+    assertThat(collect((McHammerArrayIterator<Integer>) iterator)).containsExactly(3, 4, 5, 6);
+    assertThat(iterator2 instanceof McHammerArrayIterator).isTrue();
+    assertThat(collect((McHammerArrayIterator<Integer>) iterator2)).containsExactly(4, 5, 6, 7, 8);
+  }
+}
@@ -18,6 +18,8 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.collect.ReadableArrayList;
+import org.elixirian.kommonlee.collect.mutable.MutableArrayList;
 import org.elixirian.kommonlee.functional.BreakableFunction1;
 import org.elixirian.kommonlee.functional.IndexedBreakableFunction1;
 import org.elixirian.kommonlee.functional.IndexedVoidFunction1;
@@ -2822,4 +2824,500 @@ public class ImmutableArrayListTest
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
+  @Test
+  public final void testSubListSharingElements()
+  {
+    /* given */
+    final Integer[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 };
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(values);
+
+    /* when */
+    final ImmutableList<Integer> actual = immutableList.subList(2, 10);
+    final ImmutableList<Integer> actualFromView = actual.subList(1, 6);
+
+    /* then */
+    assertThat(((DefaultImmutableArrayList<Integer>) actual).isView()).isTrue();
+    assertThat(((DefaultImmutableArrayList<Integer>) actualFromView).isView()).isTrue();
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 10));
+    assertThat(actual.length()).isEqualTo(8);
+    assertThat(actual.get(0)).isEqualTo(3);
+    assertThat(actual.contains(1)).isFalse();
+    assertThat(actual.contains(10)).isTrue();
+    assertThat(actual.contains(11)).isFalse();
+    assertThat(actual.indexOf(10)).isEqualTo(7);
+    assertThat(actual).containsExactly(3, 4, 5, 6, 7, 8, 9, 10);
+    assertThat(actual.convertTo()).containsExactly(3, 4, 5, 6, 7, 8, 9, 10);
+    assertThat(actual.toArray(new Integer[0])).containsExactly(3, 4, 5, 6, 7, 8, 9, 10);
+    assertThat(actualFromView.toArray()).isEqualTo(Arrays.copyOfRange(values, 3, 8));
+    assertThat(actual.subList(0, actual.length())).isSameAs(actual);
+
+    final ImmutableList<Integer> copied = ImmutableLists.listOf(Arrays.copyOfRange(values, 2, 10));
+    assertThat(actual).isEqualTo(copied);
+    assertThat(copied).isEqualTo(actual);
+    assertThat(actual.hashCode()).isEqualTo(copied.hashCode());
+    assertThat(actual.toString()).isEqualTo(copied.toString());
+  }
+
+  @Test
+  public final void testSubListSharingElementsWithFunctions()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(1, 2, 3, 4, 5, 6, 7, 8);
+    final ImmutableList<Integer> subList = immutableList.subList(2, 6);
+    final Function2<Integer, Integer, Integer> plus = new Function2<Integer, Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input1, final Integer input2)
+      {
+        return Integer.valueOf(input1.intValue() + input2.intValue());
+      }
+    };
+    final Function2<Integer, String, String> prepend = new Function2<Integer, String, String>() {
+      @Override
+      public String apply(final Integer input1, final String input2)
+      {
+        return input2 + input1;
+      }
+    };
+    final StringBuilder forEachResult = new StringBuilder();
+    final StringBuilder breakableResult = new StringBuilder();
+
+    /* when */
+    subList.forEach(new IndexedVoidFunction1<Integer>() {
+      @Override
+      public void apply(final int index, final Integer input)
+      {
+        forEachResult.append(index)
+            .append(':')
+            .append(input)
+            .append(' ');
+      }
+    });
+    subList.breakableForEach(new BreakableFunction1<Integer>() {
+      @Override
+      public BreakOrContinue apply(final Integer input)
+      {
+        breakableResult.append(input);
+        return 4 == input.intValue() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(forEachResult.toString()).isEqualTo("0:3 1:4 2:5 3:6 ");
+    assertThat(breakableResult.toString()).isEqualTo("34");
+    assertThat(subList.foldLeft(Integer.valueOf(0), plus)).isEqualTo(18);
+    assertThat(subList.foldRight("", prepend)).isEqualTo("6543");
+    assertThat(subList.reduce(plus)).isEqualTo(18);
+    assertThat(subList.find(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 2 > input.intValue() || 6 < input.intValue();
+      }
+    })).isNull();
+    assertThat(subList.select(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 2;
+      }
+    })).containsExactly(4, 6);
+    assertThat(subList.map(new Function1<Integer, String>() {
+      @Override
+      public String apply(final Integer input)
+      {
+        return String.valueOf(input);
+      }
+    })).containsExactly("3", "4", "5", "6");
+  }
+
+  @Test
+  public final void testSubListCopyingSmallRange()
+  {
+    /* given */
+    final Integer[] values = new Integer[100];
+    for (int i = 0; i < values.length; i++)
+    {
+      values[i] = Integer.valueOf(i);
+    }
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(values);
+
+    /* when */
+    final ImmutableList<Integer> actual = immutableList.subList(10, 15);
+    final ImmutableList<Integer> actualBigEnough = immutableList.subList(10, 35);
+
+    /* then */
+    assertThat(((DefaultImmutableArrayList<Integer>) actual).isView()).isFalse();
+    assertThat(actual).containsExactly(10, 11, 12, 13, 14);
+    assertThat(((DefaultImmutableArrayList<Integer>) actualBigEnough).isView()).isTrue();
+    assertThat(actualBigEnough.get(24)).isEqualTo(34);
+  }
+
+  @Test
+  public final void testSerializationForSubList() throws Exception
+  {
+    /* given */
+    final File file = new File(temporaryFolder.getRoot(), "test-sub-list-serialized.txt");
+    final ImmutableList<String> expected = ImmutableLists.listOf("Kevin", "Lee", "Hello", "World", "!")
+        .subList(1, 4);
+
+    final ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(file));
+    try
+    {
+      outputStream.writeObject(expected);
+    }
+    finally
+    {
+      outputStream.close();
+    }
+
+    /* when */
+    final ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file));
+    final ImmutableList<String> actual;
+    try
+    {
+      actual = (ImmutableList<String>) inputStream.readObject();
+    }
+    finally
+    {
+      inputStream.close();
+    }
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual).containsExactly("Lee", "Hello", "World");
+    assertThat(((DefaultImmutableArrayList<String>) actual).isView()).isFalse();
+  }
+
+  private static Integer[] integersFrom0Until(final int length)
+  {
+    final Integer[] values = new Integer[length];
+    for (int i = 0; i < length; i++)
+    {
+      values[i] = Integer.valueOf(i);
+    }
+    return values;
+  }
+
+  @Test
+  public final void testParallelSelectMapAndHowMany()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(integersFrom0Until(100000));
+    final ImmutableList<Integer> subList = immutableList.subList(3, 90000);
+    final Condition1<Integer> condition = new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 3;
+      }
+    };
+    final Function1<Integer, String> function = new Function1<Integer, String>() {
+      @Override
+      public String apply(final Integer input)
+      {
+        return "[" + input + "]";
+      }
+    };
+
+    /* when */
+    final ImmutableList<Integer> actualSelected = immutableList.parallelSelect(condition);
+    final ImmutableList<String> actualMapped = immutableList.parallelMap(function);
+    final ImmutableList<Integer> actualSelectedFromSubList = subList.parallelSelect(condition);
+    final ImmutableList<String> actualMappedFromSubList = subList.parallelMap(function);
+
+    /* then */
+    assertThat(actualSelected).isEqualTo(immutableList.select(condition));
+    assertThat(actualMapped).isEqualTo(immutableList.map(function));
+    assertThat(actualSelectedFromSubList).isEqualTo(subList.select(condition));
+    assertThat(actualMappedFromSubList).isEqualTo(subList.map(function));
+    assertThat(immutableList.parallelHowMany(condition)).isEqualTo(33334);
+    assertThat(subList.parallelHowMany(condition)).isEqualTo(subList.howMany(condition));
+    assertThat(immutableList.parallelSelect(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 <= input.intValue();
+      }
+    })).isSameAs(immutableList);
+    assertThat(immutableList.parallelSelect(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 > input.intValue();
+      }
+    })).isSameAs(ImmutableLists.emptyList());
+  }
+
+  @Test
+  public final void testParallelFind()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(integersFrom0Until(100000));
+    final Condition1<Integer> condition = new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 50000 < input.intValue() && 0 == input.intValue() % 7;
+      }
+    };
+
+    /* when */
+    final Integer actual = immutableList.parallelFind(condition);
+    final Integer actualAny = immutableList.parallelFindAny(condition);
+
+    /* then */
+    assertThat(actual).isEqualTo(50001);
+    assertThat(actual).isEqualTo(immutableList.find(condition));
+    assertThat(condition.isMet(actualAny)).isTrue();
+    assertThat(immutableList.subList(50002, 100000)
+        .parallelFind(condition)).isEqualTo(50008);
+    assertThat(immutableList.parallelFind(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 100000 <= input.intValue();
+      }
+    })).isNull();
+    assertThat(immutableList.parallelFindAny(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 100000 <= input.intValue();
+      }
+    })).isNull();
+  }
+
+  @Test
+  public final void testParallelReduceAndFoldLeft()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(integersFrom0Until(100000));
+    final Function2<Integer, Integer, Integer> plus = new Function2<Integer, Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input1, final Integer input2)
+      {
+        return Integer.valueOf(input1.intValue() + input2.intValue());
+      }
+    };
+    final Function2<Long, Integer, Long> sum = new Function2<Long, Integer, Long>() {
+      @Override
+      public Long apply(final Long input1, final Integer input2)
+      {
+        return Long.valueOf(input1.longValue() + input2.longValue());
+      }
+    };
+    final Function2<Long, Long, Long> combiner = new Function2<Long, Long, Long>() {
+      @Override
+      public Long apply(final Long input1, final Long input2)
+      {
+        return Long.valueOf(input1.longValue() + input2.longValue());
+      }
+    };
+    final Function2<String, Integer, String> concatenate = new Function2<String, Integer, String>() {
+      @Override
+      public String apply(final String input1, final Integer input2)
+      {
+        return input1 + input2 + ",";
+      }
+    };
+    final Function2<String, String, String> concatenateStrings = new Function2<String, String, String>() {
+      @Override
+      public String apply(final String input1, final String input2)
+      {
+        return input1 + input2;
+      }
+    };
+    final ImmutableList<Integer> subList = immutableList.subList(10, 3000);
+
+    /* when */
+    final Integer actual = immutableList.parallelReduce(plus);
+    final Long actualFolded = immutableList.parallelFoldLeft(Long.valueOf(0L), sum, combiner);
+    final String actualConcatenated = subList.parallelFoldLeft("", concatenate, concatenateStrings);
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableList.reduce(plus));
+    assertThat(actualFolded).isEqualTo(4999950000L);
+    assertThat(actualConcatenated).isEqualTo(subList.foldLeft("", concatenate));
+    assertThat(ImmutableLists.<Integer> emptyList()
+        .parallelReduce(plus)).isNull();
+    assertThat(ImmutableLists.<Integer> emptyList()
+        .parallelFoldLeft(Long.valueOf(7L), sum, combiner)).isEqualTo(7L);
+    assertThat(ImmutableLists.listOf(1, 2, 3)
+        .parallelReduce(plus)).isEqualTo(6);
+  }
+
+  @Test
+  public final void testBuilder()
+  {
+    /* given */
+    final List<String> strings = Arrays.asList("c", "d");
+    final ImmutableArrayList.Builder<String> builder = ImmutableLists.builder(2);
+
+    /* when */
+    builder.add("a")
+        .add("b")
+        .addAll(strings)
+        .addAll(ImmutableLists.listOf("e"))
+        .addAll("f", "g");
+    final ImmutableArrayList<String> built = builder.build();
+    builder.add("h");
+    final ImmutableArrayList<String> builtAgain = builder.build();
+
+    /* then */
+    assertThat(built.convertTo()).isEqualTo(Arrays.asList("a", "b", "c", "d", "e", "f", "g"));
+    assertThat(builtAgain.convertTo()).isEqualTo(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h"));
+    assertThat(builder.length()).isEqualTo(8);
+    assertThat(ImmutableLists.<String> builder()
+        .build()).isSameAs(ImmutableLists.<String> emptyList());
+  }
+
+  @Test
+  public final void testBuilderHandingOverArray()
+  {
+    /* given */
+    final int length = 100;
+    final ImmutableArrayList.Builder<Integer> exact = ImmutableLists.builder(length);
+    final ImmutableArrayList.Builder<Integer> tooLarge = ImmutableLists.builder(length * 10);
+
+    /* when */
+    for (int i = 0; i < length; i++)
+    {
+      exact.add(Integer.valueOf(i));
+      tooLarge.add(Integer.valueOf(i));
+    }
+    final ImmutableArrayList<Integer> fromExact = exact.build();
+    final ImmutableArrayList<Integer> fromTooLarge = tooLarge.build();
+
+    /* then */
+    assertThat(fromExact).isEqualTo(fromTooLarge);
+    assertThat(((DefaultImmutableArrayList<Integer>) fromExact).isView()).isFalse();
+    /* the array ten times longer than needed is trimmed. */
+    assertThat(((DefaultImmutableArrayList<Integer>) fromTooLarge).isView()).isFalse();
+  }
+
+  @Test
+  public final void testCopyOfImmutableArrayList()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(1, 2, 3);
+
+    /* when */
+    final ImmutableList<Integer> copied = ImmutableLists.copyOf(immutableList);
+    final ImmutableList<Integer> copiedFromCollection = ImmutableLists.copyOf(Arrays.asList(1, 2, 3));
+
+    /* then */
+    assertThat(copied).isSameAs(immutableList);
+    assertThat(copiedFromCollection).isEqualTo(immutableList);
+  }
+
+  @Test
+  public final void testIndexed()
+  {
+    /* given */
+    final ImmutableList<Integer> immutableList = ImmutableLists.listOf(integersFrom0Until(1000));
+    final ImmutableList<Integer> withDuplicates = ImmutableLists.listOf(new Integer[] { 5, null, 3, 5, 1, null, 3, 2,
+        9, 8, 7, 6, 5, 4, 3, 2, 1 });
+
+    /* when */
+    final ImmutableList<Integer> indexed = ImmutableLists.indexed(immutableList);
+    final ImmutableList<Integer> indexedWithDuplicates = ImmutableLists.indexed(withDuplicates);
+
+    /* then */
+    assertThat(indexed).isEqualTo(immutableList);
+    assertThat(((DefaultImmutableArrayList<Integer>) indexed).hasHashIndex()).isFalse();
+    for (int i = 0; i < DefaultImmutableArrayList.LOOKUPS_BEFORE_INDEXING; i++)
+    {
+      assertThat(indexed.contains(i * 100)).isTrue();
+    }
+    assertThat(((DefaultImmutableArrayList<Integer>) indexed).hasHashIndex()).isTrue();
+    assertThat(indexed.indexOf(999)).isEqualTo(999);
+    assertThat(indexed.indexOf(1000)).isEqualTo(-1);
+    assertThat(indexed.contains(null)).isFalse();
+    assertThat(indexed.containsAll(ImmutableLists.listOf(integersFrom0Until(1000)))).isTrue();
+    assertThat(indexed.containsAll(ImmutableLists.listOf(1, 1000))).isFalse();
+    assertThat(indexed.subList(500, 1000)
+        .indexOf(500)).isEqualTo(0);
+
+    for (int i = 0; i < DefaultImmutableArrayList.LOOKUPS_BEFORE_INDEXING; i++)
+    {
+      indexedWithDuplicates.contains(0);
+    }
+    assertThat(((DefaultImmutableArrayList<Integer>) indexedWithDuplicates).hasHashIndex()).isTrue();
+    for (final Integer element : withDuplicates)
+    {
+      assertThat(indexedWithDuplicates.indexOf(element)).isEqualTo(withDuplicates.indexOf(element));
+      assertThat(indexedWithDuplicates.indexOf(element, 4)).isEqualTo(withDuplicates.indexOf(element, 4));
+    }
+    assertThat(ImmutableLists.indexed(indexed)).isSameAs(indexed);
+    assertThat(ImmutableLists.indexed(ImmutableLists.listOf(1, 2, 3))
+        .contains(2)).isTrue();
+  }
+
+  @Test
+  public final void testCopyIntoAndConvertTo()
+  {
+    /* given */
+    final ImmutableList<String> list = ImmutableLists.listOf("a", "b", "c", "d");
+    final ImmutableList<String> subList = list.subList(1, 3);
+    final Object[] destination = new Object[5];
+
+    /* when */
+    KollectionUtil.copyInto(subList, destination, 2);
+    KollectionUtil.copyInto(ImmutableLists.<String> emptyList(), destination, 5);
+
+    /* then */
+    assertThat(destination).isEqualTo(new Object[] { null, null, "b", "c", null });
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList("a", "b", "c", "d"));
+    assertThat(subList.convertTo()).isEqualTo(Arrays.asList("b", "c"));
+    assertThat(subList).isEqualTo(ImmutableLists.listOf("b", "c"));
+  }
+
+  private static final class ArrayKeepingList extends ReadableArrayList<String>
+  {
+    Object[] kept;
+
+    ArrayKeepingList(final String... elements)
+    {
+      super((Object[]) elements);
+    }
+
+    @Override
+    public void copyInto(final Object[] destination, final int destinationPosition)
+    {
+      super.copyInto(destination, destinationPosition);
+      kept = destination;
+    }
+  }
+
+  @Test
+  public final void testCopyIntoDoesNotHandArrayToSubclass()
+  {
+    /* given */
+    final ArrayKeepingList arrayKeepingList = new ArrayKeepingList("a", "b", "c");
+
+    /* when */
+    final ImmutableList<String> list = ImmutableLists.<String> builder(3)
+        .addAll(arrayKeepingList)
+        .build();
+    final MutableArrayList<String> mutableArrayList = new MutableArrayList<String>(arrayKeepingList);
+
+    /* then */
+    assertThat(arrayKeepingList.kept).isNull();
+    assertThat(list).isEqualTo(ImmutableLists.listOf("a", "b", "c"));
+    assertThat(mutableArrayList.convertTo()).isEqualTo(Arrays.asList("a", "b", "c"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testConvertToIsUnmodifiable()
+  {
+    ImmutableLists.listOf("a", "b")
+        .convertTo()
+        .set(0, "z");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testCopyIntoWithoutEnoughRoom()
+  {
+    KollectionUtil.copyInto(ImmutableLists.listOf(1, 2, 3), new Object[3], 1);
+  }
 }
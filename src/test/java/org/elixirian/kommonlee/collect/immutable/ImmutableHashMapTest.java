@@ -0,0 +1,233 @@
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.elixirian.kommonlee.functional.VoidFunction2;
+import org.elixirian.kommonlee.type.functional.Condition2;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableHashMapTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static Map<Integer, String> newMap(final int length)
+  {
+    final Map<Integer, String> map = new HashMap<Integer, String>();
+    for (int i = 0; i < length; i++)
+    {
+      map.put(Integer.valueOf(i), "value" + i);
+    }
+    return map;
+  }
+
+  private static <K, V> Map<K, V> toMap(final ImmutableMap<K, V> immutableMap)
+  {
+    final Map<K, V> map = new HashMap<K, V>();
+    immutableMap.forEach(new VoidFunction2<K, V>() {
+      @Override
+      public void apply(final K input1, final V input2)
+      {
+        map.put(input1, input2);
+      }
+    });
+    return map;
+  }
+
+  @Test
+  public final void testEmptyMap()
+  {
+    /* when */
+    final ImmutableMap<String, String> actual = ImmutableMaps.emptyMap();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.size()).isEqualTo(0);
+    assertThat(actual.get("a")).isNull();
+    assertThat(actual.keys()
+        .isEmpty()).isTrue();
+    assertThat(ImmutableMaps.copyOf(new HashMap<String, String>())).isSameAs(actual);
+    assertThat(actual.toString()).isEqualTo("{}");
+  }
+
+  @Test
+  public final void testMapOf()
+  {
+    /* when */
+    final ImmutableMap<String, Integer> actual =
+      ImmutableMaps.mapOf("a", Integer.valueOf(1), "b", Integer.valueOf(2), "c", null, "a", Integer.valueOf(4));
+
+    /* then */
+    assertThat(actual.size()).isEqualTo(3);
+    assertThat(actual.get("a")).isEqualTo(Integer.valueOf(4));
+    assertThat(actual.get("b")).isEqualTo(Integer.valueOf(2));
+    assertThat(actual.get("c")).isNull();
+    assertThat(actual.containsKey("c")).isTrue();
+    assertThat(actual.getOrDefault("c", Integer.valueOf(0))).isNull();
+    assertThat(actual.getOrDefault("d", Integer.valueOf(0))).isEqualTo(Integer.valueOf(0));
+    assertThat(actual.containsValue(null)).isTrue();
+    assertThat(actual.containsValue(Integer.valueOf(1))).isFalse();
+    assertThat(actual.get(null)).isNull();
+    assertThat(actual.toString()).isEqualTo("{a=4, b=2, c=null}");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public final void testMapOfWithNullKey()
+  {
+    ImmutableMaps.mapOf("a", "b", null, "c");
+  }
+
+  @Test
+  public final void testCopyOfSmallAndLargeSizes()
+  {
+    for (int length = 1; length <= 40; length++)
+    {
+      /* given */
+      final Map<Integer, String> expected = newMap(length);
+
+      /* when */
+      final ImmutableMap<Integer, String> actual = ImmutableMaps.copyOf(expected);
+
+      /* then */
+      assertThat(actual.size()).isEqualTo(length);
+      assertThat(actual.getClass()).isEqualTo(4 >= length ? SmallImmutableHashMap.class : DefaultImmutableHashMap.class);
+      for (int i = 0; i <= length; i++)
+      {
+        final Integer key = Integer.valueOf(i);
+        assertThat(actual.get(key)).isEqualTo(expected.get(key));
+        assertThat(actual.containsKey(key)).isEqualTo(expected.containsKey(key));
+      }
+      assertThat(toMap(actual)).isEqualTo(expected);
+      assertThat(actual.convertTo()).isEqualTo(expected);
+      assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+      assertThat(actual.keys()
+          .convertTo()).isEqualTo(expected.keySet());
+      assertThat(actual.values()
+          .convertTo()).containsOnly(expected.values()
+          .toArray(new String[0]));
+    }
+  }
+
+  @Test
+  public final void testRandomKeysAgainstHashMap()
+  {
+    /* given */
+    final Random random = new Random(33L);
+    final Map<String, Integer> expected = new HashMap<String, Integer>();
+    for (int i = 0; i < 5000; i++)
+    {
+      expected.put(String.valueOf(random.nextInt(100000)), Integer.valueOf(i));
+    }
+
+    /* when */
+    final ImmutableMap<String, Integer> actual = ImmutableMaps.copyOf(expected);
+
+    /* then */
+    assertThat(actual.size()).isEqualTo(expected.size());
+    for (int i = 0; i < 100000; i += 7)
+    {
+      final String key = String.valueOf(i);
+      assertThat(actual.get(key)).isEqualTo(expected.get(key));
+    }
+    assertThat(toMap(actual)).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testSelectAndMapValues()
+  {
+    /* given */
+    final ImmutableMap<Integer, String> immutableMap = ImmutableMaps.copyOf(newMap(100));
+
+    /* when */
+    final ImmutableMap<Integer, String> selected = immutableMap.select(new Condition2<Integer, String>() {
+      @Override
+      public boolean isMet(final Integer input1, @SuppressWarnings("unused") final String input2)
+      {
+        return 3 > input1.intValue();
+      }
+    });
+    final ImmutableMap<Integer, Integer> mapped = immutableMap.mapValues(new Function1<String, Integer>() {
+      @Override
+      public Integer apply(final String input)
+      {
+        return Integer.valueOf(input.length());
+      }
+    });
+
+    /* then */
+    assertThat(selected.getClass()).isEqualTo(SmallImmutableHashMap.class);
+    assertThat(toMap(selected)).isEqualTo(newMap(3));
+    assertThat(mapped.size()).isEqualTo(100);
+    assertThat(mapped.get(Integer.valueOf(5))).isEqualTo(Integer.valueOf(6));
+    assertThat(mapped.get(Integer.valueOf(50))).isEqualTo(Integer.valueOf(7));
+    assertThat(immutableMap.get(Integer.valueOf(5))).isEqualTo("value5");
+  }
+
+  @Test
+  public final void testEquals()
+  {
+    /* given */
+    final ImmutableMap<Integer, String> immutableMap1 = ImmutableMaps.copyOf(newMap(10));
+    final Map<Integer, String> map = newMap(10);
+    final ImmutableMap<Integer, String> immutableMap2 = ImmutableMaps.copyOf(map);
+    map.put(Integer.valueOf(3), "different");
+    final ImmutableMap<Integer, String> immutableMap3 = ImmutableMaps.copyOf(map);
+
+    /* when */
+    /* then */
+    assertThat(immutableMap1).isEqualTo(immutableMap2);
+    assertThat(immutableMap1.hashCode()).isEqualTo(immutableMap2.hashCode());
+    assertThat(immutableMap1).isNotEqualTo(immutableMap3);
+    assertThat(ImmutableMaps.mapOf("a", "1", "b", "2")).isEqualTo(ImmutableMaps.mapOf("b", "2", "a", "1"));
+  }
+
+  @Test
+  public final void testSerialization() throws Exception
+  {
+    /* given */
+    final ImmutableMap<Integer, String> expected = ImmutableMaps.copyOf(newMap(50));
+    final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+    objectOutputStream.writeObject(expected);
+    objectOutputStream.close();
+
+    /* when */
+    final ObjectInputStream objectInputStream =
+      new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+    final Object actual = objectInputStream.readObject();
+    objectInputStream.close();
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+}
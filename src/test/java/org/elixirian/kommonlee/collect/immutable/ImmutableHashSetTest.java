@@ -0,0 +1,285 @@
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableHashSetTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static Integer[] integers(final int from, final int to)
+  {
+    final Integer[] integers = new Integer[to - from];
+    for (int i = from; i < to; i++)
+    {
+      integers[i - from] = Integer.valueOf(i);
+    }
+    return integers;
+  }
+
+  private static <E> Set<E> toSet(final ImmutableSet<E> immutableSet)
+  {
+    final Set<E> set = new HashSet<E>();
+    for (final E element : immutableSet)
+    {
+      set.add(element);
+    }
+    return set;
+  }
+
+  @Test
+  public final void testEmptySet()
+  {
+    /* when */
+    final ImmutableSet<String> actual = ImmutableSets.emptySet();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(actual.contains("a")).isFalse();
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+    assertThat(ImmutableSets.setOf()).isSameAs(actual);
+    assertThat(ImmutableSets.copyOf(new ArrayList<String>())).isSameAs(actual);
+    assertThat(actual.toString()).isEqualTo("[]");
+  }
+
+  @Test
+  public final void testSetOfSmallAndLargeSizes()
+  {
+    for (int length = 1; length <= 40; length++)
+    {
+      /* given */
+      final Integer[] elements = integers(0, length);
+
+      /* when */
+      final ImmutableSet<Integer> actual = ImmutableSets.setOf(elements);
+
+      /* then */
+      assertThat(actual.length()).isEqualTo(length);
+      assertThat(actual.getClass()).isEqualTo(4 >= length ? SmallImmutableHashSet.class : DefaultImmutableHashSet.class);
+      for (final Integer element : elements)
+      {
+        assertThat(actual.contains(element)).isTrue();
+      }
+      assertThat(actual.contains(Integer.valueOf(length))).isFalse();
+      assertThat(actual.contains(null)).isFalse();
+      assertThat(toSet(actual)).isEqualTo(new HashSet<Integer>(Arrays.asList(elements)));
+    }
+  }
+
+  @Test
+  public final void testSetOfIgnoresDuplicates()
+  {
+    /* given */
+    final List<Integer> list = new ArrayList<Integer>();
+    for (int i = 0; i < 100; i++)
+    {
+      list.add(Integer.valueOf(i % 3));
+    }
+
+    /* when */
+    final ImmutableSet<Integer> actual = ImmutableSets.copyOf(list);
+    final ImmutableSet<String> actual2 = ImmutableSets.setOf("a", "b", "a");
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(3);
+    assertThat(actual.getClass()).isEqualTo(SmallImmutableHashSet.class);
+    assertThat(toSet(actual)).containsOnly(Integer.valueOf(0), Integer.valueOf(1), Integer.valueOf(2));
+    assertThat(actual2.length()).isEqualTo(2);
+    assertThat(actual2.toArray()).containsOnly("a", "b");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public final void testSetOfWithNull()
+  {
+    ImmutableSets.setOf("a", null);
+  }
+
+  @Test
+  public final void testRandomElementsAgainstHashSet()
+  {
+    /* given */
+    final Random random = new Random(33L);
+    final List<String> list = new ArrayList<String>();
+    for (int i = 0; i < 5000; i++)
+    {
+      list.add(String.valueOf(random.nextInt(3000)));
+    }
+    final Set<String> expected = new HashSet<String>(list);
+
+    /* when */
+    final ImmutableSet<String> actual = ImmutableSets.copyOf(list);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expected.size());
+    for (int i = 0; i < 3500; i++)
+    {
+      final String element = String.valueOf(i);
+      assertThat(actual.contains(element)).isEqualTo(expected.contains(element));
+    }
+    assertThat(actual.convertTo()).isEqualTo(expected);
+    assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(actual.toArray(new String[0])).hasSize(expected.size());
+  }
+
+  @Test
+  public final void testSelectMapAndForEach()
+  {
+    /* given */
+    final ImmutableSet<Integer> immutableSet = ImmutableSets.setOf(integers(0, 100));
+    final Condition1<Integer> even = new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 2;
+      }
+    };
+    final Function1<Integer, Integer> divideBy10 = new Function1<Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input)
+      {
+        return Integer.valueOf(input.intValue() / 10);
+      }
+    };
+    final List<Integer> visited = new ArrayList<Integer>();
+
+    /* when */
+    final ImmutableSet<Integer> selected = immutableSet.select(even);
+    final ImmutableSet<Integer> mapped = immutableSet.map(divideBy10);
+    final ImmutableSet<Integer> mappedSelectively = immutableSet.mapSelectively(even, divideBy10);
+    immutableSet.forEach(new VoidFunction1<Integer>() {
+      @Override
+      public void apply(final Integer input)
+      {
+        visited.add(input);
+      }
+    });
+    final Integer sum = immutableSet.foldLeft(Integer.valueOf(0), new Function2<Integer, Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input1, final Integer input2)
+      {
+        return Integer.valueOf(input1.intValue() + input2.intValue());
+      }
+    });
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(50);
+    assertThat(selected.howMany(even)).isEqualTo(50);
+    assertThat(immutableSet.select(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(@SuppressWarnings("unused") final Integer input)
+      {
+        return true;
+      }
+    })).isSameAs(immutableSet);
+    assertThat(toSet(mapped)).isEqualTo(toSet(ImmutableSets.setOf(integers(0, 10))));
+    assertThat(mapped.getClass()).isEqualTo(DefaultImmutableHashSet.class);
+    assertThat(mappedSelectively).isEqualTo(mapped);
+    assertThat(visited).hasSize(100);
+    assertThat(new HashSet<Integer>(visited)).isEqualTo(toSet(immutableSet));
+    assertThat(sum).isEqualTo(Integer.valueOf(4950));
+    assertThat(immutableSet.find(even)).isNotNull();
+    assertThat(immutableSet.exists(even)).isTrue();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final ImmutableSet<Integer> immutableSet1 = ImmutableSets.setOf(integers(0, 20));
+    final List<Integer> reversed = Arrays.asList(integers(0, 20));
+    Collections.reverse(reversed);
+    final ImmutableSet<Integer> immutableSet2 = ImmutableSets.copyOf(reversed);
+    final ImmutableSet<Integer> immutableSet3 = ImmutableSets.setOf(integers(0, 19));
+
+    /* when */
+    /* then */
+    assertThat(immutableSet1).isEqualTo(immutableSet2);
+    assertThat(immutableSet1.hashCode()).isEqualTo(immutableSet2.hashCode());
+    assertThat(immutableSet1.hashCode()).isEqualTo(new HashSet<Integer>(reversed).hashCode());
+    assertThat(immutableSet1).isNotEqualTo(immutableSet3);
+    assertThat(immutableSet1.notEquals(immutableSet3)).isTrue();
+    assertThat(ImmutableSets.setOf("a", "b")).isEqualTo(ImmutableSets.setOf("b", "a"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<String> iterator = ImmutableSets.setOf("a", "b")
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testConvertToIsUnmodifiable()
+  {
+    ImmutableSets.setOf("a", "b")
+        .convertTo()
+        .add("c");
+  }
+
+  @Test
+  public final void testSerialization() throws Exception
+  {
+    /* given */
+    final ImmutableSet<Integer> expected = ImmutableSets.setOf(integers(0, 50));
+    final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+    objectOutputStream.writeObject(expected);
+    objectOutputStream.writeObject(ImmutableSets.emptySet());
+    objectOutputStream.close();
+
+    /* when */
+    final ObjectInputStream objectInputStream =
+      new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+    final Object actual = objectInputStream.readObject();
+    final Object actualEmpty = objectInputStream.readObject();
+    objectInputStream.close();
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actualEmpty).isSameAs(ImmutableSets.emptySet());
+  }
+}
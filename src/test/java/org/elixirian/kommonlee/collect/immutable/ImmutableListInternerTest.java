@@ -0,0 +1,132 @@
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableListInternerTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  @Test
+  public final void testWeakInterner()
+  {
+    /* given */
+    final ImmutableListInterner interner = ImmutableListInterner.weakInterner();
+    final ImmutableList<String> tags1 = ImmutableLists.listOf("a", "b", "c");
+    final ImmutableList<String> tags2 = ImmutableLists.copyOf(Arrays.asList("a", "b", "c"));
+    final ImmutableList<String> other = ImmutableLists.listOf("a", "b");
+
+    /* when */
+    final ImmutableList<String> interned1 = interner.intern(tags1);
+    final ImmutableList<String> interned2 = interner.intern(tags2);
+    final ImmutableList<String> internedOther = interner.intern(other);
+
+    /* then */
+    assertThat(interned1).isSameAs(tags1);
+    assertThat(interned2).isSameAs(tags1);
+    assertThat(internedOther).isSameAs(other);
+    assertThat(interner.size()).isEqualTo(2);
+    assertThat(interner.intern(ImmutableLists.<String> emptyList())).isSameAs(ImmutableLists.<String> emptyList());
+    assertThat(interner.size()).isEqualTo(2);
+  }
+
+  @Test
+  public final void testBoundedInterner()
+  {
+    /* given */
+    final ImmutableListInterner interner = ImmutableListInterner.boundedInterner(2);
+    final ImmutableList<Integer> list1 = ImmutableLists.listOf(1);
+    final ImmutableList<Integer> list2 = ImmutableLists.listOf(2);
+    final ImmutableList<Integer> list3 = ImmutableLists.listOf(3);
+
+    /* when */
+    interner.intern(list1);
+    interner.intern(list2);
+    /* list1 is now the most recently used one so list2 is evicted by list3. */
+    interner.intern(ImmutableLists.listOf(1));
+    interner.intern(list3);
+
+    /* then */
+    assertThat(interner.size()).isEqualTo(2);
+    assertThat(interner.intern(ImmutableLists.listOf(1))).isSameAs(list1);
+    assertThat(interner.intern(ImmutableLists.listOf(3))).isSameAs(list3);
+    final ImmutableList<Integer> newList2 = ImmutableLists.listOf(2);
+    assertThat(interner.intern(newList2)).isSameAs(newList2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public final void testBoundedInternerWithInvalidMaxSize()
+  {
+    ImmutableListInterner.boundedInterner(0);
+  }
+
+  @Test
+  public final void testCachedHashCodeAndEquals()
+  {
+    /* given */
+    final ImmutableList<String> list = ImmutableLists.listOf("x", "y", "z");
+    final ImmutableList<String> same = ImmutableLists.listOf("x", "y", "z");
+    final ImmutableList<String> different = ImmutableLists.listOf("x", "y", "w");
+    final Map<ImmutableList<String>, Integer> map = new HashMap<ImmutableList<String>, Integer>();
+
+    /* when */
+    map.put(list, Integer.valueOf(1));
+
+    /* then */
+    assertThat(list.hashCode()).isEqualTo(list.hashCode());
+    assertThat(list.hashCode()).isEqualTo(same.hashCode());
+    assertThat(map.get(same)).isEqualTo(1);
+    assertThat(map.get(different)).isNull();
+    assertThat(list).isEqualTo(same);
+    assertThat(list).isNotEqualTo(different);
+    assertThat(list.subList(1, 3)).isEqualTo(ImmutableLists.listOf("y", "z"));
+    assertThat(list.subList(1, 3)
+        .hashCode()).isEqualTo(ImmutableLists.listOf("y", "z")
+        .hashCode());
+  }
+
+  @Test
+  public final void testEqualsWithArrayElementsDoesNotDependOnCachedHashCode()
+  {
+    /* given */
+    final ImmutableList<Object> list = ImmutableLists.<Object> listOf(new int[] { 1 }, "a");
+    final ImmutableList<Object> copy = ImmutableLists.<Object> listOf(new int[] { 1 }, "a");
+    final boolean equalBeforeHashCode = list.equals(copy);
+
+    /* when */
+    list.hashCode();
+    copy.hashCode();
+
+    /* then */
+    assertThat(equalBeforeHashCode).isTrue();
+    assertThat(list.equals(copy)).isTrue();
+    assertThat(copy.equals(list)).isTrue();
+  }
+}
@@ -0,0 +1,377 @@
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.elixirian.kommonlee.functional.IndexedVoidFunction1;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.elixirian.kommonlee.type.functional.Function2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableVectorTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static List<Integer> integers(final int length)
+  {
+    final List<Integer> integers = new ArrayList<Integer>();
+    for (int i = 0; i < length; i++)
+    {
+      integers.add(Integer.valueOf(i));
+    }
+    return integers;
+  }
+
+  private static <E> void assertSameElements(final ImmutableVector<E> actual, final List<E> expected)
+  {
+    assertThat(actual.length()).isEqualTo(expected.size());
+    for (int i = 0; i < expected.size(); i++)
+    {
+      assertThat(actual.get(i)).isEqualTo(expected.get(i));
+    }
+    final List<E> iterated = new ArrayList<E>();
+    for (final E element : actual)
+    {
+      iterated.add(element);
+    }
+    assertThat(iterated).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testEmptyVector()
+  {
+    /* when */
+    final ImmutableVector<String> actual = ImmutableVector.emptyVector();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+    assertThat(ImmutableVector.vectorOf()).isSameAs(actual);
+    assertThat(actual.append("a")
+        .pop()).isSameAs(actual);
+  }
+
+  @Test
+  public final void testAppendAndPopAcrossLevels()
+  {
+    /* given */
+    final int length = 32 * 32 * 32 + 32 * 33 + 5;
+    final List<ImmutableVector<Integer>> versions = new ArrayList<ImmutableVector<Integer>>();
+    ImmutableVector<Integer> immutableVector = ImmutableVector.emptyVector();
+
+    /* when */
+    for (int i = 0; i < length; i++)
+    {
+      versions.add(immutableVector);
+      immutableVector = immutableVector.append(Integer.valueOf(i));
+    }
+
+    /* then */
+    assertSameElements(immutableVector, integers(length));
+    for (final int i : new int[] { 0, 1, 31, 32, 33, 1024, 1056, 1057, 32768, 32800, 33828 })
+    {
+      assertSameElements(versions.get(i), integers(i));
+    }
+
+    /* when */
+    ImmutableVector<Integer> popped = immutableVector;
+    for (int i = length; i > 0; i--)
+    {
+      assertThat(popped.length()).isEqualTo(i);
+      assertThat(popped.get(i - 1)).isEqualTo(Integer.valueOf(i - 1));
+      popped = popped.pop();
+    }
+
+    /* then */
+    assertThat(popped.isEmpty()).isTrue();
+    assertSameElements(immutableVector, integers(length));
+  }
+
+  @Test
+  public final void testWithSharesAndKeepsTheOriginal()
+  {
+    /* given */
+    final ImmutableVector<Integer> immutableVector = ImmutableVector.copyOf(integers(5000));
+    final List<Integer> expected = integers(5000);
+
+    /* when */
+    ImmutableVector<Integer> actual = immutableVector;
+    for (final int i : new int[] { 0, 31, 32, 1023, 1024, 4990, 4999 })
+    {
+      actual = actual.with(i, Integer.valueOf(-i));
+      expected.set(i, Integer.valueOf(-i));
+    }
+    final ImmutableVector<Integer> appended = actual.with(5000, Integer.valueOf(5000));
+
+    /* then */
+    assertSameElements(actual, expected);
+    assertSameElements(immutableVector, integers(5000));
+    assertThat(appended.length()).isEqualTo(5001);
+    assertThat(appended.get(5000)).isEqualTo(Integer.valueOf(5000));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testWithOutOfBounds()
+  {
+    ImmutableVector.vectorOf("a", "b")
+        .with(3, "c");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public final void testPopEmpty()
+  {
+    ImmutableVector.emptyVector()
+        .pop();
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstArrayList()
+  {
+    /* given */
+    final Random random = new Random(34L);
+    final List<Integer> expected = new ArrayList<Integer>();
+    ImmutableVector<Integer> actual = ImmutableVector.emptyVector();
+    final ImmutableVector.Builder<Integer> builder = ImmutableVector.builder();
+
+    /* when */
+    for (int i = 0; i < 30000; i++)
+    {
+      final int operation = random.nextInt(10);
+      if (0 == operation && !expected.isEmpty())
+      {
+        expected.remove(expected.size() - 1);
+        actual = actual.pop();
+        builder.pop();
+      }
+      else if (3 > operation && !expected.isEmpty())
+      {
+        final int index = random.nextInt(expected.size());
+        expected.set(index, Integer.valueOf(i));
+        actual = actual.with(index, Integer.valueOf(i));
+        builder.set(index, Integer.valueOf(i));
+      }
+      else
+      {
+        expected.add(Integer.valueOf(i));
+        actual = actual.append(Integer.valueOf(i));
+        builder.add(Integer.valueOf(i));
+      }
+    }
+
+    /* then */
+    assertSameElements(actual, expected);
+    assertSameElements(builder.build(), expected);
+    assertThat(builder.build()).isEqualTo(actual);
+    assertThat(actual.hashCode()).isEqualTo(ImmutableLists.copyOf(expected)
+        .hashCode());
+  }
+
+  @Test
+  public final void testBuilderDoesNotChangeTheBuiltOrTheOriginal()
+  {
+    /* given */
+    final ImmutableVector<Integer> original = ImmutableVector.copyOf(integers(2000));
+    final ImmutableVector.Builder<Integer> builder = original.toBuilder();
+
+    /* when */
+    builder.set(0, Integer.valueOf(-1))
+        .set(1500, Integer.valueOf(-1))
+        .add(Integer.valueOf(2000));
+    final ImmutableVector<Integer> built = builder.build();
+    builder.set(0, Integer.valueOf(-2))
+        .set(1500, Integer.valueOf(-2))
+        .set(2000, Integer.valueOf(-2));
+    for (int i = 0; i < 100; i++)
+    {
+      builder.pop();
+    }
+    final ImmutableVector<Integer> builtAgain = builder.build();
+
+    /* then */
+    assertSameElements(original, integers(2000));
+    assertThat(built.length()).isEqualTo(2001);
+    assertThat(built.get(0)).isEqualTo(Integer.valueOf(-1));
+    assertThat(built.get(1500)).isEqualTo(Integer.valueOf(-1));
+    assertThat(built.get(2000)).isEqualTo(Integer.valueOf(2000));
+    assertThat(builtAgain.length()).isEqualTo(1901);
+    assertThat(builtAgain.get(0)).isEqualTo(Integer.valueOf(-2));
+    assertThat(builtAgain.get(1500)).isEqualTo(Integer.valueOf(-2));
+  }
+
+  @Test
+  public final void testKollectionOperations()
+  {
+    /* given */
+    final ImmutableVector<Integer> immutableVector = ImmutableVector.copyOf(integers(100));
+    final Condition1<Integer> even = new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 2;
+      }
+    };
+    final Function1<Integer, String> toString = new Function1<Integer, String>() {
+      @Override
+      public String apply(final Integer input)
+      {
+        return String.valueOf(input);
+      }
+    };
+    final List<Integer> indices = new ArrayList<Integer>();
+
+    /* when */
+    final ImmutableVector<Integer> selected = immutableVector.select(even);
+    final ImmutableVector<String> mapped = immutableVector.map(toString);
+    final ImmutableVector<String> mappedSelectively = immutableVector.mapSelectively(even, toString);
+    immutableVector.forEach(new IndexedVoidFunction1<Integer>() {
+      @Override
+      public void apply(final int index, final Integer input)
+      {
+        assertThat(input).isEqualTo(Integer.valueOf(index));
+        indices.add(Integer.valueOf(index));
+      }
+    });
+    final Integer sum = immutableVector.foldLeft(Integer.valueOf(0), new Function2<Integer, Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input1, final Integer input2)
+      {
+        return Integer.valueOf(input1.intValue() + input2.intValue());
+      }
+    });
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(50);
+    assertThat(selected.get(10)).isEqualTo(Integer.valueOf(20));
+    assertThat(mapped.get(99)).isEqualTo("99");
+    assertThat(mappedSelectively.length()).isEqualTo(50);
+    assertThat(indices).isEqualTo(integers(100));
+    assertThat(sum).isEqualTo(Integer.valueOf(4950));
+    assertThat(immutableVector.indexOf(Integer.valueOf(64))).isEqualTo(64);
+    assertThat(immutableVector.contains(Integer.valueOf(99))).isTrue();
+    assertThat(immutableVector.toArray(new Integer[0])).hasSize(100);
+    assertThat(immutableVector.convertTo()).isEqualTo(integers(100));
+    assertThat(immutableVector.subList(0, 40)
+        .convertTo()).isEqualTo(integers(40));
+    assertThat(immutableVector.subList(10, 40)
+        .convertTo()).isEqualTo(integers(40)
+        .subList(10, 40));
+    assertThat(immutableVector.equals(ImmutableLists.copyOf(integers(100)))).isTrue();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<String> iterator = ImmutableVector.vectorOf("a", "b")
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+
+  @Test
+  public final void testSerialization() throws Exception
+  {
+    /* given */
+    final ImmutableVector<Integer> expected = ImmutableVector.copyOf(integers(100));
+    final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+    objectOutputStream.writeObject(expected);
+    objectOutputStream.close();
+
+    /* when */
+    final ObjectInputStream objectInputStream =
+      new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+    final Object actual = objectInputStream.readObject();
+    objectInputStream.close();
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testParallelOperations()
+  {
+    /* given */
+    final ImmutableVector.Builder<Integer> builder = ImmutableVector.builder();
+    for (int i = 0; i < 50000; i++)
+    {
+      builder.add(Integer.valueOf(i));
+    }
+    final ImmutableVector<Integer> immutableVector = builder.build();
+    final Condition1<Integer> condition = new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 5;
+      }
+    };
+    final Function1<Integer, Integer> function = new Function1<Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input)
+      {
+        return Integer.valueOf(input.intValue() * 2);
+      }
+    };
+    final Function2<Integer, Integer, Integer> plus = new Function2<Integer, Integer, Integer>() {
+      @Override
+      public Integer apply(final Integer input1, final Integer input2)
+      {
+        return Integer.valueOf(input1.intValue() + input2.intValue());
+      }
+    };
+
+    /* when */
+    final ImmutableVector<Integer> actualSelected = immutableVector.parallelSelect(condition);
+    final ImmutableVector<Integer> actualMapped = immutableVector.parallelMap(function);
+
+    /* then */
+    assertThat(actualSelected).isEqualTo(immutableVector.select(condition));
+    assertThat(actualMapped).isEqualTo(immutableVector.map(function));
+    assertThat(immutableVector.parallelHowMany(condition)).isEqualTo(10000);
+    assertThat(immutableVector.parallelFind(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 40000 < input.intValue();
+      }
+    })).isEqualTo(40001);
+    assertThat(immutableVector.parallelFindAny(condition)).isNotNull();
+    assertThat(immutableVector.parallelReduce(plus)).isEqualTo(immutableVector.reduce(plus));
+    assertThat(immutableVector.parallelFoldLeft(Integer.valueOf(0), plus, plus)).isEqualTo(
+        immutableVector.reduce(plus));
+    assertThat(ImmutableVector.<Integer> emptyVector()
+        .parallelReduce(plus)).isNull();
+  }
+}
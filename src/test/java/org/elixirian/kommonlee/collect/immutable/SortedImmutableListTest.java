@@ -0,0 +1,192 @@
+package org.elixirian.kommonlee.collect.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SortedImmutableListTest
+{
+  private static final Comparator<Integer> ASCENDING = new Comparator<Integer>() {
+    @Override
+    public int compare(final Integer integer1, final Integer integer2)
+    {
+      return integer1.compareTo(integer2);
+    }
+  };
+
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  @Test
+  public final void testSortedListOf()
+  {
+    /* given */
+    final Integer[] elements = { 5, 1, 9, 3, 3, 7 };
+
+    /* when */
+    final SortedImmutableList<Integer> sortedList = SortedImmutableList.sortedListOf(ASCENDING, elements);
+
+    /* then */
+    assertThat(sortedList.convertTo()).isEqualTo(Arrays.asList(1, 3, 3, 5, 7, 9));
+    assertThat(elements).isEqualTo(new Integer[] { 5, 1, 9, 3, 3, 7 });
+    assertThat(sortedList).isNotEqualTo(ImmutableLists.listOf(1, 3, 3, 5, 7, 9));
+    assertThat(sortedList.hashCode()).isEqualTo(ImmutableLists.listOf(1, 3, 3, 5, 7, 9)
+        .hashCode());
+    assertThat(sortedList).isEqualTo(SortedImmutableList.sortedCopyOf(ASCENDING, Arrays.asList(9, 7, 5, 3, 3, 1)));
+    assertThat(sortedList.comparator()).isSameAs(ASCENDING);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final SortedImmutableList<Integer> sortedList = SortedImmutableList.sortedListOf(ASCENDING, 1, 3, 3, 3, 5, 7, 9);
+
+    /* then */
+    assertThat(sortedList.indexOf(3)).isEqualTo(1);
+    assertThat(sortedList.lastIndexOf(3)).isEqualTo(3);
+    assertThat(sortedList.indexOf(3, 2)).isEqualTo(2);
+    assertThat(sortedList.indexOf(3, 4)).isEqualTo(-1);
+    assertThat(sortedList.lastIndexOf(3, 3)).isEqualTo(2);
+    assertThat(sortedList.lastIndexOf(3, 1)).isEqualTo(-1);
+    assertThat(sortedList.indexOf(9)).isEqualTo(6);
+    assertThat(sortedList.indexOf(4)).isEqualTo(-1);
+    assertThat(sortedList.indexOf(0)).isEqualTo(-1);
+    assertThat(sortedList.indexOf(10)).isEqualTo(-1);
+    assertThat(sortedList.contains(5)).isTrue();
+    assertThat(sortedList.contains(6)).isFalse();
+  }
+
+  @Test
+  public final void testFloorAndCeiling()
+  {
+    /* given */
+    final SortedImmutableList<Integer> sortedList = SortedImmutableList.sortedListOf(ASCENDING, 10, 20, 30);
+
+    /* then */
+    assertThat(sortedList.floor(5)).isNull();
+    assertThat(sortedList.floor(10)).isEqualTo(10);
+    assertThat(sortedList.floor(25)).isEqualTo(20);
+    assertThat(sortedList.floor(100)).isEqualTo(30);
+    assertThat(sortedList.ceiling(5)).isEqualTo(10);
+    assertThat(sortedList.ceiling(20)).isEqualTo(20);
+    assertThat(sortedList.ceiling(25)).isEqualTo(30);
+    assertThat(sortedList.ceiling(31)).isNull();
+  }
+
+  @Test
+  public final void testRange()
+  {
+    /* given */
+    final SortedImmutableList<Integer> sortedList =
+      SortedImmutableList.sortedListOf(ASCENDING, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+
+    /* when */
+    final SortedImmutableList<Integer> range = sortedList.range(3, 6);
+    final SortedImmutableList<Integer> emptyRange = sortedList.range(100, 200);
+
+    /* then */
+    assertThat(range.convertTo()).isEqualTo(Arrays.asList(3, 4, 5));
+    assertThat(range.indexOf(5)).isEqualTo(2);
+    assertThat(range.floor(100)).isEqualTo(5);
+    assertThat(range.range(4, 5)
+        .convertTo()).isEqualTo(Arrays.asList(4));
+    assertThat(emptyRange.isEmpty()).isTrue();
+    assertThat(emptyRange.floor(1)).isNull();
+    assertThat(sortedList.subList(18, 20)
+        .convertTo()).isEqualTo(Arrays.asList(19, 20));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public final void testRangeWithFromGreaterThanTo()
+  {
+    SortedImmutableList.sortedListOf(ASCENDING, 1, 2, 3)
+        .range(3, 1);
+  }
+
+  @Test
+  public final void testUnionAndIntersection()
+  {
+    /* given */
+    final SortedImmutableList<Integer> sortedList1 = SortedImmutableList.sortedListOf(ASCENDING, 1, 3, 3, 5, 7);
+    final SortedImmutableList<Integer> sortedList2 = SortedImmutableList.sortedListOf(ASCENDING, 2, 3, 5, 5, 8, 9);
+    final SortedImmutableList<Integer> empty = SortedImmutableList.sortedListOf(ASCENDING);
+
+    /* when */
+    final SortedImmutableList<Integer> union = sortedList1.union(sortedList2);
+    final SortedImmutableList<Integer> intersection = sortedList1.intersection(sortedList2);
+
+    /* then */
+    assertThat(union.convertTo()).isEqualTo(Arrays.asList(1, 2, 3, 3, 5, 5, 7, 8, 9));
+    assertThat(intersection.convertTo()).isEqualTo(Arrays.asList(3, 5));
+    assertThat(sortedList1.union(empty)).isEqualTo(sortedList1);
+    assertThat(sortedList1.intersection(empty)
+        .isEmpty()).isTrue();
+    assertThat(sortedList1.range(3, 6)
+        .union(sortedList2.range(5, 9))).isEqualTo(
+        SortedImmutableList.sortedListOf(ASCENDING, 3, 3, 5, 5, 8));
+  }
+
+  @Test
+  public final void testSelect()
+  {
+    /* given */
+    final SortedImmutableList<Integer> sortedList = SortedImmutableList.sortedListOf(ASCENDING, 4, 1, 3, 2);
+
+    /* when */
+    final SortedImmutableList<Integer> even = sortedList.select(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 0 == input.intValue() % 2;
+      }
+    });
+
+    /* then */
+    assertThat(even.convertTo()).isEqualTo(Arrays.asList(2, 4));
+    assertThat(even.indexOf(4)).isEqualTo(1);
+  }
+
+  @Test
+  public final void testCopyOfAndCopyInto()
+  {
+    /* given */
+    final SortedImmutableList<Integer> sortedList = SortedImmutableList.sortedListOf(ASCENDING, 3, 1, 2);
+    final Object[] destination = new Object[4];
+
+    /* when */
+    final ImmutableList<Integer> copy = ImmutableLists.copyOf(sortedList);
+    KollectionUtil.copyInto(sortedList.range(2, 4), destination, 1);
+
+    /* then */
+    assertThat(copy).isSameAs(ImmutableLists.copyOf(sortedList));
+    assertThat(copy.convertTo()).isEqualTo(Arrays.asList(1, 2, 3));
+    assertThat(destination).isEqualTo(new Object[] { null, 2, 3, null });
+  }
+}
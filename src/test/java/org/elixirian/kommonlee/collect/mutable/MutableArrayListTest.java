@@ -0,0 +1,358 @@
+package org.elixirian.kommonlee.collect.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.collect.KollectionUtil;
+import org.elixirian.kommonlee.collect.immutable.ImmutableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
+import org.elixirian.kommonlee.collect.immutable.ImmutableSets;
+import org.elixirian.kommonlee.collect.immutable.SortedImmutableList;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.elixirian.kommonlee.type.functional.Function1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  private static MutableArrayList<Integer> integersFrom0Until(final int end)
+  {
+    final MutableArrayList<Integer> list = new MutableArrayList<Integer>(0);
+    for (int i = 0; i < end; i++)
+    {
+      list.add(Integer.valueOf(i));
+    }
+    return list;
+  }
+
+  @Test
+  public final void testAddAndGrow()
+  {
+    /* given */
+    final int howMany = 10000;
+
+    /* when */
+    final MutableArrayList<Integer> list = integersFrom0Until(howMany);
+
+    /* then */
+    assertThat(list.length()).isEqualTo(howMany);
+    assertThat(list.getCapacity()).isLessThan(howMany + howMany / 2 + 1);
+    for (int i = 0; i < howMany; i++)
+    {
+      assertThat(list.get(i)).isEqualTo(i);
+    }
+    assertThat(list.trim()
+        .getCapacity()).isEqualTo(howMany);
+  }
+
+  @Test
+  public final void testAddAtIndexAndRemove()
+  {
+    /* given */
+    final MutableArrayList<String> list = MutableArrayList.listOf("a", "c", "e");
+
+    /* when */
+    list.add(1, "b");
+    list.add(3, "d");
+    list.add(0, "_");
+    list.add(list.length(), "f");
+
+    /* then */
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList("_", "a", "b", "c", "d", "e", "f"));
+
+    /* when */
+    final boolean removed = list.remove("_");
+    final boolean removedAgain = list.remove("_");
+    final String removedAt = list.removeAt(5);
+
+    /* then */
+    assertThat(removed).isTrue();
+    assertThat(removedAgain).isFalse();
+    assertThat(removedAt).isEqualTo("f");
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList("a", "b", "c", "d", "e"));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testAddAtInvalidIndex()
+  {
+    MutableArrayList.listOf("a", "b")
+        .add(3, "c");
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final List<String> strings = Arrays.asList("a", "b", "c");
+    final MutableArrayList<Object> list = new MutableArrayList<Object>(strings);
+
+    /* when */
+    list.add(Integer.valueOf(1));
+    list.addAll(ImmutableLists.listOf("x", "y"));
+    list.addAll(list);
+
+    /* then */
+    assertThat(list.convertTo()).isEqualTo(Arrays.<Object> asList("a", "b", "c", 1, "x", "y", "a", "b", "c", 1, "x",
+        "y"));
+    assertThat(list.addAll(new MutableArrayList<Object>())).isFalse();
+  }
+
+  @Test
+  public final void testRemoveAllAndRetainAll()
+  {
+    /* given */
+    final MutableArrayList<Integer> small = MutableArrayList.listOf(1, 3, 5, 1000);
+    final MutableArrayList<Integer> large = integersFrom0Until(100)
+        .select(new Condition1<Integer>() {
+          @Override
+          public boolean isMet(final Integer input)
+          {
+            return 0 == input.intValue() % 2;
+          }
+        });
+    assertThat(large.length()).isGreaterThan(MutableArrayList.HASH_LOOKUP_THRESHOLD);
+
+    final MutableArrayList<Integer> list1 = integersFrom0Until(10);
+    final MutableArrayList<Integer> list2 = integersFrom0Until(10);
+    final MutableArrayList<Integer> list3 = integersFrom0Until(10);
+    final MutableArrayList<Integer> list4 = integersFrom0Until(10);
+
+    /* when */
+    final boolean removedFromList1 = list1.removeAll(small);
+    final boolean removedFromList2 = list2.retainAll(small);
+    final boolean removedFromList3 = list3.removeAll(large);
+    final boolean removedFromList4 = list4.retainAll(large);
+
+    /* then */
+    assertThat(removedFromList1).isTrue();
+    assertThat(list1.convertTo()).isEqualTo(Arrays.asList(0, 2, 4, 6, 7, 8, 9));
+    assertThat(removedFromList2).isTrue();
+    assertThat(list2.convertTo()).isEqualTo(Arrays.asList(1, 3, 5));
+    assertThat(removedFromList3).isTrue();
+    assertThat(list3.convertTo()).isEqualTo(Arrays.asList(1, 3, 5, 7, 9));
+    assertThat(removedFromList4).isTrue();
+    assertThat(list4.convertTo()).isEqualTo(Arrays.asList(0, 2, 4, 6, 8));
+
+    assertThat(list4.retainAll(large)).isFalse();
+    assertThat(list4.retainAll(list4)).isFalse();
+    assertThat(list4.removeAll(list4)).isTrue();
+    assertThat(list4.isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testRemoveAllUsesContainsOfSortedImmutableListAtAnyLength()
+  {
+    for (final int length : new int[] { MutableArrayList.HASH_LOOKUP_THRESHOLD,
+        MutableArrayList.HASH_LOOKUP_THRESHOLD + 1 })
+    {
+      /* given */
+      final String[] elements = new String[length];
+      elements[0] = "A";
+      for (int i = 1; i < length; i++)
+      {
+        elements[i] = "C" + i;
+      }
+      final SortedImmutableList<String> caseInsensitive =
+        SortedImmutableList.sortedListOf(String.CASE_INSENSITIVE_ORDER, elements);
+      final MutableArrayList<String> list = MutableArrayList.listOf("a", "b");
+
+      /* when */
+      final boolean removed = list.removeAll(caseInsensitive);
+
+      /* then */
+      assertThat(caseInsensitive.contains("a")).isTrue();
+      assertThat(removed).isTrue();
+      assertThat(list.convertTo()).isEqualTo(Arrays.asList("b"));
+    }
+  }
+
+  @Test
+  public final void testRetainAllKeepsUncheckedElementsWhenContainsThrows()
+  {
+    /* given */
+    final MutableArrayList<Integer> oddOnly = new MutableArrayList<Integer>() {
+      @Override
+      public boolean contains(final Object element)
+      {
+        if (Integer.valueOf(5).equals(element))
+        {
+          throw new IllegalStateException("test");
+        }
+        return 1 == ((Integer) element).intValue() % 2;
+      }
+    };
+    final MutableArrayList<Integer> list = integersFrom0Until(8);
+
+    /* when */
+    try
+    {
+      list.retainAll(oddOnly);
+      fail("IllegalStateException must be thrown.");
+    }
+    catch (final IllegalStateException e)
+    {
+      /* then */
+      assertThat(e.getMessage()).isEqualTo("test");
+    }
+
+    /* then */
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList(1, 3, 5, 6, 7));
+    assertThat(list.length()).isEqualTo(5);
+  }
+
+  @Test
+  public final void testSelectAndMap()
+  {
+    /* given */
+    final MutableArrayList<Integer> list = integersFrom0Until(6);
+
+    /* when */
+    final MutableArrayList<String> mapped = list.mapSelectively(new Condition1<Integer>() {
+      @Override
+      public boolean isMet(final Integer input)
+      {
+        return 3 <= input.intValue();
+      }
+    }, new Function1<Integer, String>() {
+      @Override
+      public String apply(final Integer input)
+      {
+        return "#" + input;
+      }
+    });
+    mapped.add("more");
+
+    /* then */
+    assertThat(mapped.convertTo()).isEqualTo(Arrays.asList("#3", "#4", "#5", "more"));
+    assertThat(list.length()).isEqualTo(6);
+    assertThat(list.subList(2, 4)
+        .convertTo()).isEqualTo(Arrays.asList(2, 3));
+  }
+
+  @Test
+  public final void testIteratorRemoveAndConcurrentModification()
+  {
+    /* given */
+    final MutableArrayList<Integer> list = integersFrom0Until(6);
+
+    /* when */
+    final Iterator<Integer> iterator = list.iterator();
+    while (iterator.hasNext())
+    {
+      if (1 == iterator.next()
+          .intValue() % 2)
+      {
+        iterator.remove();
+      }
+    }
+
+    /* then */
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList(0, 2, 4));
+
+    /* when */
+    final Iterator<Integer> another = list.iterator();
+    another.next();
+    list.add(Integer.valueOf(6));
+    try
+    {
+      another.next();
+      fail("ConcurrentModificationException was not thrown.");
+    }
+    catch (final ConcurrentModificationException e)
+    {
+      /* then */
+      assertThat(e).isNotNull();
+    }
+  }
+
+  @Test
+  public final void testEquals()
+  {
+    /* given */
+    final MutableArrayList<String> list = MutableArrayList.listOf("a", "b", "c");
+    final ArrayList<String> arrayList = new ArrayList<String>(Arrays.asList("a", "b", "c"));
+
+    /* then */
+    assertThat(list).isEqualTo(new MutableArrayList<String>(arrayList));
+    assertThat(list.hashCode()).isEqualTo(new MutableArrayList<String>(arrayList).hashCode());
+    assertThat(list).isNotEqualTo(MutableArrayList.listOf("a", "b"));
+    assertThat(list.contains("b")).isTrue();
+    assertThat(list.contains("z")).isFalse();
+  }
+
+  @Test
+  public final void testFreeze()
+  {
+    /* given */
+    final MutableArrayList<Integer> list = integersFrom0Until(100);
+    final Object[] expected = list.toArray();
+
+    /* when */
+    final ImmutableList<Integer> immutableList = list.freeze();
+
+    /* then */
+    assertThat(immutableList.toArray()).isEqualTo(expected);
+    assertThat(list.isEmpty()).isTrue();
+
+    /* when */
+    list.add(Integer.valueOf(-1));
+
+    /* then */
+    assertThat(immutableList.length()).isEqualTo(100);
+    assertThat(immutableList.get(0)).isEqualTo(0);
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList(-1));
+    assertThat(new MutableArrayList<Integer>().freeze()).isSameAs(ImmutableLists.<Integer> emptyList());
+  }
+
+  @Test
+  public final void testBulkCopy()
+  {
+    /* given */
+    final MutableArrayList<Integer> list = new MutableArrayList<Integer>(ImmutableLists.listOf(1, 2, 3));
+
+    /* when */
+    list.addAll(list);
+    list.addAll(ImmutableSets.setOf(4));
+    list.addAll(ImmutableLists.listOf(5, 6, 7)
+        .subList(1, 3));
+
+    /* then */
+    assertThat(list.convertTo()).isEqualTo(Arrays.asList(1, 2, 3, 1, 2, 3, 4, 6, 7));
+    assertThat(new MutableArrayList<Integer>(ImmutableSets.setOf(8)).convertTo()).isEqualTo(Arrays.asList(8));
+
+    /* when */
+    final Object[] destination = new Object[10];
+    KollectionUtil.copyInto(list, destination, 1);
+
+    /* then */
+    assertThat(destination).isEqualTo(new Object[] { null, 1, 2, 3, 1, 2, 3, 4, 6, 7 });
+  }
+}
@@ -0,0 +1,167 @@
+package org.elixirian.kommonlee.collect.primitive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PrimitiveSortsTest
+{
+  private static final int[] LENGTHS = { 0, 1, 100, PrimitiveSorts.RADIX_SORT_THRESHOLD + 1,
+      PrimitiveSorts.PARALLEL_THRESHOLD + 12345 };
+
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  @Test
+  public final void testSortInts()
+  {
+    for (final int length : LENGTHS)
+    {
+      /* given */
+      final Random random = new Random(length);
+      final int[] values = new int[length];
+      for (int i = 0; i < length; i++)
+      {
+        values[i] = random.nextInt();
+      }
+      if (2 < length)
+      {
+        values[0] = Integer.MAX_VALUE;
+        values[1] = Integer.MIN_VALUE;
+      }
+      final int[] expected = values.clone();
+      Arrays.sort(expected);
+
+      /* when */
+      PrimitiveSorts.sort(values, 0, length);
+
+      /* then */
+      assertThat(values).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public final void testSortIdsInSmallRange()
+  {
+    /* given */
+    final Random random = new Random(1L);
+    final int[] ids = new int[PrimitiveSorts.PARALLEL_THRESHOLD * 2];
+    for (int i = 0; i < ids.length; i++)
+    {
+      ids[i] = 1000000 + random.nextInt(1 << 16);
+    }
+    final int[] expected = ids.clone();
+    Arrays.sort(expected);
+
+    /* when */
+    PrimitiveSorts.sort(ids, 0, ids.length);
+
+    /* then */
+    assertThat(ids).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testSortLongsInRange()
+  {
+    for (final int length : LENGTHS)
+    {
+      /* given */
+      final Random random = new Random(length);
+      final long[] values = new long[length + 2];
+      for (int i = 0; i < values.length; i++)
+      {
+        values[i] = random.nextLong();
+      }
+      values[0] = Long.MAX_VALUE;
+      values[values.length - 1] = Long.MIN_VALUE;
+      final long[] expected = values.clone();
+      Arrays.sort(expected, 1, length + 1);
+
+      /* when */
+      PrimitiveSorts.sort(values, 1, length + 1);
+
+      /* then */
+      assertThat(values).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public final void testSortFloatsAndDoublesWithSpecialValues()
+  {
+    for (final int length : LENGTHS)
+    {
+      /* given */
+      final Random random = new Random(length);
+      final float[] floats = new float[length];
+      final double[] doubles = new double[length];
+      final float[] specialFloats =
+        { Float.NaN, -0.0F, 0.0F, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, Float.MIN_VALUE, -Float.MAX_VALUE };
+      final double[] specialDoubles =
+        { Double.NaN, -0.0D, 0.0D, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE,
+            -Double.MAX_VALUE };
+      for (int i = 0; i < length; i++)
+      {
+        final boolean special = 0 == random.nextInt(8);
+        floats[i] = special ? specialFloats[random.nextInt(specialFloats.length)] : random.nextFloat() - 0.5F;
+        doubles[i] =
+          special ? specialDoubles[random.nextInt(specialDoubles.length)] : (random.nextDouble() - 0.5D) * 1e300;
+      }
+      final float[] expectedFloats = floats.clone();
+      Arrays.sort(expectedFloats);
+      final double[] expectedDoubles = doubles.clone();
+      Arrays.sort(expectedDoubles);
+
+      /* when */
+      PrimitiveSorts.sort(floats, 0, length);
+      PrimitiveSorts.sort(doubles, 0, length);
+
+      /* then */
+      assertThat(floats).isEqualTo(expectedFloats);
+      assertThat(doubles).isEqualTo(expectedDoubles);
+    }
+  }
+
+  @Test
+  public final void testSortBytesAndBooleans()
+  {
+    /* given */
+    final Random random = new Random(2L);
+    final byte[] bytes = new byte[1000];
+    random.nextBytes(bytes);
+    final byte[] expectedBytes = bytes.clone();
+    Arrays.sort(expectedBytes);
+    final boolean[] booleans = { true, false, true, true, false };
+
+    /* when */
+    PrimitiveSorts.sort(bytes, 0, bytes.length);
+    PrimitiveSorts.sort(booleans, 1, 5);
+
+    /* then */
+    assertThat(bytes).isEqualTo(expectedBytes);
+    assertThat(booleans).isEqualTo(new boolean[] { true, false, false, true, true });
+  }
+}
@@ -0,0 +1,195 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.elixirian.kommonlee.type.functional.primitive.IntCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CompressedImmutableIntListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static int[] sortedIds(final int length)
+  {
+    final Random random = new Random(length);
+    final int[] ids = new int[length];
+    int id = 1000000;
+    for (int i = 0; i < length; i++)
+    {
+      id += random.nextInt(16);
+      ids[i] = id;
+    }
+    return ids;
+  }
+
+  private static int[] randomValues(final int length)
+  {
+    final Random random = new Random(length);
+    final int[] values = new int[length];
+    for (int i = 0; i < length; i++)
+    {
+      values[i] = random.nextInt();
+    }
+    if (0 < length)
+    {
+      values[0] = Integer.MIN_VALUE;
+      values[length - 1] = Integer.MAX_VALUE;
+    }
+    return values;
+  }
+
+  @Test
+  public final void testCopyOfAndGet()
+  {
+    for (final int length : new int[] { 0, 1, 127, 128, 129, 1000 })
+    {
+      for (final int[] expected : new int[][] { sortedIds(length), randomValues(length) })
+      {
+        /* when */
+        final CompressedImmutableIntList actual = CompressedImmutableIntList.copyOf(expected);
+
+        /* then */
+        assertThat(actual.length()).isEqualTo(length);
+        assertThat(actual.toArray()).isEqualTo(expected);
+        for (int i = 0; i < length; i++)
+        {
+          assertThat(actual.get(i)).isEqualTo(expected[i]);
+        }
+        assertThat(actual).isEqualTo(ImmutableIntArrayList.listOf(expected));
+        assertThat(actual.hashCode()).isEqualTo(ImmutableIntArrayList.listOf(expected)
+            .hashCode());
+        assertThat(actual.toString()).isEqualTo(ImmutableIntArrayList.listOf(expected)
+            .toString());
+      }
+    }
+    assertThat(CompressedImmutableIntList.listOf()).isSameAs(CompressedImmutableIntList.emptyList());
+  }
+
+  @Test
+  public final void testCompression()
+  {
+    /* given */
+    final int[] ids = sortedIds(10000);
+    final int[] sameValues = new int[1000];
+    Arrays.fill(sameValues, 7);
+
+    /* when */
+    final CompressedImmutableIntList compressedIds = CompressedImmutableIntList.copyOf(ids);
+    final CompressedImmutableIntList compressedSameValues = CompressedImmutableIntList.copyOf(sameValues);
+
+    /* then */
+    /* each block of 128 ids spans less than 2048 so each id takes at most 11 bits instead of 32. */
+    assertThat(compressedIds.packedWordLength()).isLessThanOrEqualTo(79 * 22);
+    assertThat(compressedIds.toArray()).isEqualTo(ids);
+    assertThat(compressedSameValues.packedWordLength()).isEqualTo(0);
+    assertThat(compressedSameValues.get(999)).isEqualTo(7);
+    assertThat(compressedSameValues.indexOf(7, 500)).isEqualTo(500);
+    assertThat(compressedSameValues.lastIndexOf(7, 300)).isEqualTo(299);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final int[] ids = sortedIds(1000);
+    final CompressedImmutableIntList list = CompressedImmutableIntList.copyOf(ids);
+    final ImmutableIntArrayList expected = ImmutableIntArrayList.listOf(ids);
+
+    /* then */
+    for (final int index : new int[] { 0, 1, 127, 128, 129, 500, 999 })
+    {
+      final int id = ids[index];
+      assertThat(list.indexOf(id)).isEqualTo(expected.indexOf(id));
+      assertThat(list.lastIndexOf(id)).isEqualTo(expected.lastIndexOf(id));
+      assertThat(list.indexOf(id, index)).isEqualTo(expected.indexOf(id, index));
+      assertThat(list.lastIndexOf(id, index + 1)).isEqualTo(expected.lastIndexOf(id, index + 1));
+      assertThat(list.contains(id)).isTrue();
+    }
+    assertThat(list.indexOf(ids[500], 501)).isEqualTo(expected.indexOf(ids[500], 501));
+    assertThat(list.contains(ids[0] - 1)).isFalse();
+    assertThat(list.contains(ids[999] + 1)).isFalse();
+    assertThat(list.containsAll(new int[] { ids[3], ids[300], ids[900] })).isTrue();
+    assertThat(list.containsAll(ImmutableIntArrayList.listOf(ids[3], -1))).isFalse();
+    assertThat(CompressedImmutableIntList.emptyList()
+        .indexOf(1)).isEqualTo(-1);
+    assertThat(CompressedImmutableIntList.emptyList()
+        .lastIndexOf(1)).isEqualTo(-1);
+  }
+
+  @Test
+  public final void testBulkOperations()
+  {
+    /* given */
+    final int[] values = randomValues(300);
+    final CompressedImmutableIntList list = CompressedImmutableIntList.copyOf(values);
+    final IntCondition1 even = new IntCondition1() {
+      @Override
+      public boolean isMet(final int value)
+      {
+        return 0 == (value & 1);
+      }
+    };
+    final long[] sum = { 0L };
+
+    /* when */
+    list.forEach(new VoidIntFunction1() {
+      @Override
+      public void apply(final int value)
+      {
+        sum[0] += value;
+      }
+    });
+
+    /* then */
+    long expectedSum = 0L;
+    for (final int value : values)
+    {
+      expectedSum += value;
+    }
+    assertThat(sum[0]).isEqualTo(expectedSum);
+    assertThat(list.select(even)).isEqualTo(ImmutableIntArrayList.listOf(values)
+        .select(even));
+    assertThat(list.howMany(even)).isEqualTo(ImmutableIntArrayList.listOf(values)
+        .howMany(even));
+    assertThat(list.subList(100, 260)
+        .toArray()).isEqualTo(Arrays.copyOfRange(values, 100, 260));
+    assertThat(list.subList(127, 129)
+        .toArray()).isEqualTo(Arrays.copyOfRange(values, 127, 129));
+    assertThat(list.subList(0, 300)).isSameAs(list);
+    assertThat(CompressedImmutableIntList.copyOf(ImmutableIntArrayList.listOf(values))).isEqualTo(list);
+    assertThat(CompressedImmutableIntList.copyOf(list)).isSameAs(list);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testGetWithInvalidIndex()
+  {
+    CompressedImmutableIntList.listOf(1, 2, 3)
+        .get(3);
+  }
+}
@@ -0,0 +1,195 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.elixirian.kommonlee.type.functional.primitive.LongCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CompressedImmutableLongListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static long[] sortedIds(final int length)
+  {
+    final Random random = new Random(length);
+    final long[] ids = new long[length];
+    long id = 1000000000000L;
+    for (int i = 0; i < length; i++)
+    {
+      id += random.nextInt(16);
+      ids[i] = id;
+    }
+    return ids;
+  }
+
+  private static long[] randomValues(final int length)
+  {
+    final Random random = new Random(length);
+    final long[] values = new long[length];
+    for (int i = 0; i < length; i++)
+    {
+      values[i] = random.nextLong();
+    }
+    if (0 < length)
+    {
+      values[0] = Long.MIN_VALUE;
+      values[length - 1] = Long.MAX_VALUE;
+    }
+    return values;
+  }
+
+  @Test
+  public final void testCopyOfAndGet()
+  {
+    for (final int length : new int[] { 0, 1, 127, 128, 129, 1000 })
+    {
+      for (final long[] expected : new long[][] { sortedIds(length), randomValues(length) })
+      {
+        /* when */
+        final CompressedImmutableLongList actual = CompressedImmutableLongList.copyOf(expected);
+
+        /* then */
+        assertThat(actual.length()).isEqualTo(length);
+        assertThat(actual.toArray()).isEqualTo(expected);
+        for (int i = 0; i < length; i++)
+        {
+          assertThat(actual.get(i)).isEqualTo(expected[i]);
+        }
+        assertThat(actual).isEqualTo(ImmutableLongArrayList.listOf(expected));
+        assertThat(actual.hashCode()).isEqualTo(ImmutableLongArrayList.listOf(expected)
+            .hashCode());
+        assertThat(actual.toString()).isEqualTo(ImmutableLongArrayList.listOf(expected)
+            .toString());
+      }
+    }
+    assertThat(CompressedImmutableLongList.listOf()).isSameAs(CompressedImmutableLongList.emptyList());
+  }
+
+  @Test
+  public final void testCompression()
+  {
+    /* given */
+    final long[] ids = sortedIds(10000);
+    final long[] sameValues = new long[1000];
+    Arrays.fill(sameValues, 7);
+
+    /* when */
+    final CompressedImmutableLongList compressedIds = CompressedImmutableLongList.copyOf(ids);
+    final CompressedImmutableLongList compressedSameValues = CompressedImmutableLongList.copyOf(sameValues);
+
+    /* then */
+    /* each block of 128 ids spans less than 2048 so each id takes at most 11 bits instead of 64. */
+    assertThat(compressedIds.packedWordLength()).isLessThanOrEqualTo(79 * 22);
+    assertThat(compressedIds.toArray()).isEqualTo(ids);
+    assertThat(compressedSameValues.packedWordLength()).isEqualTo(0);
+    assertThat(compressedSameValues.get(999)).isEqualTo(7);
+    assertThat(compressedSameValues.indexOf(7, 500)).isEqualTo(500);
+    assertThat(compressedSameValues.lastIndexOf(7, 300)).isEqualTo(299);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final long[] ids = sortedIds(1000);
+    final CompressedImmutableLongList list = CompressedImmutableLongList.copyOf(ids);
+    final ImmutableLongArrayList expected = ImmutableLongArrayList.listOf(ids);
+
+    /* then */
+    for (final int index : new int[] { 0, 1, 127, 128, 129, 500, 999 })
+    {
+      final long id = ids[index];
+      assertThat(list.indexOf(id)).isEqualTo(expected.indexOf(id));
+      assertThat(list.lastIndexOf(id)).isEqualTo(expected.lastIndexOf(id));
+      assertThat(list.indexOf(id, index)).isEqualTo(expected.indexOf(id, index));
+      assertThat(list.lastIndexOf(id, index + 1)).isEqualTo(expected.lastIndexOf(id, index + 1));
+      assertThat(list.contains(id)).isTrue();
+    }
+    assertThat(list.indexOf(ids[500], 501)).isEqualTo(expected.indexOf(ids[500], 501));
+    assertThat(list.contains(ids[0] - 1)).isFalse();
+    assertThat(list.contains(ids[999] + 1)).isFalse();
+    assertThat(list.containsAll(new long[] { ids[3], ids[300], ids[900] })).isTrue();
+    assertThat(list.containsAll(ImmutableLongArrayList.listOf(ids[3], -1))).isFalse();
+    assertThat(CompressedImmutableLongList.emptyList()
+        .indexOf(1)).isEqualTo(-1);
+    assertThat(CompressedImmutableLongList.emptyList()
+        .lastIndexOf(1)).isEqualTo(-1);
+  }
+
+  @Test
+  public final void testBulkOperations()
+  {
+    /* given */
+    final long[] values = randomValues(300);
+    final CompressedImmutableLongList list = CompressedImmutableLongList.copyOf(values);
+    final LongCondition1 even = new LongCondition1() {
+      @Override
+      public boolean isMet(final long value)
+      {
+        return 0 == (value & 1);
+      }
+    };
+    final long[] sum = { 0L };
+
+    /* when */
+    list.forEach(new VoidLongFunction1() {
+      @Override
+      public void apply(final long value)
+      {
+        sum[0] += value;
+      }
+    });
+
+    /* then */
+    long expectedSum = 0L;
+    for (final long value : values)
+    {
+      expectedSum += value;
+    }
+    assertThat(sum[0]).isEqualTo(expectedSum);
+    assertThat(list.select(even)).isEqualTo(ImmutableLongArrayList.listOf(values)
+        .select(even));
+    assertThat(list.howMany(even)).isEqualTo(ImmutableLongArrayList.listOf(values)
+        .howMany(even));
+    assertThat(list.subList(100, 260)
+        .toArray()).isEqualTo(Arrays.copyOfRange(values, 100, 260));
+    assertThat(list.subList(127, 129)
+        .toArray()).isEqualTo(Arrays.copyOfRange(values, 127, 129));
+    assertThat(list.subList(0, 300)).isSameAs(list);
+    assertThat(CompressedImmutableLongList.copyOf(ImmutableLongArrayList.listOf(values))).isEqualTo(list);
+    assertThat(CompressedImmutableLongList.copyOf(list)).isSameAs(list);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testGetWithInvalidIndex()
+  {
+    CompressedImmutableLongList.listOf(1, 2, 3)
+        .get(3);
+  }
+}
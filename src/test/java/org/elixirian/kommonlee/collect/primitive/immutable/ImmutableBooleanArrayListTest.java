@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableBooleanArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanToBooleanFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableBooleanArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static boolean[] getValues()
+  {
+    return new boolean[] { true, false, false, true, true, false, true, false };
+  }
+
+  private static boolean same(final boolean value1, final boolean value2)
+  {
+    return Boolean.valueOf(value1)
+        .equals(Boolean.valueOf(value2));
+  }
+
+  private static boolean next(final boolean input)
+  {
+    return !input;
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableBooleanArrayList actual = ImmutableBooleanArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableBooleanArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final boolean[] expected = getValues();
+
+    /* when */
+    final ImmutableBooleanArrayList actual = ImmutableBooleanArrayList.listOf(values);
+    values[0] = values[1];
+    final boolean[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfBooleanList()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final ImmutableBooleanArrayList immutableBooleanArrayList = ImmutableBooleanArrayList.listOf(values);
+
+    /* when */
+    final ImmutableBooleanArrayList actual = ImmutableBooleanArrayList.copyOf(new MutableBooleanArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableBooleanArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableBooleanArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableBooleanArrayList(values));
+    assertThat(ImmutableBooleanArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final ImmutableBooleanArrayList immutableBooleanArrayList = ImmutableBooleanArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableBooleanArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableBooleanArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableBooleanArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableBooleanArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableBooleanArrayList.containsAll(values)).isTrue();
+    assertThat(immutableBooleanArrayList.containsAll(ImmutableBooleanArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final boolean target = values[1];
+    final ImmutableBooleanArrayList immutableBooleanArrayList = ImmutableBooleanArrayList.listOf(values);
+    final BooleanCondition1 condition = new BooleanCondition1() {
+      @Override
+      public boolean isMet(final boolean input)
+      {
+        return same(target, input);
+      }
+    };
+    final BooleanToBooleanFunction1 function = new BooleanToBooleanFunction1() {
+      @Override
+      public boolean apply(final boolean input)
+      {
+        return next(input);
+      }
+    };
+    final boolean[] expectedMapped = new boolean[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableBooleanArrayList selected = immutableBooleanArrayList.select(condition);
+    final ImmutableBooleanArrayList mapped = immutableBooleanArrayList.mapToBoolean(function);
+    final ImmutableBooleanArrayList mappedSelectively = immutableBooleanArrayList.mapToBooleanSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableBooleanArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableBooleanArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachBooleanToBooleanFunction1()
+  {
+    ImmutableBooleanArrayList.listOf(getValues())
+        .forEach(new BooleanToBooleanFunction1() {
+          @Override
+          public boolean apply(final boolean input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final ImmutableBooleanArrayList immutableBooleanArrayList = ImmutableBooleanArrayList.listOf(values);
+
+    /* when */
+    final ImmutableBooleanArrayList actual = immutableBooleanArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableBooleanArrayList.subList(0, values.length)).isSameAs(immutableBooleanArrayList);
+    assertThat(immutableBooleanArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final ImmutableBooleanArrayList immutableBooleanArrayList = ImmutableBooleanArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Boolean value : immutableBooleanArrayList)
+    {
+      assertThat(value).isEqualTo(Boolean.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableBooleanArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableBooleanArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Boolean> iterator = ImmutableBooleanArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
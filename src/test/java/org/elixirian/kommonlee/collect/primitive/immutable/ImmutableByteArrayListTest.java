@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableByteArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.ByteCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.ByteToByteFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableByteArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static byte[] getValues()
+  {
+    return new byte[] { Byte.MIN_VALUE, -100, -1, 0, 1, 5, 100, Byte.MAX_VALUE };
+  }
+
+  private static boolean same(final byte value1, final byte value2)
+  {
+    return Byte.valueOf(value1)
+        .equals(Byte.valueOf(value2));
+  }
+
+  private static byte next(final byte input)
+  {
+    return (byte) (input + 1);
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableByteArrayList actual = ImmutableByteArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableByteArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final byte[] expected = getValues();
+
+    /* when */
+    final ImmutableByteArrayList actual = ImmutableByteArrayList.listOf(values);
+    values[0] = values[1];
+    final byte[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfByteList()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final ImmutableByteArrayList immutableByteArrayList = ImmutableByteArrayList.listOf(values);
+
+    /* when */
+    final ImmutableByteArrayList actual = ImmutableByteArrayList.copyOf(new MutableByteArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableByteArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableByteArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableByteArrayList(values));
+    assertThat(ImmutableByteArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final ImmutableByteArrayList immutableByteArrayList = ImmutableByteArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableByteArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableByteArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableByteArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableByteArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableByteArrayList.containsAll(values)).isTrue();
+    assertThat(immutableByteArrayList.containsAll(ImmutableByteArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final byte target = values[1];
+    final ImmutableByteArrayList immutableByteArrayList = ImmutableByteArrayList.listOf(values);
+    final ByteCondition1 condition = new ByteCondition1() {
+      @Override
+      public boolean isMet(final byte input)
+      {
+        return same(target, input);
+      }
+    };
+    final ByteToByteFunction1 function = new ByteToByteFunction1() {
+      @Override
+      public byte apply(final byte input)
+      {
+        return next(input);
+      }
+    };
+    final byte[] expectedMapped = new byte[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableByteArrayList selected = immutableByteArrayList.select(condition);
+    final ImmutableByteArrayList mapped = immutableByteArrayList.mapToByte(function);
+    final ImmutableByteArrayList mappedSelectively = immutableByteArrayList.mapToByteSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableByteArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableByteArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachByteToByteFunction1()
+  {
+    ImmutableByteArrayList.listOf(getValues())
+        .forEach(new ByteToByteFunction1() {
+          @Override
+          public byte apply(final byte input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final ImmutableByteArrayList immutableByteArrayList = ImmutableByteArrayList.listOf(values);
+
+    /* when */
+    final ImmutableByteArrayList actual = immutableByteArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableByteArrayList.subList(0, values.length)).isSameAs(immutableByteArrayList);
+    assertThat(immutableByteArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final ImmutableByteArrayList immutableByteArrayList = ImmutableByteArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Byte value : immutableByteArrayList)
+    {
+      assertThat(value).isEqualTo(Byte.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableByteArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableByteArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Byte> iterator = ImmutableByteArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
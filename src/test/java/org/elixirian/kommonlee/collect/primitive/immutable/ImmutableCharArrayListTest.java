@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableCharArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.CharCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.CharToCharFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableCharArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static char[] getValues()
+  {
+    return new char[] { Character.MIN_VALUE, 'a', 'b', 'z', '0', ' ', '\uAC00', Character.MAX_VALUE };
+  }
+
+  private static boolean same(final char value1, final char value2)
+  {
+    return Character.valueOf(value1)
+        .equals(Character.valueOf(value2));
+  }
+
+  private static char next(final char input)
+  {
+    return (char) (input + 1);
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableCharArrayList actual = ImmutableCharArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableCharArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final char[] values = getValues();
+    final char[] expected = getValues();
+
+    /* when */
+    final ImmutableCharArrayList actual = ImmutableCharArrayList.listOf(values);
+    values[0] = values[1];
+    final char[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfCharList()
+  {
+    /* given */
+    final char[] values = getValues();
+    final ImmutableCharArrayList immutableCharArrayList = ImmutableCharArrayList.listOf(values);
+
+    /* when */
+    final ImmutableCharArrayList actual = ImmutableCharArrayList.copyOf(new MutableCharArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableCharArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableCharArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableCharArrayList(values));
+    assertThat(ImmutableCharArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final char[] values = getValues();
+    final ImmutableCharArrayList immutableCharArrayList = ImmutableCharArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableCharArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableCharArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableCharArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableCharArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableCharArrayList.containsAll(values)).isTrue();
+    assertThat(immutableCharArrayList.containsAll(ImmutableCharArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final char[] values = getValues();
+    final char target = values[1];
+    final ImmutableCharArrayList immutableCharArrayList = ImmutableCharArrayList.listOf(values);
+    final CharCondition1 condition = new CharCondition1() {
+      @Override
+      public boolean isMet(final char input)
+      {
+        return same(target, input);
+      }
+    };
+    final CharToCharFunction1 function = new CharToCharFunction1() {
+      @Override
+      public char apply(final char input)
+      {
+        return next(input);
+      }
+    };
+    final char[] expectedMapped = new char[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableCharArrayList selected = immutableCharArrayList.select(condition);
+    final ImmutableCharArrayList mapped = immutableCharArrayList.mapToChar(function);
+    final ImmutableCharArrayList mappedSelectively = immutableCharArrayList.mapToCharSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableCharArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableCharArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachCharToCharFunction1()
+  {
+    ImmutableCharArrayList.listOf(getValues())
+        .forEach(new CharToCharFunction1() {
+          @Override
+          public char apply(final char input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final char[] values = getValues();
+    final ImmutableCharArrayList immutableCharArrayList = ImmutableCharArrayList.listOf(values);
+
+    /* when */
+    final ImmutableCharArrayList actual = immutableCharArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableCharArrayList.subList(0, values.length)).isSameAs(immutableCharArrayList);
+    assertThat(immutableCharArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final char[] values = getValues();
+    final ImmutableCharArrayList immutableCharArrayList = ImmutableCharArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Character value : immutableCharArrayList)
+    {
+      assertThat(value).isEqualTo(Character.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableCharArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableCharArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Character> iterator = ImmutableCharArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableDoubleArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleToDoubleFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableDoubleArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static double[] getValues()
+  {
+    return new double[] { -Double.MAX_VALUE, -100.5D, -1D, 0D, Double.MIN_VALUE, 5.25D, Double.NaN, Double.MAX_VALUE };
+  }
+
+  private static boolean same(final double value1, final double value2)
+  {
+    return Double.valueOf(value1)
+        .equals(Double.valueOf(value2));
+  }
+
+  private static double next(final double input)
+  {
+    return input + 1D;
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableDoubleArrayList actual = ImmutableDoubleArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableDoubleArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final double[] values = getValues();
+    final double[] expected = getValues();
+
+    /* when */
+    final ImmutableDoubleArrayList actual = ImmutableDoubleArrayList.listOf(values);
+    values[0] = values[1];
+    final double[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfDoubleList()
+  {
+    /* given */
+    final double[] values = getValues();
+    final ImmutableDoubleArrayList immutableDoubleArrayList = ImmutableDoubleArrayList.listOf(values);
+
+    /* when */
+    final ImmutableDoubleArrayList actual = ImmutableDoubleArrayList.copyOf(new MutableDoubleArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableDoubleArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableDoubleArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableDoubleArrayList(values));
+    assertThat(ImmutableDoubleArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final double[] values = getValues();
+    final ImmutableDoubleArrayList immutableDoubleArrayList = ImmutableDoubleArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableDoubleArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableDoubleArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableDoubleArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableDoubleArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableDoubleArrayList.containsAll(values)).isTrue();
+    assertThat(immutableDoubleArrayList.containsAll(ImmutableDoubleArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final double[] values = getValues();
+    final double target = values[1];
+    final ImmutableDoubleArrayList immutableDoubleArrayList = ImmutableDoubleArrayList.listOf(values);
+    final DoubleCondition1 condition = new DoubleCondition1() {
+      @Override
+      public boolean isMet(final double input)
+      {
+        return same(target, input);
+      }
+    };
+    final DoubleToDoubleFunction1 function = new DoubleToDoubleFunction1() {
+      @Override
+      public double apply(final double input)
+      {
+        return next(input);
+      }
+    };
+    final double[] expectedMapped = new double[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableDoubleArrayList selected = immutableDoubleArrayList.select(condition);
+    final ImmutableDoubleArrayList mapped = immutableDoubleArrayList.mapToDouble(function);
+    final ImmutableDoubleArrayList mappedSelectively = immutableDoubleArrayList.mapToDoubleSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableDoubleArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableDoubleArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachDoubleToDoubleFunction1()
+  {
+    ImmutableDoubleArrayList.listOf(getValues())
+        .forEach(new DoubleToDoubleFunction1() {
+          @Override
+          public double apply(final double input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final double[] values = getValues();
+    final ImmutableDoubleArrayList immutableDoubleArrayList = ImmutableDoubleArrayList.listOf(values);
+
+    /* when */
+    final ImmutableDoubleArrayList actual = immutableDoubleArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableDoubleArrayList.subList(0, values.length)).isSameAs(immutableDoubleArrayList);
+    assertThat(immutableDoubleArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final double[] values = getValues();
+    final ImmutableDoubleArrayList immutableDoubleArrayList = ImmutableDoubleArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Double value : immutableDoubleArrayList)
+    {
+      assertThat(value).isEqualTo(Double.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableDoubleArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableDoubleArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Double> iterator = ImmutableDoubleArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableFloatArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.FloatCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatToFloatFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableFloatArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static float[] getValues()
+  {
+    return new float[] { -Float.MAX_VALUE, -100.5F, -1F, 0F, Float.MIN_VALUE, 5.25F, Float.NaN, Float.MAX_VALUE };
+  }
+
+  private static boolean same(final float value1, final float value2)
+  {
+    return Float.valueOf(value1)
+        .equals(Float.valueOf(value2));
+  }
+
+  private static float next(final float input)
+  {
+    return input + 1F;
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableFloatArrayList actual = ImmutableFloatArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableFloatArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final float[] values = getValues();
+    final float[] expected = getValues();
+
+    /* when */
+    final ImmutableFloatArrayList actual = ImmutableFloatArrayList.listOf(values);
+    values[0] = values[1];
+    final float[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfFloatList()
+  {
+    /* given */
+    final float[] values = getValues();
+    final ImmutableFloatArrayList immutableFloatArrayList = ImmutableFloatArrayList.listOf(values);
+
+    /* when */
+    final ImmutableFloatArrayList actual = ImmutableFloatArrayList.copyOf(new MutableFloatArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableFloatArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableFloatArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableFloatArrayList(values));
+    assertThat(ImmutableFloatArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final float[] values = getValues();
+    final ImmutableFloatArrayList immutableFloatArrayList = ImmutableFloatArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableFloatArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableFloatArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableFloatArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableFloatArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableFloatArrayList.containsAll(values)).isTrue();
+    assertThat(immutableFloatArrayList.containsAll(ImmutableFloatArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final float[] values = getValues();
+    final float target = values[1];
+    final ImmutableFloatArrayList immutableFloatArrayList = ImmutableFloatArrayList.listOf(values);
+    final FloatCondition1 condition = new FloatCondition1() {
+      @Override
+      public boolean isMet(final float input)
+      {
+        return same(target, input);
+      }
+    };
+    final FloatToFloatFunction1 function = new FloatToFloatFunction1() {
+      @Override
+      public float apply(final float input)
+      {
+        return next(input);
+      }
+    };
+    final float[] expectedMapped = new float[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableFloatArrayList selected = immutableFloatArrayList.select(condition);
+    final ImmutableFloatArrayList mapped = immutableFloatArrayList.mapToFloat(function);
+    final ImmutableFloatArrayList mappedSelectively = immutableFloatArrayList.mapToFloatSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableFloatArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableFloatArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachFloatToFloatFunction1()
+  {
+    ImmutableFloatArrayList.listOf(getValues())
+        .forEach(new FloatToFloatFunction1() {
+          @Override
+          public float apply(final float input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final float[] values = getValues();
+    final ImmutableFloatArrayList immutableFloatArrayList = ImmutableFloatArrayList.listOf(values);
+
+    /* when */
+    final ImmutableFloatArrayList actual = immutableFloatArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableFloatArrayList.subList(0, values.length)).isSameAs(immutableFloatArrayList);
+    assertThat(immutableFloatArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final float[] values = getValues();
+    final ImmutableFloatArrayList immutableFloatArrayList = ImmutableFloatArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Float value : immutableFloatArrayList)
+    {
+      assertThat(value).isEqualTo(Float.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableFloatArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableFloatArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Float> iterator = ImmutableFloatArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableIntArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.IntCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.IntToIntFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableIntArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static int[] getValues()
+  {
+    return new int[] { Integer.MIN_VALUE, -100000, -1, 0, 1, 5, 100000, Integer.MAX_VALUE };
+  }
+
+  private static boolean same(final int value1, final int value2)
+  {
+    return Integer.valueOf(value1)
+        .equals(Integer.valueOf(value2));
+  }
+
+  private static int next(final int input)
+  {
+    return input + 1;
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableIntArrayList actual = ImmutableIntArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableIntArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final int[] values = getValues();
+    final int[] expected = getValues();
+
+    /* when */
+    final ImmutableIntArrayList actual = ImmutableIntArrayList.listOf(values);
+    values[0] = values[1];
+    final int[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfIntList()
+  {
+    /* given */
+    final int[] values = getValues();
+    final ImmutableIntArrayList immutableIntArrayList = ImmutableIntArrayList.listOf(values);
+
+    /* when */
+    final ImmutableIntArrayList actual = ImmutableIntArrayList.copyOf(new MutableIntArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableIntArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableIntArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableIntArrayList(values));
+    assertThat(ImmutableIntArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final int[] values = getValues();
+    final ImmutableIntArrayList immutableIntArrayList = ImmutableIntArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableIntArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableIntArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableIntArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableIntArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableIntArrayList.containsAll(values)).isTrue();
+    assertThat(immutableIntArrayList.containsAll(ImmutableIntArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final int[] values = getValues();
+    final int target = values[1];
+    final ImmutableIntArrayList immutableIntArrayList = ImmutableIntArrayList.listOf(values);
+    final IntCondition1 condition = new IntCondition1() {
+      @Override
+      public boolean isMet(final int input)
+      {
+        return same(target, input);
+      }
+    };
+    final IntToIntFunction1 function = new IntToIntFunction1() {
+      @Override
+      public int apply(final int input)
+      {
+        return next(input);
+      }
+    };
+    final int[] expectedMapped = new int[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableIntArrayList selected = immutableIntArrayList.select(condition);
+    final ImmutableIntArrayList mapped = immutableIntArrayList.mapToInt(function);
+    final ImmutableIntArrayList mappedSelectively = immutableIntArrayList.mapToIntSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableIntArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableIntArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachIntToIntFunction1()
+  {
+    ImmutableIntArrayList.listOf(getValues())
+        .forEach(new IntToIntFunction1() {
+          @Override
+          public int apply(final int input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final int[] values = getValues();
+    final ImmutableIntArrayList immutableIntArrayList = ImmutableIntArrayList.listOf(values);
+
+    /* when */
+    final ImmutableIntArrayList actual = immutableIntArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableIntArrayList.subList(0, values.length)).isSameAs(immutableIntArrayList);
+    assertThat(immutableIntArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final int[] values = getValues();
+    final ImmutableIntArrayList immutableIntArrayList = ImmutableIntArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Integer value : immutableIntArrayList)
+    {
+      assertThat(value).isEqualTo(Integer.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableIntArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableIntArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Integer> iterator = ImmutableIntArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
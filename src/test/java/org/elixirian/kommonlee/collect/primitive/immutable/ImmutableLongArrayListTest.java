@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableLongArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.LongCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.LongToLongFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableLongArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static long[] getValues()
+  {
+    return new long[] { Long.MIN_VALUE, -10000000000L, -1L, 0L, 1L, 5L, 10000000000L, Long.MAX_VALUE };
+  }
+
+  private static boolean same(final long value1, final long value2)
+  {
+    return Long.valueOf(value1)
+        .equals(Long.valueOf(value2));
+  }
+
+  private static long next(final long input)
+  {
+    return input + 1L;
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableLongArrayList actual = ImmutableLongArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableLongArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final long[] values = getValues();
+    final long[] expected = getValues();
+
+    /* when */
+    final ImmutableLongArrayList actual = ImmutableLongArrayList.listOf(values);
+    values[0] = values[1];
+    final long[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfLongList()
+  {
+    /* given */
+    final long[] values = getValues();
+    final ImmutableLongArrayList immutableLongArrayList = ImmutableLongArrayList.listOf(values);
+
+    /* when */
+    final ImmutableLongArrayList actual = ImmutableLongArrayList.copyOf(new MutableLongArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableLongArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableLongArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableLongArrayList(values));
+    assertThat(ImmutableLongArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final long[] values = getValues();
+    final ImmutableLongArrayList immutableLongArrayList = ImmutableLongArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableLongArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableLongArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableLongArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableLongArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableLongArrayList.containsAll(values)).isTrue();
+    assertThat(immutableLongArrayList.containsAll(ImmutableLongArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final long[] values = getValues();
+    final long target = values[1];
+    final ImmutableLongArrayList immutableLongArrayList = ImmutableLongArrayList.listOf(values);
+    final LongCondition1 condition = new LongCondition1() {
+      @Override
+      public boolean isMet(final long input)
+      {
+        return same(target, input);
+      }
+    };
+    final LongToLongFunction1 function = new LongToLongFunction1() {
+      @Override
+      public long apply(final long input)
+      {
+        return next(input);
+      }
+    };
+    final long[] expectedMapped = new long[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableLongArrayList selected = immutableLongArrayList.select(condition);
+    final ImmutableLongArrayList mapped = immutableLongArrayList.mapToLong(function);
+    final ImmutableLongArrayList mappedSelectively = immutableLongArrayList.mapToLongSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableLongArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableLongArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachLongToLongFunction1()
+  {
+    ImmutableLongArrayList.listOf(getValues())
+        .forEach(new LongToLongFunction1() {
+          @Override
+          public long apply(final long input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final long[] values = getValues();
+    final ImmutableLongArrayList immutableLongArrayList = ImmutableLongArrayList.listOf(values);
+
+    /* when */
+    final ImmutableLongArrayList actual = immutableLongArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableLongArrayList.subList(0, values.length)).isSameAs(immutableLongArrayList);
+    assertThat(immutableLongArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final long[] values = getValues();
+    final ImmutableLongArrayList immutableLongArrayList = ImmutableLongArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Long value : immutableLongArrayList)
+    {
+      assertThat(value).isEqualTo(Long.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableLongArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableLongArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Long> iterator = ImmutableLongArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
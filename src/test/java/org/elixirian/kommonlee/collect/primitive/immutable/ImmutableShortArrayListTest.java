@@ -0,0 +1,232 @@
+package org.elixirian.kommonlee.collect.primitive.immutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableShortArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.ShortCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.ShortToShortFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ImmutableShortArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static short[] getValues()
+  {
+    return new short[] { Short.MIN_VALUE, -1000, -1, 0, 1, 5, 1000, Short.MAX_VALUE };
+  }
+
+  private static boolean same(final short value1, final short value2)
+  {
+    return Short.valueOf(value1)
+        .equals(Short.valueOf(value2));
+  }
+
+  private static short next(final short input)
+  {
+    return (short) (input + 1);
+  }
+
+  @Test
+  public final void testEmptyList()
+  {
+    /* when */
+    final ImmutableShortArrayList actual = ImmutableShortArrayList.emptyList();
+
+    /* then */
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(actual.length()).isEqualTo(0);
+    assertThat(ImmutableShortArrayList.listOf()).isSameAs(actual);
+    assertThat(actual.iterator()
+        .hasNext()).isFalse();
+  }
+
+  @Test
+  public final void testListOfCopiesTheGivenArray()
+  {
+    /* given */
+    final short[] values = getValues();
+    final short[] expected = getValues();
+
+    /* when */
+    final ImmutableShortArrayList actual = ImmutableShortArrayList.listOf(values);
+    values[0] = values[1];
+    final short[] array = actual.toArray();
+    array[0] = values[1];
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actual.length()).isEqualTo(expected.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertThat(same(actual.get(i), expected[i])).isTrue();
+    }
+  }
+
+  @Test
+  public final void testCopyOfShortList()
+  {
+    /* given */
+    final short[] values = getValues();
+    final ImmutableShortArrayList immutableShortArrayList = ImmutableShortArrayList.listOf(values);
+
+    /* when */
+    final ImmutableShortArrayList actual = ImmutableShortArrayList.copyOf(new MutableShortArrayList(values));
+
+    /* then */
+    assertThat(actual).isEqualTo(immutableShortArrayList);
+    assertThat(actual.hashCode()).isEqualTo(immutableShortArrayList.hashCode());
+    assertThat(actual).isEqualTo(new MutableShortArrayList(values));
+    assertThat(ImmutableShortArrayList.copyOf(actual)).isSameAs(actual);
+  }
+
+  @Test
+  public final void testIndexOfAndContains()
+  {
+    /* given */
+    final short[] values = getValues();
+    final ImmutableShortArrayList immutableShortArrayList = ImmutableShortArrayList.listOf(values);
+
+    /* when */
+    /* then */
+    for (int i = 0; i < values.length; i++)
+    {
+      final int index = immutableShortArrayList.indexOf(values[i]);
+      assertThat(index).isLessThanOrEqualTo(i);
+      assertThat(same(values[index], values[i])).isTrue();
+      assertThat(immutableShortArrayList.lastIndexOf(values[i])).isGreaterThanOrEqualTo(i);
+      assertThat(immutableShortArrayList.indexOf(values[i], i)).isEqualTo(i);
+      assertThat(immutableShortArrayList.contains(values[i])).isTrue();
+    }
+    assertThat(immutableShortArrayList.containsAll(values)).isTrue();
+    assertThat(immutableShortArrayList.containsAll(ImmutableShortArrayList.listOf(values[0], values[1]))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndMapToByte()
+  {
+    /* given */
+    final short[] values = getValues();
+    final short target = values[1];
+    final ImmutableShortArrayList immutableShortArrayList = ImmutableShortArrayList.listOf(values);
+    final ShortCondition1 condition = new ShortCondition1() {
+      @Override
+      public boolean isMet(final short input)
+      {
+        return same(target, input);
+      }
+    };
+    final ShortToShortFunction1 function = new ShortToShortFunction1() {
+      @Override
+      public short apply(final short input)
+      {
+        return next(input);
+      }
+    };
+    final short[] expectedMapped = new short[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expectedMapped[i] = next(values[i]);
+    }
+
+    /* when */
+    final ImmutableShortArrayList selected = immutableShortArrayList.select(condition);
+    final ImmutableShortArrayList mapped = immutableShortArrayList.mapToShort(function);
+    final ImmutableShortArrayList mappedSelectively = immutableShortArrayList.mapToShortSelectively(condition, function);
+
+    /* then */
+    assertThat(selected.length()).isEqualTo(immutableShortArrayList.howMany(condition));
+    assertThat(selected.length()).isEqualTo(mappedSelectively.length());
+    for (int i = 0; i < selected.length(); i++)
+    {
+      assertThat(same(selected.get(i), target)).isTrue();
+      assertThat(same(mappedSelectively.get(i), next(target))).isTrue();
+    }
+    assertThat(mapped.toArray()).isEqualTo(expectedMapped);
+    assertThat(immutableShortArrayList.toArray()).isEqualTo(values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testForEachShortToShortFunction1()
+  {
+    ImmutableShortArrayList.listOf(getValues())
+        .forEach(new ShortToShortFunction1() {
+          @Override
+          public short apply(final short input)
+          {
+            return input;
+          }
+        });
+  }
+
+  @Test
+  public final void testSubList()
+  {
+    /* given */
+    final short[] values = getValues();
+    final ImmutableShortArrayList immutableShortArrayList = ImmutableShortArrayList.listOf(values);
+
+    /* when */
+    final ImmutableShortArrayList actual = immutableShortArrayList.subList(1, 4);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 1, 4));
+    assertThat(immutableShortArrayList.subList(0, values.length)).isSameAs(immutableShortArrayList);
+    assertThat(immutableShortArrayList.subList(2, 2)
+        .isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final short[] values = getValues();
+    final ImmutableShortArrayList immutableShortArrayList = ImmutableShortArrayList.listOf(values);
+
+    /* when */
+    int count = 0;
+    for (final Short value : immutableShortArrayList)
+    {
+      assertThat(value).isEqualTo(Short.valueOf(values[count++]));
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(immutableShortArrayList.toBoxedArray()).hasSize(values.length);
+    assertThat(immutableShortArrayList.convertTo()).hasSize(values.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Short> iterator = ImmutableShortArrayList.listOf(getValues())
+        .iterator();
+    iterator.next();
+    iterator.remove();
+  }
+}
@@ -0,0 +1,340 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.elixirian.kommonlee.collect.immutable.ImmutableList;
+import org.elixirian.kommonlee.collect.immutable.ImmutableLists;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanToBooleanFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableBitListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static boolean[] randomValues(final int length)
+  {
+    final Random random = new Random(length);
+    final boolean[] values = new boolean[length];
+    for (int i = 0; i < length; i++)
+    {
+      values[i] = random.nextBoolean();
+    }
+    return values;
+  }
+
+  private static int countOf(final boolean[] values, final boolean value)
+  {
+    int count = 0;
+    for (final boolean each : values)
+    {
+      if (value == each)
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public final void testAddAndGetAcrossWords()
+  {
+    for (final int length : new int[] { 0, 1, 63, 64, 65, 200 })
+    {
+      /* given */
+      final boolean[] values = randomValues(length);
+      final MutableBitList bitList = new MutableBitList(1, 1);
+
+      /* when */
+      for (final boolean value : values)
+      {
+        bitList.add(value);
+      }
+
+      /* then */
+      assertThat(bitList.length()).isEqualTo(length);
+      assertThat(bitList.toArray()).isEqualTo(values);
+      assertThat(bitList).isEqualTo(new MutableBooleanArrayList(values));
+      assertThat(bitList.hashCode()).isEqualTo(new MutableBooleanArrayList(values).hashCode());
+      assertThat(bitList.cardinality()).isEqualTo(countOf(values, true));
+      if (0 == length)
+      {
+        assertThat(bitList.indexOf(true)).isEqualTo(-1);
+        assertThat(bitList.lastIndexOf(false)).isEqualTo(-1);
+        continue;
+      }
+      final MutableBooleanArrayList expected = new MutableBooleanArrayList(values);
+      assertThat(bitList.indexOf(true)).isEqualTo(expected.indexOf(true));
+      assertThat(bitList.indexOf(false)).isEqualTo(expected.indexOf(false));
+      assertThat(bitList.lastIndexOf(true)).isEqualTo(expected.lastIndexOf(true));
+      assertThat(bitList.lastIndexOf(false)).isEqualTo(expected.lastIndexOf(false));
+    }
+  }
+
+  @Test
+  public final void testSetFlipAndRemoveAt()
+  {
+    /* given */
+    final boolean[] values = randomValues(150);
+    final MutableBitList bitList = new MutableBitList(values);
+    final boolean[] changed = values.clone();
+    changed[0] = !changed[0];
+    for (int i = 10; i < 140; i++)
+    {
+      changed[i] = 64 > i || 128 <= i;
+    }
+    final MutableBooleanArrayList expected = new MutableBooleanArrayList(changed);
+    expected.removeAt(63);
+    expected.removeAt(0);
+
+    /* when */
+    bitList.set(10, 140, true);
+    bitList.set(64, 128, false);
+    final boolean flipped = bitList.flip(0);
+    bitList.removeAt(63);
+    bitList.removeAt(0);
+
+    /* then */
+    assertThat(flipped).isEqualTo(!values[0]);
+    assertThat(bitList.length()).isEqualTo(148);
+    assertThat(bitList.toArray()).isEqualTo(expected.toArray());
+    assertThat(bitList.lastIndexOf(true)).isLessThan(bitList.length());
+  }
+
+  @Test
+  public final void testNextSetBitAndHowMany()
+  {
+    /* given */
+    final boolean[] values = randomValues(300);
+    final MutableBitList bitList = new MutableBitList(values);
+
+    /* when */
+    int count = 0;
+    int previous = -1;
+    for (int i = bitList.nextSetBit(0); 0 <= i; i = bitList.nextSetBit(i + 1))
+    {
+      /* then */
+      assertThat(values[i]).isTrue();
+      for (int j = previous + 1; j < i; j++)
+      {
+        assertThat(values[j]).isFalse();
+      }
+      previous = i;
+      count++;
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(countOf(values, true));
+    assertThat(bitList.howMany(new BooleanCondition1() {
+      @Override
+      public boolean isMet(final boolean input)
+      {
+        return !input;
+      }
+    })).isEqualTo(countOf(values, false));
+    assertThat(bitList.nextSetBit(300)).isEqualTo(-1);
+    assertThat(bitList.nextClearBit(bitList.nextClearBit(0))).isEqualTo(bitList.nextClearBit(0));
+  }
+
+  @Test
+  public final void testBitwiseOperations()
+  {
+    /* given */
+    final boolean[] values1 = randomValues(130);
+    final boolean[] values2 = randomValues(100);
+    final boolean[] and = new boolean[130];
+    final boolean[] or = new boolean[130];
+    final boolean[] xor = new boolean[130];
+    final boolean[] andNot = new boolean[130];
+    for (int i = 0; i < 130; i++)
+    {
+      final boolean value2 = i < 100 && values2[i];
+      and[i] = values1[i] && value2;
+      or[i] = values1[i] || value2;
+      xor[i] = values1[i] ^ value2;
+      andNot[i] = values1[i] && !value2;
+    }
+
+    /* when */
+    final MutableBitList andList = new MutableBitList(values1).and(new MutableBitList(values2));
+    final MutableBitList orList = new MutableBitList(values1).or(new MutableBitList(values2));
+    final MutableBitList xorList = new MutableBitList(values1).xor(new MutableBitList(values2));
+    final MutableBitList andNotList = new MutableBitList(values1).andNot(new MutableBitList(values2));
+    final MutableBitList shortOrList = new MutableBitList(values2).or(new MutableBitList(values1));
+
+    /* then */
+    assertThat(andList.toArray()).isEqualTo(and);
+    assertThat(orList.toArray()).isEqualTo(or);
+    assertThat(xorList.toArray()).isEqualTo(xor);
+    assertThat(andNotList.toArray()).isEqualTo(andNot);
+    assertThat(shortOrList.length()).isEqualTo(100);
+    assertThat(shortOrList.cardinality()).isEqualTo(countOf(shortOrList.toArray(), true));
+  }
+
+  @Test
+  public final void testSelectFrom()
+  {
+    /* given */
+    final MutableBitList mask = new MutableBitList(new boolean[] { true, false, false, true, true });
+
+    /* when */
+    final ImmutableList<String> result = mask.selectFrom(ImmutableLists.listOf("a", "b", "c", "d", "e"));
+
+    /* then */
+    assertThat(result).isEqualTo(ImmutableLists.listOf("a", "d", "e"));
+    try
+    {
+      mask.selectFrom(ImmutableLists.listOf("a"));
+      fail("IllegalArgumentException must be thrown.");
+    }
+    catch (final IllegalArgumentException e)
+    {
+      assertThat(e).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  public final void testSubListAddAllAndMapToBoolean()
+  {
+    /* given */
+    final boolean[] values = randomValues(100);
+    final MutableBitList bitList = new MutableBitList(values);
+
+    /* when */
+    final MutableBitList subList = bitList.subList(3, 90);
+    bitList.addAll(bitList);
+    final MutableBitList notList = subList.mapToBoolean(new BooleanToBooleanFunction1() {
+      @Override
+      public boolean apply(final boolean input)
+      {
+        return !input;
+      }
+    });
+
+    /* then */
+    assertThat(subList).isEqualTo(new MutableBooleanArrayList(values).subList(3, 90));
+    assertThat(bitList.length()).isEqualTo(200);
+    assertThat(bitList.subList(0, 100)).isEqualTo(bitList.subList(100, 200));
+    assertThat(bitList.subList(100, 200).toArray()).isEqualTo(values);
+    assertThat(notList.cardinality()).isEqualTo(87 - subList.cardinality());
+  }
+
+  private static final class CountingCondition implements BooleanCondition1, BooleanToBooleanFunction1
+  {
+    int howManyTrue;
+    int howManyFalse;
+
+    @Override
+    public boolean isMet(final boolean input)
+    {
+      return count(input);
+    }
+
+    @Override
+    public boolean apply(final boolean input)
+    {
+      return !count(input);
+    }
+
+    private boolean count(final boolean input)
+    {
+      if (input)
+      {
+        howManyTrue++;
+      }
+      else
+      {
+        howManyFalse++;
+      }
+      return input;
+    }
+  }
+
+  @Test
+  public final void testConditionAndFunctionAreAppliedOnlyToElementsInList()
+  {
+    /* given */
+    final CountingCondition forEmpty = new CountingCondition();
+    final CountingCondition forAllTrue = new CountingCondition();
+    final CountingCondition forAllFalse = new CountingCondition();
+    final MutableBitList empty = new MutableBitList();
+    final MutableBitList allTrue = new MutableBitList(new boolean[] { true, true, true });
+    final MutableBitList allFalse = new MutableBitList(new boolean[] { false, false });
+
+    /* when */
+    final boolean existsInEmpty = empty.exists(forEmpty);
+    final int howManyInEmpty = empty.howMany(forEmpty);
+    final MutableBitList selectedFromEmpty = empty.select(forEmpty);
+    empty.forEach((BooleanToBooleanFunction1) forEmpty);
+
+    final boolean existsInAllTrue = allTrue.exists(forAllTrue);
+    final int howManyInAllTrue = allTrue.howMany(forAllTrue);
+    final MutableBitList selectedFromAllTrue = allTrue.select(forAllTrue);
+    allTrue.forEach((BooleanToBooleanFunction1) forAllTrue);
+
+    final boolean existsInAllFalse = allFalse.exists(forAllFalse);
+    final int howManyInAllFalse = allFalse.howMany(forAllFalse);
+    final MutableBitList selectedFromAllFalse = allFalse.select(forAllFalse);
+    allFalse.forEach((BooleanToBooleanFunction1) forAllFalse);
+
+    /* then */
+    assertThat(existsInEmpty).isFalse();
+    assertThat(howManyInEmpty).isEqualTo(0);
+    assertThat(selectedFromEmpty.length()).isEqualTo(0);
+    assertThat(forEmpty.howManyTrue).isEqualTo(0);
+    assertThat(forEmpty.howManyFalse).isEqualTo(0);
+
+    assertThat(existsInAllTrue).isTrue();
+    assertThat(howManyInAllTrue).isEqualTo(3);
+    assertThat(selectedFromAllTrue.toArray()).isEqualTo(new boolean[] { true, true, true });
+    assertThat(allTrue.toArray()).isEqualTo(new boolean[] { false, false, false });
+    assertThat(forAllTrue.howManyFalse).isEqualTo(0);
+
+    assertThat(existsInAllFalse).isFalse();
+    assertThat(howManyInAllFalse).isEqualTo(0);
+    assertThat(selectedFromAllFalse.length()).isEqualTo(0);
+    assertThat(allFalse.toArray()).isEqualTo(new boolean[] { true, true });
+    assertThat(forAllFalse.howManyTrue).isEqualTo(0);
+  }
+
+  @Test
+  public final void testSort()
+  {
+    /* given */
+    final boolean[] values = randomValues(130);
+    final MutableBitList bitList = new MutableBitList(values);
+
+    /* when */
+    bitList.sort();
+
+    /* then */
+    final int howManyFalse = countOf(values, false);
+    assertThat(bitList.length()).isEqualTo(130);
+    assertThat(bitList.nextSetBit(0)).isEqualTo(howManyFalse);
+    assertThat(bitList.cardinality()).isEqualTo(130 - howManyFalse);
+  }
+}
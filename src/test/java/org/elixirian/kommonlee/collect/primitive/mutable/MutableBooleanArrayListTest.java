@@ -0,0 +1,380 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableBooleanFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.BooleanToBooleanFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidBooleanFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableBooleanArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static boolean[] getValues()
+  {
+    return new boolean[] { true, false, false, true, true, false, true, false };
+  }
+
+  private static boolean same(final boolean value1, final boolean value2)
+  {
+    return Boolean.valueOf(value1)
+        .equals(Boolean.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final boolean[] values, final boolean value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean next(final boolean input)
+  {
+    return !input;
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList();
+
+    /* when */
+    for (final boolean value : values)
+    {
+      assertThat(mutableBooleanList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableBooleanList.length()).isEqualTo(values.length);
+    assertThat(mutableBooleanList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableBooleanList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableBooleanList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(1, 1);
+
+    /* when */
+    mutableBooleanList.addAll(values);
+    mutableBooleanList.addAll(new MutableBooleanArrayList(values));
+
+    /* then */
+    final boolean[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableBooleanList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+    mutableBooleanList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final boolean value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableBooleanList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableBooleanList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableBooleanList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableBooleanList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableBooleanList.contains(value)).isTrue();
+    }
+    assertThat(mutableBooleanList.containsAll(values)).isTrue();
+    assertThat(mutableBooleanList.containsAll(new MutableBooleanArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final boolean target = values[1];
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+    int expectedHowMany = 0;
+    for (final boolean value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final BooleanCondition1 condition = new BooleanCondition1() {
+      @Override
+      public boolean isMet(final boolean input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableBooleanList actual = mutableBooleanList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableBooleanList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableBooleanList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final boolean[] expected = new boolean[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+    final BooleanToBooleanFunction1 function = new BooleanToBooleanFunction1() {
+      @Override
+      public boolean apply(final boolean input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableBooleanList actual = mutableBooleanList.mapToBoolean(function);
+    final MutableBooleanList actualSelectively = mutableBooleanList.mapToBooleanSelectively(new BooleanCondition1() {
+      @Override
+      public boolean isMet(final boolean input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableBooleanList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableBooleanList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+    final MutableBooleanList copied = new MutableBooleanArrayList();
+    final MutableBooleanList firstThree = new MutableBooleanArrayList();
+
+    /* when */
+    mutableBooleanList.forEach(new VoidBooleanFunction1() {
+      @Override
+      public void apply(final boolean input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableBooleanList.breakableForEach(new BreakableBooleanFunction1() {
+      @Override
+      public BreakOrContinue apply(final boolean input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+
+    /* when */
+    final boolean removed = mutableBooleanList.removeAt(0);
+    final boolean removedLast = mutableBooleanList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableBooleanList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableBooleanList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+
+    /* when */
+    final MutableBooleanList actual = mutableBooleanList.subList(2, 5);
+    final Boolean[] boxed = mutableBooleanList.toBoxedArray();
+    final List<Boolean> converted = mutableBooleanList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Boolean.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Boolean.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Boolean> iterator = mutableBooleanList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Boolean.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableBooleanList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(getValues());
+    final Iterator<Boolean> iterator = mutableBooleanList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableBooleanList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList1 = new MutableBooleanArrayList(values);
+    final MutableBooleanList mutableBooleanList2 = new MutableBooleanArrayList();
+    for (final boolean value : values)
+    {
+      mutableBooleanList2.add(value);
+    }
+    final MutableBooleanList mutableBooleanList3 = new MutableBooleanArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableBooleanList1).isEqualTo(mutableBooleanList2);
+    assertThat(mutableBooleanList1.hashCode()).isEqualTo(mutableBooleanList2.hashCode());
+    assertThat(mutableBooleanList1).isNotEqualTo(mutableBooleanList3);
+    assertThat(mutableBooleanList2.toString()).isEqualTo(mutableBooleanList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final boolean[] values = getValues();
+    final MutableBooleanList mutableBooleanList = new MutableBooleanArrayList(values);
+    mutableBooleanList.add(values[0]);
+
+    /* when */
+    mutableBooleanList.trim();
+    final int lengthAfterTrim = mutableBooleanList.length();
+    mutableBooleanList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableBooleanList.isEmpty()).isTrue();
+    assertThat(mutableBooleanList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableBooleanArrayList geometric = new MutableBooleanArrayList(8, 16, 2.0F);
+    final MutableBooleanArrayList linear = new MutableBooleanArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add(0 == i % 3);
+      linear.add(0 == i % 3);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableBooleanArrayList().getGrowthFactor())
+        .isEqualTo(MutableBooleanArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
@@ -3,6 +3,7 @@ package org.elixirian.kommonlee.collect.primitive.mutable;
 import static org.elixirian.kommonlee.util.collect.Lists.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
@@ -1069,4 +1070,250 @@ public class MutableByteArrayListTest
     assertThat(mutableByteList.length()).isEqualTo(0);
   }
 
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableByteArrayList geometric = new MutableByteArrayList(8, 16, 2.0F);
+    final MutableByteArrayList linear = new MutableByteArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((byte) i);
+      linear.add((byte) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableByteArrayList().getGrowthFactor()).isEqualTo(MutableByteArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+
+  @Test
+  public final void testGrowthFactorLessThanOne()
+  {
+    /* expect */
+    causeCheckableExpectedException.expect(IllegalArgumentException.class);
+
+    /* when */
+    new MutableByteArrayList(8, 16, 0.5F);
+
+    /* otherwise */
+    fail("IllegalArgumentException was not thrown for growthFactor less than 1.");
+  }
+
+  @Test
+  public final void testAddAllWithOffsetAndLength()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+    final byte[] expected = Arrays.copyOfRange(elements, 3, 10);
+
+    /* when */
+    final MutableByteList mutableByteList = new MutableByteArrayList(2, 1);
+    final boolean added = mutableByteList.addAll(elements, 3, 7);
+    final boolean addedNone = mutableByteList.addAll(elements, 5, 0);
+
+    /* then */
+    assertThat(added).isTrue();
+    assertThat(addedNone).isFalse();
+    assertThat(mutableByteList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testAddAllWithInvalidRange()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+
+    /* expect */
+    causeCheckableExpectedException.expect(IndexOutOfBoundsException.class);
+
+    /* when */
+    new MutableByteArrayList().addAll(elements, 10, elements.length);
+
+    /* otherwise */
+    fail("IndexOutOfBoundsException was not thrown for invalid range.");
+  }
+
+  @Test
+  public final void testAddAllByteBuffer()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+    final ByteBuffer heapBuffer = ByteBuffer.wrap(elements);
+    heapBuffer.position(2);
+    final ByteBuffer directBuffer = ByteBuffer.allocateDirect(elements.length);
+    directBuffer.put(elements)
+        .flip();
+
+    final byte[] expected = new byte[elements.length * 2 - 2];
+    System.arraycopy(elements, 2, expected, 0, elements.length - 2);
+    System.arraycopy(elements, 0, expected, elements.length - 2, elements.length);
+
+    /* when */
+    final MutableByteList mutableByteList = new MutableByteArrayList();
+    mutableByteList.addAll(heapBuffer);
+    mutableByteList.addAll(directBuffer);
+
+    /* then */
+    assertThat(mutableByteList.toArray()).isEqualTo(expected);
+    assertThat(heapBuffer.hasRemaining()).isFalse();
+    assertThat(directBuffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  public final void testAddAllMutableByteArrayListToItself()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+    final byte[] expected = new byte[elements.length * 2];
+    System.arraycopy(elements, 0, expected, 0, elements.length);
+    System.arraycopy(elements, 0, expected, elements.length, elements.length);
+
+    /* when */
+    final MutableByteList mutableByteList = new MutableByteArrayList(elements);
+    mutableByteList.addAll(mutableByteList);
+
+    /* then */
+    assertThat(mutableByteList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testRemoveRange()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+    final byte[] expected = new byte[elements.length - 5];
+    System.arraycopy(elements, 0, expected, 0, 3);
+    System.arraycopy(elements, 8, expected, 3, elements.length - 8);
+
+    /* when */
+    final MutableByteList mutableByteList = new MutableByteArrayList(elements);
+    mutableByteList.removeRange(3, 8);
+
+    /* then */
+    assertThat(mutableByteList.toArray()).isEqualTo(expected);
+
+    /* when */
+    mutableByteList.removeRange(0, mutableByteList.length());
+
+    /* then */
+    assertThat(mutableByteList.isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testRetainIf()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+    final ByteCondition1 positive = new ByteCondition1() {
+      @Override
+      public boolean isMet(final byte input)
+      {
+        return 0 < input;
+      }
+    };
+    final byte[] expected = { 1, 2, 5, 10, 55, 100, Byte.MAX_VALUE };
+
+    /* when */
+    final MutableByteList mutableByteList = new MutableByteArrayList(elements);
+    final boolean removed = mutableByteList.retainIf(positive);
+    final boolean removedAgain = mutableByteList.retainIf(positive);
+
+    /* then */
+    assertThat(removed).isTrue();
+    assertThat(removedAgain).isFalse();
+    assertThat(mutableByteList.toArray()).isEqualTo(expected);
+    assertThat(mutableByteList).isEqualTo(new MutableByteArrayList(elements).select(positive));
+  }
+
+  @Test
+  public final void testRetainIfKeepsUncheckedElementsWhenConditionThrows()
+  {
+    /* given */
+    final MutableByteList mutableByteList = new MutableByteArrayList(new byte[] { 1, -2, 3, -4, 5, -6, 7 });
+    final ByteCondition1 positiveUntilFive = new ByteCondition1() {
+      @Override
+      public boolean isMet(final byte input)
+      {
+        if (5 == input)
+        {
+          throw new IllegalStateException("test");
+        }
+        return 0 < input;
+      }
+    };
+
+    /* when */
+    try
+    {
+      mutableByteList.retainIf(positiveUntilFive);
+      fail("IllegalStateException must be thrown.");
+    }
+    catch (final IllegalStateException e)
+    {
+      /* then */
+      assertThat(e.getMessage()).isEqualTo("test");
+    }
+
+    /* then */
+    assertThat(mutableByteList.length()).isEqualTo(5);
+    assertThat(mutableByteList.toArray()).isEqualTo(new byte[] { 1, 3, 5, -6, 7 });
+  }
+
+  @Test
+  public final void testReplaceAll()
+  {
+    /* given */
+    final byte[] elements = getBytes();
+    final ByteToByteFunction1 negate = new ByteToByteFunction1() {
+      @Override
+      public byte apply(final byte input)
+      {
+        return (byte) -input;
+      }
+    };
+
+    /* when */
+    final MutableByteList mutableByteList = new MutableByteArrayList(elements);
+    final MutableByteList expected = mutableByteList.mapToByte(negate);
+    mutableByteList.replaceAll(negate);
+
+    /* then */
+    assertThat(mutableByteList).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testReplaceAllDuringIteration()
+  {
+    /* given */
+    final MutableByteList mutableByteList = new MutableByteArrayList(getBytes());
+    final Iterator<Byte> iterator = mutableByteList.iterator();
+    iterator.next();
+
+    /* expect */
+    causeCheckableExpectedException.expect(ConcurrentModificationException.class);
+
+    /* when */
+    mutableByteList.replaceAll(new ByteToByteFunction1() {
+      @Override
+      public byte apply(final byte input)
+      {
+        return input;
+      }
+    });
+    iterator.next();
+
+    /* otherwise */
+    fail("ConcurrentModificationException was not thrown.");
+  }
+
 }
@@ -0,0 +1,150 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.CharBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableCharArrayDequeTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static char[] valuesFrom(final int from, final int length)
+  {
+    final char[] values = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+      values[i] = (char) (from + i);
+    }
+    return values;
+  }
+
+  @Test
+  public final void testAddLastAndPollFirstWrappingAround()
+  {
+    /* given */
+    final MutableCharArrayDeque deque = new MutableCharArrayDeque(4);
+    final int capacity = deque.getCapacity();
+
+    /* when */
+    for (int i = 0; i < 10; i++)
+    {
+      deque.addLast((char) i);
+      deque.addLast((char) (i + 1));
+      /* then */
+      assertThat(deque.pollFirst()).isEqualTo((char) i);
+      assertThat(deque.pollFirst()).isEqualTo((char) (i + 1));
+    }
+    deque.addAll(valuesFrom(1, 3));
+    deque.addFirst((char) 0);
+
+    /* then */
+    assertThat(deque.getCapacity()).isEqualTo(capacity);
+    assertThat(deque.toArray()).isEqualTo(valuesFrom(0, 4));
+    assertThat(deque.peekFirst()).isEqualTo((char) 0);
+    assertThat(deque.peekLast()).isEqualTo((char) 3);
+    assertThat(deque.pollLast()).isEqualTo((char) 3);
+    assertThat(deque.get(2)).isEqualTo((char) 2);
+    assertThat(deque.indexOf((char) 2)).isEqualTo(2);
+    assertThat(deque.lastIndexOf((char) 3)).isEqualTo(-1);
+  }
+
+  @Test
+  public final void testGrowKeepsOrder()
+  {
+    /* given */
+    final MutableCharArrayDeque deque = new MutableCharArrayDeque(4);
+    deque.addAll(valuesFrom(0, 4));
+    deque.discardFirst(2);
+    deque.addAll(valuesFrom(4, 2));
+
+    /* when */
+    deque.addAll(valuesFrom(6, 7));
+
+    /* then */
+    assertThat(deque.getCapacity()).isEqualTo(16);
+    assertThat(deque.toArray()).isEqualTo(valuesFrom(2, 11));
+    assertThat(deque).isEqualTo(new MutableCharArrayList(valuesFrom(2, 11)));
+    assertThat(deque.hashCode()).isEqualTo(new MutableCharArrayList(valuesFrom(2, 11)).hashCode());
+    assertThat(deque.subList(1, 4).toArray()).isEqualTo(valuesFrom(3, 3));
+  }
+
+  @Test
+  public final void testBufferImportAndDrain()
+  {
+    /* given */
+    final MutableCharArrayDeque deque = new MutableCharArrayDeque(8);
+    deque.addAll(valuesFrom(0, 5));
+    deque.discardFirst(5);
+    final CharBuffer input = CharBuffer.wrap(valuesFrom(0, 7));
+
+    /* when */
+    deque.addAll(input);
+    final CharBuffer output = CharBuffer.allocate(4);
+    final int drainedToBuffer = deque.drainTo(output);
+    final char[] rest = new char[10];
+    final int drainedToArray = deque.drainTo(rest);
+
+    /* then */
+    assertThat(input.remaining()).isEqualTo(0);
+    assertThat(drainedToBuffer).isEqualTo(4);
+    assertThat(output.array()).isEqualTo(valuesFrom(0, 4));
+    assertThat(drainedToArray).isEqualTo(3);
+    assertThat(rest[0]).isEqualTo((char) 4);
+    assertThat(rest[2]).isEqualTo((char) 6);
+    assertThat(deque.isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testAddAllItself()
+  {
+    /* given */
+    final MutableCharArrayDeque deque = new MutableCharArrayDeque(4);
+    deque.addAll(valuesFrom(0, 4));
+    deque.discardFirst(3);
+    deque.addAll(valuesFrom(4, 2));
+
+    /* when */
+    deque.addAll(deque);
+
+    /* then */
+    assertThat(deque.toArray()).isEqualTo(new char[] { 3, 4, 5, 3, 4, 5 });
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public final void testPollFirstOnEmpty()
+  {
+    /* given */
+    final MutableCharArrayDeque deque = new MutableCharArrayDeque();
+
+    /* when */
+    deque.pollFirst();
+
+    /* then */
+    fail("NoSuchElementException must be thrown.");
+  }
+}
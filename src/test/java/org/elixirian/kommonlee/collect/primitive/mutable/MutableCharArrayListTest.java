@@ -0,0 +1,379 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableCharFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.CharCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.CharToCharFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidCharFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableCharArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static char[] getValues()
+  {
+    return new char[] { Character.MIN_VALUE, 'a', 'b', 'z', '0', ' ', '\uAC00', Character.MAX_VALUE };
+  }
+
+  private static boolean same(final char value1, final char value2)
+  {
+    return Character.valueOf(value1)
+        .equals(Character.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final char[] values, final char value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static char next(final char input)
+  {
+    return (char) (input + 1);
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList();
+
+    /* when */
+    for (final char value : values)
+    {
+      assertThat(mutableCharList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableCharList.length()).isEqualTo(values.length);
+    assertThat(mutableCharList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableCharList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableCharList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(1, 1);
+
+    /* when */
+    mutableCharList.addAll(values);
+    mutableCharList.addAll(new MutableCharArrayList(values));
+
+    /* then */
+    final char[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableCharList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+    mutableCharList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final char value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableCharList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableCharList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableCharList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableCharList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableCharList.contains(value)).isTrue();
+    }
+    assertThat(mutableCharList.containsAll(values)).isTrue();
+    assertThat(mutableCharList.containsAll(new MutableCharArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final char[] values = getValues();
+    final char target = values[1];
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+    int expectedHowMany = 0;
+    for (final char value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final CharCondition1 condition = new CharCondition1() {
+      @Override
+      public boolean isMet(final char input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableCharList actual = mutableCharList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableCharList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableCharList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final char[] values = getValues();
+    final char[] expected = new char[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+    final CharToCharFunction1 function = new CharToCharFunction1() {
+      @Override
+      public char apply(final char input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableCharList actual = mutableCharList.mapToChar(function);
+    final MutableCharList actualSelectively = mutableCharList.mapToCharSelectively(new CharCondition1() {
+      @Override
+      public boolean isMet(final char input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableCharList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableCharList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+    final MutableCharList copied = new MutableCharArrayList();
+    final MutableCharList firstThree = new MutableCharArrayList();
+
+    /* when */
+    mutableCharList.forEach(new VoidCharFunction1() {
+      @Override
+      public void apply(final char input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableCharList.breakableForEach(new BreakableCharFunction1() {
+      @Override
+      public BreakOrContinue apply(final char input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+
+    /* when */
+    final char removed = mutableCharList.removeAt(0);
+    final boolean removedLast = mutableCharList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableCharList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableCharList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+
+    /* when */
+    final MutableCharList actual = mutableCharList.subList(2, 5);
+    final Character[] boxed = mutableCharList.toBoxedArray();
+    final List<Character> converted = mutableCharList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Character.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Character.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Character> iterator = mutableCharList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Character.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableCharList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableCharList mutableCharList = new MutableCharArrayList(getValues());
+    final Iterator<Character> iterator = mutableCharList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableCharList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList1 = new MutableCharArrayList(values);
+    final MutableCharList mutableCharList2 = new MutableCharArrayList();
+    for (final char value : values)
+    {
+      mutableCharList2.add(value);
+    }
+    final MutableCharList mutableCharList3 = new MutableCharArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableCharList1).isEqualTo(mutableCharList2);
+    assertThat(mutableCharList1.hashCode()).isEqualTo(mutableCharList2.hashCode());
+    assertThat(mutableCharList1).isNotEqualTo(mutableCharList3);
+    assertThat(mutableCharList2.toString()).isEqualTo(mutableCharList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final char[] values = getValues();
+    final MutableCharList mutableCharList = new MutableCharArrayList(values);
+    mutableCharList.add(values[0]);
+
+    /* when */
+    mutableCharList.trim();
+    final int lengthAfterTrim = mutableCharList.length();
+    mutableCharList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableCharList.isEmpty()).isTrue();
+    assertThat(mutableCharList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableCharArrayList geometric = new MutableCharArrayList(8, 16, 2.0F);
+    final MutableCharArrayList linear = new MutableCharArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((char) i);
+      linear.add((char) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableCharArrayList().getGrowthFactor()).isEqualTo(MutableCharArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
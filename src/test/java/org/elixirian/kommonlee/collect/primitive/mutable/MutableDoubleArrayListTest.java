@@ -0,0 +1,379 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableDoubleFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.DoubleToDoubleFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidDoubleFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableDoubleArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static double[] getValues()
+  {
+    return new double[] { -Double.MAX_VALUE, -100.5D, -1D, 0D, Double.MIN_VALUE, 5.25D, Double.NaN, Double.MAX_VALUE };
+  }
+
+  private static boolean same(final double value1, final double value2)
+  {
+    return Double.valueOf(value1)
+        .equals(Double.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final double[] values, final double value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static double next(final double input)
+  {
+    return input + 1D;
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList();
+
+    /* when */
+    for (final double value : values)
+    {
+      assertThat(mutableDoubleList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableDoubleList.length()).isEqualTo(values.length);
+    assertThat(mutableDoubleList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableDoubleList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableDoubleList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(1, 1);
+
+    /* when */
+    mutableDoubleList.addAll(values);
+    mutableDoubleList.addAll(new MutableDoubleArrayList(values));
+
+    /* then */
+    final double[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableDoubleList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+    mutableDoubleList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final double value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableDoubleList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableDoubleList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableDoubleList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableDoubleList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableDoubleList.contains(value)).isTrue();
+    }
+    assertThat(mutableDoubleList.containsAll(values)).isTrue();
+    assertThat(mutableDoubleList.containsAll(new MutableDoubleArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final double[] values = getValues();
+    final double target = values[1];
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+    int expectedHowMany = 0;
+    for (final double value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final DoubleCondition1 condition = new DoubleCondition1() {
+      @Override
+      public boolean isMet(final double input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableDoubleList actual = mutableDoubleList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableDoubleList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableDoubleList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final double[] values = getValues();
+    final double[] expected = new double[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+    final DoubleToDoubleFunction1 function = new DoubleToDoubleFunction1() {
+      @Override
+      public double apply(final double input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableDoubleList actual = mutableDoubleList.mapToDouble(function);
+    final MutableDoubleList actualSelectively = mutableDoubleList.mapToDoubleSelectively(new DoubleCondition1() {
+      @Override
+      public boolean isMet(final double input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableDoubleList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableDoubleList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+    final MutableDoubleList copied = new MutableDoubleArrayList();
+    final MutableDoubleList firstThree = new MutableDoubleArrayList();
+
+    /* when */
+    mutableDoubleList.forEach(new VoidDoubleFunction1() {
+      @Override
+      public void apply(final double input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableDoubleList.breakableForEach(new BreakableDoubleFunction1() {
+      @Override
+      public BreakOrContinue apply(final double input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+
+    /* when */
+    final double removed = mutableDoubleList.removeAt(0);
+    final boolean removedLast = mutableDoubleList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableDoubleList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableDoubleList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+
+    /* when */
+    final MutableDoubleList actual = mutableDoubleList.subList(2, 5);
+    final Double[] boxed = mutableDoubleList.toBoxedArray();
+    final List<Double> converted = mutableDoubleList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Double.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Double.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Double> iterator = mutableDoubleList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Double.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableDoubleList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(getValues());
+    final Iterator<Double> iterator = mutableDoubleList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableDoubleList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList1 = new MutableDoubleArrayList(values);
+    final MutableDoubleList mutableDoubleList2 = new MutableDoubleArrayList();
+    for (final double value : values)
+    {
+      mutableDoubleList2.add(value);
+    }
+    final MutableDoubleList mutableDoubleList3 = new MutableDoubleArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableDoubleList1).isEqualTo(mutableDoubleList2);
+    assertThat(mutableDoubleList1.hashCode()).isEqualTo(mutableDoubleList2.hashCode());
+    assertThat(mutableDoubleList1).isNotEqualTo(mutableDoubleList3);
+    assertThat(mutableDoubleList2.toString()).isEqualTo(mutableDoubleList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final double[] values = getValues();
+    final MutableDoubleList mutableDoubleList = new MutableDoubleArrayList(values);
+    mutableDoubleList.add(values[0]);
+
+    /* when */
+    mutableDoubleList.trim();
+    final int lengthAfterTrim = mutableDoubleList.length();
+    mutableDoubleList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableDoubleList.isEmpty()).isTrue();
+    assertThat(mutableDoubleList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableDoubleArrayList geometric = new MutableDoubleArrayList(8, 16, 2.0F);
+    final MutableDoubleArrayList linear = new MutableDoubleArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((double) i);
+      linear.add((double) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableDoubleArrayList().getGrowthFactor()).isEqualTo(MutableDoubleArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
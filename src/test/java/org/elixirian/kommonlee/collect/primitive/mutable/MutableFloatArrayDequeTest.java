@@ -0,0 +1,150 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableFloatArrayDequeTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static float[] valuesFrom(final int from, final int length)
+  {
+    final float[] values = new float[length];
+    for (int i = 0; i < length; i++)
+    {
+      values[i] = (float) (from + i);
+    }
+    return values;
+  }
+
+  @Test
+  public final void testAddLastAndPollFirstWrappingAround()
+  {
+    /* given */
+    final MutableFloatArrayDeque deque = new MutableFloatArrayDeque(4);
+    final int capacity = deque.getCapacity();
+
+    /* when */
+    for (int i = 0; i < 10; i++)
+    {
+      deque.addLast((float) i);
+      deque.addLast((float) (i + 1));
+      /* then */
+      assertThat(deque.pollFirst()).isEqualTo((float) i);
+      assertThat(deque.pollFirst()).isEqualTo((float) (i + 1));
+    }
+    deque.addAll(valuesFrom(1, 3));
+    deque.addFirst((float) 0);
+
+    /* then */
+    assertThat(deque.getCapacity()).isEqualTo(capacity);
+    assertThat(deque.toArray()).isEqualTo(valuesFrom(0, 4));
+    assertThat(deque.peekFirst()).isEqualTo((float) 0);
+    assertThat(deque.peekLast()).isEqualTo((float) 3);
+    assertThat(deque.pollLast()).isEqualTo((float) 3);
+    assertThat(deque.get(2)).isEqualTo((float) 2);
+    assertThat(deque.indexOf((float) 2)).isEqualTo(2);
+    assertThat(deque.lastIndexOf((float) 3)).isEqualTo(-1);
+  }
+
+  @Test
+  public final void testGrowKeepsOrder()
+  {
+    /* given */
+    final MutableFloatArrayDeque deque = new MutableFloatArrayDeque(4);
+    deque.addAll(valuesFrom(0, 4));
+    deque.discardFirst(2);
+    deque.addAll(valuesFrom(4, 2));
+
+    /* when */
+    deque.addAll(valuesFrom(6, 7));
+
+    /* then */
+    assertThat(deque.getCapacity()).isEqualTo(16);
+    assertThat(deque.toArray()).isEqualTo(valuesFrom(2, 11));
+    assertThat(deque).isEqualTo(new MutableFloatArrayList(valuesFrom(2, 11)));
+    assertThat(deque.hashCode()).isEqualTo(new MutableFloatArrayList(valuesFrom(2, 11)).hashCode());
+    assertThat(deque.subList(1, 4).toArray()).isEqualTo(valuesFrom(3, 3));
+  }
+
+  @Test
+  public final void testBufferImportAndDrain()
+  {
+    /* given */
+    final MutableFloatArrayDeque deque = new MutableFloatArrayDeque(8);
+    deque.addAll(valuesFrom(0, 5));
+    deque.discardFirst(5);
+    final FloatBuffer input = FloatBuffer.wrap(valuesFrom(0, 7));
+
+    /* when */
+    deque.addAll(input);
+    final FloatBuffer output = FloatBuffer.allocate(4);
+    final int drainedToBuffer = deque.drainTo(output);
+    final float[] rest = new float[10];
+    final int drainedToArray = deque.drainTo(rest);
+
+    /* then */
+    assertThat(input.remaining()).isEqualTo(0);
+    assertThat(drainedToBuffer).isEqualTo(4);
+    assertThat(output.array()).isEqualTo(valuesFrom(0, 4));
+    assertThat(drainedToArray).isEqualTo(3);
+    assertThat(rest[0]).isEqualTo((float) 4);
+    assertThat(rest[2]).isEqualTo((float) 6);
+    assertThat(deque.isEmpty()).isTrue();
+  }
+
+  @Test
+  public final void testAddAllItself()
+  {
+    /* given */
+    final MutableFloatArrayDeque deque = new MutableFloatArrayDeque(4);
+    deque.addAll(valuesFrom(0, 4));
+    deque.discardFirst(3);
+    deque.addAll(valuesFrom(4, 2));
+
+    /* when */
+    deque.addAll(deque);
+
+    /* then */
+    assertThat(deque.toArray()).isEqualTo(new float[] { 3, 4, 5, 3, 4, 5 });
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public final void testPollFirstOnEmpty()
+  {
+    /* given */
+    final MutableFloatArrayDeque deque = new MutableFloatArrayDeque();
+
+    /* when */
+    deque.pollFirst();
+
+    /* then */
+    fail("NoSuchElementException must be thrown.");
+  }
+}
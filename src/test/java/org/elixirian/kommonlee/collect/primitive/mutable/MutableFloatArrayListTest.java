@@ -0,0 +1,379 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.FloatToFloatFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidFloatFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableFloatArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static float[] getValues()
+  {
+    return new float[] { -Float.MAX_VALUE, -100.5F, -1F, 0F, Float.MIN_VALUE, 5.25F, Float.NaN, Float.MAX_VALUE };
+  }
+
+  private static boolean same(final float value1, final float value2)
+  {
+    return Float.valueOf(value1)
+        .equals(Float.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final float[] values, final float value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static float next(final float input)
+  {
+    return input + 1F;
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList();
+
+    /* when */
+    for (final float value : values)
+    {
+      assertThat(mutableFloatList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableFloatList.length()).isEqualTo(values.length);
+    assertThat(mutableFloatList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableFloatList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableFloatList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(1, 1);
+
+    /* when */
+    mutableFloatList.addAll(values);
+    mutableFloatList.addAll(new MutableFloatArrayList(values));
+
+    /* then */
+    final float[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableFloatList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+    mutableFloatList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final float value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableFloatList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableFloatList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableFloatList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableFloatList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableFloatList.contains(value)).isTrue();
+    }
+    assertThat(mutableFloatList.containsAll(values)).isTrue();
+    assertThat(mutableFloatList.containsAll(new MutableFloatArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final float[] values = getValues();
+    final float target = values[1];
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+    int expectedHowMany = 0;
+    for (final float value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final FloatCondition1 condition = new FloatCondition1() {
+      @Override
+      public boolean isMet(final float input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableFloatList actual = mutableFloatList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableFloatList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableFloatList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final float[] values = getValues();
+    final float[] expected = new float[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+    final FloatToFloatFunction1 function = new FloatToFloatFunction1() {
+      @Override
+      public float apply(final float input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableFloatList actual = mutableFloatList.mapToFloat(function);
+    final MutableFloatList actualSelectively = mutableFloatList.mapToFloatSelectively(new FloatCondition1() {
+      @Override
+      public boolean isMet(final float input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableFloatList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableFloatList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+    final MutableFloatList copied = new MutableFloatArrayList();
+    final MutableFloatList firstThree = new MutableFloatArrayList();
+
+    /* when */
+    mutableFloatList.forEach(new VoidFloatFunction1() {
+      @Override
+      public void apply(final float input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableFloatList.breakableForEach(new BreakableFloatFunction1() {
+      @Override
+      public BreakOrContinue apply(final float input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+
+    /* when */
+    final float removed = mutableFloatList.removeAt(0);
+    final boolean removedLast = mutableFloatList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableFloatList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableFloatList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+
+    /* when */
+    final MutableFloatList actual = mutableFloatList.subList(2, 5);
+    final Float[] boxed = mutableFloatList.toBoxedArray();
+    final List<Float> converted = mutableFloatList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Float.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Float.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Float> iterator = mutableFloatList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Float.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableFloatList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(getValues());
+    final Iterator<Float> iterator = mutableFloatList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableFloatList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList1 = new MutableFloatArrayList(values);
+    final MutableFloatList mutableFloatList2 = new MutableFloatArrayList();
+    for (final float value : values)
+    {
+      mutableFloatList2.add(value);
+    }
+    final MutableFloatList mutableFloatList3 = new MutableFloatArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableFloatList1).isEqualTo(mutableFloatList2);
+    assertThat(mutableFloatList1.hashCode()).isEqualTo(mutableFloatList2.hashCode());
+    assertThat(mutableFloatList1).isNotEqualTo(mutableFloatList3);
+    assertThat(mutableFloatList2.toString()).isEqualTo(mutableFloatList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final float[] values = getValues();
+    final MutableFloatList mutableFloatList = new MutableFloatArrayList(values);
+    mutableFloatList.add(values[0]);
+
+    /* when */
+    mutableFloatList.trim();
+    final int lengthAfterTrim = mutableFloatList.length();
+    mutableFloatList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableFloatList.isEmpty()).isTrue();
+    assertThat(mutableFloatList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableFloatArrayList geometric = new MutableFloatArrayList(8, 16, 2.0F);
+    final MutableFloatArrayList linear = new MutableFloatArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((float) i);
+      linear.add((float) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableFloatArrayList().getGrowthFactor()).isEqualTo(MutableFloatArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
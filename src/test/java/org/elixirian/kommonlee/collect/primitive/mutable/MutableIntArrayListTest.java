@@ -0,0 +1,403 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.collect.primitive.immutable.ImmutableIntArrayList;
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableIntFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.IntCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.IntToIntFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableIntArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static int[] getValues()
+  {
+    return new int[] { Integer.MIN_VALUE, -100000, -1, 0, 1, 5, 100000, Integer.MAX_VALUE };
+  }
+
+  private static boolean same(final int value1, final int value2)
+  {
+    return Integer.valueOf(value1)
+        .equals(Integer.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final int[] values, final int value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int next(final int input)
+  {
+    return input + 1;
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList();
+
+    /* when */
+    for (final int value : values)
+    {
+      assertThat(mutableIntList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableIntList.length()).isEqualTo(values.length);
+    assertThat(mutableIntList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableIntList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableIntList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(1, 1);
+
+    /* when */
+    mutableIntList.addAll(values);
+    mutableIntList.addAll(new MutableIntArrayList(values));
+
+    /* then */
+    final int[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableIntList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+    mutableIntList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final int value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableIntList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableIntList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableIntList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableIntList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableIntList.contains(value)).isTrue();
+    }
+    assertThat(mutableIntList.containsAll(values)).isTrue();
+    assertThat(mutableIntList.containsAll(new MutableIntArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final int[] values = getValues();
+    final int target = values[1];
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+    int expectedHowMany = 0;
+    for (final int value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final IntCondition1 condition = new IntCondition1() {
+      @Override
+      public boolean isMet(final int input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableIntList actual = mutableIntList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableIntList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableIntList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final int[] values = getValues();
+    final int[] expected = new int[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+    final IntToIntFunction1 function = new IntToIntFunction1() {
+      @Override
+      public int apply(final int input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableIntList actual = mutableIntList.mapToInt(function);
+    final MutableIntList actualSelectively = mutableIntList.mapToIntSelectively(new IntCondition1() {
+      @Override
+      public boolean isMet(final int input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableIntList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableIntList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+    final MutableIntList copied = new MutableIntArrayList();
+    final MutableIntList firstThree = new MutableIntArrayList();
+
+    /* when */
+    mutableIntList.forEach(new VoidIntFunction1() {
+      @Override
+      public void apply(final int input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableIntList.breakableForEach(new BreakableIntFunction1() {
+      @Override
+      public BreakOrContinue apply(final int input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+
+    /* when */
+    final int removed = mutableIntList.removeAt(0);
+    final boolean removedLast = mutableIntList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableIntList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableIntList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+
+    /* when */
+    final MutableIntList actual = mutableIntList.subList(2, 5);
+    final Integer[] boxed = mutableIntList.toBoxedArray();
+    final List<Integer> converted = mutableIntList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Integer.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Integer.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Integer> iterator = mutableIntList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Integer.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableIntList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableIntList mutableIntList = new MutableIntArrayList(getValues());
+    final Iterator<Integer> iterator = mutableIntList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableIntList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList1 = new MutableIntArrayList(values);
+    final MutableIntList mutableIntList2 = new MutableIntArrayList();
+    for (final int value : values)
+    {
+      mutableIntList2.add(value);
+    }
+    final MutableIntList mutableIntList3 = new MutableIntArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableIntList1).isEqualTo(mutableIntList2);
+    assertThat(mutableIntList1.hashCode()).isEqualTo(mutableIntList2.hashCode());
+    assertThat(mutableIntList1).isNotEqualTo(mutableIntList3);
+    assertThat(mutableIntList2.toString()).isEqualTo(mutableIntList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final int[] values = getValues();
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+    mutableIntList.add(values[0]);
+
+    /* when */
+    mutableIntList.trim();
+    final int lengthAfterTrim = mutableIntList.length();
+    mutableIntList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableIntList.isEmpty()).isTrue();
+    assertThat(mutableIntList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testSortAndSortedCopyOf()
+  {
+    /* given */
+    final int[] values = getValues();
+    final int[] expected = values.clone();
+    Arrays.sort(expected);
+    final MutableIntList mutableIntList = new MutableIntArrayList(values);
+    mutableIntList.add(Integer.MIN_VALUE);
+    final MutableIntList unsorted = new MutableIntArrayList(values);
+
+    /* when */
+    mutableIntList.sort();
+    final ImmutableIntArrayList immutableIntList = ImmutableIntArrayList.sortedCopyOf(unsorted);
+
+    /* then */
+    assertThat(mutableIntList.get(0)).isEqualTo(Integer.MIN_VALUE);
+    assertThat(mutableIntList.subList(1, mutableIntList.length())
+        .toArray()).isEqualTo(expected);
+    assertThat(immutableIntList.toArray()).isEqualTo(expected);
+    assertThat(unsorted.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableIntArrayList geometric = new MutableIntArrayList(8, 16, 2.0F);
+    final MutableIntArrayList linear = new MutableIntArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((int) i);
+      linear.add((int) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableIntArrayList().getGrowthFactor()).isEqualTo(MutableIntArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
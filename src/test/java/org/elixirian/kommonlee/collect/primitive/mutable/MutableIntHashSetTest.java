@@ -0,0 +1,221 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableIntHashSetTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static Set<Integer> toSet(final int[] elements)
+  {
+    final Set<Integer> set = new HashSet<Integer>();
+    for (final int element : elements)
+    {
+      set.add(Integer.valueOf(element));
+    }
+    return set;
+  }
+
+  @Test
+  public final void testAddContainsAndRemove()
+  {
+    /* given */
+    final MutableIntHashSet mutableIntHashSet = new MutableIntHashSet();
+
+    /* when */
+    final boolean added = mutableIntHashSet.add(10);
+    final boolean addedAgain = mutableIntHashSet.add(10);
+    final boolean addedZero = mutableIntHashSet.add(0);
+    mutableIntHashSet.add(-1);
+
+    /* then */
+    assertThat(added).isTrue();
+    assertThat(addedAgain).isFalse();
+    assertThat(addedZero).isTrue();
+    assertThat(mutableIntHashSet.size()).isEqualTo(3);
+    assertThat(mutableIntHashSet.contains(0)).isTrue();
+    assertThat(mutableIntHashSet.contains(10)).isTrue();
+    assertThat(mutableIntHashSet.contains(-1)).isTrue();
+    assertThat(mutableIntHashSet.contains(1)).isFalse();
+
+    /* when */
+    final boolean removedZero = mutableIntHashSet.remove(0);
+    final boolean removedZeroAgain = mutableIntHashSet.remove(0);
+    final boolean removedMissing = mutableIntHashSet.remove(11);
+
+    /* then */
+    assertThat(removedZero).isTrue();
+    assertThat(removedZeroAgain).isFalse();
+    assertThat(removedMissing).isFalse();
+    assertThat(mutableIntHashSet.contains(0)).isFalse();
+    assertThat(mutableIntHashSet.size()).isEqualTo(2);
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstHashSet()
+  {
+    /* given */
+    final Random random = new Random(32L);
+    final MutableIntHashSet mutableIntHashSet = new MutableIntHashSet(1);
+    final Set<Integer> expected = new HashSet<Integer>();
+
+    /* when */
+    /* then */
+    for (int i = 0; i < 20000; i++)
+    {
+      /* a small range of keys to have a lot of collisions and removals */
+      final int element = (int) (random.nextInt(200) - 100) * 1024;
+      if (random.nextInt(3) == 0)
+      {
+        assertThat(mutableIntHashSet.remove(element)).isEqualTo(expected.remove(Integer.valueOf(element)));
+      }
+      else
+      {
+        assertThat(mutableIntHashSet.add(element)).isEqualTo(expected.add(Integer.valueOf(element)));
+      }
+      assertThat(mutableIntHashSet.size()).isEqualTo(expected.size());
+    }
+    for (int i = -100; i < 100; i++)
+    {
+      final int element = (int) i * 1024;
+      assertThat(mutableIntHashSet.contains(element)).isEqualTo(expected.contains(Integer.valueOf(element)));
+    }
+    assertThat(toSet(mutableIntHashSet.toArray())).isEqualTo(expected);
+    assertThat(mutableIntHashSet.convertTo()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testGrowTrimAndEnsureCapacity()
+  {
+    /* given */
+    final MutableIntHashSet mutableIntHashSet = new MutableIntHashSet();
+    final int capacity = mutableIntHashSet.getCapacity();
+
+    /* when */
+    for (int i = 1; i <= 1000; i++)
+    {
+      mutableIntHashSet.add(i);
+    }
+    final int grownCapacity = mutableIntHashSet.getCapacity();
+    for (int i = 11; i <= 1000; i++)
+    {
+      mutableIntHashSet.remove(i);
+    }
+    mutableIntHashSet.trim();
+    final int trimmedCapacity = mutableIntHashSet.getCapacity();
+    mutableIntHashSet.ensureCapacity(5000);
+
+    /* then */
+    assertThat(grownCapacity).isGreaterThan(capacity);
+    assertThat(trimmedCapacity).isLessThan(grownCapacity);
+    assertThat(mutableIntHashSet.getCapacity()).isGreaterThan(5000);
+    assertThat(mutableIntHashSet.size()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++)
+    {
+      assertThat(mutableIntHashSet.contains(i)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testForEachAndIterator()
+  {
+    /* given */
+    final int[] elements = { 0, 1, 2, 3, -5, 1000 };
+    final MutableIntHashSet mutableIntHashSet = new MutableIntHashSet(elements);
+    final Set<Integer> visited = new HashSet<Integer>();
+    final Set<Integer> iterated = new HashSet<Integer>();
+
+    /* when */
+    mutableIntHashSet.forEach(new VoidIntFunction1() {
+      @Override
+      public void apply(final int input)
+      {
+        visited.add(Integer.valueOf(input));
+      }
+    });
+    for (final Iterator<Integer> iterator = mutableIntHashSet.iterator(); iterator.hasNext();)
+    {
+      iterated.add(iterator.next());
+    }
+
+    /* then */
+    assertThat(visited).isEqualTo(toSet(elements));
+    assertThat(iterated).isEqualTo(toSet(elements));
+    assertThat(Arrays.asList(mutableIntHashSet.toBoxedArray())).hasSize(elements.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Integer> iterator = new MutableIntHashSet(new int[] { 1, 2 }).iterator();
+    iterator.next();
+    iterator.remove();
+  }
+
+  @Test
+  public final void testEqualsHashCodeAndToString()
+  {
+    /* given */
+    final MutableIntHashSet mutableIntHashSet1 = new MutableIntHashSet(new int[] { 0, 1, 2, 3 });
+    final MutableIntHashSet mutableIntHashSet2 = new MutableIntHashSet(1);
+    mutableIntHashSet2.addAll(new int[] { 3, 2, 1, 0 });
+    final MutableIntHashSet mutableIntHashSet3 = new MutableIntHashSet(new int[] { 1, 2, 3 });
+
+    /* when */
+    /* then */
+    assertThat(mutableIntHashSet1).isEqualTo(mutableIntHashSet2);
+    assertThat(mutableIntHashSet1.hashCode()).isEqualTo(mutableIntHashSet2.hashCode());
+    assertThat(mutableIntHashSet1.hashCode()).isEqualTo(toSet(mutableIntHashSet1.toArray()).hashCode());
+    assertThat(mutableIntHashSet1).isNotEqualTo(mutableIntHashSet3);
+    assertThat(mutableIntHashSet3.toString()).startsWith("[")
+        .endsWith("]")
+        .contains("1", "2", "3");
+  }
+
+  @Test
+  public final void testClear()
+  {
+    /* given */
+    final MutableIntHashSet mutableIntHashSet = new MutableIntHashSet(new int[] { 0, 1, 2, 3 });
+
+    /* when */
+    mutableIntHashSet.clear();
+
+    /* then */
+    assertThat(mutableIntHashSet.isEmpty()).isTrue();
+    assertThat(mutableIntHashSet.isNotEmpty()).isFalse();
+    assertThat(mutableIntHashSet.contains(0)).isFalse();
+    assertThat(mutableIntHashSet.toArray()).isEmpty();
+  }
+}
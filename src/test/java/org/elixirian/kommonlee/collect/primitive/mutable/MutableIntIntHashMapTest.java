@@ -0,0 +1,201 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntIntFunction2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableIntIntHashMapTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  @Test
+  public final void testPutGetAndRemove()
+  {
+    /* given */
+    final MutableIntIntHashMap mutableIntIntHashMap = new MutableIntIntHashMap();
+
+    /* when */
+    final int previous = mutableIntIntHashMap.put(1, 10);
+    final int replaced = mutableIntIntHashMap.put(1, 100);
+    mutableIntIntHashMap.put(0, 7);
+
+    /* then */
+    assertThat(previous).isEqualTo((int) 0);
+    assertThat(replaced).isEqualTo((int) 10);
+    assertThat(mutableIntIntHashMap.size()).isEqualTo(2);
+    assertThat(mutableIntIntHashMap.get(1)).isEqualTo((int) 100);
+    assertThat(mutableIntIntHashMap.get(0)).isEqualTo((int) 7);
+    assertThat(mutableIntIntHashMap.get(2)).isEqualTo((int) 0);
+    assertThat(mutableIntIntHashMap.getOrDefault(2, -1)).isEqualTo((int) -1);
+    assertThat(mutableIntIntHashMap.containsKey(2)).isFalse();
+
+    /* when */
+    final int removedZero = mutableIntIntHashMap.remove(0);
+    final int removedMissing = mutableIntIntHashMap.remove(2);
+
+    /* then */
+    assertThat(removedZero).isEqualTo((int) 7);
+    assertThat(removedMissing).isEqualTo((int) 0);
+    assertThat(mutableIntIntHashMap.containsKey(0)).isFalse();
+    assertThat(mutableIntIntHashMap.size()).isEqualTo(1);
+  }
+
+  @Test
+  public final void testAddTo()
+  {
+    /* given */
+    final MutableIntIntHashMap mutableIntIntHashMap = new MutableIntIntHashMap(1);
+
+    /* when */
+    for (int i = 0; i < 1000; i++)
+    {
+      mutableIntIntHashMap.addTo(i % 10, 1);
+    }
+    final int actual = mutableIntIntHashMap.addTo(3, -100);
+
+    /* then */
+    assertThat(actual).isEqualTo((int) 0);
+    assertThat(mutableIntIntHashMap.size()).isEqualTo(10);
+    for (int i = 0; i < 10; i++)
+    {
+      assertThat(mutableIntIntHashMap.get(i)).isEqualTo((int) (3 == i ? 0 : 100));
+    }
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstHashMap()
+  {
+    /* given */
+    final Random random = new Random(32L);
+    final MutableIntIntHashMap mutableIntIntHashMap = new MutableIntIntHashMap(1);
+    final Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+
+    /* when */
+    /* then */
+    for (int i = 0; i < 20000; i++)
+    {
+      final int key = (int) (random.nextInt(200) - 100) * 1024;
+      final Integer boxedKey = Integer.valueOf(key);
+      final int operation = random.nextInt(3);
+      if (0 == operation)
+      {
+        final Integer removed = expected.remove(boxedKey);
+        assertThat(mutableIntIntHashMap.remove(key)).isEqualTo(null == removed ? 0 : removed.intValue());
+      }
+      else if (1 == operation)
+      {
+        final Integer previous = expected.put(boxedKey, Integer.valueOf(i));
+        assertThat(mutableIntIntHashMap.put(key, i)).isEqualTo(null == previous ? 0 : previous.intValue());
+      }
+      else
+      {
+        final Integer previous = expected.get(boxedKey);
+        final int sum = (null == previous ? 0 : previous.intValue()) + i;
+        expected.put(boxedKey, Integer.valueOf(sum));
+        assertThat(mutableIntIntHashMap.addTo(key, i)).isEqualTo(sum);
+      }
+      assertThat(mutableIntIntHashMap.size()).isEqualTo(expected.size());
+    }
+    final Map<Integer, Integer> actual = new HashMap<Integer, Integer>();
+    mutableIntIntHashMap.forEach(new VoidIntIntFunction2() {
+      @Override
+      public void apply(final int input1, final int input2)
+      {
+        actual.put(Integer.valueOf(input1), Integer.valueOf(input2));
+      }
+    });
+    assertThat(actual).isEqualTo(expected);
+    assertThat(mutableIntIntHashMap.hashCode()).isEqualTo(expected.hashCode());
+    final int[] keys = mutableIntIntHashMap.keys();
+    final int[] values = mutableIntIntHashMap.values();
+    assertThat(keys.length).isEqualTo(expected.size());
+    for (int i = 0; i < keys.length; i++)
+    {
+      assertThat(expected.get(Integer.valueOf(keys[i]))).isEqualTo(Integer.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testGrowTrimAndEnsureCapacity()
+  {
+    /* given */
+    final MutableIntIntHashMap mutableIntIntHashMap = new MutableIntIntHashMap();
+    final int capacity = mutableIntIntHashMap.getCapacity();
+
+    /* when */
+    for (int i = 1; i <= 1000; i++)
+    {
+      mutableIntIntHashMap.put(i, -i);
+    }
+    final int grownCapacity = mutableIntIntHashMap.getCapacity();
+    for (int i = 11; i <= 1000; i++)
+    {
+      mutableIntIntHashMap.remove(i);
+    }
+    mutableIntIntHashMap.trim();
+    final int trimmedCapacity = mutableIntIntHashMap.getCapacity();
+    mutableIntIntHashMap.ensureCapacity(5000);
+
+    /* then */
+    assertThat(grownCapacity).isGreaterThan(capacity);
+    assertThat(trimmedCapacity).isLessThan(grownCapacity);
+    assertThat(mutableIntIntHashMap.getCapacity()).isGreaterThan(5000);
+    assertThat(mutableIntIntHashMap.size()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++)
+    {
+      assertThat(mutableIntIntHashMap.get(i)).isEqualTo((int) -i);
+    }
+  }
+
+  @Test
+  public final void testEqualsToStringAndClear()
+  {
+    /* given */
+    final MutableIntIntHashMap mutableIntIntHashMap1 = new MutableIntIntHashMap();
+    mutableIntIntHashMap1.put(0, 1);
+    mutableIntIntHashMap1.put(1, 2);
+    final MutableIntIntHashMap mutableIntIntHashMap2 = new MutableIntIntHashMap(100);
+    mutableIntIntHashMap2.addTo(1, 2);
+    mutableIntIntHashMap2.addTo(0, 1);
+
+    /* when */
+    /* then */
+    assertThat(mutableIntIntHashMap1).isEqualTo(mutableIntIntHashMap2);
+    assertThat(mutableIntIntHashMap1.hashCode()).isEqualTo(mutableIntIntHashMap2.hashCode());
+    assertThat(mutableIntIntHashMap1.toString()).isEqualTo("{0=1, 1=2}");
+
+    /* when */
+    mutableIntIntHashMap2.clear();
+
+    /* then */
+    assertThat(mutableIntIntHashMap2.isEmpty()).isTrue();
+    assertThat(mutableIntIntHashMap1).isNotEqualTo(mutableIntIntHashMap2);
+  }
+}
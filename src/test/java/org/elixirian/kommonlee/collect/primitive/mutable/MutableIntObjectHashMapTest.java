@@ -0,0 +1,188 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.elixirian.kommonlee.type.functional.primitive.VoidIntObjectFunction2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableIntObjectHashMapTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  @Test
+  public final void testPutGetAndRemove()
+  {
+    /* given */
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap = new MutableIntObjectHashMap<String>();
+
+    /* when */
+    final String previous = mutableIntObjectHashMap.put(1, "one");
+    final String replaced = mutableIntObjectHashMap.put(1, "ONE");
+    final String previousZero = mutableIntObjectHashMap.put(0, "zero");
+    mutableIntObjectHashMap.put(-1, null);
+
+    /* then */
+    assertThat(previous).isNull();
+    assertThat(replaced).isEqualTo("one");
+    assertThat(previousZero).isNull();
+    assertThat(mutableIntObjectHashMap.size()).isEqualTo(3);
+    assertThat(mutableIntObjectHashMap.get(1)).isEqualTo("ONE");
+    assertThat(mutableIntObjectHashMap.get(0)).isEqualTo("zero");
+    assertThat(mutableIntObjectHashMap.get(-1)).isNull();
+    assertThat(mutableIntObjectHashMap.containsKey(-1)).isTrue();
+    assertThat(mutableIntObjectHashMap.containsKey(2)).isFalse();
+    assertThat(mutableIntObjectHashMap.getOrDefault(2, "default")).isEqualTo("default");
+    assertThat(mutableIntObjectHashMap.getOrDefault(-1, "default")).isNull();
+
+    /* when */
+    final String removedZero = mutableIntObjectHashMap.remove(0);
+    final String removedOne = mutableIntObjectHashMap.remove(1);
+    final String removedMissing = mutableIntObjectHashMap.remove(2);
+
+    /* then */
+    assertThat(removedZero).isEqualTo("zero");
+    assertThat(removedOne).isEqualTo("ONE");
+    assertThat(removedMissing).isNull();
+    assertThat(mutableIntObjectHashMap.containsKey(0)).isFalse();
+    assertThat(mutableIntObjectHashMap.size()).isEqualTo(1);
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstHashMap()
+  {
+    /* given */
+    final Random random = new Random(32L);
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap = new MutableIntObjectHashMap<String>(1);
+    final Map<Integer, String> expected = new HashMap<Integer, String>();
+
+    /* when */
+    /* then */
+    for (int i = 0; i < 20000; i++)
+    {
+      final int key = (int) (random.nextInt(200) - 100) * 1024;
+      if (random.nextInt(3) == 0)
+      {
+        assertThat(mutableIntObjectHashMap.remove(key)).isEqualTo(expected.remove(Integer.valueOf(key)));
+      }
+      else
+      {
+        final String value = String.valueOf(i);
+        assertThat(mutableIntObjectHashMap.put(key, value)).isEqualTo(expected.put(Integer.valueOf(key), value));
+      }
+      assertThat(mutableIntObjectHashMap.size()).isEqualTo(expected.size());
+    }
+    for (int i = -100; i < 100; i++)
+    {
+      final int key = (int) i * 1024;
+      assertThat(mutableIntObjectHashMap.get(key)).isEqualTo(expected.get(Integer.valueOf(key)));
+    }
+    final Map<Integer, String> actual = new HashMap<Integer, String>();
+    mutableIntObjectHashMap.forEach(new VoidIntObjectFunction2<String>() {
+      @Override
+      public void apply(final int input1, final String input2)
+      {
+        actual.put(Integer.valueOf(input1), input2);
+      }
+    });
+    assertThat(actual).isEqualTo(expected);
+    assertThat(mutableIntObjectHashMap.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(mutableIntObjectHashMap.keys()).hasSize(expected.size());
+  }
+
+  @Test
+  public final void testGrowTrimAndEnsureCapacity()
+  {
+    /* given */
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap = new MutableIntObjectHashMap<String>();
+    final int capacity = mutableIntObjectHashMap.getCapacity();
+
+    /* when */
+    for (int i = 1; i <= 1000; i++)
+    {
+      mutableIntObjectHashMap.put(i, String.valueOf(i));
+    }
+    final int grownCapacity = mutableIntObjectHashMap.getCapacity();
+    for (int i = 11; i <= 1000; i++)
+    {
+      mutableIntObjectHashMap.remove(i);
+    }
+    mutableIntObjectHashMap.trim();
+    final int trimmedCapacity = mutableIntObjectHashMap.getCapacity();
+    mutableIntObjectHashMap.ensureCapacity(5000);
+
+    /* then */
+    assertThat(grownCapacity).isGreaterThan(capacity);
+    assertThat(trimmedCapacity).isLessThan(grownCapacity);
+    assertThat(mutableIntObjectHashMap.getCapacity()).isGreaterThan(5000);
+    assertThat(mutableIntObjectHashMap.size()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++)
+    {
+      assertThat(mutableIntObjectHashMap.get(i)).isEqualTo(String.valueOf(i));
+    }
+  }
+
+  @Test
+  public final void testEqualsAndToString()
+  {
+    /* given */
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap1 = new MutableIntObjectHashMap<String>();
+    mutableIntObjectHashMap1.put(0, "zero");
+    mutableIntObjectHashMap1.put(1, "one");
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap2 = new MutableIntObjectHashMap<String>(100);
+    mutableIntObjectHashMap2.put(1, "one");
+    mutableIntObjectHashMap2.put(0, "zero");
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap3 = new MutableIntObjectHashMap<String>();
+    mutableIntObjectHashMap3.put(0, "zero");
+    mutableIntObjectHashMap3.put(1, "ONE");
+
+    /* when */
+    /* then */
+    assertThat(mutableIntObjectHashMap1).isEqualTo(mutableIntObjectHashMap2);
+    assertThat(mutableIntObjectHashMap1.hashCode()).isEqualTo(mutableIntObjectHashMap2.hashCode());
+    assertThat(mutableIntObjectHashMap1).isNotEqualTo(mutableIntObjectHashMap3);
+    assertThat(mutableIntObjectHashMap1.toString()).isEqualTo("{0=zero, 1=one}");
+  }
+
+  @Test
+  public final void testClear()
+  {
+    /* given */
+    final MutableIntObjectHashMap<String> mutableIntObjectHashMap = new MutableIntObjectHashMap<String>();
+    mutableIntObjectHashMap.put(0, "zero");
+    mutableIntObjectHashMap.put(1, "one");
+
+    /* when */
+    mutableIntObjectHashMap.clear();
+
+    /* then */
+    assertThat(mutableIntObjectHashMap.isEmpty()).isTrue();
+    assertThat(mutableIntObjectHashMap.containsKey(0)).isFalse();
+    assertThat(mutableIntObjectHashMap.get(1)).isNull();
+  }
+}
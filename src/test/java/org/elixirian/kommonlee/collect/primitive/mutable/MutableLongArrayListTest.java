@@ -0,0 +1,379 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.LongCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.LongToLongFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableLongArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static long[] getValues()
+  {
+    return new long[] { Long.MIN_VALUE, -10000000000L, -1L, 0L, 1L, 5L, 10000000000L, Long.MAX_VALUE };
+  }
+
+  private static boolean same(final long value1, final long value2)
+  {
+    return Long.valueOf(value1)
+        .equals(Long.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final long[] values, final long value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static long next(final long input)
+  {
+    return input + 1L;
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList();
+
+    /* when */
+    for (final long value : values)
+    {
+      assertThat(mutableLongList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableLongList.length()).isEqualTo(values.length);
+    assertThat(mutableLongList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableLongList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableLongList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(1, 1);
+
+    /* when */
+    mutableLongList.addAll(values);
+    mutableLongList.addAll(new MutableLongArrayList(values));
+
+    /* then */
+    final long[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableLongList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+    mutableLongList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final long value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableLongList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableLongList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableLongList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableLongList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableLongList.contains(value)).isTrue();
+    }
+    assertThat(mutableLongList.containsAll(values)).isTrue();
+    assertThat(mutableLongList.containsAll(new MutableLongArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final long[] values = getValues();
+    final long target = values[1];
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+    int expectedHowMany = 0;
+    for (final long value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final LongCondition1 condition = new LongCondition1() {
+      @Override
+      public boolean isMet(final long input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableLongList actual = mutableLongList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableLongList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableLongList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final long[] values = getValues();
+    final long[] expected = new long[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+    final LongToLongFunction1 function = new LongToLongFunction1() {
+      @Override
+      public long apply(final long input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableLongList actual = mutableLongList.mapToLong(function);
+    final MutableLongList actualSelectively = mutableLongList.mapToLongSelectively(new LongCondition1() {
+      @Override
+      public boolean isMet(final long input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableLongList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableLongList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+    final MutableLongList copied = new MutableLongArrayList();
+    final MutableLongList firstThree = new MutableLongArrayList();
+
+    /* when */
+    mutableLongList.forEach(new VoidLongFunction1() {
+      @Override
+      public void apply(final long input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableLongList.breakableForEach(new BreakableLongFunction1() {
+      @Override
+      public BreakOrContinue apply(final long input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+
+    /* when */
+    final long removed = mutableLongList.removeAt(0);
+    final boolean removedLast = mutableLongList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableLongList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableLongList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+
+    /* when */
+    final MutableLongList actual = mutableLongList.subList(2, 5);
+    final Long[] boxed = mutableLongList.toBoxedArray();
+    final List<Long> converted = mutableLongList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Long.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Long.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Long> iterator = mutableLongList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Long.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableLongList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableLongList mutableLongList = new MutableLongArrayList(getValues());
+    final Iterator<Long> iterator = mutableLongList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableLongList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList1 = new MutableLongArrayList(values);
+    final MutableLongList mutableLongList2 = new MutableLongArrayList();
+    for (final long value : values)
+    {
+      mutableLongList2.add(value);
+    }
+    final MutableLongList mutableLongList3 = new MutableLongArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableLongList1).isEqualTo(mutableLongList2);
+    assertThat(mutableLongList1.hashCode()).isEqualTo(mutableLongList2.hashCode());
+    assertThat(mutableLongList1).isNotEqualTo(mutableLongList3);
+    assertThat(mutableLongList2.toString()).isEqualTo(mutableLongList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final long[] values = getValues();
+    final MutableLongList mutableLongList = new MutableLongArrayList(values);
+    mutableLongList.add(values[0]);
+
+    /* when */
+    mutableLongList.trim();
+    final int lengthAfterTrim = mutableLongList.length();
+    mutableLongList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableLongList.isEmpty()).isTrue();
+    assertThat(mutableLongList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableLongArrayList geometric = new MutableLongArrayList(8, 16, 2.0F);
+    final MutableLongArrayList linear = new MutableLongArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((long) i);
+      linear.add((long) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableLongArrayList().getGrowthFactor()).isEqualTo(MutableLongArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
@@ -0,0 +1,221 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableLongHashSetTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static Set<Long> toSet(final long[] elements)
+  {
+    final Set<Long> set = new HashSet<Long>();
+    for (final long element : elements)
+    {
+      set.add(Long.valueOf(element));
+    }
+    return set;
+  }
+
+  @Test
+  public final void testAddContainsAndRemove()
+  {
+    /* given */
+    final MutableLongHashSet mutableLongHashSet = new MutableLongHashSet();
+
+    /* when */
+    final boolean added = mutableLongHashSet.add(10);
+    final boolean addedAgain = mutableLongHashSet.add(10);
+    final boolean addedZero = mutableLongHashSet.add(0);
+    mutableLongHashSet.add(-1);
+
+    /* then */
+    assertThat(added).isTrue();
+    assertThat(addedAgain).isFalse();
+    assertThat(addedZero).isTrue();
+    assertThat(mutableLongHashSet.size()).isEqualTo(3);
+    assertThat(mutableLongHashSet.contains(0)).isTrue();
+    assertThat(mutableLongHashSet.contains(10)).isTrue();
+    assertThat(mutableLongHashSet.contains(-1)).isTrue();
+    assertThat(mutableLongHashSet.contains(1)).isFalse();
+
+    /* when */
+    final boolean removedZero = mutableLongHashSet.remove(0);
+    final boolean removedZeroAgain = mutableLongHashSet.remove(0);
+    final boolean removedMissing = mutableLongHashSet.remove(11);
+
+    /* then */
+    assertThat(removedZero).isTrue();
+    assertThat(removedZeroAgain).isFalse();
+    assertThat(removedMissing).isFalse();
+    assertThat(mutableLongHashSet.contains(0)).isFalse();
+    assertThat(mutableLongHashSet.size()).isEqualTo(2);
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstHashSet()
+  {
+    /* given */
+    final Random random = new Random(32L);
+    final MutableLongHashSet mutableLongHashSet = new MutableLongHashSet(1);
+    final Set<Long> expected = new HashSet<Long>();
+
+    /* when */
+    /* then */
+    for (int i = 0; i < 20000; i++)
+    {
+      /* a small range of keys to have a lot of collisions and removals */
+      final long element = (long) (random.nextInt(200) - 100) * (1L << 40);
+      if (random.nextInt(3) == 0)
+      {
+        assertThat(mutableLongHashSet.remove(element)).isEqualTo(expected.remove(Long.valueOf(element)));
+      }
+      else
+      {
+        assertThat(mutableLongHashSet.add(element)).isEqualTo(expected.add(Long.valueOf(element)));
+      }
+      assertThat(mutableLongHashSet.size()).isEqualTo(expected.size());
+    }
+    for (int i = -100; i < 100; i++)
+    {
+      final long element = (long) i * (1L << 40);
+      assertThat(mutableLongHashSet.contains(element)).isEqualTo(expected.contains(Long.valueOf(element)));
+    }
+    assertThat(toSet(mutableLongHashSet.toArray())).isEqualTo(expected);
+    assertThat(mutableLongHashSet.convertTo()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testGrowTrimAndEnsureCapacity()
+  {
+    /* given */
+    final MutableLongHashSet mutableLongHashSet = new MutableLongHashSet();
+    final int capacity = mutableLongHashSet.getCapacity();
+
+    /* when */
+    for (int i = 1; i <= 1000; i++)
+    {
+      mutableLongHashSet.add(i);
+    }
+    final int grownCapacity = mutableLongHashSet.getCapacity();
+    for (int i = 11; i <= 1000; i++)
+    {
+      mutableLongHashSet.remove(i);
+    }
+    mutableLongHashSet.trim();
+    final int trimmedCapacity = mutableLongHashSet.getCapacity();
+    mutableLongHashSet.ensureCapacity(5000);
+
+    /* then */
+    assertThat(grownCapacity).isGreaterThan(capacity);
+    assertThat(trimmedCapacity).isLessThan(grownCapacity);
+    assertThat(mutableLongHashSet.getCapacity()).isGreaterThan(5000);
+    assertThat(mutableLongHashSet.size()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++)
+    {
+      assertThat(mutableLongHashSet.contains(i)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testForEachAndIterator()
+  {
+    /* given */
+    final long[] elements = { 0, 1, 2, 3, -5, 1000 };
+    final MutableLongHashSet mutableLongHashSet = new MutableLongHashSet(elements);
+    final Set<Long> visited = new HashSet<Long>();
+    final Set<Long> iterated = new HashSet<Long>();
+
+    /* when */
+    mutableLongHashSet.forEach(new VoidLongFunction1() {
+      @Override
+      public void apply(final long input)
+      {
+        visited.add(Long.valueOf(input));
+      }
+    });
+    for (final Iterator<Long> iterator = mutableLongHashSet.iterator(); iterator.hasNext();)
+    {
+      iterated.add(iterator.next());
+    }
+
+    /* then */
+    assertThat(visited).isEqualTo(toSet(elements));
+    assertThat(iterated).isEqualTo(toSet(elements));
+    assertThat(Arrays.asList(mutableLongHashSet.toBoxedArray())).hasSize(elements.length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public final void testIteratorRemove()
+  {
+    final Iterator<Long> iterator = new MutableLongHashSet(new long[] { 1, 2 }).iterator();
+    iterator.next();
+    iterator.remove();
+  }
+
+  @Test
+  public final void testEqualsHashCodeAndToString()
+  {
+    /* given */
+    final MutableLongHashSet mutableLongHashSet1 = new MutableLongHashSet(new long[] { 0, 1, 2, 3 });
+    final MutableLongHashSet mutableLongHashSet2 = new MutableLongHashSet(1);
+    mutableLongHashSet2.addAll(new long[] { 3, 2, 1, 0 });
+    final MutableLongHashSet mutableLongHashSet3 = new MutableLongHashSet(new long[] { 1, 2, 3 });
+
+    /* when */
+    /* then */
+    assertThat(mutableLongHashSet1).isEqualTo(mutableLongHashSet2);
+    assertThat(mutableLongHashSet1.hashCode()).isEqualTo(mutableLongHashSet2.hashCode());
+    assertThat(mutableLongHashSet1.hashCode()).isEqualTo(toSet(mutableLongHashSet1.toArray()).hashCode());
+    assertThat(mutableLongHashSet1).isNotEqualTo(mutableLongHashSet3);
+    assertThat(mutableLongHashSet3.toString()).startsWith("[")
+        .endsWith("]")
+        .contains("1", "2", "3");
+  }
+
+  @Test
+  public final void testClear()
+  {
+    /* given */
+    final MutableLongHashSet mutableLongHashSet = new MutableLongHashSet(new long[] { 0, 1, 2, 3 });
+
+    /* when */
+    mutableLongHashSet.clear();
+
+    /* then */
+    assertThat(mutableLongHashSet.isEmpty()).isTrue();
+    assertThat(mutableLongHashSet.isNotEmpty()).isFalse();
+    assertThat(mutableLongHashSet.contains(0)).isFalse();
+    assertThat(mutableLongHashSet.toArray()).isEmpty();
+  }
+}
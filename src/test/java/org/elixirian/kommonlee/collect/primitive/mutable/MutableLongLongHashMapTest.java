@@ -0,0 +1,201 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongLongFunction2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableLongLongHashMapTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  @Test
+  public final void testPutGetAndRemove()
+  {
+    /* given */
+    final MutableLongLongHashMap mutableLongLongHashMap = new MutableLongLongHashMap();
+
+    /* when */
+    final long previous = mutableLongLongHashMap.put(1, 10);
+    final long replaced = mutableLongLongHashMap.put(1, 100);
+    mutableLongLongHashMap.put(0, 7);
+
+    /* then */
+    assertThat(previous).isEqualTo((long) 0);
+    assertThat(replaced).isEqualTo((long) 10);
+    assertThat(mutableLongLongHashMap.size()).isEqualTo(2);
+    assertThat(mutableLongLongHashMap.get(1)).isEqualTo((long) 100);
+    assertThat(mutableLongLongHashMap.get(0)).isEqualTo((long) 7);
+    assertThat(mutableLongLongHashMap.get(2)).isEqualTo((long) 0);
+    assertThat(mutableLongLongHashMap.getOrDefault(2, -1)).isEqualTo((long) -1);
+    assertThat(mutableLongLongHashMap.containsKey(2)).isFalse();
+
+    /* when */
+    final long removedZero = mutableLongLongHashMap.remove(0);
+    final long removedMissing = mutableLongLongHashMap.remove(2);
+
+    /* then */
+    assertThat(removedZero).isEqualTo((long) 7);
+    assertThat(removedMissing).isEqualTo((long) 0);
+    assertThat(mutableLongLongHashMap.containsKey(0)).isFalse();
+    assertThat(mutableLongLongHashMap.size()).isEqualTo(1);
+  }
+
+  @Test
+  public final void testAddTo()
+  {
+    /* given */
+    final MutableLongLongHashMap mutableLongLongHashMap = new MutableLongLongHashMap(1);
+
+    /* when */
+    for (int i = 0; i < 1000; i++)
+    {
+      mutableLongLongHashMap.addTo(i % 10, 1);
+    }
+    final long actual = mutableLongLongHashMap.addTo(3, -100);
+
+    /* then */
+    assertThat(actual).isEqualTo((long) 0);
+    assertThat(mutableLongLongHashMap.size()).isEqualTo(10);
+    for (int i = 0; i < 10; i++)
+    {
+      assertThat(mutableLongLongHashMap.get(i)).isEqualTo((long) (3 == i ? 0 : 100));
+    }
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstHashMap()
+  {
+    /* given */
+    final Random random = new Random(32L);
+    final MutableLongLongHashMap mutableLongLongHashMap = new MutableLongLongHashMap(1);
+    final Map<Long, Long> expected = new HashMap<Long, Long>();
+
+    /* when */
+    /* then */
+    for (int i = 0; i < 20000; i++)
+    {
+      final long key = (long) (random.nextInt(200) - 100) * (1L << 40);
+      final Long boxedKey = Long.valueOf(key);
+      final int operation = random.nextInt(3);
+      if (0 == operation)
+      {
+        final Long removed = expected.remove(boxedKey);
+        assertThat(mutableLongLongHashMap.remove(key)).isEqualTo(null == removed ? 0 : removed.longValue());
+      }
+      else if (1 == operation)
+      {
+        final Long previous = expected.put(boxedKey, Long.valueOf(i));
+        assertThat(mutableLongLongHashMap.put(key, i)).isEqualTo(null == previous ? 0 : previous.longValue());
+      }
+      else
+      {
+        final Long previous = expected.get(boxedKey);
+        final long sum = (null == previous ? 0 : previous.longValue()) + i;
+        expected.put(boxedKey, Long.valueOf(sum));
+        assertThat(mutableLongLongHashMap.addTo(key, i)).isEqualTo(sum);
+      }
+      assertThat(mutableLongLongHashMap.size()).isEqualTo(expected.size());
+    }
+    final Map<Long, Long> actual = new HashMap<Long, Long>();
+    mutableLongLongHashMap.forEach(new VoidLongLongFunction2() {
+      @Override
+      public void apply(final long input1, final long input2)
+      {
+        actual.put(Long.valueOf(input1), Long.valueOf(input2));
+      }
+    });
+    assertThat(actual).isEqualTo(expected);
+    assertThat(mutableLongLongHashMap.hashCode()).isEqualTo(expected.hashCode());
+    final long[] keys = mutableLongLongHashMap.keys();
+    final long[] values = mutableLongLongHashMap.values();
+    assertThat(keys.length).isEqualTo(expected.size());
+    for (int i = 0; i < keys.length; i++)
+    {
+      assertThat(expected.get(Long.valueOf(keys[i]))).isEqualTo(Long.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testGrowTrimAndEnsureCapacity()
+  {
+    /* given */
+    final MutableLongLongHashMap mutableLongLongHashMap = new MutableLongLongHashMap();
+    final int capacity = mutableLongLongHashMap.getCapacity();
+
+    /* when */
+    for (int i = 1; i <= 1000; i++)
+    {
+      mutableLongLongHashMap.put(i, -i);
+    }
+    final int grownCapacity = mutableLongLongHashMap.getCapacity();
+    for (int i = 11; i <= 1000; i++)
+    {
+      mutableLongLongHashMap.remove(i);
+    }
+    mutableLongLongHashMap.trim();
+    final int trimmedCapacity = mutableLongLongHashMap.getCapacity();
+    mutableLongLongHashMap.ensureCapacity(5000);
+
+    /* then */
+    assertThat(grownCapacity).isGreaterThan(capacity);
+    assertThat(trimmedCapacity).isLessThan(grownCapacity);
+    assertThat(mutableLongLongHashMap.getCapacity()).isGreaterThan(5000);
+    assertThat(mutableLongLongHashMap.size()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++)
+    {
+      assertThat(mutableLongLongHashMap.get(i)).isEqualTo((long) -i);
+    }
+  }
+
+  @Test
+  public final void testEqualsToStringAndClear()
+  {
+    /* given */
+    final MutableLongLongHashMap mutableLongLongHashMap1 = new MutableLongLongHashMap();
+    mutableLongLongHashMap1.put(0, 1);
+    mutableLongLongHashMap1.put(1, 2);
+    final MutableLongLongHashMap mutableLongLongHashMap2 = new MutableLongLongHashMap(100);
+    mutableLongLongHashMap2.addTo(1, 2);
+    mutableLongLongHashMap2.addTo(0, 1);
+
+    /* when */
+    /* then */
+    assertThat(mutableLongLongHashMap1).isEqualTo(mutableLongLongHashMap2);
+    assertThat(mutableLongLongHashMap1.hashCode()).isEqualTo(mutableLongLongHashMap2.hashCode());
+    assertThat(mutableLongLongHashMap1.toString()).isEqualTo("{0=1, 1=2}");
+
+    /* when */
+    mutableLongLongHashMap2.clear();
+
+    /* then */
+    assertThat(mutableLongLongHashMap2.isEmpty()).isTrue();
+    assertThat(mutableLongLongHashMap1).isNotEqualTo(mutableLongLongHashMap2);
+  }
+}
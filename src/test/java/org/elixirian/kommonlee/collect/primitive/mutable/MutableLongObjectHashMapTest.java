@@ -0,0 +1,188 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.elixirian.kommonlee.type.functional.primitive.VoidLongObjectFunction2;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableLongObjectHashMapTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  @Test
+  public final void testPutGetAndRemove()
+  {
+    /* given */
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap = new MutableLongObjectHashMap<String>();
+
+    /* when */
+    final String previous = mutableLongObjectHashMap.put(1, "one");
+    final String replaced = mutableLongObjectHashMap.put(1, "ONE");
+    final String previousZero = mutableLongObjectHashMap.put(0, "zero");
+    mutableLongObjectHashMap.put(-1, null);
+
+    /* then */
+    assertThat(previous).isNull();
+    assertThat(replaced).isEqualTo("one");
+    assertThat(previousZero).isNull();
+    assertThat(mutableLongObjectHashMap.size()).isEqualTo(3);
+    assertThat(mutableLongObjectHashMap.get(1)).isEqualTo("ONE");
+    assertThat(mutableLongObjectHashMap.get(0)).isEqualTo("zero");
+    assertThat(mutableLongObjectHashMap.get(-1)).isNull();
+    assertThat(mutableLongObjectHashMap.containsKey(-1)).isTrue();
+    assertThat(mutableLongObjectHashMap.containsKey(2)).isFalse();
+    assertThat(mutableLongObjectHashMap.getOrDefault(2, "default")).isEqualTo("default");
+    assertThat(mutableLongObjectHashMap.getOrDefault(-1, "default")).isNull();
+
+    /* when */
+    final String removedZero = mutableLongObjectHashMap.remove(0);
+    final String removedOne = mutableLongObjectHashMap.remove(1);
+    final String removedMissing = mutableLongObjectHashMap.remove(2);
+
+    /* then */
+    assertThat(removedZero).isEqualTo("zero");
+    assertThat(removedOne).isEqualTo("ONE");
+    assertThat(removedMissing).isNull();
+    assertThat(mutableLongObjectHashMap.containsKey(0)).isFalse();
+    assertThat(mutableLongObjectHashMap.size()).isEqualTo(1);
+  }
+
+  @Test
+  public final void testRandomOperationsAgainstHashMap()
+  {
+    /* given */
+    final Random random = new Random(32L);
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap = new MutableLongObjectHashMap<String>(1);
+    final Map<Long, String> expected = new HashMap<Long, String>();
+
+    /* when */
+    /* then */
+    for (int i = 0; i < 20000; i++)
+    {
+      final long key = (long) (random.nextInt(200) - 100) * (1L << 40);
+      if (random.nextInt(3) == 0)
+      {
+        assertThat(mutableLongObjectHashMap.remove(key)).isEqualTo(expected.remove(Long.valueOf(key)));
+      }
+      else
+      {
+        final String value = String.valueOf(i);
+        assertThat(mutableLongObjectHashMap.put(key, value)).isEqualTo(expected.put(Long.valueOf(key), value));
+      }
+      assertThat(mutableLongObjectHashMap.size()).isEqualTo(expected.size());
+    }
+    for (int i = -100; i < 100; i++)
+    {
+      final long key = (long) i * (1L << 40);
+      assertThat(mutableLongObjectHashMap.get(key)).isEqualTo(expected.get(Long.valueOf(key)));
+    }
+    final Map<Long, String> actual = new HashMap<Long, String>();
+    mutableLongObjectHashMap.forEach(new VoidLongObjectFunction2<String>() {
+      @Override
+      public void apply(final long input1, final String input2)
+      {
+        actual.put(Long.valueOf(input1), input2);
+      }
+    });
+    assertThat(actual).isEqualTo(expected);
+    assertThat(mutableLongObjectHashMap.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(mutableLongObjectHashMap.keys()).hasSize(expected.size());
+  }
+
+  @Test
+  public final void testGrowTrimAndEnsureCapacity()
+  {
+    /* given */
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap = new MutableLongObjectHashMap<String>();
+    final int capacity = mutableLongObjectHashMap.getCapacity();
+
+    /* when */
+    for (int i = 1; i <= 1000; i++)
+    {
+      mutableLongObjectHashMap.put(i, String.valueOf(i));
+    }
+    final int grownCapacity = mutableLongObjectHashMap.getCapacity();
+    for (int i = 11; i <= 1000; i++)
+    {
+      mutableLongObjectHashMap.remove(i);
+    }
+    mutableLongObjectHashMap.trim();
+    final int trimmedCapacity = mutableLongObjectHashMap.getCapacity();
+    mutableLongObjectHashMap.ensureCapacity(5000);
+
+    /* then */
+    assertThat(grownCapacity).isGreaterThan(capacity);
+    assertThat(trimmedCapacity).isLessThan(grownCapacity);
+    assertThat(mutableLongObjectHashMap.getCapacity()).isGreaterThan(5000);
+    assertThat(mutableLongObjectHashMap.size()).isEqualTo(10);
+    for (int i = 1; i <= 10; i++)
+    {
+      assertThat(mutableLongObjectHashMap.get(i)).isEqualTo(String.valueOf(i));
+    }
+  }
+
+  @Test
+  public final void testEqualsAndToString()
+  {
+    /* given */
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap1 = new MutableLongObjectHashMap<String>();
+    mutableLongObjectHashMap1.put(0, "zero");
+    mutableLongObjectHashMap1.put(1, "one");
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap2 = new MutableLongObjectHashMap<String>(100);
+    mutableLongObjectHashMap2.put(1, "one");
+    mutableLongObjectHashMap2.put(0, "zero");
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap3 = new MutableLongObjectHashMap<String>();
+    mutableLongObjectHashMap3.put(0, "zero");
+    mutableLongObjectHashMap3.put(1, "ONE");
+
+    /* when */
+    /* then */
+    assertThat(mutableLongObjectHashMap1).isEqualTo(mutableLongObjectHashMap2);
+    assertThat(mutableLongObjectHashMap1.hashCode()).isEqualTo(mutableLongObjectHashMap2.hashCode());
+    assertThat(mutableLongObjectHashMap1).isNotEqualTo(mutableLongObjectHashMap3);
+    assertThat(mutableLongObjectHashMap1.toString()).isEqualTo("{0=zero, 1=one}");
+  }
+
+  @Test
+  public final void testClear()
+  {
+    /* given */
+    final MutableLongObjectHashMap<String> mutableLongObjectHashMap = new MutableLongObjectHashMap<String>();
+    mutableLongObjectHashMap.put(0, "zero");
+    mutableLongObjectHashMap.put(1, "one");
+
+    /* when */
+    mutableLongObjectHashMap.clear();
+
+    /* then */
+    assertThat(mutableLongObjectHashMap.isEmpty()).isTrue();
+    assertThat(mutableLongObjectHashMap.containsKey(0)).isFalse();
+    assertThat(mutableLongObjectHashMap.get(1)).isNull();
+  }
+}
@@ -0,0 +1,379 @@
+package org.elixirian.kommonlee.collect.primitive.mutable;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.elixirian.kommonlee.type.functional.BreakOrContinue;
+import org.elixirian.kommonlee.type.functional.primitive.BreakableShortFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.ShortCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.ShortToShortFunction1;
+import org.elixirian.kommonlee.type.functional.primitive.VoidShortFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MutableShortArrayListTest
+{
+  @BeforeClass
+  public static void setUpBeforeClass()
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass()
+  {
+  }
+
+  @Before
+  public void setUp()
+  {
+  }
+
+  @After
+  public void tearDown()
+  {
+  }
+
+  private static short[] getValues()
+  {
+    return new short[] { Short.MIN_VALUE, -1000, -1, 0, 1, 5, 1000, Short.MAX_VALUE };
+  }
+
+  private static boolean same(final short value1, final short value2)
+  {
+    return Short.valueOf(value1)
+        .equals(Short.valueOf(value2));
+  }
+
+  private static int firstIndexOf(final short[] values, final short value)
+  {
+    for (int i = 0; i < values.length; i++)
+    {
+      if (same(values[i], value))
+      {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static short next(final short input)
+  {
+    return (short) (input + 1);
+  }
+
+  @Test
+  public final void testAddAndGet()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList();
+
+    /* when */
+    for (final short value : values)
+    {
+      assertThat(mutableShortList.add(value)).isTrue();
+    }
+
+    /* then */
+    assertThat(mutableShortList.length()).isEqualTo(values.length);
+    assertThat(mutableShortList.size()).isEqualTo(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(same(mutableShortList.get(i), values[i])).describedAs("index: " + i)
+          .isTrue();
+    }
+    assertThat(mutableShortList.toArray()).isEqualTo(values);
+  }
+
+  @Test
+  public final void testAddAll()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(1, 1);
+
+    /* when */
+    mutableShortList.addAll(values);
+    mutableShortList.addAll(new MutableShortArrayList(values));
+
+    /* then */
+    final short[] expected = Arrays.copyOf(values, values.length * 2);
+    System.arraycopy(values, 0, expected, values.length, values.length);
+    assertThat(mutableShortList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexOfAndLastIndexOf()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+    mutableShortList.addAll(values);
+
+    /* when */
+    /* then */
+    for (final short value : values)
+    {
+      final int expectedIndex = firstIndexOf(values, value);
+      assertThat(mutableShortList.indexOf(value)).isEqualTo(expectedIndex);
+      assertThat(mutableShortList.indexOf(value, values.length)).isEqualTo(values.length + expectedIndex);
+      assertThat(mutableShortList.lastIndexOf(value, values.length)).isGreaterThanOrEqualTo(expectedIndex)
+          .isLessThan(values.length);
+      assertThat(mutableShortList.lastIndexOf(value)).isGreaterThanOrEqualTo(values.length + expectedIndex);
+      assertThat(mutableShortList.contains(value)).isTrue();
+    }
+    assertThat(mutableShortList.containsAll(values)).isTrue();
+    assertThat(mutableShortList.containsAll(new MutableShortArrayList(values))).isTrue();
+  }
+
+  @Test
+  public final void testSelectAndHowMany()
+  {
+    /* given */
+    final short[] values = getValues();
+    final short target = values[1];
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+    int expectedHowMany = 0;
+    for (final short value : values)
+    {
+      if (same(target, value))
+      {
+        expectedHowMany++;
+      }
+    }
+    final ShortCondition1 condition = new ShortCondition1() {
+      @Override
+      public boolean isMet(final short input)
+      {
+        return same(target, input);
+      }
+    };
+
+    /* when */
+    final MutableShortList actual = mutableShortList.select(condition);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(expectedHowMany);
+    assertThat(mutableShortList.howMany(condition)).isEqualTo(expectedHowMany);
+    assertThat(mutableShortList.exists(condition)).isTrue();
+    for (int i = 0; i < actual.length(); i++)
+    {
+      assertThat(same(actual.get(i), target)).isTrue();
+    }
+  }
+
+  @Test
+  public final void testMapToByte()
+  {
+    /* given */
+    final short[] values = getValues();
+    final short[] expected = new short[values.length];
+    for (int i = 0; i < values.length; i++)
+    {
+      expected[i] = next(values[i]);
+    }
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+    final ShortToShortFunction1 function = new ShortToShortFunction1() {
+      @Override
+      public short apply(final short input)
+      {
+        return next(input);
+      }
+    };
+
+    /* when */
+    final MutableShortList actual = mutableShortList.mapToShort(function);
+    final MutableShortList actualSelectively = mutableShortList.mapToShortSelectively(new ShortCondition1() {
+      @Override
+      public boolean isMet(final short input)
+      {
+        return same(values[0], input);
+      }
+    }, function);
+    mutableShortList.forEach(function);
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(expected);
+    assertThat(actualSelectively.length()).isGreaterThanOrEqualTo(1);
+    assertThat(same(actualSelectively.get(0), next(values[0]))).isTrue();
+    assertThat(mutableShortList.toArray()).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testForEachAndBreakableForEach()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+    final MutableShortList copied = new MutableShortArrayList();
+    final MutableShortList firstThree = new MutableShortArrayList();
+
+    /* when */
+    mutableShortList.forEach(new VoidShortFunction1() {
+      @Override
+      public void apply(final short input)
+      {
+        copied.add(input);
+      }
+    });
+    mutableShortList.breakableForEach(new BreakableShortFunction1() {
+      @Override
+      public BreakOrContinue apply(final short input)
+      {
+        firstThree.add(input);
+        return 3 == firstThree.length() ? BreakOrContinue.BREAK : BreakOrContinue.CONTINUE;
+      }
+    });
+
+    /* then */
+    assertThat(copied.toArray()).isEqualTo(values);
+    assertThat(firstThree.toArray()).isEqualTo(Arrays.copyOf(values, 3));
+  }
+
+  @Test
+  public final void testRemoveAndRemoveAt()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+
+    /* when */
+    final short removed = mutableShortList.removeAt(0);
+    final boolean removedLast = mutableShortList.remove(values[values.length - 1]);
+
+    /* then */
+    assertThat(same(removed, values[0])).isTrue();
+    assertThat(removedLast).isTrue();
+    assertThat(mutableShortList.length()).isEqualTo(values.length - 2);
+    assertThat(mutableShortList.get(0)).isEqualTo(values[1]);
+  }
+
+  @Test
+  public final void testSubListAndToBoxedArray()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+
+    /* when */
+    final MutableShortList actual = mutableShortList.subList(2, 5);
+    final Short[] boxed = mutableShortList.toBoxedArray();
+    final List<Short> converted = mutableShortList.convertTo();
+
+    /* then */
+    assertThat(actual.toArray()).isEqualTo(Arrays.copyOfRange(values, 2, 5));
+    assertThat(boxed.length).isEqualTo(values.length);
+    assertThat(converted).hasSize(values.length);
+    for (int i = 0; i < values.length; i++)
+    {
+      assertThat(boxed[i]).isEqualTo(Short.valueOf(values[i]));
+      assertThat(converted.get(i)).isEqualTo(Short.valueOf(values[i]));
+    }
+  }
+
+  @Test
+  public final void testIterator()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+
+    /* when */
+    int count = 0;
+    for (final Iterator<Short> iterator = mutableShortList.iterator(); iterator.hasNext();)
+    {
+      assertThat(iterator.next()).isEqualTo(Short.valueOf(values[count++]));
+      iterator.remove();
+    }
+
+    /* then */
+    assertThat(count).isEqualTo(values.length);
+    assertThat(mutableShortList.isEmpty()).isTrue();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public final void testIteratorWithConcurrentModification()
+  {
+    /* given */
+    final MutableShortList mutableShortList = new MutableShortArrayList(getValues());
+    final Iterator<Short> iterator = mutableShortList.iterator();
+    iterator.next();
+
+    /* when */
+    mutableShortList.removeAt(0);
+    iterator.next();
+  }
+
+  @Test
+  public final void testEqualsAndHashCode()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList1 = new MutableShortArrayList(values);
+    final MutableShortList mutableShortList2 = new MutableShortArrayList();
+    for (final short value : values)
+    {
+      mutableShortList2.add(value);
+    }
+    final MutableShortList mutableShortList3 = new MutableShortArrayList(Arrays.copyOf(values, values.length - 1));
+
+    /* when */
+    /* then */
+    assertThat(mutableShortList1).isEqualTo(mutableShortList2);
+    assertThat(mutableShortList1.hashCode()).isEqualTo(mutableShortList2.hashCode());
+    assertThat(mutableShortList1).isNotEqualTo(mutableShortList3);
+    assertThat(mutableShortList2.toString()).isEqualTo(mutableShortList1.toString());
+  }
+
+  @Test
+  public final void testTrimAndClear()
+  {
+    /* given */
+    final short[] values = getValues();
+    final MutableShortList mutableShortList = new MutableShortArrayList(values);
+    mutableShortList.add(values[0]);
+
+    /* when */
+    mutableShortList.trim();
+    final int lengthAfterTrim = mutableShortList.length();
+    mutableShortList.clear();
+
+    /* then */
+    assertThat(lengthAfterTrim).isEqualTo(values.length + 1);
+    assertThat(mutableShortList.isEmpty()).isTrue();
+    assertThat(mutableShortList.isNotEmpty()).isFalse();
+  }
+
+  @Test
+  public final void testGrowthFactor()
+  {
+    /* given */
+    final int howMany = 100000;
+
+    /* when */
+    final MutableShortArrayList geometric = new MutableShortArrayList(8, 16, 2.0F);
+    final MutableShortArrayList linear = new MutableShortArrayList(8, 16, 1.0F);
+    for (int i = 0; i < howMany; i++)
+    {
+      geometric.add((short) i);
+      linear.add((short) i);
+    }
+
+    /* then */
+    assertThat(geometric.getGrowthFactor()).isEqualTo(2.0F);
+    assertThat(linear.getGrowthFactor()).isEqualTo(1.0F);
+    assertThat(new MutableShortArrayList().getGrowthFactor()).isEqualTo(MutableShortArrayList.DEFAULT_GROWTH_FACTOR);
+    assertThat(geometric.length()).isEqualTo(howMany);
+    assertThat(geometric).isEqualTo(linear);
+    /* 8 grows by increaseBy to 24 first (16 is more than 8 * (2 - 1)) then it is doubled until it is at least 100000. */
+    assertThat(geometric.getCapacity()).isEqualTo(24 * 8192);
+    assertThat((linear.getCapacity() - 8) % 16).isEqualTo(0);
+  }
+}
@@ -0,0 +1,316 @@
+package org.elixirian.kommonlee.collect.primitive.offheap;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.elixirian.kommonlee.collect.primitive.immutable.ImmutableByteArrayList;
+import org.elixirian.kommonlee.collect.primitive.mutable.MutableByteArrayList;
+import org.elixirian.kommonlee.type.functional.primitive.ByteCondition1;
+import org.elixirian.kommonlee.type.functional.primitive.ByteToByteFunction1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class OffHeapByteListTest
+{
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final ByteCondition1 IS_EVEN = new ByteCondition1() {
+    @Override
+    public boolean isMet(final byte input)
+    {
+      return 0 == input % 2;
+    }
+  };
+
+  private static final ByteToByteFunction1 PLUS_ONE = new ByteToByteFunction1() {
+    @Override
+    public byte apply(final byte input)
+    {
+      return (byte) (input + 1);
+    }
+  };
+
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  private static byte[] getValues()
+  {
+    return new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 3 };
+  }
+
+  @Test
+  public final void testCopyOfAndReadOperations()
+  {
+    /* given */
+    final byte[] values = getValues();
+
+    /* when */
+    final OffHeapByteList actual = OffHeapByteList.copyOf(values);
+
+    /* then */
+    assertThat(actual.length()).isEqualTo(values.length);
+    assertThat(actual.toArray()).isEqualTo(values);
+    assertThat(actual.get(2)).isEqualTo((byte) 3);
+    assertThat(actual.indexOf((byte) 3)).isEqualTo(2);
+    assertThat(actual.indexOf((byte) 3, 3)).isEqualTo(10);
+    assertThat(actual.lastIndexOf((byte) 3)).isEqualTo(10);
+    assertThat(actual.lastIndexOf((byte) 3, 10)).isEqualTo(2);
+    assertThat(actual.contains((byte) 10)).isTrue();
+    assertThat(actual.contains((byte) 11)).isFalse();
+    assertThat(actual.containsAll(new byte[] { 1, 10 })).isTrue();
+    assertThat(actual.howMany(IS_EVEN)).isEqualTo(5);
+    assertThat(actual.exists(IS_EVEN)).isTrue();
+    assertThat(actual).isEqualTo(ImmutableByteArrayList.listOf(values));
+    assertThat(actual.hashCode()).isEqualTo(ImmutableByteArrayList.listOf(values)
+        .hashCode());
+    assertThat(actual.hashCode()).isEqualTo(new MutableByteArrayList(values).hashCode());
+    assertThat(actual.toString()).isEqualTo(ImmutableByteArrayList.listOf(values)
+        .toString());
+    assertThat(OffHeapByteList.copyOf(ImmutableByteArrayList.listOf(values))).isEqualTo(actual);
+    assertThat(OffHeapByteList.copyOf(actual)).isEqualTo(actual);
+    actual.release();
+  }
+
+  @Test
+  public final void testSelectAndMap()
+  {
+    /* given */
+    final OffHeapByteList offHeapByteList = OffHeapByteList.copyOf(getValues());
+
+    /* when */
+    final OffHeapByteList selected = offHeapByteList.select(IS_EVEN);
+    final OffHeapByteList mapped = offHeapByteList.mapToByte(PLUS_ONE);
+    final OffHeapByteList mappedSelectively = offHeapByteList.mapToByteSelectively(IS_EVEN, PLUS_ONE);
+
+    /* then */
+    assertThat(selected.toArray()).isEqualTo(new byte[] { 2, 4, 6, 8, 10 });
+    assertThat(mapped.toArray()).isEqualTo(new byte[] { 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 4 });
+    assertThat(mappedSelectively.toArray()).isEqualTo(new byte[] { 3, 5, 7, 9, 11 });
+    offHeapByteList.release();
+    assertThat(selected.get(0)).isEqualTo((byte) 2);
+    selected.release();
+    mapped.release();
+    mappedSelectively.release();
+  }
+
+  @Test
+  public final void testSubListIsView()
+  {
+    /* given */
+    final byte[] values = getValues();
+    final OffHeapByteList offHeapByteList = OffHeapByteList.copyOf(values);
+
+    /* when */
+    final OffHeapByteList actual = offHeapByteList.subList(2, 8);
+    final OffHeapByteList actualFromSubList = actual.subList(1, 3);
+    actual.set(0, (byte) 100);
+    actual.forEach(new ByteToByteFunction1() {
+      @Override
+      public byte apply(final byte input)
+      {
+        return (byte) (input * 2);
+      }
+    });
+
+    /* then */
+    assertThat(offHeapByteList.subList(0, values.length)).isSameAs(offHeapByteList);
+    assertThat(actual.toArray()).isEqualTo(new byte[] { (byte) 200, 8, 10, 12, 14, 16 });
+    assertThat(actualFromSubList.toArray()).isEqualTo(new byte[] { 8, 10 });
+    assertThat(offHeapByteList.toArray()).isEqualTo(new byte[] { 1, 2, (byte) 200, 8, 10, 12, 14, 16, 9, 10, 3 });
+    assertThat(actual.iterator()
+        .next()).isEqualTo((byte) 200);
+    assertThat(actual.convertTo()).hasSize(6);
+  }
+
+  @Test
+  public final void testRelease()
+  {
+    /* given */
+    final OffHeapByteList offHeapByteList = OffHeapByteList.allocate(1024);
+    final OffHeapByteList subList = offHeapByteList.subList(10, 20);
+
+    /* when */
+    subList.release();
+    offHeapByteList.release();
+
+    /* then */
+    assertThat(offHeapByteList.isReleased()).isTrue();
+    assertThat(subList.isReleased()).isTrue();
+    assertThat(offHeapByteList.length()).isEqualTo(1024);
+    assertThat(offHeapByteList.toString()).isEqualTo("[released]");
+
+    /* expected */
+    expectedException.expect(IllegalStateException.class);
+
+    /* when */
+    offHeapByteList.get(0);
+  }
+
+  @Test
+  public final void testReleaseInFunction()
+  {
+    /* given */
+    final OffHeapByteList offHeapByteList = OffHeapByteList.copyOf(getValues());
+    final ByteToByteFunction1 releasingFunction = new ByteToByteFunction1() {
+      @Override
+      public byte apply(final byte input)
+      {
+        offHeapByteList.release();
+        return input;
+      }
+    };
+
+    /* when */
+    try
+    {
+      offHeapByteList.forEach(releasingFunction);
+      fail("IllegalStateException must be thrown.");
+    }
+    catch (final IllegalStateException e)
+    {
+      /* then */
+      assertThat(offHeapByteList.isReleased()).isTrue();
+    }
+  }
+
+  @Test
+  public final void testReleaseInCondition()
+  {
+    /* given */
+    final OffHeapByteList offHeapByteList = OffHeapByteList.copyOf(getValues());
+    final ByteCondition1 releasingCondition = new ByteCondition1() {
+      @Override
+      public boolean isMet(final byte input)
+      {
+        offHeapByteList.release();
+        return true;
+      }
+    };
+
+    /* expected */
+    expectedException.expect(IllegalStateException.class);
+
+    /* when */
+    offHeapByteList.howMany(releasingCondition);
+  }
+
+  @Test
+  public final void testWrap()
+  {
+    /* given */
+    final ByteBuffer buffer = ByteBuffer.wrap(getValues());
+    buffer.position(2);
+
+    /* when */
+    final OffHeapByteList actual = OffHeapByteList.wrap(buffer);
+    actual.set(0, (byte) 30);
+    actual.release();
+
+    /* then */
+    assertThat(buffer.position()).isEqualTo(2);
+    assertThat(buffer.get(2)).isEqualTo((byte) 30);
+    assertThat(actual.isReleased()).isTrue();
+  }
+
+  @Test
+  public final void testMapReadOnly() throws IOException
+  {
+    /* given */
+    final File file = temporaryFolder.newFile("read-only.bin");
+    final FileOutputStream fileOutputStream = new FileOutputStream(file);
+    try
+    {
+      fileOutputStream.write(getValues());
+    }
+    finally
+    {
+      fileOutputStream.close();
+    }
+
+    /* when */
+    final OffHeapByteList actual = OffHeapByteList.map(file, MapMode.READ_ONLY);
+    final OffHeapByteList actualRegion = OffHeapByteList.map(file, MapMode.READ_ONLY, 3L, 4);
+
+    /* then */
+    assertThat(actual.isReadOnly()).isTrue();
+    assertThat(actual.toArray()).isEqualTo(getValues());
+    assertThat(actualRegion.toArray()).isEqualTo(Arrays.copyOfRange(getValues(), 3, 7));
+    actualRegion.release();
+
+    /* expected */
+    expectedException.expect(ReadOnlyBufferException.class);
+
+    /* when */
+    try
+    {
+      actual.set(0, (byte) 0);
+    }
+    finally
+    {
+      actual.release();
+    }
+  }
+
+  @Test
+  public final void testMapReadWrite() throws IOException
+  {
+    /* given */
+    final File file = temporaryFolder.newFile("read-write.bin");
+
+    /* when */
+    final OffHeapByteList offHeapByteList = OffHeapByteList.map(file, MapMode.READ_WRITE, 0L, 8);
+    for (int i = 0; i < offHeapByteList.length(); i++)
+    {
+      offHeapByteList.set(i, (byte) (i * 3));
+    }
+    offHeapByteList.release();
+
+    /* then */
+    final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+    try
+    {
+      final byte[] actual = new byte[8];
+      randomAccessFile.readFully(actual);
+      assertThat(actual).isEqualTo(new byte[] { 0, 3, 6, 9, 12, 15, 18, 21 });
+    }
+    finally
+    {
+      randomAccessFile.close();
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.junit.After;
@@ -644,4 +645,160 @@ public class ByteArrayThreadUnsafeInputStreamTest
     /* then */
     assertThat(actual, is(equalTo(expected)));
   }
+
+  @Test
+  public final void testLengthWithOffset() throws Exception
+  {
+    /* given */
+    final byte[] input = Arrays.copyOf(this.expected, this.expected.length);
+    final int offset = 2;
+    final int expected = 5;
+    final byte[] expectedBytes = Arrays.copyOfRange(input, offset, offset + expected);
+
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(input, offset, expected);
+
+    /* when */
+    final int actual = byteArrayThreadUnsafeInputStream.length();
+    final byte[] actualBytes = byteArrayThreadUnsafeInputStream.toByteArray();
+
+    /* then */
+    assertThat(actual, is(equalTo(expected)));
+    assertThat(actualBytes, is(equalTo(expectedBytes)));
+    assertThat(byteArrayThreadUnsafeInputStream.getOffset(), is(equalTo(offset)));
+  }
+
+  @Test
+  public final void testSlice() throws Exception
+  {
+    /* given */
+    final byte[] input = Arrays.copyOf(this.expected, this.expected.length);
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(input, 1, input.length - 1);
+    final byte[] expectedBytes = Arrays.copyOfRange(input, 3, 7);
+
+    /* when */
+    final ByteArrayThreadUnsafeInputStream slice = byteArrayThreadUnsafeInputStream.slice(2, 4);
+    final byte[] actual = new byte[10];
+    final int read = slice.read(actual);
+
+    /* then */
+    assertThat(slice.length(), is(equalTo(4)));
+    assertThat(read, is(equalTo(4)));
+    assertThat(Arrays.copyOf(actual, read), is(equalTo(expectedBytes)));
+    assertThat(slice.read(), is(equalTo(-1)));
+    assertThat(slice.toByteArray(), is(equalTo(expectedBytes)));
+
+    /* the byte array is shared. */
+    input[3] = 123;
+    slice.reset();
+    assertThat(Integer.valueOf(slice.read()), is(equalTo(Integer.valueOf(123))));
+  }
+
+  @Test
+  public final void testSliceWithEmptyRange() throws Exception
+  {
+    /* given */
+    final byte[] input = Arrays.copyOf(this.expected, this.expected.length);
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(input);
+
+    /* when */
+    final ByteArrayThreadUnsafeInputStream slice = byteArrayThreadUnsafeInputStream.slice(input.length, 0);
+
+    /* then */
+    assertThat(slice.length(), is(equalTo(0)));
+    assertTrue(slice.isEmpty());
+    assertThat(slice.read(), is(equalTo(-1)));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public final void testSliceWithInvalidRange() throws Exception
+  {
+    /* given */
+    final byte[] input = Arrays.copyOf(this.expected, this.expected.length);
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(input, 2, 5);
+
+    /* when */
+    byteArrayThreadUnsafeInputStream.slice(1, 5);
+
+    /* then */
+    fail("IndexOutOfBoundsException must be thrown.");
+  }
+
+  @Test
+  public final void testAsReadOnlyByteBuffer() throws Exception
+  {
+    /* given */
+    final byte[] input = Arrays.copyOf(this.expected, this.expected.length);
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(input, 3, 4);
+    byteArrayThreadUnsafeInputStream.read();
+
+    /* when */
+    final ByteBuffer actual = byteArrayThreadUnsafeInputStream.asReadOnlyByteBuffer();
+
+    /* then */
+    assertTrue(actual.isReadOnly());
+    assertThat(actual.position(), is(equalTo(0)));
+    assertThat(actual.remaining(), is(equalTo(4)));
+    for (int i = 0; i < 4; i++)
+    {
+      assertThat(Byte.valueOf(actual.get(i)), is(equalTo(Byte.valueOf(input[3 + i]))));
+    }
+  }
+
+  @Test
+  public final void testGetPrimitivesWrittenByPutMethods() throws Exception
+  {
+    /* given */
+    final ByteArrayThreadUnsafeOutputStream byteArrayThreadUnsafeOutputStream =
+      ByteArrayThreadUnsafeOutputStream.newInstance();
+    byteArrayThreadUnsafeOutputStream.putShort((short) -12345);
+    byteArrayThreadUnsafeOutputStream.putIntLittleEndian(Integer.MIN_VALUE);
+    byteArrayThreadUnsafeOutputStream.putLong(Long.MAX_VALUE);
+    byteArrayThreadUnsafeOutputStream.putDoubleLittleEndian(Math.PI);
+    byteArrayThreadUnsafeOutputStream.putVarInt(300);
+    byteArrayThreadUnsafeOutputStream.putVarIntZigZag(-64);
+    byteArrayThreadUnsafeOutputStream.putVarLong(Long.MIN_VALUE);
+    byteArrayThreadUnsafeOutputStream.putUtf8("KommonLee \uac00\ub098\ub2e4");
+
+    /* when */
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(byteArrayThreadUnsafeOutputStream.toByteArray());
+
+    /* then */
+    assertThat(Short.valueOf(byteArrayThreadUnsafeInputStream.getShort()), is(equalTo(Short.valueOf((short) -12345))));
+    assertThat(Integer.valueOf(byteArrayThreadUnsafeInputStream.getIntLittleEndian()),
+        is(equalTo(Integer.valueOf(Integer.MIN_VALUE))));
+    assertThat(Long.valueOf(byteArrayThreadUnsafeInputStream.getLong()), is(equalTo(Long.valueOf(Long.MAX_VALUE))));
+    assertThat(Double.valueOf(byteArrayThreadUnsafeInputStream.getDoubleLittleEndian()),
+        is(equalTo(Double.valueOf(Math.PI))));
+    assertThat(Integer.valueOf(byteArrayThreadUnsafeInputStream.getVarInt()), is(equalTo(Integer.valueOf(300))));
+    assertThat(Integer.valueOf(byteArrayThreadUnsafeInputStream.getVarIntZigZag()), is(equalTo(Integer.valueOf(-64))));
+    assertThat(Long.valueOf(byteArrayThreadUnsafeInputStream.getVarLong()), is(equalTo(Long.valueOf(Long.MIN_VALUE))));
+    assertThat(byteArrayThreadUnsafeInputStream.getUtf8(), is(equalTo("KommonLee \uac00\ub098\ub2e4")));
+    assertThat(byteArrayThreadUnsafeInputStream.available(), is(equalTo(0)));
+  }
+
+  @Test
+  public final void testGetIntWithNotEnoughBytes() throws Exception
+  {
+    /* given */
+    final ByteArrayThreadUnsafeInputStream byteArrayThreadUnsafeInputStream =
+      new ByteArrayThreadUnsafeInputStream(new byte[] { 1, 2, 3 });
+
+    /* when */
+    try
+    {
+      byteArrayThreadUnsafeInputStream.getInt();
+      fail("IndexOutOfBoundsException must be thrown.");
+    }
+    catch (final IndexOutOfBoundsException e)
+    {
+      /* then */
+      assertThat(byteArrayThreadUnsafeInputStream.getCurrentPosition(), is(equalTo(0)));
+    }
+  }
 }
@@ -6,6 +6,8 @@ import static org.mockito.Mockito.*;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
 import org.junit.After;
@@ -711,4 +713,98 @@ public class ByteArrayThreadUnsafeOutputStreamTest
     assertThat(actualLength).isEqualTo(byteArrayThreadUnsafeOutputStream.size());
   }
 
+  @Test
+  public final void testPutIntAndPutLongInBothByteOrders() throws Exception
+  {
+    /* given */
+    final int intValue = 0x01020304;
+    final long longValue = 0x0102030405060708L;
+    final ByteBuffer expected = ByteBuffer.allocate(24);
+    expected.putInt(intValue)
+        .putLong(longValue);
+    expected.order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(intValue)
+        .putLong(longValue);
+
+    /* when */
+    final ByteArrayThreadUnsafeOutputStream byteArrayThreadUnsafeOutputStream =
+      ByteArrayThreadUnsafeOutputStream.newInstance(1, 1);
+    byteArrayThreadUnsafeOutputStream.putInt(intValue);
+    byteArrayThreadUnsafeOutputStream.putLong(longValue);
+    byteArrayThreadUnsafeOutputStream.putIntLittleEndian(intValue);
+    byteArrayThreadUnsafeOutputStream.putLongLittleEndian(longValue);
+    final byte[] actual = byteArrayThreadUnsafeOutputStream.toByteArray();
+
+    /* then */
+    assertThat(actual).isEqualTo(expected.array());
+  }
+
+  @Test
+  public final void testPutDoubleAndPutFloat() throws Exception
+  {
+    /* given */
+    final double doubleValue = -1234.5678D;
+    final float floatValue = 0.1F;
+    final ByteBuffer expected = ByteBuffer.allocate(24);
+    expected.putDouble(doubleValue)
+        .putFloat(floatValue);
+    expected.order(ByteOrder.LITTLE_ENDIAN)
+        .putDouble(doubleValue)
+        .putFloat(floatValue);
+
+    /* when */
+    final ByteArrayThreadUnsafeOutputStream byteArrayThreadUnsafeOutputStream =
+      ByteArrayThreadUnsafeOutputStream.newInstance();
+    byteArrayThreadUnsafeOutputStream.putDouble(doubleValue);
+    byteArrayThreadUnsafeOutputStream.putFloat(floatValue);
+    byteArrayThreadUnsafeOutputStream.putDoubleLittleEndian(doubleValue);
+    byteArrayThreadUnsafeOutputStream.putFloatLittleEndian(floatValue);
+    final byte[] actual = byteArrayThreadUnsafeOutputStream.toByteArray();
+
+    /* then */
+    assertThat(actual).isEqualTo(expected.array());
+  }
+
+  @Test
+  public final void testPutVarInt() throws Exception
+  {
+    /* given */
+    final int[] values = { 0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, -1 };
+    final byte[][] expected =
+      { { 0 }, { 1 }, { 127 }, { -128, 1 }, { -84, 2 }, { -1, 127 }, { -128, -128, 1 }, { -1, -1, -1, -1, 7 },
+          { -1, -1, -1, -1, 15 } };
+
+    for (int i = 0; i < values.length; i++)
+    {
+      /* when */
+      final ByteArrayThreadUnsafeOutputStream byteArrayThreadUnsafeOutputStream =
+        ByteArrayThreadUnsafeOutputStream.newInstance();
+      byteArrayThreadUnsafeOutputStream.putVarInt(values[i]);
+      final byte[] actual = byteArrayThreadUnsafeOutputStream.toByteArray();
+
+      /* then */
+      assertThat(actual).describedAs("value: " + values[i])
+          .isEqualTo(expected[i]);
+    }
+  }
+
+  @Test
+  public final void testPutUtf8() throws Exception
+  {
+    /* given */
+    final String value = "abc \u00e9\u00e8 \uac00\ub098\ub2e4 \ud83d\ude00";
+    final byte[] utf8 = value.getBytes(IoCommonConstants.UTF_8);
+    final byte[] expected = new byte[utf8.length + 1];
+    expected[0] = (byte) utf8.length;
+    System.arraycopy(utf8, 0, expected, 1, utf8.length);
+
+    /* when */
+    final ByteArrayThreadUnsafeOutputStream byteArrayThreadUnsafeOutputStream =
+      ByteArrayThreadUnsafeOutputStream.newInstance();
+    byteArrayThreadUnsafeOutputStream.putUtf8(value);
+    final byte[] actual = byteArrayThreadUnsafeOutputStream.toByteArray();
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
 }
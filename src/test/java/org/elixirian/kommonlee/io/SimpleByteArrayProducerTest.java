@@ -35,6 +35,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.elixirian.kommonlee.util.Objects;
 import org.junit.After;
@@ -200,4 +201,65 @@ public class SimpleByteArrayProducerTest
     System.out.println("}");
   }
 
+  @Test
+  public final void testSlice() throws IOException
+  {
+    /* given */
+    final byte[] byteArray = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+    final SimpleByteArrayProducer simpleByteArrayProducer = new SimpleByteArrayProducer(byteArray);
+    final byte[][] expected = { { 1, 2, 3, 4 }, { 5, 6, 7, 8 }, { 9, 10 } };
+    final int partLength = 4;
+
+    for (int i = 0, offset = 0; offset < byteArray.length; i++, offset += partLength)
+    {
+      /* when */
+      final int length = Math.min(partLength, byteArray.length - offset);
+      final SimpleByteArrayProducer part = simpleByteArrayProducer.slice(offset, length);
+      final byte[] bytes = new byte[partLength];
+      final int count = part.produce(bytes);
+
+      /* then */
+      assertThat(Integer.valueOf(part.length()), is(equalTo(Integer.valueOf(expected[i].length))));
+      assertThat(Integer.valueOf(count), is(equalTo(Integer.valueOf(expected[i].length))));
+      assertThat(part.toByteArray(), is(equalTo(expected[i])));
+      assertThat(Integer.valueOf(part.produce(bytes)), is(equalTo(Integer.valueOf(-1))));
+    }
+  }
+
+  @Test
+  public final void testSliceOfResetableSimpleByteArrayProducer() throws IOException
+  {
+    /* given */
+    final byte[] byteArray = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+    final ResetableSimpleByteArrayProducer resetableSimpleByteArrayProducer =
+      new ResetableSimpleByteArrayProducer(byteArray);
+    final byte[] expected = { 3, 4, 5 };
+
+    /* when */
+    final ResetableSimpleByteArrayProducer part = resetableSimpleByteArrayProducer.slice(2, 3);
+    final byte[] bytes = new byte[3];
+    part.produce(bytes);
+    part.reset();
+    final byte[] actual = new byte[3];
+    part.produce(actual);
+
+    /* then */
+    assertThat(actual, is(equalTo(expected)));
+  }
+
+  @Test
+  public final void testAsReadOnlyByteBuffer()
+  {
+    /* given */
+    final byte[] byteArray = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+    final SimpleByteArrayProducer simpleByteArrayProducer = new SimpleByteArrayProducer(byteArray).slice(5, 5);
+
+    /* when */
+    final ByteBuffer actual = simpleByteArrayProducer.asReadOnlyByteBuffer();
+
+    /* then */
+    assertTrue(actual.isReadOnly());
+    assertThat(Integer.valueOf(actual.remaining()), is(equalTo(Integer.valueOf(5))));
+    assertThat(Byte.valueOf(actual.get()), is(equalTo(Byte.valueOf((byte) 6))));
+  }
 }
@@ -35,6 +35,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Random;
 
 import org.junit.After;
@@ -303,4 +304,88 @@ public class StringBuildWriterTest
     assertThat(stringBuildWriter.getStringBuilder(), is(instanceOf(StringBuilder.class)));
   }
 
+  @Test
+  public final void testAcquireAndRelease()
+  {
+    /* given */
+    final StringBuildWriter stringBuildWriter = StringBuildWriter.acquire();
+    stringBuildWriter.write(string);
+
+    /* when */
+    final String result = stringBuildWriter.toStringAndRelease();
+
+    /* then */
+    assertThat(result, is(equalTo(string)));
+    assertThat(stringBuildWriter.isPooled(), is(true));
+    assertThat(stringBuildWriter.getStringBuilder()
+        .length(), is(equalTo(0)));
+    assertThat(StringBuildWriter.acquire(), is(sameInstance(stringBuildWriter)));
+    stringBuildWriter.release();
+  }
+
+  @Test
+  public final void testAcquireWhenAlreadyInUse()
+  {
+    /* given */
+    final StringBuildWriter stringBuildWriter = StringBuildWriter.acquire();
+    stringBuildWriter.write(string);
+
+    /* when */
+    final StringBuildWriter another = StringBuildWriter.acquire();
+    another.write("test");
+
+    /* then */
+    assertThat(another, is(not(sameInstance(stringBuildWriter))));
+    assertThat(another.isPooled(), is(false));
+    assertThat(another.toStringAndRelease(), is(equalTo("test")));
+    assertThat(stringBuildWriter.toStringAndRelease(), is(equalTo(string)));
+  }
+
+  @Test
+  public final void testReleaseTrimsBuilderBiggerThanMaxRetainedCapacity()
+  {
+    /* given */
+    final StringBuildWriter stringBuildWriter = StringBuildWriter.acquire();
+    final char[] bigChars = new char[StringBuildWriter.DEFAULT_MAX_RETAINED_CAPACITY * 2];
+    Arrays.fill(bigChars, 'a');
+    stringBuildWriter.write(bigChars);
+
+    /* when */
+    stringBuildWriter.release();
+
+    /* then */
+    assertThat(Boolean.valueOf(StringBuildWriter.DEFAULT_MAX_RETAINED_CAPACITY >= stringBuildWriter.getStringBuilder()
+        .capacity()), is(equalTo(Boolean.TRUE)));
+    assertThat(stringBuildWriter.getStringBuilder()
+        .length(), is(equalTo(0)));
+  }
+
+  @Test
+  public final void testReset()
+  {
+    /* given */
+    final StringBuildWriter stringBuildWriter = new StringBuildWriter();
+    stringBuildWriter.write(string);
+    final int capacity = stringBuildWriter.getStringBuilder()
+        .capacity();
+
+    /* when */
+    stringBuildWriter.reset();
+    stringBuildWriter.write("test");
+
+    /* then */
+    assertThat(stringBuildWriter.toString(), is(equalTo("test")));
+    assertThat(stringBuildWriter.getStringBuilder()
+        .capacity(), is(equalTo(capacity)));
+    assertThat(stringBuildWriter.isPooled(), is(false));
+  }
+
+  @Test
+  public final void testAppendNullCharSequenceIntInt()
+  {
+    final StringBuildWriter stringBuildWriter = new StringBuildWriter();
+    stringBuildWriter.append(null, 1, 3);
+    assertThat(stringBuildWriter.toString(), is(equalTo("ul")));
+  }
+
 }
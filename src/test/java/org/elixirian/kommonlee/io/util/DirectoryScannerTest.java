@@ -0,0 +1,254 @@
+package org.elixirian.kommonlee.io.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.elixirian.kommonlee.functional.VoidFunction1;
+import org.elixirian.kommonlee.type.functional.Condition1;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryScannerTest
+{
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File root;
+
+  @BeforeClass
+  public static void setUpBeforeClass() throws Exception
+  {
+  }
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception
+  {
+  }
+
+  @Before
+  public void setUp() throws Exception
+  {
+    root = temporaryFolder.newFolder("root");
+    newFile(root, "a.java", 10);
+    newFile(root, "b.txt", 20);
+    newFile(root, ".bashrc", 5);
+    final File sub1 = newDirectory(root, "sub1");
+    newFile(sub1, "c.JAVA", 30);
+    newFile(sub1, "d.xml", 0);
+    final File sub2 = newDirectory(sub1, "sub2");
+    newFile(sub2, "e.java", 100);
+    newFile(sub2, "f", 40);
+    newDirectory(root, "empty.java");
+  }
+
+  @After
+  public void tearDown() throws Exception
+  {
+  }
+
+  private static File newDirectory(final File parent, final String name)
+  {
+    final File directory = new File(parent, name);
+    assertThat(directory.mkdir()).isTrue();
+    return directory;
+  }
+
+  private static File newFile(final File parent, final String name, final int size) throws IOException
+  {
+    final File file = new File(parent, name);
+    final FileOutputStream fileOutputStream = new FileOutputStream(file);
+    try
+    {
+      fileOutputStream.write(new byte[size]);
+    }
+    finally
+    {
+      fileOutputStream.close();
+    }
+    return file;
+  }
+
+  private static List<String> namesOf(final List<Path> paths)
+  {
+    final List<String> names = new ArrayList<String>();
+    for (final Path path : paths)
+    {
+      names.add(path.getFileName()
+          .toString());
+    }
+    Collections.sort(names);
+    return names;
+  }
+
+  @Test
+  public final void testScanAll() throws Exception
+  {
+    /* given */
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .build();
+
+    /* when */
+    final List<Path> actual = directoryScanner.scan(root);
+
+    /* then */
+    assertThat(namesOf(actual)).containsExactly(".bashrc", "a.java", "b.txt", "c.JAVA", "d.xml", "e.java", "f");
+  }
+
+  @Test
+  public final void testScanWithExtensions() throws Exception
+  {
+    /* given */
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .withExtensions("java", ".xml")
+        .build();
+
+    /* when */
+    final List<Path> actual = directoryScanner.scan(root);
+
+    /* then */
+    assertThat(namesOf(actual)).containsExactly("a.java", "c.JAVA", "d.xml", "e.java");
+  }
+
+  @Test
+  public final void testScanWithSize() throws Exception
+  {
+    /* given */
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .withMinSize(10L)
+        .withMaxSize(40L)
+        .build();
+
+    /* when */
+    final List<Path> actual = directoryScanner.scan(root);
+
+    /* then */
+    assertThat(namesOf(actual)).containsExactly("a.java", "b.txt", "c.JAVA", "f");
+  }
+
+  @Test
+  public final void testScanWithLastModifiedTime() throws Exception
+  {
+    /* given */
+    final long now = System.currentTimeMillis();
+    assertThat(new File(root, "a.java").setLastModified(now - 100000L)).isTrue();
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .withExtensions("java")
+        .modifiedBefore(now - 50000L)
+        .build();
+
+    /* when */
+    final List<Path> actual = directoryScanner.scan(root);
+
+    /* then */
+    assertThat(namesOf(actual)).containsExactly("a.java");
+
+    /* when */
+    final List<Path> actual2 = DirectoryScanner.builder()
+        .withExtensions("java")
+        .modifiedSince(now - 50000L)
+        .build()
+        .scan(root);
+
+    /* then */
+    assertThat(namesOf(actual2)).containsExactly("c.JAVA", "e.java");
+  }
+
+  @Test
+  public final void testScanWithCondition() throws Exception
+  {
+    /* given */
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .matching(new Condition1<Path>() {
+          @Override
+          public boolean isMet(final Path input)
+          {
+            return "sub2".equals(input.getParent()
+                .getFileName()
+                .toString());
+          }
+        })
+        .build();
+
+    /* when */
+    final List<Path> actual = directoryScanner.scan(root);
+
+    /* then */
+    assertThat(namesOf(actual)).containsExactly("e.java", "f");
+  }
+
+  @Test
+  public final void testScanWithConsumer() throws Exception
+  {
+    /* given */
+    final ConcurrentLinkedQueue<Path> queue = new ConcurrentLinkedQueue<Path>();
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .withExtensions("java")
+        .withParallelism(2)
+        .build();
+
+    /* when */
+    final long actual = directoryScanner.scan(root, new VoidFunction1<Path>() {
+      @Override
+      public void apply(final Path input)
+      {
+        queue.add(input);
+      }
+    });
+
+    /* then */
+    assertThat(actual).isEqualTo(3L);
+    assertThat(namesOf(new ArrayList<Path>(queue))).containsExactly("a.java", "c.JAVA", "e.java");
+  }
+
+  @Test
+  public final void testScanWithNonDirectory() throws Exception
+  {
+    /* given */
+    final DirectoryScanner directoryScanner = DirectoryScanner.builder()
+        .build();
+
+    /* expected */
+    expectedException.expect(IllegalArgumentException.class);
+
+    /* when */
+    directoryScanner.scan(new File(root, "a.java"));
+
+    /* otherwise-fail */
+    fail("IllegalArgumentException was not thrown!");
+  }
+
+  @Test
+  public final void testBuildWithMinSizeGreaterThanMaxSize() throws Exception
+  {
+    /* given */
+    final DirectoryScanner.Builder builder = DirectoryScanner.builder()
+        .withMinSize(100L)
+        .withMaxSize(10L);
+
+    /* expected */
+    expectedException.expect(IllegalArgumentException.class);
+
+    /* when */
+    builder.build();
+
+    /* otherwise-fail */
+    fail("IllegalArgumentException was not thrown!");
+  }
+}
@@ -59,6 +59,7 @@ import org.elixirian.kommonlee.io.ByteArrayProducer;
 import org.elixirian.kommonlee.io.CharArrayConsumer;
 import org.elixirian.kommonlee.io.CharArrayConsumingContainer;
 import org.elixirian.kommonlee.io.DataConsumers;
+import org.elixirian.kommonlee.io.DataProducers;
 import org.elixirian.kommonlee.io.IoCommonConstants;
 import org.elixirian.kommonlee.test.CauseCheckableExpectedException;
 import org.elixirian.kommonlee.test.CommonTestHelper.Accessibility;
@@ -990,4 +991,124 @@ public class NioUtilTest
     assertThat(resultByteList).isEqualTo(expectedByteList);
     assertThat(resultString.toString()).isEqualTo(expectedString);
   }
+
+  private File newFileWith(final String name, final String content) throws IOException
+  {
+    final File file = temporaryFolder.newFile(name);
+    NioUtil.writeFile(file, IoCommonConstants.BUFFER_SIZE_1Ki,
+        DataProducers.newSimpleByteArrayProducer(content.getBytes(IoCommonConstants.UTF_8)));
+    return file;
+  }
+
+  @Test
+  public final void testCountDelimiters() throws IOException
+  {
+    /* given */
+    final String content = "a,bb,ccc,,dddd,eeeee,ffffff,ggggggg,hhhhhhhh,";
+    final File file = newFileWith("delimiters.txt", content);
+    final long expected = 9L;
+
+    /* when */
+    final long actual = NioUtil.countDelimiters(file, (byte) ',');
+    final long actualWithSmallBuffer = NioUtil.countDelimiters(file, 3, (byte) ',');
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actualWithSmallBuffer).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testCountLines() throws IOException
+  {
+    /* given */
+    final String[] contents = { "", "a", "a\n", "a\nb", "a\nb\n", "\n\n\n", "0123456789\n0123456789abcdef\nz" };
+    final long[] expected = { 0L, 1L, 1L, 2L, 2L, 3L, 3L };
+
+    for (int i = 0; i < contents.length; i++)
+    {
+      /* when */
+      final File file = newFileWith("lines" + i + ".txt", contents[i]);
+      final long actual = NioUtil.countLines(file);
+      final long actualWithSmallBuffer = NioUtil.countLines(file, 5);
+
+      /* then */
+      assertThat(actual).describedAs("i: " + i)
+          .isEqualTo(expected[i]);
+      assertThat(actualWithSmallBuffer).describedAs("i: " + i)
+          .isEqualTo(expected[i]);
+    }
+  }
+
+  @Test
+  public final void testCountLinesWithTestFile()
+  {
+    /* given */
+    int count = 0;
+    for (final char c : string.toCharArray())
+    {
+      if ('\n' == c)
+      {
+        count++;
+      }
+    }
+    final long expected = string.isEmpty() || string.endsWith("\n") ? count : count + 1;
+
+    /* when */
+    final long actual = NioUtil.countLines(getTestFile());
+
+    /* then */
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public final void testIndexRecords() throws IOException
+  {
+    /* given */
+    final String content = "line0\nline1\nline2\nline3\nline4\nline5\nline6\n";
+    final File file = newFileWith("records.txt", content);
+    final long[] expectedEvery1 = { 0L, 6L, 12L, 18L, 24L, 30L, 36L };
+    final long[] expectedEvery3 = { 0L, 18L, 36L };
+    final long[] expectedEvery7 = { 0L };
+
+    /* when */
+    final long[] actualEvery1 = NioUtil.indexRecords(file, NioUtil.LINE_FEED, 1);
+    final long[] actualEvery3 = NioUtil.indexRecords(file, 7, NioUtil.LINE_FEED, 3);
+    final long[] actualEvery7 = NioUtil.indexRecords(file, NioUtil.LINE_FEED, 7);
+
+    /* then */
+    assertThat(actualEvery1).isEqualTo(expectedEvery1);
+    assertThat(actualEvery3).isEqualTo(expectedEvery3);
+    assertThat(actualEvery7).isEqualTo(expectedEvery7);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public final void testIndexRecordsWithInvalidEvery() throws IOException
+  {
+    /* given */
+    final File file = newFileWith("invalid.txt", "a\nb\n");
+
+    /* when */
+    NioUtil.indexRecords(file, NioUtil.LINE_FEED, 0);
+
+    /* then */
+    fail("IllegalArgumentException must be thrown.");
+  }
+
+  @Test
+  public final void testWriteAndReadRecordIndex() throws IOException
+  {
+    /* given */
+    final File file = newFileWith("data.csv", "a,1\nb,2\nc,3\nd,4\n");
+    final long[] expected = NioUtil.indexRecords(file, NioUtil.LINE_FEED, 2);
+    final File indexFile = NioUtil.recordIndexFileOf(file);
+
+    /* when */
+    NioUtil.writeRecordIndex(indexFile, expected);
+    final long[] actual = NioUtil.readRecordIndex(indexFile);
+
+    /* then */
+    assertThat(indexFile.getName()).isEqualTo("data.csv.idx");
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual).isEqualTo(new long[] { 0L, 8L });
+  }
 }